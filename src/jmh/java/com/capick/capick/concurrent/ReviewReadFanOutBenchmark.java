@@ -0,0 +1,66 @@
+package com.capick.capick.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 리뷰 단 건 조회의 응답 시간 분포를 잰다. 리뷰+작성자 조회와 이미지 조회를 순서대로 하는 것과 동시에 하는 것을 비교한다.
+// 조회 하나는 보통 baseMicros 가 걸리고, slowPercent % 확률로 slowMicros 가 걸린다. (커넥션 대기, 디스크 읽기 등)
+// 순차 실행은 두 조회의 합, 동시 실행은 둘 중 긴 쪽에 스레드 전환 비용이 더해진다. p99 가 가장 크게 줄어든다.
+// 여러 요청이 동시에 들어오는 경우는 -t 로 스레드 수를 늘려 확인한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class ReviewReadFanOutBenchmark {
+
+    @Param({"500"})
+    private long baseMicros;
+
+    @Param({"5000"})
+    private long slowMicros;
+
+    @Param({"5"})
+    private int slowPercent;
+
+    private ReadFanOutExecutor readFanOutExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        readFanOutExecutor = new ReadFanOutExecutor(new SimpleMeterRegistry(), 8, 128, Duration.ofSeconds(3));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        readFanOutExecutor.shutdown();
+    }
+
+    @Benchmark
+    public int sequential() {
+        int review = read();
+        int reviewImages = read();
+        return review + reviewImages;
+    }
+
+    @Benchmark
+    public int fanOut() {
+        CompletableFuture<Integer> reviewImages = readFanOutExecutor.fork(this::read);
+        int review = read();
+        return review + readFanOutExecutor.join(reviewImages);
+    }
+
+    private int read() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latencyMicros = random.nextInt(100) < slowPercent ? slowMicros : baseMicros;
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros));
+        return 1;
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.capick.capick.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 요청이 한꺼번에 concurrency 건 들어와 각자 blockMillis 동안 JDBC 응답을 기다릴 때, 모두 끝나기까지의 시간을 잰다.
+// platform 은 Tomcat 기본 스레드 풀(200), virtual 은 virtual-threads 프로필의 요청 실행기이다. virtual 은 JDK 21 에서만 돈다.
+//   ./gradlew jmh -PvirtualThreads -Pjmh.includes=RequestExecutorBenchmark
+// wait 가 synchronized 이면 mysql-connector-j 8.0.x 처럼 커넥션 뮤텍스를 잡은 채 기다리는 경우로, 가상 스레드가 캐리어에 고정된다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class RequestExecutorBenchmark {
+
+    private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String executor;
+
+    @Param({"200", "1000"})
+    private int concurrency;
+
+    @Param({"park", "synchronized"})
+    private String wait;
+
+    @Param({"10"})
+    private long blockMillis;
+
+    private ExecutorService requestExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        requestExecutor = "virtual".equals(executor)
+                ? VirtualThreads.newThreadPerTaskExecutor("bench-vt-")
+                : Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        requestExecutor.shutdown();
+        requestExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        boolean holdMonitor = "synchronized".equals(wait);
+        List<Future<Integer>> responses = new ArrayList<>(concurrency);
+        for (int request = 0; request < concurrency; request++) {
+            int requestNumber = request;
+            responses.add(requestExecutor.submit(() -> handle(requestNumber, holdMonitor)));
+        }
+        int completed = 0;
+        for (Future<Integer> response : responses) {
+            completed += response.get() >= 0 ? 1 : 0;
+        }
+        return completed;
+    }
+
+    private int handle(int requestNumber, boolean holdMonitor) throws InterruptedException {
+        if (!holdMonitor) {
+            Thread.sleep(blockMillis);
+            return requestNumber;
+        }
+        Object connectionMutex = new Object();
+        synchronized (connectionMutex) {
+            Thread.sleep(blockMillis);
+        }
+        return requestNumber;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.capick.capick.domain.cafe;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 리뷰 한 건마다 호출되는 카페 타입과 테마 갱신, 이름으로 enum 을 찾는 비용을 측정한다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CafeBenchmark {
+
+    private CafeTypeInfo cafeTypeInfo;
+
+    private CafeThemeInfo cafeThemeInfo;
+
+    private String indexName = "noiseIndex";
+
+    private String themeName = "kids";
+
+    @Setup
+    public void setUp() {
+        cafeTypeInfo = new CafeTypeInfo(1240, 3380, 920, 2010, CafeType.NONE);
+        cafeThemeInfo = new CafeThemeInfo(320, 510, 120, 40, 65, 480, 22, 8, CafeTheme.NORMAL);
+    }
+
+    @Benchmark
+    public CafeType ifHasMaxIndexUpdateCafeType() {
+        cafeTypeInfo.ifHasMaxIndexUpdateCafeType();
+        return cafeTypeInfo.getCafeType();
+    }
+
+    @Benchmark
+    public CafeTheme ifHasMaxThemeCountUpdateCafeTheme() {
+        cafeThemeInfo.ifHasMaxThemeCountUpdateCafeTheme();
+        return cafeThemeInfo.getCafeTheme();
+    }
+
+    @Benchmark
+    public CafeType findCafeTypeByIndexName() {
+        return CafeType.findByIndexName(indexName);
+    }
+
+    @Benchmark
+    public CafeTheme findCafeThemeByThemeName() {
+        return CafeTheme.findByThemeName(themeName);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.capick.capick.domain.history.storage;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 스토리지 파일 기록마다 호출되는 파일 타입과 도메인 조회 비용을 측정한다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileEnumBenchmark {
+
+    private String typeInPlural = "videos";
+
+    private String domainInPlural = "etcs";
+
+    @Benchmark
+    public FileType findFileTypeByTypeInPlural() {
+        return FileType.findByTypeOrTypeInPlural(typeInPlural);
+    }
+
+    @Benchmark
+    public FileDomain findFileDomainByDomainInPlural() {
+        return FileDomain.findByDomainOrDomainInPlural(domainInPlural);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.capick.capick.domain.review;
+
+import com.capick.capick.domain.cafe.CafeTheme;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 리뷰 작성과 수정마다 호출되는 타입 지수 검증과 리뷰 이미지 생성 비용을 측정한다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewBenchmark {
+
+    private final List<String> imageUrls = List.of(
+            "https://storage.com/images/80459",
+            "https://storage.com/images/80460",
+            "https://storage.com/images/80459"
+    );
+
+    private Review review;
+
+    @Setup
+    public void setUp() {
+        review = Review.builder()
+                .visitPurpose("공부하러 왔어요")
+                .content("리뷰 내용")
+                .menu("아메리카노")
+                .coffeeIndex(3)
+                .spaceIndex(3)
+                .priceIndex(3)
+                .noiseIndex(3)
+                .theme(CafeTheme.STUDY)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public Review updateIndexes() {
+        review.updateIndexes(4, 2, 5, 1);
+        return review;
+    }
+
+    @Benchmark
+    public List<ReviewImage> createReviewImages() {
+        return ReviewImage.createReviewImages(imageUrls, review);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.capick.capick.exception;
+
+import com.capick.capick.dto.ApiResponse;
+import com.capick.capick.dto.ApiResponseStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.capick.capick.dto.ApiResponseStatus.NOT_FOUND_REVIEW;
+
+// 없는 리뷰를 조회할 때의 404 경로를 잰다. 예외를 던진 뒤 잡아서 응답 봉투를 만들기까지이다.
+// depth 는 예외가 던져지는 호출 깊이로, 필터와 디스패처, 프록시를 거친 실제 요청 스레드의 깊이를 흉내낸다.
+// stackful 은 스택 트레이스를 채우고 응답을 매번 빌더로 만들던 이전 경로, stackless 는 지금의 경로이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotFoundPathBenchmark {
+
+    @Param({"20", "150"})
+    private int depth;
+
+    private ExceptionLogSampler exceptionLogSampler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        exceptionLogSampler = new ExceptionLogSampler(new SimpleMeterRegistry(), Duration.ofSeconds(10));
+    }
+
+    @Benchmark
+    public ApiResponse<ApiResponseStatus> stackful() {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (BaseException exception) {
+            return ApiResponse.<ApiResponseStatus>builder()
+                    .code(exception.getStatus().getStatus().value())
+                    .message(exception.getStatus().getMessage())
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public ApiResponse<ApiResponseStatus> stackless() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (BaseException exception) {
+            return ApiResponse.of(exception.getStatus());
+        }
+    }
+
+    // 로그는 간격마다 한 번만 남으므로, 측정 구간에서는 세기와 고르기 비용만 더해진다.
+    @Benchmark
+    public ApiResponse<ApiResponseStatus> stacklessSampled() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (BaseException exception) {
+            exceptionLogSampler.sample(exception.getClass(), exception.getStatus().name());
+            return ApiResponse.of(exception.getStatus());
+        }
+    }
+
+    private static void throwAt(int remainingDepth, boolean writableStackTrace) {
+        if (remainingDepth > 0) {
+            throwAt(remainingDepth - 1, writableStackTrace);
+            return;
+        }
+        throw new BenchmarkNotFoundException(NOT_FOUND_REVIEW, writableStackTrace);
+    }
+
+    private static class BenchmarkNotFoundException extends BaseException {
+
+        private BenchmarkNotFoundException(ApiResponseStatus status, boolean writableStackTrace) {
+            super(status, writableStackTrace);
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.capick.capick.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+// 리뷰 이미지 등록 방식별 초당 등록 행 수(rows)를 비교한다.
+// IDENTITY 전략처럼 한 행씩 INSERT 하고 생성된 id 를 읽는 방식과, MultiRowInsert 처럼 한 문장으로 여러 행을 INSERT 하는 방식이다.
+// 기본은 H2 메모리 DB 이다. MySQL 은 -p jdbcUrl=jdbc:mysql://... -p username=... -p password=... 로 지정한다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewImageInsertBenchmark {
+
+    private static final String SINGLE_ROW_INSERT = "insert into review_image_benchmark "
+            + "(image_url, review_id, is_hard_deleted, created_at, updated_at, status) values (?, ?, ?, ?, ?, ?)";
+
+    @Param({"jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    private String jdbcUrl;
+
+    @Param({"sa"})
+    private String username;
+
+    @Param({""})
+    private String password;
+
+    // 리뷰 이미지 최대 개수와 고아 파일 기록 요청 최대 개수
+    @Param({"3", "10"})
+    private int rowCount;
+
+    private Connection connection;
+
+    private String multiRowInsert;
+
+    private long reviewId;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class InsertedRows {
+
+        public long rows;
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists review_image_benchmark");
+            statement.execute("create table review_image_benchmark (id bigint not null auto_increment, "
+                    + "image_url varchar(255) not null, review_id bigint, is_hard_deleted boolean not null, "
+                    + "created_at timestamp, updated_at timestamp, status tinyint, primary key (id))");
+        }
+        connection.setAutoCommit(false);
+
+        StringBuilder sql = new StringBuilder("insert into review_image_benchmark "
+                + "(image_url, review_id, is_hard_deleted, created_at, updated_at, status) values ");
+        for (int row = 0; row < rowCount; row++) {
+            sql.append(row == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?)");
+        }
+        multiRowInsert = sql.toString();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table review_image_benchmark");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table review_image_benchmark");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long identityInsertPerRow(InsertedRows insertedRows) throws SQLException {
+        long lastId = 0;
+        reviewId++;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int row = 0; row < rowCount; row++) {
+            try (PreparedStatement statement
+                         = connection.prepareStatement(SINGLE_ROW_INSERT, Statement.RETURN_GENERATED_KEYS)) {
+                bindRow(statement, 1, row, now);
+                statement.executeUpdate();
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    generatedKeys.next();
+                    lastId = generatedKeys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        insertedRows.rows += rowCount;
+        return lastId;
+    }
+
+    @Benchmark
+    public int multiRowInsert(InsertedRows insertedRows) throws SQLException {
+        reviewId++;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        int insertedCount;
+        try (PreparedStatement statement = connection.prepareStatement(multiRowInsert)) {
+            for (int row = 0; row < rowCount; row++) {
+                bindRow(statement, row * 6 + 1, row, now);
+            }
+            insertedCount = statement.executeUpdate();
+        }
+        connection.commit();
+        insertedRows.rows += rowCount;
+        return insertedCount;
+    }
+
+    private void bindRow(PreparedStatement statement, int firstPosition, int row, Timestamp now) throws SQLException {
+        statement.setString(firstPosition, "https://storage.com/images/" + reviewId + "/" + row);
+        statement.setLong(firstPosition + 1, reviewId);
+        statement.setBoolean(firstPosition + 2, false);
+        statement.setTimestamp(firstPosition + 3, now);
+        statement.setTimestamp(firstPosition + 4, now);
+        statement.setInt(firstPosition + 5, 1);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.capick.capick.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// bcrypt 비용별로 초당 해시 수를 잰다. 비용을 정할 때 가입, 비밀번호 변경이 몰리는 순간의 요청 수와 비교한다.
+// encode 는 요청 스레드에서 바로 해시할 때, hasher 는 전용 스레드 풀을 거칠 때이다.
+// 요청 스레드 수보다 적은 해시 스레드로도 처리량이 같은지 -t 로 스레드 수를 바꿔 확인한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(8)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    @Param({"8", "10", "12"})
+    private int bcryptCost;
+
+    private BCryptPasswordEncoder encoder;
+
+    private BcryptPasswordHasher passwordHasher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(bcryptCost);
+        passwordHasher = new BcryptPasswordHasher(
+                new SimpleMeterRegistry(), bcryptCost, 0, 1024, Duration.ofMinutes(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("password12^&*");
+    }
+
+    @Benchmark
+    public String hasher() {
+        return passwordHasher.hash("password12^&*");
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.capick.capick.aggregate;
+
+import com.capick.capick.domain.cafe.CafeAggregateDelta;
+import com.capick.capick.domain.cafe.CafeTheme;
+import com.capick.capick.event.CafeAggregatedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// 쓰기 지연 모드에서 카페별 누적 타입 지수와 테마 횟수의 변화량을 모아두는 버퍼이다.
+// 카페마다 LongAdder 로 변화량을 더하므로 같은 카페에 리뷰가 몰려도 잠금 없이 누적된다.
+// 비우기는 sumThenReset 으로 하므로, 비우는 도중 더해진 변화량은 유실되지 않고 다음 비우기에 반영된다.
+@Component
+public class CafeAggregateBuffer {
+
+    private static final int TYPE_INDEX_COUNT = 4;
+
+    private static final int THEME_COUNT = CafeTheme.values().length;
+
+    private final Map<Long, PendingAggregate> pendingAggregates = new ConcurrentHashMap<>();
+
+    private final LongSupplier nanoClock;
+
+    public CafeAggregateBuffer() {
+        this(System::nanoTime);
+    }
+
+    CafeAggregateBuffer(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCafeAggregated(CafeAggregatedEvent event) {
+        add(event.getCafeId(), event.getDelta());
+    }
+
+    public void add(Long cafeId, CafeAggregateDelta delta) {
+        pendingAggregates.computeIfAbsent(cafeId, id -> new PendingAggregate())
+                .add(delta, nanoClock.getAsLong());
+    }
+
+    // 가장 오래된 변화량이 minPendingNanos 이상 머문 카페만 비워서 카페별 변화량 합계를 반환한다.
+    public Map<Long, CafeAggregateDelta> drainPendingLongerThan(long minPendingNanos) {
+        long now = nanoClock.getAsLong();
+        Map<Long, CafeAggregateDelta> drainedDeltas = new HashMap<>();
+        pendingAggregates.forEach((cafeId, pending) -> {
+            if (pending.isPendingLongerThan(minPendingNanos, now)) {
+                drainedDeltas.put(cafeId, pending.drain());
+            }
+        });
+        return drainedDeltas;
+    }
+
+    public Map<Long, CafeAggregateDelta> drainAll() {
+        return drainPendingLongerThan(0);
+    }
+
+    public int getPendingCafeCount() {
+        return (int) pendingAggregates.values().stream()
+                .filter(PendingAggregate::hasPending)
+                .count();
+    }
+
+    public long getPendingDeltaCount() {
+        return pendingAggregates.values().stream()
+                .mapToLong(pending -> pending.deltaCount.sum())
+                .sum();
+    }
+
+    public void clear() {
+        pendingAggregates.clear();
+    }
+
+    private static class PendingAggregate {
+
+        private static final long NOT_PENDING = Long.MIN_VALUE;
+
+        private final LongAdder[] typeIndexes = createAdders(TYPE_INDEX_COUNT);
+
+        private final LongAdder[] themeCounts = createAdders(THEME_COUNT);
+
+        private final LongAdder deltaCount = new LongAdder();
+
+        private final AtomicLong firstPendingAt = new AtomicLong(NOT_PENDING);
+
+        private void add(CafeAggregateDelta delta, long now) {
+            typeIndexes[0].add(delta.getCoffeeIndex());
+            typeIndexes[1].add(delta.getSpaceIndex());
+            typeIndexes[2].add(delta.getPriceIndex());
+            typeIndexes[3].add(delta.getNoiseIndex());
+            for (CafeTheme cafeTheme : CafeTheme.values()) {
+                int themeCount = delta.getThemeCount(cafeTheme);
+                if (themeCount != 0) {
+                    themeCounts[cafeTheme.ordinal()].add(themeCount);
+                }
+            }
+            deltaCount.increment();
+            firstPendingAt.compareAndSet(NOT_PENDING, now);
+        }
+
+        // 비우는 도중 더해진 변화량의 시작 시각이 지워질 수 있다. 이때는 머문 시간을 알 수 없으므로 바로 비울 대상으로 본다.
+        private boolean isPendingLongerThan(long minPendingNanos, long now) {
+            if (!hasPending()) {
+                return false;
+            }
+            long pendingAt = firstPendingAt.get();
+            return pendingAt == NOT_PENDING || now - pendingAt >= minPendingNanos;
+        }
+
+        private boolean hasPending() {
+            return deltaCount.sum() > 0;
+        }
+
+        private CafeAggregateDelta drain() {
+            firstPendingAt.set(NOT_PENDING);
+            deltaCount.reset();
+            int[] drainedThemeCounts = new int[THEME_COUNT];
+            for (int ordinal = 0; ordinal < THEME_COUNT; ordinal++) {
+                drainedThemeCounts[ordinal] = Math.toIntExact(themeCounts[ordinal].sumThenReset());
+            }
+            return CafeAggregateDelta.of(
+                    Math.toIntExact(typeIndexes[0].sumThenReset()), Math.toIntExact(typeIndexes[1].sumThenReset()),
+                    Math.toIntExact(typeIndexes[2].sumThenReset()), Math.toIntExact(typeIndexes[3].sumThenReset()),
+                    drainedThemeCounts
+            );
+        }
+
+        private static LongAdder[] createAdders(int count) {
+            LongAdder[] adders = new LongAdder[count];
+            for (int index = 0; index < count; index++) {
+                adders[index] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+
+}
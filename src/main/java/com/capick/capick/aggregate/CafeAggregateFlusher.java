@@ -0,0 +1,206 @@
+package com.capick.capick.aggregate;
+
+import com.capick.capick.domain.cafe.CafeAggregateDelta;
+import com.capick.capick.exception.BaseException;
+import com.capick.capick.exception.DomainLogicalException;
+import com.capick.capick.service.CafeAggregateService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 쓰기 지연 모드에서 버퍼에 모인 변화량을 카페마다 UPDATE 한 번으로 반영한다.
+// flush-interval 마다 깨어나서, 다음 주기까지 기다리면 max-staleness 를 넘게 되는 카페만 반영한다.
+// 합친 변화량의 차감이 부족하면 더하는 값만 먼저 반영하고, 빼는 값은 따로 보관해 두었다가 매 주기 다시 시도한다.
+// 다른 서버의 더하는 값이 아직 반영되지 않아 부족했다면 그 값이 반영된 뒤에 성공한다. 보관 중인 카페 수는 메트릭으로 확인한다.
+@Slf4j
+@Component
+public class CafeAggregateFlusher {
+
+    private static final String WRITE_BEHIND_METRIC = "capick.aggregate.cafe.write-behind";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final CafeAggregateBuffer cafeAggregateBuffer;
+
+    private final CafeAggregateService cafeAggregateService;
+
+    private final boolean enabled;
+
+    private final Duration flushInterval;
+
+    private final Duration maxStaleness;
+
+    private final LongAdder flushedCafeCount = new LongAdder();
+
+    private final LongAdder droppedCafeCount = new LongAdder();
+
+    private final LongAdder parkedDeltaCount = new LongAdder();
+
+    private final Map<Long, CafeAggregateDelta> parkedDeltas = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public CafeAggregateFlusher(
+            CafeAggregateBuffer cafeAggregateBuffer, CafeAggregateService cafeAggregateService,
+            MeterRegistry meterRegistry,
+            @Value("${aggregate.cafe.write-behind.enabled:false}") boolean enabled,
+            @Value("${aggregate.cafe.write-behind.flush-interval:1s}") Duration flushInterval,
+            @Value("${aggregate.cafe.write-behind.max-staleness:5s}") Duration maxStaleness) {
+        this.cafeAggregateBuffer = cafeAggregateBuffer;
+        this.cafeAggregateService = cafeAggregateService;
+        this.enabled = enabled;
+        this.flushInterval = flushInterval;
+        this.maxStaleness = maxStaleness;
+        Gauge.builder(WRITE_BEHIND_METRIC + ".pending.cafes", this, CafeAggregateFlusher::getPendingCafeCount)
+                .description("반영을 기다리는 변화량이 있는 카페 수")
+                .register(meterRegistry);
+        Gauge.builder(WRITE_BEHIND_METRIC + ".pending.deltas", this, CafeAggregateFlusher::getPendingDeltaCount)
+                .description("반영을 기다리는 리뷰 변화량 수")
+                .register(meterRegistry);
+        Gauge.builder(WRITE_BEHIND_METRIC + ".parked.cafes", this, CafeAggregateFlusher::getParkedCafeCount)
+                .description("차감이 부족해 빼는 값을 보관 중인 카페 수")
+                .register(meterRegistry);
+        registerCounter(meterRegistry, "flushed", flushedCafeCount);
+        registerCounter(meterRegistry, "parked", parkedDeltaCount);
+        registerCounter(meterRegistry, "dropped", droppedCafeCount);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cafe-aggregate-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalInNanos = flushInterval.toNanos();
+        scheduler.scheduleWithFixedDelay(this::flushStale, intervalInNanos, intervalInNanos, TimeUnit.NANOSECONDS);
+        log.info("Cafe aggregate write-behind started : interval {}, max staleness {}", flushInterval, maxStaleness);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            scheduler = null;
+        }
+        flushAll();
+        if (!parkedDeltas.isEmpty()) {
+            log.warn("Cafe aggregate deltas still parked on shutdown : {}", parkedDeltas.keySet());
+        }
+    }
+
+    public void flushStale() {
+        long minPendingNanos = Math.max(0, maxStaleness.minus(flushInterval).toNanos());
+        flush(cafeAggregateBuffer.drainPendingLongerThan(minPendingNanos));
+        retryParked();
+    }
+
+    public void flushAll() {
+        flush(cafeAggregateBuffer.drainAll());
+        retryParked();
+    }
+
+    public int getPendingCafeCount() {
+        return cafeAggregateBuffer.getPendingCafeCount();
+    }
+
+    public long getPendingDeltaCount() {
+        return cafeAggregateBuffer.getPendingDeltaCount();
+    }
+
+    public long getFlushedCafeCount() {
+        return flushedCafeCount.sum();
+    }
+
+    public long getDroppedCafeCount() {
+        return droppedCafeCount.sum();
+    }
+
+    public int getParkedCafeCount() {
+        return parkedDeltas.size();
+    }
+
+    // 카페가 없어 반영할 수 없는 변화량은 다시 시도해도 실패하므로 버린다. 그 밖의 실패는 버퍼에 되돌려 다음 주기에 다시 시도한다.
+    private void flush(Map<Long, CafeAggregateDelta> deltas) {
+        deltas.forEach((cafeId, delta) -> {
+            try {
+                applyOrSplit(cafeId, delta);
+                flushedCafeCount.increment();
+            } catch (BaseException exception) {
+                droppedCafeCount.increment();
+                log.warn("Cafe aggregate delta dropped : cafe {}, {}", cafeId, exception.getMessage());
+            } catch (RuntimeException exception) {
+                cafeAggregateBuffer.add(cafeId, delta);
+                log.error("Cafe aggregate flush failed : cafe {}", cafeId, exception);
+            }
+        });
+    }
+
+    private void applyOrSplit(Long cafeId, CafeAggregateDelta delta) {
+        try {
+            cafeAggregateService.applyDelta(cafeId, delta);
+        } catch (DomainLogicalException exception) {
+            CafeAggregateDelta addingPart = delta.addingPart();
+            if (!addingPart.isZero()) {
+                cafeAggregateService.applyDelta(cafeId, addingPart);
+            }
+            applyOrPark(cafeId, delta.deductingPart());
+        }
+    }
+
+    private void applyOrPark(Long cafeId, CafeAggregateDelta deductingPart) {
+        try {
+            cafeAggregateService.applyDelta(cafeId, deductingPart);
+        } catch (DomainLogicalException exception) {
+            parkedDeltas.merge(cafeId, deductingPart, CafeAggregateDelta::plus);
+            parkedDeltaCount.increment();
+            log.warn("Cafe aggregate delta parked : cafe {}, {}", cafeId, exception.getMessage());
+        }
+    }
+
+    private void retryParked() {
+        parkedDeltas.keySet().forEach(cafeId -> {
+            CafeAggregateDelta deductingPart = parkedDeltas.remove(cafeId);
+            if (deductingPart == null) {
+                return;
+            }
+            try {
+                cafeAggregateService.applyDelta(cafeId, deductingPart);
+            } catch (DomainLogicalException exception) {
+                parkedDeltas.merge(cafeId, deductingPart, CafeAggregateDelta::plus);
+            } catch (BaseException exception) {
+                droppedCafeCount.increment();
+                log.warn("Cafe aggregate parked delta dropped : cafe {}, {}", cafeId, exception.getMessage());
+            } catch (RuntimeException exception) {
+                parkedDeltas.merge(cafeId, deductingPart, CafeAggregateDelta::plus);
+                log.error("Cafe aggregate parked delta retry failed : cafe {}", cafeId, exception);
+            }
+        });
+    }
+
+    private void registerCounter(MeterRegistry meterRegistry, String result, LongAdder count) {
+        FunctionCounter.builder(WRITE_BEHIND_METRIC, count, LongAdder::sum)
+                .description("반영한 카페, 빼는 값을 보관한 횟수, 버린 카페 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.capick.capick.aggregate;
+
+import com.capick.capick.datasource.PrimaryReads;
+import com.capick.capick.event.MyPickChangedEvent;
+import com.capick.capick.repository.CafePickCountView;
+import com.capick.capick.repository.CafeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 카페마다 찜 수를 메모리에서 센다. 카페 행에 반영된 값과 이 서버에서 아직 반영하지 않은 변화량을 따로 두고, 둘의 합을 찜 수로 답한다.
+// 찜과 찜 해제는 커밋 후에 변화량 LongAdder 에 더하기만 하므로, 인기 카페에 찜이 몰려도 카페 행을 잠그거나 한 변수를 두고 경합하지 않는다.
+// 카페 행의 값은 CafePickFlusher 가 변화량을 반영할 때마다 다시 읽으므로, 다른 서버의 찜은 최대 두 반영 주기 늦게 보인다.
+// 각 서버는 자기 변화량만 더하고 시작할 때 다시 세어 보정하지 않는다. 시작 값은 마이그레이션(V5)이 찜 행을 세어 한 번만 맞춘다.
+// 서버가 비정상 종료되면 반영하지 못한 한 주기 분의 변화량을 잃는다. 그때는 쓰기를 멈추고 V5 의 UPDATE 로 다시 맞춘다.
+@Slf4j
+@Component
+public class CafePickCounter {
+
+    private final CafeRepository cafeRepository;
+
+    private final Map<Long, PickCount> pickCountsByCafeId = new ConcurrentHashMap<>();
+
+    public CafePickCounter(CafeRepository cafeRepository) {
+        this.cafeRepository = cafeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+        log.info("Cafe pick counter loaded : {} cafes", pickCountsByCafeId.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMyPickChanged(MyPickChangedEvent event) {
+        add(event.getCafeId(), event.isPicked() ? 1 : -1);
+    }
+
+    // 방금 반영한 변화량이 빠진 값을 읽지 않도록 복제본이 아닌 주 DB 에서 읽는다.
+    public void refresh() {
+        Map<Long, Long> persistedCounts = new HashMap<>();
+        for (CafePickCountView view : PrimaryReads.call(cafeRepository::findAllPickCounts)) {
+            persistedCounts.put(view.getCafeId(), view.getPickCount());
+        }
+        refresh(persistedCounts);
+    }
+
+    // 반영된 값만 바꾸고 아직 반영하지 않은 변화량은 그대로 둔다. 요청을 받는 중에 불려도 커밋된 찜을 잃지 않는다.
+    public synchronized void refresh(Map<Long, Long> persistedCounts) {
+        pickCountsByCafeId.forEach((cafeId, pickCount) ->
+                pickCount.persisted.set(persistedCounts.getOrDefault(cafeId, 0L)));
+        persistedCounts.forEach((cafeId, persistedCount) -> pickCountOf(cafeId).persisted.set(persistedCount));
+    }
+
+    public void add(Long cafeId, long delta) {
+        pickCountOf(cafeId).pending.add(delta);
+    }
+
+    public long countOf(Long cafeId) {
+        PickCount pickCount = pickCountsByCafeId.get(cafeId);
+        return pickCount == null ? 0 : Math.max(0, pickCount.count());
+    }
+
+    // 반영할 변화량을 꺼내면서 반영된 값으로 옮긴다.
+    // sumThenReset 으로 꺼내면 반영된 값에 더하기 전까지 찜 수가 잠시 줄어 보이므로, 반영된 값에 먼저 더하고 읽은 만큼 변화량에서 뺀다.
+    public synchronized Map<Long, Long> drainPending() {
+        Map<Long, Long> drainedDeltas = new HashMap<>();
+        pickCountsByCafeId.forEach((cafeId, pickCount) -> {
+            long delta = pickCount.pending.sum();
+            if (delta != 0) {
+                pickCount.persisted.addAndGet(delta);
+                pickCount.pending.add(-delta);
+                drainedDeltas.put(cafeId, delta);
+            }
+        });
+        return drainedDeltas;
+    }
+
+    // 반영에 실패한 변화량을 다시 반영할 변화량으로 되돌린다.
+    public synchronized void restore(Long cafeId, long delta) {
+        PickCount pickCount = pickCountOf(cafeId);
+        pickCount.pending.add(delta);
+        pickCount.persisted.addAndGet(-delta);
+    }
+
+    public int getPendingCafeCount() {
+        return (int) pickCountsByCafeId.values().stream()
+                .filter(pickCount -> pickCount.pending.sum() != 0)
+                .count();
+    }
+
+    public synchronized void clear() {
+        pickCountsByCafeId.clear();
+    }
+
+    private PickCount pickCountOf(Long cafeId) {
+        return pickCountsByCafeId.computeIfAbsent(cafeId, key -> new PickCount());
+    }
+
+    private static class PickCount {
+
+        private final AtomicLong persisted = new AtomicLong();
+
+        private final LongAdder pending = new LongAdder();
+
+        private long count() {
+            return persisted.get() + pending.sum();
+        }
+
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.capick.capick.aggregate;
+
+import com.capick.capick.exception.BaseException;
+import com.capick.capick.service.CafeAggregateService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// CafePickCounter 에 모인 찜 수 변화량을 flush-interval 마다 카페마다 UPDATE 한 번으로 반영하고,
+// 다른 서버가 반영한 변화량도 보이도록 카페 행의 찜 수를 다시 읽는다.
+@Slf4j
+@Component
+public class CafePickFlusher {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final CafePickCounter cafePickCounter;
+
+    private final CafeAggregateService cafeAggregateService;
+
+    private final Duration flushInterval;
+
+    private final LongAdder flushedCafeCount = new LongAdder();
+
+    private final LongAdder droppedCafeCount = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    public CafePickFlusher(
+            CafePickCounter cafePickCounter, CafeAggregateService cafeAggregateService,
+            @Value("${aggregate.cafe.pick-count.flush-interval:5s}") Duration flushInterval) {
+        this.cafePickCounter = cafePickCounter;
+        this.cafeAggregateService = cafeAggregateService;
+        this.flushInterval = flushInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cafe-pick-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalInNanos = flushInterval.toNanos();
+        scheduler.scheduleWithFixedDelay(this::flush, intervalInNanos, intervalInNanos, TimeUnit.NANOSECONDS);
+        log.info("Cafe pick count flusher started : interval {}", flushInterval);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            scheduler = null;
+        }
+        flush();
+    }
+
+    public long getFlushedCafeCount() {
+        return flushedCafeCount.sum();
+    }
+
+    public long getDroppedCafeCount() {
+        return droppedCafeCount.sum();
+    }
+
+    // 카페가 없어 반영할 수 없는 변화량은 다시 시도해도 실패하므로 버린다. 그 밖의 실패는 되돌려 다음 주기에 다시 시도한다.
+    public void flush() {
+        Map<Long, Long> deltas = cafePickCounter.drainPending();
+        deltas.forEach((cafeId, delta) -> {
+            try {
+                cafeAggregateService.applyPickCountDelta(cafeId, delta);
+                flushedCafeCount.increment();
+            } catch (BaseException exception) {
+                droppedCafeCount.increment();
+                log.warn("Cafe pick count delta dropped : cafe {}, {}", cafeId, exception.getMessage());
+            } catch (RuntimeException exception) {
+                cafePickCounter.restore(cafeId, delta);
+                log.error("Cafe pick count flush failed : cafe {}", cafeId, exception);
+            }
+        });
+        try {
+            cafePickCounter.refresh();
+        } catch (RuntimeException exception) {
+            log.error("Cafe pick count refresh failed", exception);
+        }
+    }
+
+}
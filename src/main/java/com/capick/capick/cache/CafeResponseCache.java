@@ -0,0 +1,159 @@
+package com.capick.capick.cache;
+
+import com.capick.capick.dto.response.CafeResponse;
+import com.capick.capick.event.CafeUpdatedEvent;
+import com.capick.capick.repository.CafeRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+// 카페 타입과 테마는 리뷰 쓰기 트랜잭션이 커밋된 직후, 요청이 반환되기 전에 이 서버의 캐시에서 무효화된다.
+// 다른 서버에서 커밋된 변경은 invalidation.sync-interval 마다 그 사이에 수정된 카페를 읽어 무효화한다.
+// 따라서 다른 서버의 캐시는 쓰기가 반환된 뒤 최대 sync-interval 동안 이전 타입과 테마를 돌려줄 수 있다.
+@Slf4j
+@Component
+public class CafeResponseCache implements MeterBinder {
+
+    private static final String CACHE_METRIC = "capick.cache.cafe";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final LruTtlCache<String, CafeResponse> cache;
+
+    private final CafeRepository cafeRepository;
+
+    private final Duration syncInterval;
+
+    private final Duration syncMargin;
+
+    private volatile Instant syncedAt = Instant.now();
+
+    private ScheduledExecutorService scheduler;
+
+    public CafeResponseCache(
+            CafeRepository cafeRepository,
+            @Value("${cache.cafe.max-size:10000}") int maxSize,
+            @Value("${cache.cafe.ttl:10m}") Duration ttl,
+            @Value("${cache.cafe.invalidation.sync-interval:1s}") Duration syncInterval,
+            @Value("${cache.cafe.invalidation.sync-margin:30s}") Duration syncMargin) {
+        this.cache = new LruTtlCache<>(maxSize, ttl.toNanos(), System::nanoTime);
+        this.cafeRepository = cafeRepository;
+        this.syncInterval = syncInterval;
+        this.syncMargin = syncMargin;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        syncedAt = Instant.now();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cafe-cache-invalidation-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalInNanos = syncInterval.toNanos();
+        scheduler.scheduleWithFixedDelay(
+                this::syncInvalidationsSafely, intervalInNanos, intervalInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            scheduler = null;
+        }
+    }
+
+    public CafeResponse getOrLoad(String kakaoPlaceId, Supplier<CafeResponse> loader) {
+        return cache.getOrLoad(kakaoPlaceId, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCafeUpdated(CafeUpdatedEvent event) {
+        cache.invalidate(event.getKakaoPlaceId());
+    }
+
+    // 수정 시각은 커밋보다 먼저 정해지고 복제본은 늦게 따라오므로, 지난 sync 보다 sync-margin 만큼 앞에서부터 다시 읽는다.
+    // 이미 무효화한 카페를 다시 무효화해도 다음 조회에서 한 번 더 읽을 뿐이다.
+    public int syncInvalidations() {
+        Instant syncStartedAt = Instant.now();
+        List<String> kakaoPlaceIds = cafeRepository.findAllKakaoPlaceIdByUpdatedAtGreaterThanEqual(
+                LocalDateTime.ofInstant(syncedAt.minus(syncMargin), ZoneId.systemDefault()));
+        kakaoPlaceIds.forEach(cache::invalidate);
+        syncedAt = syncStartedAt;
+        return kakaoPlaceIds.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public long getInvalidationCount() {
+        return cache.getInvalidationCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        bindCounter(meterRegistry, "hit", CafeResponseCache::getHitCount);
+        bindCounter(meterRegistry, "miss", CafeResponseCache::getMissCount);
+        bindCounter(meterRegistry, "eviction", CafeResponseCache::getEvictionCount);
+        bindCounter(meterRegistry, "invalidation", CafeResponseCache::getInvalidationCount);
+        Gauge.builder(CACHE_METRIC + ".size", this, CafeResponseCache::size)
+                .description("카페 응답 캐시에 들어 있는 항목 수")
+                .register(meterRegistry);
+    }
+
+    private void bindCounter(MeterRegistry meterRegistry, String result, ToLongFunction<CafeResponseCache> count) {
+        FunctionCounter.builder(CACHE_METRIC, this, cafeResponseCache -> count.applyAsLong(cafeResponseCache))
+                .description("카페 응답 캐시 조회와 제거 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void syncInvalidationsSafely() {
+        try {
+            syncInvalidations();
+        } catch (RuntimeException exception) {
+            log.error("Cafe cache invalidation sync failed", exception);
+        }
+    }
+
+}
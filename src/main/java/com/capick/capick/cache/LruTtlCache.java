@@ -0,0 +1,158 @@
+package com.capick.capick.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// 키 해시로 나눈 세그먼트마다 접근 순서 LinkedHashMap 을 두어 잠금 경합을 줄인 LRU + TTL 캐시이다.
+// 로드 도중 같은 세그먼트에 무효화가 일어나면 로드한 값은 저장하지 않는다. 쓰기 직후 이전 값이 다시 캐시되는 것을 막기 위함이다.
+public class LruTtlCache<K, V> {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<K, V>[] segments;
+
+    private final long ttlInNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final LongAdder invalidationCount = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public LruTtlCache(int maxSize, long ttlInNanos, LongSupplier nanoClock) {
+        int segmentCapacity = Math.max(1, (maxSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int segmentNumber = 0; segmentNumber < SEGMENT_COUNT; segmentNumber++) {
+            segments[segmentNumber] = new Segment<>(segmentCapacity, evictionCount);
+        }
+        this.ttlInNanos = ttlInNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    public V getOrLoad(K key, Supplier<V> loader) {
+        Segment<K, V> segment = segmentOf(key);
+        long invalidationStamp;
+
+        synchronized (segment) {
+            Entry<V> entry = segment.get(key);
+            if (entry != null && !entry.isExpired(nanoClock.getAsLong())) {
+                hitCount.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                segment.remove(key);
+                evictionCount.increment();
+            }
+            invalidationStamp = segment.invalidationStamp;
+        }
+
+        missCount.increment();
+        V value = loader.get();
+
+        synchronized (segment) {
+            if (segment.invalidationStamp == invalidationStamp) {
+                segment.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlInNanos));
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            segment.invalidationStamp++;
+            segment.remove(key);
+        }
+        invalidationCount.increment();
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.invalidationStamp++;
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    private Segment<K, V> segmentOf(K key) {
+        int hash = Optional.ofNullable(key).map(Object::hashCode).orElse(0);
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    private static class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        private final int capacity;
+
+        private final LongAdder evictionCount;
+
+        private long invalidationStamp;
+
+        private Segment(int capacity, LongAdder evictionCount) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictionCount = evictionCount;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            boolean isOverCapacity = size() > capacity;
+            if (isOverCapacity) {
+                evictionCount.increment();
+            }
+            return isOverCapacity;
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+}
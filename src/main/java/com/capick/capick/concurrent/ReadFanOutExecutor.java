@@ -0,0 +1,103 @@
+package com.capick.capick.concurrent;
+
+import com.capick.capick.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.capick.capick.dto.ApiResponseStatus.READ_FAN_OUT_TIMEOUT;
+
+// 한 응답을 만들기 위한 서로 독립적인 조회를 전용 스레드에서 동시에 실행한다. 조회마다 각자의 커넥션과 트랜잭션을 쓴다.
+// 요청 스레드가 커넥션을 쥔 채로 join 하면 커넥션 풀이 바닥날 때 서로를 기다리게 되므로,
+// fork 하는 서비스 메서드는 트랜잭션 없이(NOT_SUPPORTED) 실행해 기다리는 동안 커넥션을 쥐지 않는다.
+// 대기열이 차면 요청 스레드에서 바로 조회해 순차 실행으로 물러난다.
+@Component
+public class ReadFanOutExecutor {
+
+    public static final String EXECUTOR_NAME = "capick.read.fan-out";
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration timeout;
+
+    private final Counter inlineCounter;
+
+    public ReadFanOutExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${read.fan-out.threads:8}") int threads,
+            @Value("${read.fan-out.queue-capacity:128}") int queueCapacity,
+            @Value("${read.fan-out.timeout:3s}") Duration timeout) {
+        this.timeout = timeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "read-fan-out-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, List.of()).bindTo(meterRegistry);
+        this.inlineCounter = Counter.builder(EXECUTOR_NAME + ".inline")
+                .description("대기열이 차서 요청 스레드에서 바로 실행한 조회 수")
+                .register(meterRegistry);
+    }
+
+    // CompletableFuture 는 cancel 해도 실행 중인 스레드를 인터럽트하지 않으므로, submit 으로 받은 Future 를 돌려준다.
+    public <T> Future<T> fork(Supplier<T> read) {
+        try {
+            return executor.submit(read::get);
+        } catch (RejectedExecutionException exception) {
+            inlineCounter.increment();
+            try {
+                return CompletableFuture.completedFuture(read.get());
+            } catch (RuntimeException readException) {
+                return CompletableFuture.failedFuture(readException);
+            }
+        }
+    }
+
+    // 조회에서 난 예외는 요청 스레드에서 난 것처럼 그대로 던진다. 제한 시간을 넘기면 조회 스레드를 인터럽트한다.
+    public <T> T join(Future<T> forked) {
+        try {
+            return forked.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            forked.cancel(true);
+            throw ServiceUnavailableException.of(READ_FAN_OUT_TIMEOUT);
+        } catch (InterruptedException exception) {
+            forked.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ServiceUnavailableException.of(READ_FAN_OUT_TIMEOUT);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw new IllegalStateException("fan-out read failed", exception.getCause());
+        }
+    }
+
+    // 먼저 띄운 조회가 필요 없어졌을 때 부른다. 아직 대기열에 있으면 실행되지 않는다.
+    public void cancel(Future<?> forked) {
+        forked.cancel(true);
+    }
+
+    public long getInlineCount() {
+        return (long) inlineCounter.count();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
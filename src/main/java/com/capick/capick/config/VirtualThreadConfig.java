@@ -0,0 +1,59 @@
+package com.capick.capick.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// virtual-threads 프로필에서 요청 처리, @Async, @Scheduled 작업을 가상 스레드에서 실행한다. JDK 21 이상에서만 뜬다.
+// 요청 스레드가 JDBC 응답을 기다리는 동안 플랫폼 스레드를 붙잡지 않으므로, 동시 요청 수가 Tomcat 스레드 풀 크기에 묶이지 않는다.
+// 대신 DB 커넥션 풀이 동시성의 상한이 되므로 커넥션 대기 시간(spring.datasource.hikari.connection-timeout)을 짧게 둔다.
+//
+// 고정(pinning) 점검 : synchronized 안에서 블로킹하면 가상 스레드가 캐리어 스레드를 놓지 못한다.
+// - mysql-connector-j 8.0.x 는 쿼리를 보내고 응답을 읽는 동안 커넥션 뮤텍스를 synchronized 로 잡는다. 쿼리마다 캐리어가 고정되므로
+//   -PvirtualThreads 빌드에서는 synchronized 를 ReentrantLock 으로 바꾼 9.x 드라이버를 쓴다.
+// - HikariCP 4.0.3 의 synchronized 는 풀 채우기, 문장 추적 같은 메모리 작업뿐이고 커넥션 대기는 큐에서 파킹하므로 고정되지 않는다.
+// - LruTtlCache 는 로더(DB 조회)를 잠금 밖에서 부르고, CafeGeoIndex, CountingBloomFilter 의 synchronized 는 메모리 작업뿐이다.
+// - 비밀번호 해시는 BcryptPasswordHasher 의 플랫폼 스레드 풀에서 하고, 요청 스레드는 결과를 기다리며 파킹한다.
+// 고정이 의심되면 -Djdk.tracePinnedThreads=short 로 실행해 고정된 지점의 스택을 확인한다.
+@Slf4j
+@Profile("virtual-threads")
+@Configuration
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        if (!VirtualThreads.isSupported()) {
+            throw new IllegalStateException(
+                    "virtual-threads profile needs JDK 21 or later, running on " + Runtime.version());
+        }
+        log.info("Requests, @Async and @Scheduled work run on virtual threads");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-vt-"));
+    }
+
+    // 이름이 applicationTaskExecutor 이므로 @Async 와 Spring MVC 비동기 요청 처리가 함께 쓴다.
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor("async-vt-"));
+    }
+
+    // 예약 시각을 재는 스레드도 가상 스레드로 만들므로, 예약 작업이 블로킹해도 플랫폼 스레드를 붙잡지 않는다.
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:1}") int poolSize) {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadFactory(VirtualThreads.threadFactory("scheduling-vt-"));
+        return taskScheduler;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.capick.capick.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// 소스는 Java 11 로 컴파일하므로 JDK 21 의 가상 스레드 API 는 리플렉션으로 부른다.
+public final class VirtualThreads {
+
+    private static final int VIRTUAL_THREAD_FEATURE_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= VIRTUAL_THREAD_FEATURE_VERSION;
+    }
+
+    // 이름이 namePrefix0, namePrefix1 ... 인 가상 스레드를 만든다.
+    public static ThreadFactory threadFactory(String namePrefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException exception) {
+            throw unsupported(exception);
+        } catch (InvocationTargetException exception) {
+            throw new IllegalStateException("virtual thread factory creation failed", exception.getCause());
+        }
+    }
+
+    // 작업마다 새 가상 스레드를 만드는 실행기이다. 스레드 수에 상한이 없으므로 한정된 자원은 호출하는 쪽에서 막는다.
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = threadFactory(namePrefix);
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            throw unsupported(exception);
+        } catch (InvocationTargetException exception) {
+            throw new IllegalStateException("virtual thread executor creation failed", exception.getCause());
+        }
+    }
+
+    public static boolean isVirtual(Thread thread) {
+        if (!isSupported()) {
+            return false;
+        }
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException exception) {
+            throw unsupported(exception);
+        }
+    }
+
+    private static IllegalStateException unsupported(Exception cause) {
+        return new IllegalStateException(
+                "virtual threads need JDK " + VIRTUAL_THREAD_FEATURE_VERSION + " or later, running on "
+                        + Runtime.version(), cause);
+    }
+
+}
@@ -1,13 +1,26 @@
 package com.capick.capick.controller;
 
 import com.capick.capick.dto.ApiResponse;
+import com.capick.capick.dto.ResourceVersion;
+import com.capick.capick.dto.request.CafeNearbySearchRequest;
+import com.capick.capick.dto.request.CafeRankingRequest;
+import com.capick.capick.dto.request.ReviewFeedRequest;
+import com.capick.capick.dto.response.CafeNearbyResponse;
+import com.capick.capick.dto.response.CafeRankingResponse;
 import com.capick.capick.dto.response.CafeResponse;
+import com.capick.capick.dto.response.CursorPageResponse;
+import com.capick.capick.dto.response.ReviewSimpleResponse;
 import com.capick.capick.service.CafeService;
+import com.capick.capick.service.ReviewService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.Optional;
+
+import static com.capick.capick.controller.ConditionalRequests.isNotModified;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,9 +29,36 @@ public class CafeController {
 
     private final CafeService cafeService;
 
+    private final ReviewService reviewService;
+
+    // 카페 응답은 캐시에서 꺼내므로 따로 버전을 조회하지 않고 캐시된 응답의 수정 시각으로 확인한다.
     @GetMapping("/kakao/{placeId}")
-    public ApiResponse<CafeResponse> getCafeByMapVendorPlaceId(@PathVariable("placeId") String placeId) {
-        return ApiResponse.ok(cafeService.getCafeByMapVendorPlaceId(placeId));
+    public ApiResponse<CafeResponse> getCafeByMapVendorPlaceId(
+            @PathVariable("placeId") String placeId, WebRequest webRequest) {
+        CafeResponse cafeResponse = cafeService.getCafeByMapVendorPlaceId(placeId);
+        Optional<ResourceVersion> version = Optional.ofNullable(cafeResponse.getUpdatedAt()).map(ResourceVersion::of);
+        if (isNotModified(webRequest, version, "cafe")) {
+            return null;
+        }
+        return ApiResponse.ok(cafeResponse);
+    }
+
+    @GetMapping("/nearby")
+    public ApiResponse<List<CafeNearbyResponse>> getNearbyCafes(
+            @Valid @ModelAttribute CafeNearbySearchRequest cafeNearbySearchRequest) {
+        return ApiResponse.ok(cafeService.getNearbyCafes(cafeNearbySearchRequest));
+    }
+
+    @GetMapping("/rankings")
+    public ApiResponse<List<CafeRankingResponse>> getCafeRankings(
+            @Valid @ModelAttribute CafeRankingRequest cafeRankingRequest) {
+        return ApiResponse.ok(cafeService.getCafeRankings(cafeRankingRequest));
+    }
+
+    @GetMapping("/{placeId}/reviews")
+    public ApiResponse<CursorPageResponse<ReviewSimpleResponse>> getCafeReviews(
+            @PathVariable("placeId") String placeId, @Valid @ModelAttribute ReviewFeedRequest reviewFeedRequest) {
+        return ApiResponse.ok(reviewService.getCafeReviews(placeId, reviewFeedRequest));
     }
 
 }
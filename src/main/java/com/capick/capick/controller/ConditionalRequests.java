@@ -0,0 +1,22 @@
+package com.capick.capick.controller;
+
+import com.capick.capick.dto.ResourceVersion;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+// 조회 전에 버전만 가볍게 확인해서, 클라이언트가 가진 응답과 같으면 응답을 만들지 않고 304 로 답한다.
+// 304 가 아니어도 ETag 와 Last-Modified 헤더는 응답에 실린다. 버전을 찾지 못하면 조회에서 예외로 처리되도록 넘긴다.
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    static boolean isNotModified(WebRequest webRequest, Optional<ResourceVersion> version, String representation) {
+        return version
+                .map(resourceVersion -> webRequest.checkNotModified(
+                        resourceVersion.toETag(representation), resourceVersion.getLastModifiedMillis()))
+                .orElse(false);
+    }
+
+}
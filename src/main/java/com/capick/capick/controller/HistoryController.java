@@ -2,14 +2,21 @@ package com.capick.capick.controller;
 
 import com.capick.capick.dto.ApiResponse;
 import com.capick.capick.dto.request.history.storage.StorageOrphanFileHistoriesCreateRequest;
+import com.capick.capick.dto.response.history.storage.StorageOrphanFileIngestResponse;
 import com.capick.capick.service.HistoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 
 import static com.capick.capick.dto.ApiResponseStatus.NO_DATA;
 
@@ -28,4 +35,12 @@ public class HistoryController {
         return ApiResponse.of(NO_DATA);
     }
 
+    // 저장소 정리 작업처럼 고아 파일이 많을 때는 한 줄에 파일 하나씩 NDJSON 으로 보낸다. 요청 당 개수 제한이 없다.
+    @PostMapping(value = "/storage/orphan-files", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ApiResponse<StorageOrphanFileIngestResponse> ingestStorageOrphanFileHistories(InputStream orphanFileLines)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(orphanFileLines, StandardCharsets.UTF_8));
+        return ApiResponse.ok(historyService.ingestStorageOrphanFileHistories(reader));
+    }
+
 }
@@ -4,14 +4,19 @@ import com.capick.capick.dto.ApiResponse;
 import com.capick.capick.dto.request.MemberCreateRequest;
 import com.capick.capick.dto.request.MemberPasswordRequest;
 import com.capick.capick.dto.request.MemberNicknameRequest;
+import com.capick.capick.dto.request.MemberNicknameSearchRequest;
+import com.capick.capick.dto.response.MemberNicknameAvailabilityResponse;
+import com.capick.capick.dto.response.MemberNicknameSuggestionResponse;
 import com.capick.capick.dto.response.MemberSimpleResponse;
 import com.capick.capick.dto.response.MemberResponse;
 import com.capick.capick.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 
+import static com.capick.capick.controller.ConditionalRequests.isNotModified;
 import static com.capick.capick.dto.ApiResponseStatus.NO_DATA;
 
 @RestController
@@ -27,10 +32,25 @@ public class MemberController {
     }
 
     @GetMapping("/{memberId}")
-    public ApiResponse<MemberResponse> getMember(@PathVariable("memberId") Long memberId) {
+    public ApiResponse<MemberResponse> getMember(@PathVariable("memberId") Long memberId, WebRequest webRequest) {
+        if (isNotModified(webRequest, memberService.findMemberVersion(memberId), "member")) {
+            return null;
+        }
         return ApiResponse.ok(memberService.getMember(memberId));
     }
 
+    @GetMapping("/nicknames/availability")
+    public ApiResponse<MemberNicknameAvailabilityResponse> getNicknameAvailability(
+            @Valid @ModelAttribute MemberNicknameSearchRequest memberNicknameSearchRequest) {
+        return ApiResponse.ok(memberService.getNicknameAvailability(memberNicknameSearchRequest));
+    }
+
+    @GetMapping("/nicknames/suggestions")
+    public ApiResponse<MemberNicknameSuggestionResponse> getNicknameSuggestions(
+            @Valid @ModelAttribute MemberNicknameSearchRequest memberNicknameSearchRequest) {
+        return ApiResponse.ok(memberService.getNicknameSuggestions(memberNicknameSearchRequest));
+    }
+
     @PatchMapping("/me/nickname")
     public ApiResponse<MemberSimpleResponse> updateMemberNickname(@Valid @RequestBody MemberNicknameRequest memberNicknameRequest) {
         return ApiResponse.ok(memberService.updateMemberNickname(memberNicknameRequest));
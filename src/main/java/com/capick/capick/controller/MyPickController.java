@@ -0,0 +1,44 @@
+package com.capick.capick.controller;
+
+import com.capick.capick.dto.ApiResponse;
+import com.capick.capick.dto.request.MyPickPinRequest;
+import com.capick.capick.dto.response.MyPickPinResponse;
+import com.capick.capick.dto.response.MyPickResponse;
+import com.capick.capick.service.MyPickService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members/{memberId}/picks")
+public class MyPickController {
+
+    private final MyPickService myPickService;
+
+    @GetMapping
+    public ApiResponse<List<MyPickResponse>> getMyPicks(@PathVariable("memberId") Long memberId) {
+        return ApiResponse.ok(myPickService.getMyPicks(memberId));
+    }
+
+    @GetMapping("/pins")
+    public ApiResponse<List<MyPickPinResponse>> getMyPickPins(
+            @PathVariable("memberId") Long memberId, @Valid @ModelAttribute MyPickPinRequest myPickPinRequest) {
+        return ApiResponse.ok(myPickService.getMyPickPins(memberId, myPickPinRequest));
+    }
+
+    @PutMapping("/{placeId}")
+    public ApiResponse<MyPickResponse> pickCafe(
+            @PathVariable("memberId") Long memberId, @PathVariable("placeId") String placeId) {
+        return ApiResponse.ok(myPickService.pickCafe(memberId, placeId));
+    }
+
+    @DeleteMapping("/{placeId}")
+    public ApiResponse<Void> unpickCafe(@PathVariable("memberId") Long memberId, @PathVariable("placeId") String placeId) {
+        myPickService.unpickCafe(memberId, placeId);
+        return ApiResponse.isDeleted();
+    }
+
+}
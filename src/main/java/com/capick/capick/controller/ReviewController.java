@@ -1,16 +1,25 @@
 package com.capick.capick.controller;
 
 import com.capick.capick.dto.ApiResponse;
+import com.capick.capick.dto.ResourceVersion;
 import com.capick.capick.dto.request.ReviewCreateRequest;
+import com.capick.capick.dto.request.ReviewSearchRequest;
 import com.capick.capick.dto.request.ReviewUpdateRequest;
 import com.capick.capick.dto.response.ReviewResponse;
 import com.capick.capick.dto.response.ReviewSimpleResponse;
+import com.capick.capick.exception.NotFoundResourceException;
 import com.capick.capick.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.capick.capick.controller.ConditionalRequests.isNotModified;
+import static com.capick.capick.dto.ApiResponseStatus.NOT_FOUND_REVIEW;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,13 +34,25 @@ public class ReviewController {
         return ApiResponse.isCreated(reviewService.createReview(reviewCreateRequest, registeredAt));
     }
 
+    @GetMapping("/search")
+    public ApiResponse<List<ReviewSimpleResponse>> searchReviews(
+            @Valid @ModelAttribute ReviewSearchRequest reviewSearchRequest) {
+        return ApiResponse.ok(reviewService.searchReviews(reviewSearchRequest));
+    }
+
     @GetMapping("/{reviewId}")
-    public ApiResponse<ReviewSimpleResponse> getReview(@PathVariable("reviewId") Long reviewId) {
+    public ApiResponse<ReviewSimpleResponse> getReview(@PathVariable("reviewId") Long reviewId, WebRequest webRequest) {
+        if (isNotModified(webRequest, findReviewVersionOrElseThrow(reviewId), "review")) {
+            return null;
+        }
         return ApiResponse.ok(reviewService.getReview(reviewId));
     }
 
     @GetMapping("/{reviewId}/detail")
-    public ApiResponse<ReviewResponse> getReviewDetail(@PathVariable("reviewId") Long reviewId) {
+    public ApiResponse<ReviewResponse> getReviewDetail(@PathVariable("reviewId") Long reviewId, WebRequest webRequest) {
+        if (isNotModified(webRequest, findReviewVersionOrElseThrow(reviewId), "review-detail")) {
+            return null;
+        }
         return ApiResponse.ok(reviewService.getReviewDetail(reviewId));
     }
 
@@ -47,4 +68,13 @@ public class ReviewController {
         return ApiResponse.isDeleted();
     }
 
+    // 리뷰 조회는 이미지를 다른 스레드에서 먼저 조회하므로, 없는 리뷰라면 버전 확인에서 바로 404 로 답해 이미지 조회를 띄우지 않는다.
+    private Optional<ResourceVersion> findReviewVersionOrElseThrow(Long reviewId) {
+        Optional<ResourceVersion> version = reviewService.findReviewVersion(reviewId);
+        if (version.isEmpty()) {
+            throw NotFoundResourceException.of(NOT_FOUND_REVIEW);
+        }
+        return version;
+    }
+
 }
@@ -0,0 +1,5 @@
+package com.capick.capick.datasource;
+
+public enum DataSourceRole {
+    PRIMARY, REPLICA
+}
@@ -0,0 +1,32 @@
+package com.capick.capick.datasource;
+
+import java.util.function.Supplier;
+
+// 쓰기 직후의 값을 읽어야 하는 조회는 readOnly 트랜잭션이어도 주 DB 에서 실행한다.
+// 라우팅은 커넥션을 얻는 시점에 정해지므로, 트랜잭션을 여는 조회 전체를 감싼다.
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> pinned = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> read) {
+        Boolean previous = pinned.get();
+        pinned.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                pinned.remove();
+            } else {
+                pinned.set(previous);
+            }
+        }
+    }
+
+    static boolean isPinned() {
+        return Boolean.TRUE.equals(pinned.get());
+    }
+
+}
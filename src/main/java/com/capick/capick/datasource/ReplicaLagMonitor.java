@@ -0,0 +1,132 @@
+package com.capick.capick.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 복제본의 복제 지연을 주기적으로 재서, 지연이 max-lag 이하일 때만 읽기 트랜잭션을 복제본으로 보내게 한다.
+// 지연을 잴 수 없으면(복제본 장애, 복제 중단) 복제본을 쓰지 않고 주 DB 에서 읽는다.
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    public static final long UNKNOWN_LAG = -1;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final DataSource replicaDataSource;
+
+    private final Duration maxLag;
+
+    private final Duration checkInterval;
+
+    private final LagProbe lagProbe;
+
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval) {
+        this(replicaDataSource, maxLag, checkInterval, ReplicaLagMonitor::measureReplicaLagMillis);
+    }
+
+    ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval, LagProbe lagProbe) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.lagProbe = lagProbe;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("capick.datasource.replica.lag", this, ReplicaLagMonitor::getLagSeconds)
+                .description("복제본의 복제 지연. 잴 수 없으면 -1")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        check();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalInNanos = checkInterval.toNanos();
+        scheduler.scheduleWithFixedDelay(this::check, intervalInNanos, intervalInNanos, TimeUnit.NANOSECONDS);
+        log.info("Replica lag monitor started : interval {}, max lag {}", checkInterval, maxLag);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            scheduler = null;
+        }
+    }
+
+    public void check() {
+        try {
+            lagMillis = lagProbe.measureLagMillis(replicaDataSource);
+        } catch (SQLException | RuntimeException exception) {
+            lagMillis = UNKNOWN_LAG;
+            log.warn("Replica lag check failed, reading from primary : {}", exception.getMessage());
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        long currentLagMillis = lagMillis;
+        return currentLagMillis != UNKNOWN_LAG && currentLagMillis <= maxLag.toMillis();
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    private double getLagSeconds() {
+        long currentLagMillis = lagMillis;
+        return currentLagMillis == UNKNOWN_LAG ? UNKNOWN_LAG : currentLagMillis / 1000.0;
+    }
+
+    // MySQL 복제본은 SHOW REPLICA STATUS 의 Seconds_Behind_Source 로 잰다. 복제 스레드가 멈췄으면 값이 NULL 이다.
+    // 로컬과 테스트에서 복제본 역할을 하는 H2 는 복제를 하지 않으므로, 연결만 확인하고 지연이 없다고 본다.
+    static long measureReplicaLagMillis(DataSource replicaDataSource) throws SQLException {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (!"MySQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return connection.isValid(1) ? 0 : UNKNOWN_LAG;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet replicaStatus = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!replicaStatus.next()) {
+                    return UNKNOWN_LAG;
+                }
+                long secondsBehindSource = replicaStatus.getLong("Seconds_Behind_Source");
+                return replicaStatus.wasNull() ? UNKNOWN_LAG : TimeUnit.SECONDS.toMillis(secondsBehindSource);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface LagProbe {
+        long measureLagMillis(DataSource replicaDataSource) throws SQLException;
+    }
+
+}
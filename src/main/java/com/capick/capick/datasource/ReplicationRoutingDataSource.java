@@ -0,0 +1,75 @@
+package com.capick.capick.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// readOnly 트랜잭션은 복제본으로, 나머지는 주 DB 로 보낸다. 복제본이 max-lag 보다 뒤처졌거나 응답하지 않으면 주 DB 에서 읽는다.
+// 커넥션을 얻는 시점에 트랜잭션의 readOnly 여부가 정해져 있어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+// 쓰기 직후 같은 데이터를 다른 readOnly 트랜잭션에서 읽으면 복제 지연만큼 이전 값을 볼 수 있다. 그런 조회는 PrimaryReads 로 감싸 주 DB 에서 읽는다.
+// 메트릭 레지스트리가 DataSource 메트릭을 위해 DataSource 를 필요로 하므로, 레지스트리는 생성자가 아닌 bindTo 로 받는다.
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    private final LongAdder writeCount = new LongAdder();
+
+    private final LongAdder readCount = new LongAdder();
+
+    private final LongAdder lagFallbackCount = new LongAdder();
+
+    private final LongAdder pinnedReadCount = new LongAdder();
+
+    public ReplicationRoutingDataSource(
+            DataSource primaryDataSource, DataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource
+        ));
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeCount.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (PrimaryReads.isPinned()) {
+            pinnedReadCount.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (!replicaLagMonitor.isReplicaUsable()) {
+            lagFallbackCount.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        readCount.increment();
+        return DataSourceRole.REPLICA;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        bindRouteCounter(meterRegistry, writeCount, DataSourceRole.PRIMARY, "write");
+        bindRouteCounter(meterRegistry, readCount, DataSourceRole.REPLICA, "read");
+        bindRouteCounter(meterRegistry, lagFallbackCount, DataSourceRole.PRIMARY, "replica-lagging");
+        bindRouteCounter(meterRegistry, pinnedReadCount, DataSourceRole.PRIMARY, "pinned");
+    }
+
+    private static void bindRouteCounter(
+            MeterRegistry meterRegistry, LongAdder routeCount, DataSourceRole role, String reason) {
+        FunctionCounter.builder("capick.datasource.route", routeCount, LongAdder::sum)
+                .description("커넥션을 얻을 때 고른 DB")
+                .tag("pool", role.name().toLowerCase(Locale.ROOT))
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+}
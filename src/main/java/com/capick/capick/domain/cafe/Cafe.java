@@ -9,14 +9,20 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.util.Optional;
 
-import static com.capick.capick.dto.ApiResponseStatus.FIRST_REVIEW_WITHOUT_CAFE_LOCATION;
+import static com.capick.capick.dto.ApiResponseStatus.*;
 
 @Getter
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_cafe_kakao_place_id", columnNames = "kakaoPlaceId"),
+        indexes = @Index(name = "idx_cafe_updated_at", columnList = "updatedAt")
+)
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Cafe extends BaseEntity {
 
@@ -47,6 +53,10 @@ public class Cafe extends BaseEntity {
     @Embedded
     private CafeThemeInfo cafeThemeInfo = new CafeThemeInfo(0, 0, 0, 0, 0, 0, 0, 0, CafeTheme.NORMAL);
 
+    // 찜 수는 CafePickCounter 가 메모리에서 세고 주기적으로 변화량만 더한다. 최대 한 주기만큼 늦게 반영된다.
+    @Column(nullable = false)
+    private int pickCount;
+
     // TODO: 지금 빌더로 location 을 받아서 지정할 수 있게 하였다. JPA 임베디드 타입은 공유참조에 주의해야 한다.
     //  지금 외부에서 Location 을 생성하여 대입 지정한다면 공유참조의 여지가 있다. 리팩토링하기
     @Builder
@@ -98,4 +108,20 @@ public class Cafe extends BaseEntity {
         cafeThemeInfo.ifHasMaxThemeCountUpdateCafeTheme();
     }
 
+    // 누적 지수와 횟수는 DB 에서 원자적으로 증감된다. 증감 후 다시 읽어온 값으로 카페 타입과 테마만 갱신한다.
+    public void updateCafeTypeAndThemeByAccumulated() {
+        cafeTypeInfo.preventIndexOverflow();
+        cafeTypeInfo.ifHasMaxIndexUpdateCafeType();
+        cafeThemeInfo.preventCountOverflow();
+        cafeThemeInfo.ifHasMaxThemeCountUpdateCafeTheme();
+    }
+
+    // 증감 UPDATE 가 음수 방지 조건에 걸려 반영되지 않았을 때, 부족한 값에 맞는 예외를 만든다.
+    public DomainLogicalException lackOfAccumulatedBy(CafeAggregateDelta delta) {
+        if (!cafeTypeInfo.isLackOf(delta) && cafeThemeInfo.isLackOf(delta)) {
+            return DomainLogicalException.of(LACK_OF_ACCUMULATED_CAFE_THEME_COUNT);
+        }
+        return DomainLogicalException.of(LACK_OF_ACCUMULATED_CAFE_TYPE_INDEX);
+    }
+
 }
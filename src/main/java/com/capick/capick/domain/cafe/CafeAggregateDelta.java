@@ -0,0 +1,121 @@
+package com.capick.capick.domain.cafe;
+
+import com.capick.capick.domain.review.Review;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+// 리뷰 한 건이 카페의 누적 타입 지수와 테마 횟수에 더하거나 빼는 변화량이다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CafeAggregateDelta {
+
+    private final int coffeeIndex;
+
+    private final int spaceIndex;
+
+    private final int priceIndex;
+
+    private final int noiseIndex;
+
+    @Getter(AccessLevel.NONE)
+    private final int[] themeCounts;
+
+    public static CafeAggregateDelta ofAdding(Review review) {
+        return of(review, 1);
+    }
+
+    public static CafeAggregateDelta ofDeducting(Review review) {
+        return of(review, -1);
+    }
+
+    // themeCounts 는 CafeTheme 선언 순서를 따른다.
+    public static CafeAggregateDelta of(
+            int coffeeIndex, int spaceIndex, int priceIndex, int noiseIndex, int[] themeCounts) {
+        return new CafeAggregateDelta(
+                coffeeIndex, spaceIndex, priceIndex, noiseIndex, Arrays.copyOf(themeCounts, CafeTheme.values().length)
+        );
+    }
+
+    private static CafeAggregateDelta of(Review review, int sign) {
+        int[] themeCounts = new int[CafeTheme.values().length];
+        themeCounts[review.getTheme().ordinal()] = sign;
+        return new CafeAggregateDelta(
+                sign * review.getCoffeeIndex(), sign * review.getSpaceIndex(),
+                sign * review.getPriceIndex(), sign * review.getNoiseIndex(), themeCounts
+        );
+    }
+
+    public CafeAggregateDelta plus(CafeAggregateDelta other) {
+        int[] summedThemeCounts = new int[themeCounts.length];
+        for (int ordinal = 0; ordinal < themeCounts.length; ordinal++) {
+            summedThemeCounts[ordinal] = themeCounts[ordinal] + other.themeCounts[ordinal];
+        }
+        return new CafeAggregateDelta(
+                coffeeIndex + other.coffeeIndex, spaceIndex + other.spaceIndex,
+                priceIndex + other.priceIndex, noiseIndex + other.noiseIndex, summedThemeCounts
+        );
+    }
+
+    // 여러 변화량을 합친 뒤 차감이 부족하면, 더하는 값과 빼는 값을 나눠 더하는 값만이라도 반영하기 위해 쓴다.
+    public CafeAggregateDelta addingPart() {
+        return map(value -> Math.max(value, 0));
+    }
+
+    public CafeAggregateDelta deductingPart() {
+        return map(value -> Math.min(value, 0));
+    }
+
+    public boolean isZero() {
+        return coffeeIndex == 0 && spaceIndex == 0 && priceIndex == 0 && noiseIndex == 0
+                && Arrays.stream(themeCounts).allMatch(themeCount -> themeCount == 0);
+    }
+
+    public int getThemeCount(CafeTheme cafeTheme) {
+        return themeCounts[cafeTheme.ordinal()];
+    }
+
+    public int getNormalCount() {
+        return getThemeCount(CafeTheme.NORMAL);
+    }
+
+    public int getVibeCount() {
+        return getThemeCount(CafeTheme.VIBE);
+    }
+
+    public int getViewCount() {
+        return getThemeCount(CafeTheme.VIEW);
+    }
+
+    public int getPetCount() {
+        return getThemeCount(CafeTheme.PET);
+    }
+
+    public int getHobbyCount() {
+        return getThemeCount(CafeTheme.HOBBY);
+    }
+
+    public int getStudyCount() {
+        return getThemeCount(CafeTheme.STUDY);
+    }
+
+    public int getKidsCount() {
+        return getThemeCount(CafeTheme.KIDS);
+    }
+
+    public int getEtcCount() {
+        return getThemeCount(CafeTheme.ETC);
+    }
+
+    private CafeAggregateDelta map(IntUnaryOperator operator) {
+        return new CafeAggregateDelta(
+                operator.applyAsInt(coffeeIndex), operator.applyAsInt(spaceIndex),
+                operator.applyAsInt(priceIndex), operator.applyAsInt(noiseIndex),
+                Arrays.stream(themeCounts).map(operator).toArray()
+        );
+    }
+
+}
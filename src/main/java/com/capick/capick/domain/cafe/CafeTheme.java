@@ -1,5 +1,6 @@
 package com.capick.capick.domain.cafe;
 
+import com.capick.capick.domain.common.CodedEnum;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -7,19 +8,20 @@ import java.util.Arrays;
 
 @Getter
 @RequiredArgsConstructor
-public enum CafeTheme {
+public enum CafeTheme implements CodedEnum {
 
-    NORMAL("일반카페", "normal"),
-    VIBE("감성있는", "vibe"),
-    VIEW("전경좋은", "view"),
-    PET("애완동물까페", "pet"),
-    HOBBY("취미활동까페", "hobby"),
-    STUDY("스터디카페", "study"),
-    KIDS("키즈까페", "kids"),
-    ETC("기타테마카페", "etc");
+    NORMAL("일반카페", "normal", 1),
+    VIBE("감성있는", "vibe", 2),
+    VIEW("전경좋은", "view", 3),
+    PET("애완동물까페", "pet", 4),
+    HOBBY("취미활동까페", "hobby", 5),
+    STUDY("스터디카페", "study", 6),
+    KIDS("키즈까페", "kids", 7),
+    ETC("기타테마카페", "etc", 8);
 
     private final String text;
     private final String name;
+    private final int code;
 
     public static CafeTheme findByThemeName(String name) {
         return Arrays.stream(CafeTheme.values())
@@ -0,0 +1,14 @@
+package com.capick.capick.domain.cafe;
+
+import com.capick.capick.domain.common.CodedEnumConverter;
+
+import javax.persistence.Converter;
+
+@Converter
+public class CafeThemeConverter extends CodedEnumConverter<CafeTheme> {
+
+    public CafeThemeConverter() {
+        super(CafeTheme.class);
+    }
+
+}
@@ -8,10 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Embeddable;
-import javax.persistence.EnumType;
-import javax.persistence.Enumerated;
-import java.util.*;
 
 import static com.capick.capick.dto.ApiResponseStatus.LACK_OF_ACCUMULATED_CAFE_THEME_COUNT;
 
@@ -21,6 +19,10 @@ import static com.capick.capick.dto.ApiResponseStatus.LACK_OF_ACCUMULATED_CAFE_T
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class CafeThemeInfo {
 
+    private static final CafeTheme[] CAFE_THEMES = CafeTheme.values();
+
+    private static final int OVERFLOW_BOUNDARY = Integer.MAX_VALUE - 10000;
+
     @Column(nullable = false)
     private int normalCount;
 
@@ -45,37 +47,38 @@ public class CafeThemeInfo {
     @Column(nullable = false)
     private int etcCount;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = CafeThemeConverter.class)
+    @Column(columnDefinition = "tinyint")
     private CafeTheme cafeTheme;
 
     protected void addCafeThemeCount(Review review) {
-        List<Integer> themeCounts
-                = List.of(normalCount, vibeCount, viewCount, petCount, hobbyCount, studyCount, kidsCount, etcCount);
-        preventCountOverflow(themeCounts);
-        addCount(review.getTheme());
+        preventCountOverflow();
+        addCount(review.getTheme(), 1);
     }
 
     protected void deductCafeThemeCount(Review review) {
-        if (isAccumulatedThemeCountLessThan(review.getTheme())) {
+        if (countOf(review.getTheme()) < 1) {
             throw DomainLogicalException.of(LACK_OF_ACCUMULATED_CAFE_THEME_COUNT);
         }
-        deductCount(review);
+        addCount(review.getTheme(), -1);
     }
 
-    protected void ifHasMaxThemeCountUpdateCafeTheme() {
-        Map<String, Integer> themeCountMap = createThemeCountMap();
-        Integer maxCountValue = Collections.max(themeCountMap.values());
-
-        if (hasMaxThemeCount(themeCountMap, maxCountValue)) {
-            String maxThemeKey = findMaxThemeName(themeCountMap);
-            cafeTheme = CafeTheme.findByThemeName(maxThemeKey);
+    protected boolean isLackOf(CafeAggregateDelta delta) {
+        for (CafeTheme theme : CAFE_THEMES) {
+            if (countOf(theme) + delta.getThemeCount(theme) < 0) {
+                return true;
+            }
         }
+        return false;
     }
 
-    private void preventCountOverflow(List<Integer> themeCounts) {
-        int overflowBoundary = Integer.MAX_VALUE - 10000;
+    protected void preventCountOverflow() {
+        int maxCount = Integer.MIN_VALUE;
+        for (CafeTheme theme : CAFE_THEMES) {
+            maxCount = Math.max(maxCount, countOf(theme));
+        }
 
-        if (themeCounts.stream().anyMatch(count -> count > overflowBoundary)) {
+        if (maxCount > OVERFLOW_BOUNDARY) {
             normalCount /= 2;
             vibeCount /= 2;
             viewCount /= 2;
@@ -87,109 +90,74 @@ public class CafeThemeInfo {
         }
     }
 
-    private void addCount(String theme) {
-        switch (theme) {
-            case "normal":
-                normalCount++;
-                break;
-            case "vibe":
-                vibeCount++;
-                break;
-            case "view":
-                viewCount++;
-                break;
-            case "pet":
-                petCount++;
-                break;
-            case "hobby":
-                hobbyCount++;
-                break;
-            case "study":
-                studyCount++;
-                break;
-            case "kids":
-                kidsCount++;
-                break;
-            default:
-                etcCount++;
+    // 리뷰마다 호출되므로 박싱이나 컬렉션 없이 한 번 순회하며 최댓값이 하나뿐인지 확인한다. 최댓값이 여럿이면 테마를 바꾸지 않는다.
+    protected void ifHasMaxThemeCountUpdateCafeTheme() {
+        CafeTheme maxCountTheme = null;
+        int maxCount = Integer.MIN_VALUE;
+        boolean isUniqueMax = false;
+
+        for (CafeTheme theme : CAFE_THEMES) {
+            int count = countOf(theme);
+            if (count > maxCount) {
+                maxCount = count;
+                maxCountTheme = theme;
+                isUniqueMax = true;
+            } else if (count == maxCount) {
+                isUniqueMax = false;
+            }
+        }
+
+        if (isUniqueMax) {
+            cafeTheme = maxCountTheme;
         }
     }
 
-    private boolean isAccumulatedThemeCountLessThan(String theme) {
+    public int countOf(CafeTheme theme) {
         switch (theme) {
-            case "normal":
-                return normalCount < 1;
-            case "vibe":
-                return vibeCount < 1;
-            case "view":
-                return viewCount < 1;
-            case "pet":
-                return petCount < 1;
-            case "hobby":
-                return hobbyCount < 1;
-            case "study":
-                return studyCount < 1;
-            case "kids":
-                return kidsCount < 1;
+            case NORMAL:
+                return normalCount;
+            case VIBE:
+                return vibeCount;
+            case VIEW:
+                return viewCount;
+            case PET:
+                return petCount;
+            case HOBBY:
+                return hobbyCount;
+            case STUDY:
+                return studyCount;
+            case KIDS:
+                return kidsCount;
             default:
-                return etcCount < 1;
+                return etcCount;
         }
     }
 
-    private void deductCount(Review review) {
-        switch (review.getTheme()) {
-            case "normal":
-                normalCount--;
+    private void addCount(CafeTheme theme, int amount) {
+        switch (theme) {
+            case NORMAL:
+                normalCount += amount;
                 break;
-            case "vibe":
-                vibeCount--;
+            case VIBE:
+                vibeCount += amount;
                 break;
-            case "view":
-                viewCount--;
+            case VIEW:
+                viewCount += amount;
                 break;
-            case "pet":
-                petCount--;
+            case PET:
+                petCount += amount;
                 break;
-            case "hobby":
-                hobbyCount--;
+            case HOBBY:
+                hobbyCount += amount;
                 break;
-            case "study":
-                studyCount--;
+            case STUDY:
+                studyCount += amount;
                 break;
-            case "kids":
-                kidsCount--;
+            case KIDS:
+                kidsCount += amount;
                 break;
             default:
-                etcCount--;
+                etcCount += amount;
         }
     }
-
-    private Map<String, Integer> createThemeCountMap() {
-        Map<String, Integer> themeCountMap = new HashMap<>();
-        themeCountMap.put("normal", normalCount);
-        themeCountMap.put("vibe", vibeCount);
-        themeCountMap.put("view", viewCount);
-        themeCountMap.put("pet", petCount);
-        themeCountMap.put("hobby", hobbyCount);
-        themeCountMap.put("study", studyCount);
-        themeCountMap.put("kids", kidsCount);
-        themeCountMap.put("etc", etcCount);
-        return themeCountMap;
-    }
-
-    private boolean hasMaxThemeCount(Map<String, Integer> themeCountMap, Integer maxCountValue) {
-        return countMaxTheme(themeCountMap, maxCountValue) == 1;
-    }
-
-    private long countMaxTheme(Map<String, Integer> themeCountMap, Integer maxCountValue) {
-        return themeCountMap.keySet().stream()
-                .filter(themeKey -> themeCountMap.get(themeKey).equals(maxCountValue))
-                .count();
-    }
-
-    private String findMaxThemeName(Map<String, Integer> themeCountMap) {
-        return themeCountMap.keySet().stream()
-                .max(Comparator.comparing(themeCountMap::get))
-                .orElseGet(() -> "etc");
-    }
 }
@@ -1,5 +1,6 @@
 package com.capick.capick.domain.cafe;
 
+import com.capick.capick.domain.common.CodedEnum;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -7,16 +8,17 @@ import java.util.Arrays;
 
 @Getter
 @RequiredArgsConstructor
-public enum CafeType {
+public enum CafeType implements CodedEnum {
 
-    COFFEE("커피적", "coffeeIndex"),
-    SPACIOUS("공간적", "spaceIndex"),
-    COST_EFFECTIVE("가성비", "priceIndex"),
-    NOISY("시끌벅적함", "noiseIndex"),
-    NONE("타입없음", "none");
+    COFFEE("커피적", "coffeeIndex", 1),
+    SPACIOUS("공간적", "spaceIndex", 2),
+    COST_EFFECTIVE("가성비", "priceIndex", 3),
+    NOISY("시끌벅적함", "noiseIndex", 4),
+    NONE("타입없음", "none", 5);
 
     private final String text;
     private final String indexName;
+    private final int code;
 
     public static CafeType findByIndexName(String indexName) {
         return Arrays.stream(CafeType.values())
@@ -5,10 +5,8 @@ import com.capick.capick.exception.DomainLogicalException;
 import lombok.*;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Embeddable;
-import javax.persistence.EnumType;
-import javax.persistence.Enumerated;
-import java.util.*;
 
 import static com.capick.capick.dto.ApiResponseStatus.LACK_OF_ACCUMULATED_CAFE_TYPE_INDEX;
 
@@ -18,6 +16,12 @@ import static com.capick.capick.dto.ApiResponseStatus.LACK_OF_ACCUMULATED_CAFE_T
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class CafeTypeInfo {
 
+    private static final CafeType[] INDEXED_CAFE_TYPES = {
+            CafeType.COFFEE, CafeType.SPACIOUS, CafeType.COST_EFFECTIVE, CafeType.NOISY
+    };
+
+    private static final int OVERFLOW_BOUNDARY = Integer.MAX_VALUE - 10000;
+
     @Column(nullable = false)
     private int coffeeIndex;
 
@@ -30,12 +34,12 @@ public class CafeTypeInfo {
     @Column(nullable = false)
     private int noiseIndex;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = CafeTypeConverter.class)
+    @Column(columnDefinition = "tinyint")
     private CafeType cafeType;
 
     protected void addCafeTypeIndexes(Review review) {
-        List<Integer> indexes = List.of(coffeeIndex, spaceIndex, priceIndex, noiseIndex);
-        preventIndexOverflow(indexes);
+        preventIndexOverflow();
         addIndexes(review);
     }
 
@@ -46,20 +50,15 @@ public class CafeTypeInfo {
         deductIndexes(review);
     }
 
-    protected void ifHasMaxIndexUpdateCafeType() {
-        Map<String, Integer> indexMap = createIndexMap();
-        Integer maxIndexValue = Collections.max(indexMap.values());
-
-        if (hasMaxIndex(indexMap, maxIndexValue)) {
-            String maxIndexKey = findMaxIndexName(indexMap);
-            cafeType = CafeType.findByIndexName(maxIndexKey);
-        }
+    protected boolean isLackOf(CafeAggregateDelta delta) {
+        return coffeeIndex + delta.getCoffeeIndex() < 0 | spaceIndex + delta.getSpaceIndex() < 0
+                | priceIndex + delta.getPriceIndex() < 0 | noiseIndex + delta.getNoiseIndex() < 0;
     }
 
-    private void preventIndexOverflow(List<Integer> indexes) {
-        int overflowBoundary = Integer.MAX_VALUE - 10000;
+    protected void preventIndexOverflow() {
+        int maxIndex = Math.max(Math.max(coffeeIndex, spaceIndex), Math.max(priceIndex, noiseIndex));
 
-        if (indexes.stream().anyMatch(index -> index > overflowBoundary)) {
+        if (maxIndex > OVERFLOW_BOUNDARY) {
             coffeeIndex /= 2;
             spaceIndex /= 2;
             priceIndex /= 2;
@@ -67,6 +66,43 @@ public class CafeTypeInfo {
         }
     }
 
+    // 리뷰마다 호출되므로 박싱이나 컬렉션 없이 한 번 순회하며 최댓값이 하나뿐인지 확인한다. 최댓값이 여럿이면 타입을 바꾸지 않는다.
+    protected void ifHasMaxIndexUpdateCafeType() {
+        CafeType maxIndexCafeType = null;
+        int maxIndex = Integer.MIN_VALUE;
+        boolean isUniqueMax = false;
+
+        for (CafeType indexedCafeType : INDEXED_CAFE_TYPES) {
+            int index = indexOf(indexedCafeType);
+            if (index > maxIndex) {
+                maxIndex = index;
+                maxIndexCafeType = indexedCafeType;
+                isUniqueMax = true;
+            } else if (index == maxIndex) {
+                isUniqueMax = false;
+            }
+        }
+
+        if (isUniqueMax) {
+            cafeType = maxIndexCafeType;
+        }
+    }
+
+    public int indexOf(CafeType indexedCafeType) {
+        switch (indexedCafeType) {
+            case COFFEE:
+                return coffeeIndex;
+            case SPACIOUS:
+                return spaceIndex;
+            case COST_EFFECTIVE:
+                return priceIndex;
+            case NOISY:
+                return noiseIndex;
+            default:
+                throw new IllegalArgumentException(indexedCafeType.name());
+        }
+    }
+
     private void addIndexes(Review review) {
         coffeeIndex += review.getCoffeeIndex();
         spaceIndex += review.getSpaceIndex();
@@ -85,29 +121,4 @@ public class CafeTypeInfo {
         priceIndex -= review.getPriceIndex();
         noiseIndex -= review.getNoiseIndex();
     }
-
-    private Map<String, Integer> createIndexMap() {
-        Map<String, Integer> indexMap = new HashMap<>();
-        indexMap.put("coffeeIndex", coffeeIndex);
-        indexMap.put("spaceIndex", spaceIndex);
-        indexMap.put("priceIndex", priceIndex);
-        indexMap.put("noiseIndex", noiseIndex);
-        return indexMap;
-    }
-
-    private boolean hasMaxIndex(Map<String, Integer> indexMap, Integer maxIndexValue) {
-        return countMaxIndex(indexMap, maxIndexValue) == 1;
-    }
-
-    private long countMaxIndex(Map<String, Integer> indexMap, Integer maxIndexValue) {
-        return indexMap.keySet().stream()
-                .filter(indexKey -> indexMap.get(indexKey).equals(maxIndexValue))
-                .count();
-    }
-
-    private String findMaxIndexName(Map<String, Integer> indexMap) {
-        return indexMap.keySet().stream()
-                .max(Comparator.comparing(indexMap::get))
-                .orElseGet(() -> "none");
-    }
 }
@@ -1,5 +1,12 @@
 package com.capick.capick.domain.common;
 
-public enum BaseStatus {
-    ACTIVE, INACTIVE
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BaseStatus implements CodedEnum {
+    ACTIVE(1), INACTIVE(2);
+
+    private final int code;
 }
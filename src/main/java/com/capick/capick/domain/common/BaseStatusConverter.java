@@ -0,0 +1,12 @@
+package com.capick.capick.domain.common;
+
+import javax.persistence.Converter;
+
+@Converter
+public class BaseStatusConverter extends CodedEnumConverter<BaseStatus> {
+
+    public BaseStatusConverter() {
+        super(BaseStatus.class);
+    }
+
+}
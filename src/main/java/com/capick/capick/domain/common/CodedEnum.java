@@ -0,0 +1,8 @@
+package com.capick.capick.domain.common;
+
+// DB 에는 enum 이름 대신 바뀌지 않는 작은 정수 코드로 저장한다. 선언 순서(ordinal)와 무관하므로 상수를 추가하거나 순서를 바꿔도 안전하다.
+public interface CodedEnum {
+
+    int getCode();
+
+}
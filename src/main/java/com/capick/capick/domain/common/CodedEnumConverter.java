@@ -0,0 +1,44 @@
+package com.capick.capick.domain.common;
+
+import javax.persistence.AttributeConverter;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Integer> {
+
+    private final Class<E> enumClass;
+
+    private final E[] constantsByCode;
+
+    @SuppressWarnings("unchecked")
+    protected CodedEnumConverter(Class<E> enumClass) {
+        E[] constants = enumClass.getEnumConstants();
+        int maxCode = Arrays.stream(constants).mapToInt(CodedEnum::getCode).max().orElse(0);
+        E[] constantsByCode = (E[]) Array.newInstance(enumClass, maxCode + 1);
+        for (E constant : constants) {
+            if (constantsByCode[constant.getCode()] != null) {
+                throw new IllegalStateException(enumClass.getSimpleName() + " has duplicate code " + constant.getCode());
+            }
+            constantsByCode[constant.getCode()] = constant;
+        }
+        this.enumClass = enumClass;
+        this.constantsByCode = constantsByCode;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public E convertToEntityAttribute(Integer code) {
+        if (code == null) {
+            return null;
+        }
+        if (code < 0 || code >= constantsByCode.length || constantsByCode[code] == null) {
+            throw new IllegalArgumentException(enumClass.getSimpleName() + " has no code " + code);
+        }
+        return constantsByCode[code];
+    }
+
+}
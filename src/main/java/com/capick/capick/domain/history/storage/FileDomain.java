@@ -1,5 +1,6 @@
 package com.capick.capick.domain.history.storage;
 
+import com.capick.capick.domain.common.CodedEnum;
 import com.capick.capick.exception.DomainPoliticalArgumentException;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -10,15 +11,16 @@ import static com.capick.capick.dto.ApiResponseStatus.ILLEGAL_FILE_DOMAIN_ERROR;
 
 @Getter
 @RequiredArgsConstructor
-public enum FileDomain {
+public enum FileDomain implements CodedEnum {
 
-    MEMBER("회원", "member", "members"),
-    REVIEW("리뷰", "review", "reviews"),
-    ETC("도메인 미정 및 기타 도메인", "etc", "etcs");
+    MEMBER("회원", "member", "members", 1),
+    REVIEW("리뷰", "review", "reviews", 2),
+    ETC("도메인 미정 및 기타 도메인", "etc", "etcs", 3);
 
     private final String text;
     private final String domain;
     private final String domainInPlural;
+    private final int code;
 
     public static FileDomain findByDomainOrDomainInPlural(String domain) {
         return Arrays.stream(FileDomain.values())
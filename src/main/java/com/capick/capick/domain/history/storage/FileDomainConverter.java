@@ -0,0 +1,14 @@
+package com.capick.capick.domain.history.storage;
+
+import com.capick.capick.domain.common.CodedEnumConverter;
+
+import javax.persistence.Converter;
+
+@Converter
+public class FileDomainConverter extends CodedEnumConverter<FileDomain> {
+
+    public FileDomainConverter() {
+        super(FileDomain.class);
+    }
+
+}
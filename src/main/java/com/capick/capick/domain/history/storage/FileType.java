@@ -1,5 +1,6 @@
 package com.capick.capick.domain.history.storage;
 
+import com.capick.capick.domain.common.CodedEnum;
 import com.capick.capick.exception.DomainPoliticalArgumentException;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -10,14 +11,15 @@ import static com.capick.capick.dto.ApiResponseStatus.ILLEGAL_FILE_TYPE_ERROR;
 
 @Getter
 @RequiredArgsConstructor
-public enum FileType {
+public enum FileType implements CodedEnum {
 
-    IMAGE("이미지 파일", "image", "images"),
-    VIDEO("동영상 파일", "video", "videos");
+    IMAGE("이미지 파일", "image", "images", 1),
+    VIDEO("동영상 파일", "video", "videos", 2);
 
     private final String text;
     private final String type;
     private final String typeInPlural;
+    private final int code;
 
     public static FileType findByTypeOrTypeInPlural(String type) {
         return Arrays.stream(FileType.values())
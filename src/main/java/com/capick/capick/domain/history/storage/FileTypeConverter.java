@@ -0,0 +1,14 @@
+package com.capick.capick.domain.history.storage;
+
+import com.capick.capick.domain.common.CodedEnumConverter;
+
+import javax.persistence.Converter;
+
+@Converter
+public class FileTypeConverter extends CodedEnumConverter<FileType> {
+
+    public FileTypeConverter() {
+        super(FileType.class);
+    }
+
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +16,10 @@ import static com.capick.capick.dto.ApiResponseStatus.*;
 
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_storage_orphan_file_history_url", columnList = "url"),
+        @Index(name = "idx_storage_orphan_file_history_purge", columnList = "isHardDeleted, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StorageOrphanFileHistory extends BaseEntity {
 
@@ -25,10 +30,12 @@ public class StorageOrphanFileHistory extends BaseEntity {
     @Column(nullable = false)
     private String fileName;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = FileTypeConverter.class)
+    @Column(columnDefinition = "tinyint")
     private FileType fileType;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = FileDomainConverter.class)
+    @Column(columnDefinition = "tinyint")
     private FileDomain domain;
 
     @Column(nullable = false)
@@ -37,6 +44,12 @@ public class StorageOrphanFileHistory extends BaseEntity {
     @Column(nullable = false)
     private boolean isHardDeleted = false;
 
+    // 여러 서버의 삭제 작업이 같은 파일을 겹쳐 처리하지 않도록, 삭제를 맡은 작업자와 맡은 기한을 기록한다.
+    @Column(length = 64)
+    private String purgeClaimedBy;
+
+    private LocalDateTime purgeClaimExpiresAt;
+
     @Builder
     private StorageOrphanFileHistory(String fileName, FileType fileType, FileDomain domain, String url) {
         this.fileName = fileName;
@@ -5,6 +5,7 @@ import com.capick.capick.domain.common.BaseStatus;
 import com.capick.capick.domain.common.Location;
 import com.capick.capick.exception.DuplicateResourceException;
 import com.capick.capick.exception.UnauthorizedException;
+import com.capick.capick.security.PasswordHasher;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +18,13 @@ import static com.capick.capick.dto.ApiResponseStatus.NOT_CHANGED_PASSWORD;
 
 @Getter
 @Entity
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_member_active_email", columnNames = "activeEmail"),
+                @UniqueConstraint(name = "uk_member_active_nickname", columnNames = "activeNickname")
+        },
+        indexes = @Index(name = "idx_member_updated_at", columnList = "updatedAt")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseEntity {
 
@@ -33,6 +41,13 @@ public class Member extends BaseEntity {
     @Column(nullable = false, length = 20)
     private String nickname;
 
+    // 탈퇴한 회원의 이메일과 닉네임은 다시 쓸 수 있어야 하므로, 활동 중인 회원만 값을 채워서 유니크 제약을 건다.
+    @Column(length = 320)
+    private String activeEmail;
+
+    @Column(length = 20)
+    private String activeNickname;
+
     @Embedded
     private Profile profile;
 
@@ -50,25 +65,31 @@ public class Member extends BaseEntity {
         this.email = email;
         this.password = password;
         this.nickname = nickname;
+        this.activeEmail = email;
+        this.activeNickname = nickname;
         this.profile = profile;
         this.preferTown = location;
     }
 
     public void delete() {
         this.status = BaseStatus.INACTIVE;
+        this.activeEmail = null;
+        this.activeNickname = null;
     }
 
     public void updateNickname(String nickname) {
         this.nickname = nickname;
+        this.activeNickname = nickname;
     }
 
-    public void updatePassword(String password, String newPassword) {
-        if (newPassword.equals(this.password)) {
-            throw DuplicateResourceException.of(NOT_CHANGED_PASSWORD);
-        }
-        if (!password.equals(this.password)) {
+    // 현재 비밀번호가 맞는지 먼저 확인하면, 새 비밀번호가 현재와 같은지는 평문끼리 비교할 수 있어 해시를 한 번 덜 한다.
+    public void updatePassword(String password, String newPassword, PasswordHasher passwordHasher) {
+        if (!passwordHasher.matches(password, this.password)) {
             throw UnauthorizedException.of(INCORRECT_PASSWORD_ERROR);
         }
-        this.password = newPassword;
+        if (newPassword.equals(password)) {
+            throw DuplicateResourceException.of(NOT_CHANGED_PASSWORD);
+        }
+        this.password = passwordHasher.hash(newPassword);
     }
 }
@@ -2,15 +2,24 @@ package com.capick.capick.domain.mypick;
 
 import com.capick.capick.domain.cafe.Cafe;
 import com.capick.capick.domain.common.BaseEntity;
+import com.capick.capick.domain.common.BaseStatus;
 import com.capick.capick.domain.member.Member;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+
+// 회원과 카페마다 한 행만 둔다. 찜을 해제했다가 다시 찜하면 같은 행을 다시 활성화한다.
 @Getter
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_my_pick_member_cafe", columnNames = {"member_id", "cafe_id"}),
+        indexes = @Index(name = "idx_my_pick_updated_at", columnList = "updatedAt")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MyPick extends BaseEntity {
 
@@ -24,4 +33,29 @@ public class MyPick extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private Cafe cafe;
 
+    @Builder
+    private MyPick(Member member, Cafe cafe) {
+        this.member = member;
+        this.cafe = cafe;
+    }
+
+    public static MyPick create(Member member, Cafe cafe) {
+        return MyPick.builder()
+                .member(member)
+                .cafe(cafe)
+                .build();
+    }
+
+    public boolean isPicked() {
+        return ACTIVE.equals(status);
+    }
+
+    public void pick() {
+        this.status = ACTIVE;
+    }
+
+    public void unpick() {
+        this.status = BaseStatus.INACTIVE;
+    }
+
 }
@@ -1,6 +1,8 @@
 package com.capick.capick.domain.review;
 
 import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeTheme;
+import com.capick.capick.domain.cafe.CafeThemeConverter;
 import com.capick.capick.domain.common.BaseEntity;
 import com.capick.capick.domain.common.BaseStatus;
 import com.capick.capick.domain.member.Member;
@@ -12,12 +14,15 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.util.List;
 
 import static com.capick.capick.dto.ApiResponseStatus.REVIEW_WITH_CAFE_TYPE_INDEX_OUT_OF_RANGE;
 
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_review_cafe_feed", columnList = "cafe_id, status, registeredAt, id"),
+        @Index(name = "idx_review_updated_at", columnList = "updatedAt")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review extends BaseEntity {
 
@@ -52,8 +57,9 @@ public class Review extends BaseEntity {
     @Column(nullable = false)
     private int noiseIndex;
 
-    @Column(nullable = false)
-    private String theme;
+    @Convert(converter = CafeThemeConverter.class)
+    @Column(nullable = false, columnDefinition = "tinyint")
+    private CafeTheme theme;
 
     @Column(nullable = false)
     private LocalDateTime registeredAt;
@@ -61,7 +67,7 @@ public class Review extends BaseEntity {
     @Builder
     private Review(
             Member writer, Cafe cafe, String visitPurpose, String content, String menu, int coffeeIndex,
-            int spaceIndex, int priceIndex, int noiseIndex, String theme, LocalDateTime registeredAt) {
+            int spaceIndex, int priceIndex, int noiseIndex, CafeTheme theme, LocalDateTime registeredAt) {
         this.writer = writer;
         this.cafe = cafe;
         this.visitPurpose = visitPurpose;
@@ -82,8 +88,8 @@ public class Review extends BaseEntity {
     }
 
     public void updateIndexes(int coffeeIndex, int spaceIndex, int priceIndex, int noiseIndex) {
-        List<Integer> indexes = List.of(coffeeIndex, spaceIndex, priceIndex, noiseIndex);
-        boolean isIndexOutOfRange = indexes.stream().anyMatch(index -> index < 1 || index > 5);
+        boolean isIndexOutOfRange = isOutOfRange(coffeeIndex) || isOutOfRange(spaceIndex)
+                || isOutOfRange(priceIndex) || isOutOfRange(noiseIndex);
         if (isIndexOutOfRange) {
             throw DomainPoliticalArgumentException.of(REVIEW_WITH_CAFE_TYPE_INDEX_OUT_OF_RANGE);
         }
@@ -94,7 +100,7 @@ public class Review extends BaseEntity {
         this.noiseIndex = noiseIndex;
     }
 
-    public void updateTheme(String theme) {
+    public void updateTheme(CafeTheme theme) {
         this.theme = theme;
     }
 
@@ -102,4 +108,8 @@ public class Review extends BaseEntity {
         this.status = BaseStatus.INACTIVE;
     }
 
+    private static boolean isOutOfRange(int index) {
+        return index < 1 || index > 5;
+    }
+
 }
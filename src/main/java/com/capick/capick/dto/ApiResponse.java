@@ -5,10 +5,18 @@ import lombok.Builder;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
 @Getter
 @Builder
 public class ApiResponse<T> {
 
+    // 데이터 없는 응답은 상태마다 하나씩 미리 만들어 두고 함께 쓴다. 세터가 없으므로 공유해도 바뀌지 않는다.
+    private static final Map<ApiResponseStatus, ApiResponse<?>> STATUS_RESPONSES = createStatusResponses();
+
     private int code;
 
     private String message;
@@ -24,11 +32,9 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> ApiResponse<T> of(ApiResponseStatus status) {
-        return ApiResponse.<T>builder()
-                .code(status.getStatus().value())
-                .message(status.getMessage())
-                .build();
+        return (ApiResponse<T>) STATUS_RESPONSES.get(status);
     }
 
     public static <T> ApiResponse<T> of(HttpStatus status, String message) {
@@ -50,4 +56,14 @@ public class ApiResponse<T> {
         return of(ApiResponseStatus.DELETED);
     }
 
+    private static Map<ApiResponseStatus, ApiResponse<?>> createStatusResponses() {
+        Map<ApiResponseStatus, ApiResponse<?>> statusResponses = new EnumMap<>(ApiResponseStatus.class);
+        Arrays.stream(ApiResponseStatus.values())
+                .forEach(status -> statusResponses.put(status, ApiResponse.builder()
+                        .code(status.getStatus().value())
+                        .message(status.getMessage())
+                        .build()));
+        return Collections.unmodifiableMap(statusResponses);
+    }
+
 }
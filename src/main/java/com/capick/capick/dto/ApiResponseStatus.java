@@ -34,8 +34,13 @@ public enum ApiResponseStatus {
     ILLEGAL_FILE_TYPE_ERROR(HttpStatus.BAD_REQUEST, "파일 기록 시 허락되지 않은 파일타입입니다."),
     ILLEGAL_FILE_DOMAIN_ERROR(HttpStatus.BAD_REQUEST, "파일 기록 시 허락되지 않은 도메인입니다."),
     NOT_FOUND_CAFE(HttpStatus.NOT_FOUND, "등록된 적이 없거나 삭제되어 서비스상에서 존재하지 않는 카페입니다."),
+    NOT_FOUND_MY_PICK(HttpStatus.NOT_FOUND, "찜하지 않은 카페입니다."),
+    DUPLICATE_MY_PICK(HttpStatus.CONFLICT, "같은 카페를 동시에 찜하였습니다. 잠시 후 다시 시도해 주세요."),
+    ILLEGAL_CURSOR_ERROR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다. 이전 응답의 커서를 그대로 사용해 주세요."),
 
     // 500
+    PASSWORD_HASHER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    READ_FAN_OUT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "조회가 지연되어 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
     DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 연결 또는 접근에 실패하였습니다. 관리자에게 문의해 주세요."),
     UNEXPECTED_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부에서 예상치 못한 오류가 발생 했습니다. 관리자에게 문의해 주세요.");
 
@@ -0,0 +1,55 @@
+package com.capick.capick.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+// 응답을 만드는 데 쓰인 엔터티들의 수정 시각으로 정한 응답의 버전이다. 조건부 GET 의 ETag 와 Last-Modified 로 쓴다.
+// 응답에 들어가는 값이 바뀌면 그 엔터티의 수정 시각도 바뀌므로, 시각이 모두 같으면 응답 본문도 같다고 보고 강한 ETag 를 준다.
+// DB 에 저장된 정밀도와 메모리의 정밀도가 달라도 같은 버전이 되도록 마이크로초까지만 쓴다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResourceVersion {
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final long lastModifiedMillis;
+
+    private final long fingerprint;
+
+    // 수정 시각이 없는 엔터티(예: 이미지가 없는 리뷰의 이미지 수정 시각)는 null 로 넘긴다.
+    public static ResourceVersion of(LocalDateTime... updatedAts) {
+        long fingerprint = 0x243f6a8885a308d3L;
+        LocalDateTime lastModified = null;
+        for (LocalDateTime updatedAt : updatedAts) {
+            long epochMicros = NO_TIMESTAMP;
+            if (updatedAt != null) {
+                epochMicros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+                lastModified = lastModified == null || updatedAt.isAfter(lastModified) ? updatedAt : lastModified;
+            }
+            fingerprint = mix(fingerprint ^ epochMicros);
+        }
+        long lastModifiedMillis = lastModified == null
+                ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new ResourceVersion(lastModifiedMillis, fingerprint);
+    }
+
+    // 같은 엔터티라도 표현이 다른 응답(요약, 상세)은 ETag 가 겹치지 않게 표현 이름을 붙인다.
+    public String toETag(String representation) {
+        return "\"" + representation + "-" + Long.toHexString(fingerprint) + "\"";
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+}
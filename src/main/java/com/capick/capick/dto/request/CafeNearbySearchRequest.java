@@ -0,0 +1,39 @@
+package com.capick.capick.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.*;
+import java.util.Optional;
+
+@Getter
+public class CafeNearbySearchRequest {
+
+    @NotNull(message = "주변 카페를 검색할 위도를 입력해 주세요.")
+    @DecimalMin(value = "-90.0", message = "위도는 -90 에서 90 사이여야 합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 -90 에서 90 사이여야 합니다.")
+    private Double lat;
+
+    @NotNull(message = "주변 카페를 검색할 경도를 입력해 주세요.")
+    @DecimalMin(value = "-180.0", message = "경도는 -180 에서 180 사이여야 합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 -180 에서 180 사이여야 합니다.")
+    private Double lng;
+
+    @Min(value = 1, message = "검색 반경은 1m 에서 5000m 사이여야 합니다.")
+    @Max(value = 5000, message = "검색 반경은 1m 에서 5000m 사이여야 합니다.")
+    private Integer radius;
+
+    @Min(value = 1, message = "검색할 카페 수는 1 에서 100 사이여야 합니다.")
+    @Max(value = 100, message = "검색할 카페 수는 1 에서 100 사이여야 합니다.")
+    private Integer limit;
+
+    // 쿼리 파라미터는 생성자로 바인딩 되므로 기본값도 생성자에서 지정한다.
+    @Builder
+    public CafeNearbySearchRequest(Double lat, Double lng, Integer radius, Integer limit) {
+        this.lat = lat;
+        this.lng = lng;
+        this.radius = Optional.ofNullable(radius).orElse(1000);
+        this.limit = Optional.ofNullable(limit).orElse(20);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.capick.capick.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import java.util.Optional;
+
+@Getter
+public class CafeRankingRequest {
+
+    @Pattern(
+            regexp = "^(normal|vibe|view|pet|hobby|study|kids|etc)$",
+            message = "카페 테마는 normal, vibe, view, pet, hobby, study, kids, etc 중 하나여야 합니다."
+    )
+    private String theme;
+
+    @Pattern(
+            regexp = "^(coffeeIndex|spaceIndex|priceIndex|noiseIndex)$",
+            message = "카페 타입은 coffeeIndex, spaceIndex, priceIndex, noiseIndex 중 하나여야 합니다."
+    )
+    private String type;
+
+    @Min(value = 1, message = "조회할 카페 수는 1 에서 100 사이여야 합니다.")
+    @Max(value = 100, message = "조회할 카페 수는 1 에서 100 사이여야 합니다.")
+    private Integer limit;
+
+    // 쿼리 파라미터는 생성자로 바인딩 되므로 기본값도 생성자에서 지정한다.
+    @Builder
+    public CafeRankingRequest(String theme, String type, Integer limit) {
+        this.theme = theme;
+        this.type = type;
+        this.limit = Optional.ofNullable(limit).orElse(10);
+    }
+
+    @AssertTrue(message = "카페 테마와 카페 타입 중 하나만 입력해 주세요.")
+    private boolean isThemeOrType() {
+        return (theme == null) != (type == null);
+    }
+
+}
@@ -40,10 +40,10 @@ public class MemberCreateRequest {
         this.nickname = nickname;
     }
 
-    public Member toEntity() {
+    public Member toEntity(String hashedPassword) {
         return Member.builder()
                 .email(email)
-                .password(password)
+                .password(hashedPassword)
                 .nickname(nickname)
                 .build();
     }
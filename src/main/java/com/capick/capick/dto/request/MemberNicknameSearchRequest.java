@@ -0,0 +1,33 @@
+package com.capick.capick.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import java.util.Optional;
+
+@Getter
+public class MemberNicknameSearchRequest {
+
+    @NotBlank(message = "닉네임을 입력해주세요.")
+    @Pattern(
+            regexp = "^(?=.*[.\\w가-힇ぁ-ゔァ-ヴー々〆〤一-龥])(?=\\S+$)[.\\w가-힇ぁ-ゔァ-ヴー々〆〤一-龥]{1,20}$",
+            message = "닉네임의 특수문자는 마침표(.), 밑줄(_) 만 사용하여 20자리 이하로 작성해주세요."
+    )
+    private String nickname;
+
+    @Min(value = 1, message = "추천할 닉네임 수는 1 에서 20 사이여야 합니다.")
+    @Max(value = 20, message = "추천할 닉네임 수는 1 에서 20 사이여야 합니다.")
+    private Integer limit;
+
+    // 쿼리 파라미터는 생성자로 바인딩 되므로 기본값도 생성자에서 지정한다.
+    @Builder
+    public MemberNicknameSearchRequest(String nickname, Integer limit) {
+        this.nickname = nickname;
+        this.limit = Optional.ofNullable(limit).orElse(5);
+    }
+
+}
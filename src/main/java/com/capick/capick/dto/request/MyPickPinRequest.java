@@ -0,0 +1,24 @@
+package com.capick.capick.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+public class MyPickPinRequest {
+
+    // 지도에 그릴 카페들의 카카오 장소 id 이다. 쉼표로 구분하여 보낸다.
+    @NotEmpty(message = "카카오 장소 id 를 하나 이상 입력해 주세요.")
+    @Size(max = 300, message = "카카오 장소 id 는 한 번에 300개까지 입력할 수 있습니다.")
+    private List<String> placeIds;
+
+    // 쿼리 파라미터는 생성자로 바인딩 되므로 기본값도 생성자에서 지정한다.
+    @Builder
+    public MyPickPinRequest(List<String> placeIds) {
+        this.placeIds = placeIds;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.capick.capick.dto.request;
 
 import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.member.Member;
 import com.capick.capick.domain.review.Review;
 import lombok.Builder;
@@ -85,7 +86,7 @@ public class ReviewCreateRequest {
                 .visitPurpose(visitPurpose)
                 .content(content)
                 .menu(menu)
-                .theme(theme)
+                .theme(CafeTheme.findByThemeName(theme))
                 .registeredAt(registeredAt)
                 .build();
     }
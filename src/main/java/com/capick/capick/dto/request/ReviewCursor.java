@@ -0,0 +1,49 @@
+package com.capick.capick.dto.request;
+
+import com.capick.capick.domain.review.Review;
+import com.capick.capick.exception.DomainPoliticalArgumentException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.capick.capick.dto.ApiResponseStatus.ILLEGAL_CURSOR_ERROR;
+
+// 마지막으로 응답한 리뷰의 (registeredAt, id) 를 클라이언트가 해석할 필요 없는 문자열로 주고 받는다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime registeredAt;
+
+    private final Long id;
+
+    public static ReviewCursor of(Review review) {
+        return new ReviewCursor(review.getRegisteredAt(), review.getId());
+    }
+
+    public static ReviewCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new ReviewCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException exception) {
+            throw DomainPoliticalArgumentException.of(ILLEGAL_CURSOR_ERROR);
+        }
+    }
+
+    public String encode() {
+        String raw = registeredAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
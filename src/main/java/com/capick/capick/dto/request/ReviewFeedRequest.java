@@ -0,0 +1,32 @@
+package com.capick.capick.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.util.Optional;
+
+@Getter
+public class ReviewFeedRequest {
+
+    private String cursor;
+
+    @Min(value = 1, message = "한 번에 조회할 리뷰 수는 1 에서 50 사이여야 합니다.")
+    @Max(value = 50, message = "한 번에 조회할 리뷰 수는 1 에서 50 사이여야 합니다.")
+    private Integer size;
+
+    // 쿼리 파라미터는 생성자로 바인딩 되므로 기본값도 생성자에서 지정한다.
+    @Builder
+    public ReviewFeedRequest(String cursor, Integer size) {
+        this.cursor = cursor;
+        this.size = Optional.ofNullable(size).orElse(20);
+    }
+
+    public Optional<ReviewCursor> getReviewCursor() {
+        return Optional.ofNullable(cursor)
+                .filter(value -> !value.isBlank())
+                .map(ReviewCursor::decode);
+    }
+
+}
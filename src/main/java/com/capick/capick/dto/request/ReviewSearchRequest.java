@@ -0,0 +1,34 @@
+package com.capick.capick.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.util.Optional;
+
+@Getter
+public class ReviewSearchRequest {
+
+    @NotBlank(message = "검색어를 입력해 주세요.")
+    @Size(max = 50, message = "검색어는 50자 이하로 입력해 주세요.")
+    private String q;
+
+    // 카페의 카카오 장소 id 이다. 입력하면 그 카페의 리뷰에서만 찾는다.
+    private String cafe;
+
+    @Min(value = 1, message = "검색할 리뷰 수는 1 에서 50 사이여야 합니다.")
+    @Max(value = 50, message = "검색할 리뷰 수는 1 에서 50 사이여야 합니다.")
+    private Integer size;
+
+    // 쿼리 파라미터는 생성자로 바인딩 되므로 기본값도 생성자에서 지정한다.
+    @Builder
+    public ReviewSearchRequest(String q, String cafe, Integer size) {
+        this.q = q;
+        this.cafe = cafe;
+        this.size = Optional.ofNullable(size).orElse(20);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.capick.capick.dto.response;
+
+import com.capick.capick.index.geo.CafeGeoPoint;
+import com.capick.capick.index.geo.CafeGeoSearchResult;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class CafeNearbyResponse {
+
+    private String name;
+
+    private String kakaoPlaceId;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Integer distance;
+
+    @Builder
+    private CafeNearbyResponse(String name, String kakaoPlaceId, Double latitude, Double longitude, Integer distance) {
+        this.name = name;
+        this.kakaoPlaceId = kakaoPlaceId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.distance = distance;
+    }
+
+    public static CafeNearbyResponse of(CafeGeoSearchResult searchResult) {
+        CafeGeoPoint point = searchResult.getPoint();
+        return CafeNearbyResponse.builder()
+                .name(point.getName())
+                .kakaoPlaceId(point.getKakaoPlaceId())
+                .latitude(point.getLatitude())
+                .longitude(point.getLongitude())
+                .distance((int) Math.round(searchResult.getDistance()))
+                .build();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.capick.capick.dto.response;
+
+import com.capick.capick.index.ranking.CafeRank;
+import com.capick.capick.index.ranking.CafeRankingScores;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class CafeRankingResponse {
+
+    private Integer rank;
+
+    private String name;
+
+    private String kakaoPlaceId;
+
+    private Integer score;
+
+    @Builder
+    private CafeRankingResponse(Integer rank, String name, String kakaoPlaceId, Integer score) {
+        this.rank = rank;
+        this.name = name;
+        this.kakaoPlaceId = kakaoPlaceId;
+        this.score = score;
+    }
+
+    public static CafeRankingResponse of(int rank, CafeRank cafeRank) {
+        CafeRankingScores scores = cafeRank.getScores();
+        return CafeRankingResponse.builder()
+                .rank(rank)
+                .name(scores.getName())
+                .kakaoPlaceId(scores.getKakaoPlaceId())
+                .score(cafeRank.getScore())
+                .build();
+    }
+
+}
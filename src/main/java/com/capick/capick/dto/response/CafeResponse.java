@@ -4,9 +4,12 @@ import com.capick.capick.domain.cafe.Cafe;
 import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.cafe.CafeType;
 import com.capick.capick.domain.common.Location;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class CafeResponse {
 
@@ -22,16 +25,21 @@ public class CafeResponse {
 
     private CafeTheme cafeTheme;
 
+    // 캐시된 응답으로 조건부 GET 에 답하기 위해 함께 둔다. 응답 본문에는 넣지 않는다.
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+
     @Builder
     private CafeResponse(
             String name, String kakaoPlaceId, String kakaoDetailPageUrl,
-            Location location, CafeType cafeType, CafeTheme cafeTheme) {
+            Location location, CafeType cafeType, CafeTheme cafeTheme, LocalDateTime updatedAt) {
         this.name = name;
         this.kakaoPlaceId = kakaoPlaceId;
         this.kakaoDetailPageUrl = kakaoDetailPageUrl;
         this.location = LocationResponse.of(location);
         this.cafeType = cafeType;
         this.cafeTheme = cafeTheme;
+        this.updatedAt = updatedAt;
     }
 
     public static CafeResponse of(Cafe cafe) {
@@ -42,6 +50,7 @@ public class CafeResponse {
                 .location(cafe.getLocation())
                 .cafeType(cafe.getCafeTypeInfo().getCafeType())
                 .cafeTheme(cafe.getCafeThemeInfo().getCafeTheme())
+                .updatedAt(cafe.getUpdatedAt())
                 .build();
     }
 
@@ -0,0 +1,32 @@
+package com.capick.capick.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorPageResponse<T> {
+
+    private List<T> contents;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    @Builder
+    private CursorPageResponse(List<T> contents, String nextCursor, boolean hasNext) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> CursorPageResponse<T> of(List<T> contents, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .contents(contents)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.capick.capick.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class MemberNicknameAvailabilityResponse {
+
+    private String nickname;
+
+    private Boolean available;
+
+    @Builder
+    private MemberNicknameAvailabilityResponse(String nickname, Boolean available) {
+        this.nickname = nickname;
+        this.available = available;
+    }
+
+    public static MemberNicknameAvailabilityResponse of(String nickname, boolean available) {
+        return MemberNicknameAvailabilityResponse.builder()
+                .nickname(nickname)
+                .available(available)
+                .build();
+    }
+
+}
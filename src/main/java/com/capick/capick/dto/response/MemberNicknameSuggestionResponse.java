@@ -0,0 +1,34 @@
+package com.capick.capick.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MemberNicknameSuggestionResponse {
+
+    private String nickname;
+
+    private Boolean available;
+
+    // 입력한 닉네임 뒤에 숫자를 붙인, 아무도 쓰지 않는 닉네임이다.
+    private List<String> suggestions;
+
+    // 입력한 닉네임으로 시작하는, 이미 사용 중인 닉네임의 수와 그 일부이다.
+    private Integer takenCount;
+
+    private List<String> takenNicknames;
+
+    @Builder
+    private MemberNicknameSuggestionResponse(
+            String nickname, Boolean available, List<String> suggestions, Integer takenCount,
+            List<String> takenNicknames) {
+        this.nickname = nickname;
+        this.available = available;
+        this.suggestions = suggestions;
+        this.takenCount = takenCount;
+        this.takenNicknames = takenNicknames;
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.capick.capick.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class MyPickPinResponse {
+
+    private String kakaoPlaceId;
+
+    private Boolean picked;
+
+    private Long pickCount;
+
+    @Builder
+    private MyPickPinResponse(String kakaoPlaceId, Boolean picked, Long pickCount) {
+        this.kakaoPlaceId = kakaoPlaceId;
+        this.picked = picked;
+        this.pickCount = pickCount;
+    }
+
+    public static MyPickPinResponse of(String kakaoPlaceId, boolean picked, long pickCount) {
+        return MyPickPinResponse.builder()
+                .kakaoPlaceId(kakaoPlaceId)
+                .picked(picked)
+                .pickCount(pickCount)
+                .build();
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.capick.capick.dto.response;
+
+import com.capick.capick.domain.mypick.MyPick;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class MyPickResponse {
+
+    private CafeResponse cafe;
+
+    private LocalDateTime pickedAt;
+
+    @Builder
+    private MyPickResponse(CafeResponse cafe, LocalDateTime pickedAt) {
+        this.cafe = cafe;
+        this.pickedAt = pickedAt;
+    }
+
+    // 찜 행은 찜하거나 찜을 해제할 때만 바뀌므로, 활성 찜의 수정 시각이 찜한 시각이다.
+    public static MyPickResponse of(MyPick myPick) {
+        return MyPickResponse.builder()
+                .cafe(CafeResponse.of(myPick.getCafe()))
+                .pickedAt(myPick.getUpdatedAt())
+                .build();
+    }
+
+}
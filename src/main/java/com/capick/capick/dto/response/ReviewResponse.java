@@ -69,7 +69,7 @@ public class ReviewResponse {
                 .spaceIndex(review.getSpaceIndex())
                 .priceIndex(review.getPriceIndex())
                 .noiseIndex(review.getNoiseIndex())
-                .theme(review.getTheme())
+                .theme(review.getTheme().getName())
                 .registeredAt(review.getRegisteredAt())
                 .imageUrls(
                         reviewImages.stream().map(ReviewImage::getImageUrl).collect(Collectors.toList())
@@ -0,0 +1,9 @@
+package com.capick.capick.dto.response.history.storage;
+
+public enum OrphanFileIngestResult {
+
+    ACCEPTED,
+    DUPLICATE,
+    INVALID
+
+}
@@ -0,0 +1,30 @@
+package com.capick.capick.dto.response.history.storage;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class StorageOrphanFileIngestLineResponse {
+
+    private int line;
+
+    private OrphanFileIngestResult result;
+
+    private String reason;
+
+    @Builder
+    private StorageOrphanFileIngestLineResponse(int line, OrphanFileIngestResult result, String reason) {
+        this.line = line;
+        this.result = result;
+        this.reason = reason;
+    }
+
+    public static StorageOrphanFileIngestLineResponse of(int line, OrphanFileIngestResult result, String reason) {
+        return StorageOrphanFileIngestLineResponse.builder()
+                .line(line)
+                .result(result)
+                .reason(reason)
+                .build();
+    }
+
+}
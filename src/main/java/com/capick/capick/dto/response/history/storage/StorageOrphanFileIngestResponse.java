@@ -0,0 +1,47 @@
+package com.capick.capick.dto.response.history.storage;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+import static com.capick.capick.dto.response.history.storage.OrphanFileIngestResult.DUPLICATE;
+import static com.capick.capick.dto.response.history.storage.OrphanFileIngestResult.INVALID;
+
+// 수만 줄을 받을 수 있으므로 줄마다 결과를 담지 않는다. 등록되지 않은 줄만 줄 번호와 사유를 담고, 나머지 줄은 모두 등록된 것이다.
+@Getter
+public class StorageOrphanFileIngestResponse {
+
+    private long acceptedCount;
+
+    private long duplicateCount;
+
+    private long invalidCount;
+
+    private List<StorageOrphanFileIngestLineResponse> rejectedLines;
+
+    @Builder
+    private StorageOrphanFileIngestResponse(
+            long acceptedCount, long duplicateCount, long invalidCount,
+            List<StorageOrphanFileIngestLineResponse> rejectedLines) {
+        this.acceptedCount = acceptedCount;
+        this.duplicateCount = duplicateCount;
+        this.invalidCount = invalidCount;
+        this.rejectedLines = rejectedLines;
+    }
+
+    public static StorageOrphanFileIngestResponse of(
+            long acceptedCount, List<StorageOrphanFileIngestLineResponse> rejectedLines) {
+        return StorageOrphanFileIngestResponse.builder()
+                .acceptedCount(acceptedCount)
+                .duplicateCount(countOf(rejectedLines, DUPLICATE))
+                .invalidCount(countOf(rejectedLines, INVALID))
+                .rejectedLines(rejectedLines)
+                .build();
+    }
+
+    private static long countOf(List<StorageOrphanFileIngestLineResponse> lines, OrphanFileIngestResult result) {
+        return lines.stream().filter(line -> line.getResult() == result).count();
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.capick.capick.event;
+
+import com.capick.capick.domain.cafe.CafeAggregateDelta;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CafeAggregatedEvent {
+
+    private final Long cafeId;
+
+    private final CafeAggregateDelta delta;
+
+    public static CafeAggregatedEvent of(Long cafeId, CafeAggregateDelta delta) {
+        return new CafeAggregatedEvent(cafeId, delta);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.capick.capick.event;
+
+import com.capick.capick.domain.cafe.Cafe;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CafeCreatedEvent {
+
+    private final Cafe cafe;
+
+    public static CafeCreatedEvent of(Cafe cafe) {
+        return new CafeCreatedEvent(cafe);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.capick.capick.event;
+
+import com.capick.capick.domain.cafe.Cafe;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CafeUpdatedEvent {
+
+    private final Long cafeId;
+
+    private final String kakaoPlaceId;
+
+    private final Cafe cafe;
+
+    public static CafeUpdatedEvent of(Cafe cafe) {
+        return new CafeUpdatedEvent(cafe.getId(), cafe.getKakaoPlaceId(), cafe);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.capick.capick.event;
+
+import com.capick.capick.domain.member.Member;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 활동 중인 회원의 이메일, 닉네임이 새로 쓰이거나 다시 쓸 수 있게 된 것을 알린다. 값이 바뀌지 않은 항목은 null 이다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberKeyChangedEvent {
+
+    private final Long memberId;
+
+    private final String addedEmail;
+
+    private final String addedNickname;
+
+    private final String removedEmail;
+
+    private final String removedNickname;
+
+    public static MemberKeyChangedEvent ofCreated(Member member) {
+        return new MemberKeyChangedEvent(member.getId(), member.getEmail(), member.getNickname(), null, null);
+    }
+
+    public static MemberKeyChangedEvent ofNicknameUpdated(String previousNickname, Member member) {
+        return new MemberKeyChangedEvent(member.getId(), null, member.getNickname(), null, previousNickname);
+    }
+
+    public static MemberKeyChangedEvent ofDeleted(Member member) {
+        return new MemberKeyChangedEvent(member.getId(), null, null, member.getEmail(), member.getNickname());
+    }
+
+}
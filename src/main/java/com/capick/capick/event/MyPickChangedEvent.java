@@ -0,0 +1,27 @@
+package com.capick.capick.event;
+
+import com.capick.capick.domain.mypick.MyPick;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MyPickChangedEvent {
+
+    private final Long memberId;
+
+    private final Long cafeId;
+
+    private final String kakaoPlaceId;
+
+    private final boolean picked;
+
+    public static MyPickChangedEvent of(MyPick myPick) {
+        return new MyPickChangedEvent(
+                myPick.getMember().getId(), myPick.getCafe().getId(), myPick.getCafe().getKakaoPlaceId(),
+                myPick.isPicked()
+        );
+    }
+
+}
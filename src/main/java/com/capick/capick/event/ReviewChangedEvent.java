@@ -0,0 +1,33 @@
+package com.capick.capick.event;
+
+import com.capick.capick.domain.common.BaseStatus;
+import com.capick.capick.domain.review.Review;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 리뷰의 본문이 새로 쓰이거나 바뀌었거나 리뷰가 삭제된 것을 알린다. 커밋 후에는 지연 로딩을 할 수 없으므로 필요한 값을 미리 꺼내 둔다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewChangedEvent {
+
+    private final Long reviewId;
+
+    private final Long cafeId;
+
+    private final String visitPurpose;
+
+    private final String content;
+
+    private final String menu;
+
+    private final BaseStatus status;
+
+    public static ReviewChangedEvent of(Review review) {
+        return new ReviewChangedEvent(
+                review.getId(), review.getCafe().getId(),
+                review.getVisitPurpose(), review.getContent(), review.getMenu(), review.getStatus()
+        );
+    }
+
+}
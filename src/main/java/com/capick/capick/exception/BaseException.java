@@ -3,13 +3,19 @@ package com.capick.capick.exception;
 import com.capick.capick.dto.ApiResponseStatus;
 import lombok.Getter;
 
+// 도메인 예외는 응답 상태만으로 원인을 알 수 있으므로 스택 트레이스를 채우지 않는다.
+// 호출 경로가 필요한 예외만 writableStackTrace 를 true 로 넘겨 만든다.
 @Getter
 public class BaseException extends RuntimeException {
 
-    private ApiResponseStatus status;
+    private final ApiResponseStatus status;
 
     protected BaseException(ApiResponseStatus status) {
-        super(status.getMessage());
+        this(status, false);
+    }
+
+    protected BaseException(ApiResponseStatus status, boolean writableStackTrace) {
+        super(status.getMessage(), null, false, writableStackTrace);
         this.status = status;
     }
 
@@ -0,0 +1,87 @@
+package com.capick.capick.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// 예외를 종류와 사유별로 모두 세고, 로그는 간격마다 한 번만 남기도록 고른다.
+// 봇이 없는 리소스를 반복해서 요청해도 로그는 사유마다 간격당 한 줄로 묶이고, 그 사이 생략한 횟수를 다음 로그에 함께 남긴다.
+public class ExceptionLogSampler {
+
+    public static final long SUPPRESSED = -1;
+
+    private static final long NEVER_LOGGED = Long.MIN_VALUE;
+
+    private final Map<Class<?>, Map<String, Sample>> samples = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final long intervalNanos;
+
+    private final LongSupplier nanoClock;
+
+    public ExceptionLogSampler(MeterRegistry meterRegistry, Duration interval) {
+        this(meterRegistry, interval, System::nanoTime);
+    }
+
+    ExceptionLogSampler(MeterRegistry meterRegistry, Duration interval, LongSupplier nanoClock) {
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    // 로그를 남길 차례이면 직전 로그 이후 생략한 횟수를, 아니면 SUPPRESSED 를 반환한다.
+    public long sample(Class<?> exceptionType, String reason) {
+        Sample sample = findSample(exceptionType, reason);
+        if (sample == null) {
+            sample = samples.computeIfAbsent(exceptionType, type -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(reason, key -> new Sample(exceptionType, key));
+        }
+        sample.counter.increment();
+
+        long now = nanoClock.getAsLong();
+        long lastLoggedAt = sample.lastLoggedAt.get();
+        boolean logTurn = (lastLoggedAt == NEVER_LOGGED || now - lastLoggedAt >= intervalNanos)
+                && sample.lastLoggedAt.compareAndSet(lastLoggedAt, now);
+        if (!logTurn) {
+            sample.suppressedCount.increment();
+            return SUPPRESSED;
+        }
+        return sample.suppressedCount.sumThenReset();
+    }
+
+    public double getCount(Class<?> exceptionType, String reason) {
+        Sample sample = findSample(exceptionType, reason);
+        return sample == null ? 0 : sample.counter.count();
+    }
+
+    // 이미 센 적 있는 예외는 람다를 만들지 않고 찾는다.
+    private Sample findSample(Class<?> exceptionType, String reason) {
+        Map<String, Sample> reasonSamples = samples.get(exceptionType);
+        return reasonSamples == null ? null : reasonSamples.get(reason);
+    }
+
+    private class Sample {
+
+        private final Counter counter;
+
+        private final AtomicLong lastLoggedAt = new AtomicLong(NEVER_LOGGED);
+
+        private final LongAdder suppressedCount = new LongAdder();
+
+        private Sample(Class<?> exceptionType, String reason) {
+            this.counter = Counter.builder("capick.exception")
+                    .description("Handled exceptions by type and reason")
+                    .tag("type", exceptionType.getSimpleName())
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+
+}
@@ -2,8 +2,12 @@ package com.capick.capick.exception;
 
 import com.capick.capick.dto.ApiResponse;
 import com.capick.capick.dto.ApiResponseStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -12,99 +16,116 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
+
 import static com.capick.capick.dto.ApiResponseStatus.*;
+import static com.capick.capick.exception.ExceptionLogSampler.SUPPRESSED;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ExceptionLogSampler exceptionLogSampler;
+
+    // 슬라이스 테스트처럼 메트릭 설정이 없는 컨텍스트에서는 메모리 레지스트리로 센다.
+    public GlobalExceptionHandler(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${exception.log.sample-interval:10s}") Duration sampleInterval) {
+        this.exceptionLogSampler = new ExceptionLogSampler(
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), sampleInterval);
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(BindException.class)
     public ApiResponse<ApiResponseStatus> BindExceptionHandler(BindException exception) {
         String message = exception.getBindingResult().getAllErrors().get(0).getDefaultMessage();
-        log.warn("Exception Message : {}", message);
-        log.warn("BindException : ", exception);
+        logSampled(exception, HttpStatus.BAD_REQUEST.name(), message);
         return ApiResponse.of(HttpStatus.BAD_REQUEST, message);
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(HttpMessageConversionException.class)
     public ApiResponse<ApiResponseStatus> JsonParseExceptionHandler(HttpMessageConversionException exception) {
-        log.warn("Exception Message : {}", exception.getMessage());
-        log.warn("Exception : ", exception);
+        logSampled(exception, JSON_PARSE_ERROR.name(), exception.getMessage());
         return ApiResponse.of(JSON_PARSE_ERROR);
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(TypeMismatchException.class)
     public ApiResponse<ApiResponseStatus> UriFormatExceptionHandler(TypeMismatchException exception) {
-        log.warn("Exception Message : {}", exception.getMessage());
-        log.warn("Exception : ", exception);
+        logSampled(exception, URI_FORMAT_ERROR.name(), exception.getMessage());
         return ApiResponse.of(URI_FORMAT_ERROR);
     }
 
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
     public ApiResponse<ApiResponseStatus> UnexpectedExceptionHandler(Exception exception) {
-        log.warn("Unexpected Exception Message : {}", exception.getMessage());
-        log.warn("Exception : ", exception);
+        exceptionLogSampler.sample(exception.getClass(), UNEXPECTED_ERROR.name());
+        log.warn("Unexpected Exception Message : {}", exception.getMessage(), exception);
         return ApiResponse.of(UNEXPECTED_ERROR);
     }
 
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(DataAccessException.class)
     public ApiResponse<ApiResponseStatus> DataAccessExceptionHandler(DataAccessException exception) {
-        log.warn("Unexpected Exception Message : {}", exception.getMessage());
-        log.warn("Exception : ", exception);
+        exceptionLogSampler.sample(exception.getClass(), DATABASE_ERROR.name());
+        log.warn("Unexpected Exception Message : {}", exception.getMessage(), exception);
         return ApiResponse.of(DATABASE_ERROR);
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(BaseException.class)
     public ApiResponse<ApiResponseStatus> BaseExceptionHandler(BaseException exception) {
-        log.warn("Exception Message : {}", exception.getMessage());
-        log.warn("BaseException : ", exception);
-        return ApiResponse.of(exception.getStatus());
+        return handleBaseException(exception);
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(DomainPoliticalArgumentException.class)
     public ApiResponse<ApiResponseStatus> DomainPoliticalArgumentException(DomainPoliticalArgumentException exception) {
-        log.warn("Exception Message : {}", exception.getMessage());
-        log.warn("DomainPoliticalArgumentException : ", exception);
-        return ApiResponse.of(exception.getStatus());
+        return handleBaseException(exception);
     }
 
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler(DuplicateResourceException.class)
     public ApiResponse<ApiResponseStatus> DuplicateResourceExceptionHandler(DuplicateResourceException exception) {
-        log.warn("Exception Message : {}", exception.getMessage());
-        log.warn("DuplicateResourceException : ", exception);
-        return ApiResponse.of(exception.getStatus());
+        return handleBaseException(exception);
     }
 
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler(DomainLogicalException.class)
     public ApiResponse<ApiResponseStatus> DomainLogicalExceptionHandler(DomainLogicalException exception) {
-        log.warn("Exception Message : {}", exception.getMessage());
-        log.warn("DomainLogicalException : ", exception);
-        return ApiResponse.of(exception.getStatus());
+        return handleBaseException(exception);
     }
 
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(NotFoundResourceException.class)
     public ApiResponse<ApiResponseStatus> NotFoundResourceExceptionHandler(NotFoundResourceException exception) {
-        log.warn("Exception Message : {}", exception.getMessage());
-        log.warn("NotFoundResourceException : ", exception);
-        return ApiResponse.of(exception.getStatus());
+        return handleBaseException(exception);
     }
 
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ExceptionHandler(UnauthorizedException.class)
     public ApiResponse<ApiResponseStatus> UnauthorizedExceptionHandler(UnauthorizedException exception) {
-        log.warn("Exception Message : {}", exception.getMessage());
-        log.warn("NotFoundResourceException : ", exception);
+        return handleBaseException(exception);
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ApiResponse<ApiResponseStatus> ServiceUnavailableExceptionHandler(ServiceUnavailableException exception) {
+        return handleBaseException(exception);
+    }
+
+    private ApiResponse<ApiResponseStatus> handleBaseException(BaseException exception) {
+        logSampled(exception, exception.getStatus().name(), exception.getMessage());
         return ApiResponse.of(exception.getStatus());
     }
 
+    private void logSampled(Exception exception, String reason, String message) {
+        long suppressedCount = exceptionLogSampler.sample(exception.getClass(), reason);
+        if (suppressedCount != SUPPRESSED) {
+            log.warn("{} Message : {} (직전 로그 이후 생략 : {} 건)",
+                    exception.getClass().getSimpleName(), message, suppressedCount);
+        }
+    }
+
 }
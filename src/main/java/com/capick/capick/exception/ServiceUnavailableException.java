@@ -0,0 +1,15 @@
+package com.capick.capick.exception;
+
+import com.capick.capick.dto.ApiResponseStatus;
+
+public class ServiceUnavailableException extends BaseException {
+
+    private ServiceUnavailableException(ApiResponseStatus status) {
+        super(status);
+    }
+
+    public static ServiceUnavailableException of(ApiResponseStatus status) {
+        return new ServiceUnavailableException(status);
+    }
+
+}
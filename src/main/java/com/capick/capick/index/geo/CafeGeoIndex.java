@@ -0,0 +1,126 @@
+package com.capick.capick.index.geo;
+
+import com.capick.capick.event.CafeCreatedEvent;
+import com.capick.capick.repository.CafeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+
+// 지오해시 격자 셀마다 카페 좌표 배열을 두는 메모리 공간 인덱스이다.
+// 쓰기(카페 등록)는 드물고 읽기(주변 검색)가 대부분이므로, 셀 배열은 쓰기 시 복사하여 교체하고 읽기는 잠금 없이 수행한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CafeGeoIndex {
+
+    private static final CafeGeoPoint[] EMPTY_CELL = new CafeGeoPoint[0];
+
+    private final CafeRepository cafeRepository;
+
+    private volatile Map<Long, CafeGeoPoint[]> cells = new ConcurrentHashMap<>();
+
+    private volatile Map<Long, CafeGeoPoint> pointsByCafeId = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<CafeGeoPoint> points = cafeRepository.findAllGeoPointsByStatus(ACTIVE);
+        reload(points);
+        log.info("Cafe geo index loaded : {} cafes", points.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCafeCreated(CafeCreatedEvent event) {
+        Optional.ofNullable(event.getCafe().getLocation())
+                .filter(location -> location.getLatitude() != null && location.getLongitude() != null)
+                .ifPresent(location -> add(CafeGeoPoint.of(event.getCafe())));
+    }
+
+    public synchronized void reload(Collection<CafeGeoPoint> points) {
+        Map<Long, List<CafeGeoPoint>> pointsByCellKey = new HashMap<>();
+        Map<Long, CafeGeoPoint> newPointsByCafeId = new ConcurrentHashMap<>();
+        points.forEach(point -> {
+            newPointsByCafeId.put(point.getCafeId(), point);
+            pointsByCellKey.computeIfAbsent(point.cellKey(), cellKey -> new ArrayList<>()).add(point);
+        });
+
+        Map<Long, CafeGeoPoint[]> newCells = new ConcurrentHashMap<>();
+        pointsByCellKey.forEach((cellKey, cell) -> newCells.put(cellKey, cell.toArray(EMPTY_CELL)));
+        cells = newCells;
+        pointsByCafeId = newPointsByCafeId;
+    }
+
+    public synchronized void add(CafeGeoPoint point) {
+        Optional.ofNullable(pointsByCafeId.put(point.getCafeId(), point))
+                .ifPresent(this::removeFromCell);
+        cells.merge(point.cellKey(), new CafeGeoPoint[]{point}, CafeGeoIndex::concat);
+    }
+
+    public synchronized void remove(Long cafeId) {
+        Optional.ofNullable(pointsByCafeId.remove(cafeId))
+                .ifPresent(this::removeFromCell);
+    }
+
+    public synchronized void clear() {
+        reload(List.of());
+    }
+
+    public int size() {
+        return pointsByCafeId.size();
+    }
+
+    public List<CafeGeoSearchResult> search(double latitude, double longitude, int radiusInMeters, int limit) {
+        double latitudeDelta = radiusInMeters / GeoHash.METERS_PER_LATITUDE_DEGREE;
+        double longitudeDelta = latitudeDelta / Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+
+        int minLatitudeCell = GeoHash.latitudeCellOf(latitude - latitudeDelta);
+        int maxLatitudeCell = GeoHash.latitudeCellOf(latitude + latitudeDelta);
+        int minLongitudeCell = (int) Math.floor((longitude - longitudeDelta + 180.0) / GeoHash.LONGITUDE_CELL_DEGREES);
+        int longitudeCellCount = Math.min(
+                (int) Math.floor((longitude + longitudeDelta + 180.0) / GeoHash.LONGITUDE_CELL_DEGREES) - minLongitudeCell + 1,
+                GeoHash.CELLS_PER_AXIS
+        );
+
+        Map<Long, CafeGeoPoint[]> currentCells = cells;
+        List<CafeGeoSearchResult> results = new ArrayList<>();
+        for (int latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+            for (int offset = 0; offset < longitudeCellCount; offset++) {
+                int longitudeCell = Math.floorMod(minLongitudeCell + offset, GeoHash.CELLS_PER_AXIS);
+                CafeGeoPoint[] cell = currentCells.getOrDefault(GeoHash.cellKeyOf(latitudeCell, longitudeCell), EMPTY_CELL);
+                for (CafeGeoPoint point : cell) {
+                    double distance = GeoHash.distanceInMeters(
+                            latitude, longitude, point.getLatitude(), point.getLongitude());
+                    if (distance <= radiusInMeters) {
+                        results.add(new CafeGeoSearchResult(point, distance));
+                    }
+                }
+            }
+        }
+
+        results.sort(Comparator.comparingDouble(CafeGeoSearchResult::getDistance));
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+    }
+
+    private void removeFromCell(CafeGeoPoint point) {
+        cells.computeIfPresent(point.cellKey(), (cellKey, cell) -> {
+            CafeGeoPoint[] remained = Arrays.stream(cell)
+                    .filter(pointInCell -> !pointInCell.getCafeId().equals(point.getCafeId()))
+                    .toArray(CafeGeoPoint[]::new);
+            return remained.length == 0 ? null : remained;
+        });
+    }
+
+    private static CafeGeoPoint[] concat(CafeGeoPoint[] cell, CafeGeoPoint[] points) {
+        CafeGeoPoint[] merged = Arrays.copyOf(cell, cell.length + points.length);
+        System.arraycopy(points, 0, merged, cell.length, points.length);
+        return merged;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.capick.capick.index.geo;
+
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.common.Location;
+import lombok.Getter;
+
+@Getter
+public class CafeGeoPoint {
+
+    private final Long cafeId;
+
+    private final String name;
+
+    private final String kakaoPlaceId;
+
+    private final double latitude;
+
+    private final double longitude;
+
+    public CafeGeoPoint(Long cafeId, String name, String kakaoPlaceId, Double latitude, Double longitude) {
+        this.cafeId = cafeId;
+        this.name = name;
+        this.kakaoPlaceId = kakaoPlaceId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static CafeGeoPoint of(Cafe cafe) {
+        Location location = cafe.getLocation();
+        return new CafeGeoPoint(
+                cafe.getId(), cafe.getName(), cafe.getKakaoPlaceId(), location.getLatitude(), location.getLongitude()
+        );
+    }
+
+    long cellKey() {
+        return GeoHash.cellKeyOf(latitude, longitude);
+    }
+
+}
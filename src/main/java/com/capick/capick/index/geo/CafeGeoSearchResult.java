@@ -0,0 +1,14 @@
+package com.capick.capick.index.geo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CafeGeoSearchResult {
+
+    private final CafeGeoPoint point;
+
+    private final double distance;
+
+}
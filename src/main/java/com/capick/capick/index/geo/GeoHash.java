@@ -0,0 +1,58 @@
+package com.capick.capick.index.geo;
+
+// 지오해시 6자리(30비트) 정밀도의 격자 셀을 다룬다. 셀 하나는 위도 약 0.61km, 경도 약 1.2km(적도 기준) 크기이다.
+// 문자열 지오해시 대신 경도/위도 비트를 교차시킨 long 값을 셀 키로 사용한다.
+final class GeoHash {
+
+    static final int BITS_PER_AXIS = 15;
+
+    static final int CELLS_PER_AXIS = 1 << BITS_PER_AXIS;
+
+    static final double LATITUDE_CELL_DEGREES = 180.0 / CELLS_PER_AXIS;
+
+    static final double LONGITUDE_CELL_DEGREES = 360.0 / CELLS_PER_AXIS;
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    static final double METERS_PER_LATITUDE_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180.0;
+
+    private GeoHash() {
+    }
+
+    static int latitudeCellOf(double latitude) {
+        int cell = (int) Math.floor((latitude + 90.0) / LATITUDE_CELL_DEGREES);
+        return Math.max(0, Math.min(CELLS_PER_AXIS - 1, cell));
+    }
+
+    static int longitudeCellOf(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / LONGITUDE_CELL_DEGREES), CELLS_PER_AXIS);
+    }
+
+    static long cellKeyOf(double latitude, double longitude) {
+        return cellKeyOf(latitudeCellOf(latitude), longitudeCellOf(longitude));
+    }
+
+    // 지오해시와 동일하게 경도 비트가 상위, 위도 비트가 하위로 번갈아 배치된다.
+    static long cellKeyOf(int latitudeCell, int longitudeCell) {
+        return (spread(longitudeCell) << 1) | spread(latitudeCell);
+    }
+
+    static double distanceInMeters(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double latitudeDelta = Math.toRadians(toLatitude - fromLatitude);
+        double longitudeDelta = Math.toRadians(toLongitude - fromLongitude);
+        double haversine = Math.sin(latitudeDelta / 2) * Math.sin(latitudeDelta / 2)
+                + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+                * Math.sin(longitudeDelta / 2) * Math.sin(longitudeDelta / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(haversine)));
+    }
+
+    private static long spread(int value) {
+        long bits = value & 0xFFFFFFFFL;
+        bits = (bits | (bits << 16)) & 0x0000FFFF0000FFFFL;
+        bits = (bits | (bits << 8)) & 0x00FF00FF00FF00FFL;
+        bits = (bits | (bits << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        bits = (bits | (bits << 2)) & 0x3333333333333333L;
+        bits = (bits | (bits << 1)) & 0x5555555555555555L;
+        return bits;
+    }
+}
@@ -0,0 +1,91 @@
+package com.capick.capick.index.member;
+
+// 칸마다 1비트 대신 카운터를 두어 값을 뺄 수도 있는 블룸 필터이다.
+// 없는 값을 있다고 할 수는 있어도(거짓 양성), 넣은 값을 없다고 하지는 않는다.
+// 카운터가 최대치에 닿은 칸은 더 이상 빼지 않는다. 그 칸은 거짓 양성만 늘리고 거짓 음성은 만들지 않는다.
+public class CountingBloomFilter {
+
+    private static final int MAX_COUNT = Byte.MAX_VALUE;
+
+    private final byte[] counters;
+
+    private final int hashCount;
+
+    private CountingBloomFilter(int counterCount, int hashCount) {
+        this.counters = new byte[counterCount];
+        this.hashCount = hashCount;
+    }
+
+    // 최적의 칸 수 m = -n ln p / (ln 2)^2, 해시 개수 k = (m / n) ln 2 이다.
+    public static CountingBloomFilter of(int expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("expected insertions must be positive and probability in (0, 1)");
+        }
+        double counterCount = -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+        int hashCount = Math.max(1, (int) Math.round(counterCount / expectedInsertions * Math.log(2)));
+        return new CountingBloomFilter((int) Math.min(Integer.MAX_VALUE - 8, Math.ceil(counterCount)), hashCount);
+    }
+
+    public synchronized void add(String value) {
+        long[] hashes = hash(value);
+        for (int index = 0; index < hashCount; index++) {
+            int position = position(hashes, index);
+            if (counters[position] < MAX_COUNT) {
+                counters[position]++;
+            }
+        }
+    }
+
+    // 넣은 적이 없는 값을 빼면 다른 값의 칸이 비어 거짓 음성이 생긴다. 넣은 값만 빼야 한다.
+    public synchronized void remove(String value) {
+        long[] hashes = hash(value);
+        for (int index = 0; index < hashCount; index++) {
+            int position = position(hashes, index);
+            if (counters[position] > 0 && counters[position] < MAX_COUNT) {
+                counters[position]--;
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long[] hashes = hash(value);
+        for (int index = 0; index < hashCount; index++) {
+            if (counters[position(hashes, index)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getCounterCount() {
+        return counters.length;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    // 두 해시 값의 선형 결합 h1 + i * h2 로 k 개의 칸을 고른다.
+    private int position(long[] hashes, int index) {
+        return (int) Math.floorMod(hashes[0] + index * hashes[1], (long) counters.length);
+    }
+
+    private static long[] hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int index = 0; index < value.length(); index++) {
+            hash ^= value.charAt(index);
+            hash *= 0x100000001b3L;
+        }
+        return new long[]{mix(hash), mix(hash ^ 0x9e3779b97f4a7c15L) | 1};
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
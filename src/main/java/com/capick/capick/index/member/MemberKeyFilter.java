@@ -0,0 +1,156 @@
+package com.capick.capick.index.member;
+
+import com.capick.capick.event.MemberKeyChangedEvent;
+import com.capick.capick.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+
+// 활동 중인 회원의 이메일과 닉네임을 담은 블룸 필터이다. 필터에 없으면 DB 를 조회하지 않고 쓸 수 있는 값으로 본다.
+// 다른 서버에서 가입했거나 불러오는 도중 바뀐 값은 필터에 없을 수 있다. 이런 중복은 회원 테이블의 유니크 제약이 막는다.
+// DB 의 대소문자를 구분하지 않는 비교에 맞춰 소문자로 바꿔 넣는다. 거짓 양성만 조금 늘어난다.
+@Slf4j
+@Component
+public class MemberKeyFilter {
+
+    private static final String FILTER_METRIC = "capick.member.key-filter";
+
+    private final MemberRepository memberRepository;
+
+    private final KeyFilter emailFilter;
+
+    private final KeyFilter nicknameFilter;
+
+    private final int expectedInsertions;
+
+    private final double falsePositiveProbability;
+
+    private volatile boolean loaded;
+
+    public MemberKeyFilter(
+            MemberRepository memberRepository, MeterRegistry meterRegistry,
+            @Value("${member.key-filter.expected-insertions:200000}") int expectedInsertions,
+            @Value("${member.key-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.memberRepository = memberRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.emailFilter = new KeyFilter("email", meterRegistry);
+        this.nicknameFilter = new KeyFilter("nickname", meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<String> emails = memberRepository.findAllEmailByStatus(ACTIVE);
+        List<String> nicknames = memberRepository.findAllNicknameByStatus(ACTIVE);
+        emailFilter.reload(emails);
+        nicknameFilter.reload(nicknames);
+        loaded = true;
+        log.info("Member key filter loaded : {} emails, {} nicknames", emails.size(), nicknames.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberKeyChanged(MemberKeyChangedEvent event) {
+        Optional.ofNullable(event.getAddedEmail()).ifPresent(emailFilter::add);
+        Optional.ofNullable(event.getAddedNickname()).ifPresent(nicknameFilter::add);
+        Optional.ofNullable(event.getRemovedEmail()).ifPresent(emailFilter::remove);
+        Optional.ofNullable(event.getRemovedNickname()).ifPresent(nicknameFilter::remove);
+    }
+
+    // 필터가 있을 수도 있다고 할 때만 DB 로 확인한다. 불러오기 전에는 항상 DB 로 확인한다.
+    public boolean existsEmail(String email, Predicate<String> databaseLookup) {
+        return emailFilter.exists(email, databaseLookup);
+    }
+
+    public boolean existsNickname(String nickname, Predicate<String> databaseLookup) {
+        return nicknameFilter.exists(nickname, databaseLookup);
+    }
+
+    public double getEmailFalsePositiveRate() {
+        return emailFilter.falsePositiveRate();
+    }
+
+    public double getNicknameFalsePositiveRate() {
+        return nicknameFilter.falsePositiveRate();
+    }
+
+    private class KeyFilter {
+
+        private final Counter absentCounter;
+
+        private final Counter falsePositiveCounter;
+
+        private final Counter presentCounter;
+
+        private volatile CountingBloomFilter filter = CountingBloomFilter.of(1, 0.5);
+
+        private KeyFilter(String key, MeterRegistry meterRegistry) {
+            this.absentCounter = counter(meterRegistry, key, "absent");
+            this.falsePositiveCounter = counter(meterRegistry, key, "false_positive");
+            this.presentCounter = counter(meterRegistry, key, "present");
+            Gauge.builder(FILTER_METRIC + ".false-positive-rate", this, KeyFilter::falsePositiveRate)
+                    .description("DB 에 없는 값 중 필터가 있을 수도 있다고 답한 비율")
+                    .tag("key", key)
+                    .register(meterRegistry);
+        }
+
+        // 불러오는 동안 더해진 값은 교체하며 빠질 수 있다. 이런 값은 유니크 제약이 막는다.
+        private void reload(List<String> values) {
+            CountingBloomFilter newFilter = CountingBloomFilter.of(
+                    Math.max(expectedInsertions, values.size()), falsePositiveProbability);
+            values.forEach(value -> newFilter.add(normalize(value)));
+            filter = newFilter;
+        }
+
+        private void add(String value) {
+            filter.add(normalize(value));
+        }
+
+        private void remove(String value) {
+            filter.remove(normalize(value));
+        }
+
+        private boolean exists(String value, Predicate<String> databaseLookup) {
+            if (!loaded) {
+                return databaseLookup.test(value);
+            }
+            if (!filter.mightContain(normalize(value))) {
+                absentCounter.increment();
+                return false;
+            }
+            boolean exists = databaseLookup.test(value);
+            (exists ? presentCounter : falsePositiveCounter).increment();
+            return exists;
+        }
+
+        private double falsePositiveRate() {
+            double falsePositiveCount = falsePositiveCounter.count();
+            double negativeCount = absentCounter.count() + falsePositiveCount;
+            return negativeCount == 0 ? 0 : falsePositiveCount / negativeCount;
+        }
+
+        private Counter counter(MeterRegistry meterRegistry, String key, String result) {
+            return Counter.builder(FILTER_METRIC)
+                    .tag("key", key)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+        private String normalize(String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.capick.capick.index.member;
+
+import lombok.Getter;
+
+// 회원이 지금 쓰고 있는 닉네임이다. 탈퇴한 회원은 닉네임을 다시 쓸 수 있으므로 null 이다.
+@Getter
+public class MemberNicknameEntry {
+
+    private final Long memberId;
+
+    private final String activeNickname;
+
+    public MemberNicknameEntry(Long memberId, String activeNickname) {
+        this.memberId = memberId;
+        this.activeNickname = activeNickname;
+    }
+
+}
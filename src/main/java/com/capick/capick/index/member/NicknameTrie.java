@@ -0,0 +1,337 @@
+package com.capick.capick.index.member;
+
+import com.capick.capick.event.MemberKeyChangedEvent;
+import com.capick.capick.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 활동 중인 회원 닉네임의 메모리 트라이이다. 가입 화면에서 입력할 때마다 확인하는 닉네임 사용 여부와 추천을 DB 없이 답한다.
+// 노드마다 자식 글자를 정렬된 배열로 두어 작게 유지하고, 하위 닉네임 수를 세어 두어 접두사로 시작하는 닉네임 수를 바로 답한다.
+// DB 의 대소문자를 구분하지 않는 비교에 맞춰 소문자로 찾고, 응답에는 회원이 쓴 그대로의 닉네임을 돌려준다.
+// 회원마다 넣어 둔 닉네임을 기억하여, 이 서버의 변경 이벤트와 다른 서버의 변경을 읽어 오는 sync 가 같은 변경을 두 번 반영하지 않는다.
+// 다른 서버에서 가입, 닉네임 변경, 탈퇴한 결과는 sync-interval 마다 그 사이에 수정된 회원을 읽어 반영하므로 최대 그만큼 늦게 보인다.
+// 그 사이 사용 가능하다고 답한 닉네임이 이미 쓰였다면 가입, 수정 시 유니크 제약으로 다시 걸러진다.
+@Slf4j
+@Component
+public class NicknameTrie {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final MemberRepository memberRepository;
+
+    private final Duration syncInterval;
+
+    private final Duration syncMargin;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, String> nicknamesByMemberId = new HashMap<>();
+
+    private Node root = new Node();
+
+    private volatile Instant syncedAt;
+
+    private ScheduledExecutorService scheduler;
+
+    public NicknameTrie(
+            MemberRepository memberRepository,
+            @Value("${member.nickname-trie.sync-interval:2s}") Duration syncInterval,
+            @Value("${member.nickname-trie.sync-margin:30s}") Duration syncMargin) {
+        this.memberRepository = memberRepository;
+        this.syncInterval = syncInterval;
+        this.syncMargin = syncMargin;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        load();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "nickname-trie-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalInNanos = syncInterval.toNanos();
+        scheduler.scheduleWithFixedDelay(this::syncSafely, intervalInNanos, intervalInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            scheduler = null;
+        }
+    }
+
+    // 읽는 동안 커밋된 변경은 교체 후 다음 sync 가 다시 반영한다.
+    public void load() {
+        Instant loadStartedAt = Instant.now();
+        List<MemberNicknameEntry> entries = memberRepository.findAllActiveNicknameEntries();
+        Node newRoot = new Node();
+        Map<Long, String> newNicknamesByMemberId = new HashMap<>();
+        entries.forEach(entry -> {
+            insert(newRoot, entry.getActiveNickname());
+            newNicknamesByMemberId.put(entry.getMemberId(), entry.getActiveNickname());
+        });
+        lock.writeLock().lock();
+        try {
+            root = newRoot;
+            nicknamesByMemberId.clear();
+            nicknamesByMemberId.putAll(newNicknamesByMemberId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        syncedAt = loadStartedAt;
+        log.info("Nickname trie loaded : {} nicknames", entries.size());
+    }
+
+    // 수정 시각은 커밋보다 먼저 정해지므로, 지난 sync 직전에 수정되어 그 뒤에 커밋된 회원도 놓치지 않도록 여유를 두고 다시 읽는다.
+    // 회원의 현재 닉네임을 그대로 반영하므로 같은 회원을 여러 번 반영해도 결과는 같다.
+    public int sync() {
+        Instant syncStartedAt = Instant.now();
+        Instant since = Optional.ofNullable(syncedAt).orElse(syncStartedAt).minus(syncMargin);
+        List<MemberNicknameEntry> entries = memberRepository.findAllNicknameEntriesByUpdatedAtGreaterThanEqual(
+                LocalDateTime.ofInstant(since, ZoneId.systemDefault()));
+        entries.forEach(entry -> put(entry.getMemberId(), entry.getActiveNickname()));
+        syncedAt = syncStartedAt;
+        return entries.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberKeyChanged(MemberKeyChangedEvent event) {
+        put(event.getMemberId(), event.getAddedNickname());
+    }
+
+    // 회원의 닉네임을 바꾼다. 탈퇴한 회원이면 nickname 은 null 이다.
+    public void put(Long memberId, String nickname) {
+        lock.writeLock().lock();
+        try {
+            String previousNickname = nickname == null
+                    ? nicknamesByMemberId.remove(memberId)
+                    : nicknamesByMemberId.put(memberId, nickname);
+            if (Objects.equals(previousNickname, nickname)) {
+                return;
+            }
+            if (previousNickname != null) {
+                remove(previousNickname);
+            }
+            if (nickname != null) {
+                insert(root, nickname);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(String nickname) {
+        lock.writeLock().lock();
+        try {
+            insert(root, nickname);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String nickname) {
+        String key = normalize(nickname);
+        lock.writeLock().lock();
+        try {
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            for (int index = 0; index < key.length(); index++) {
+                path[index + 1] = path[index].child(key.charAt(index));
+                if (path[index + 1] == null) {
+                    return;
+                }
+            }
+            Node terminal = path[key.length()];
+            if (terminal.count == 0) {
+                return;
+            }
+            if (--terminal.count == 0) {
+                terminal.nickname = null;
+            }
+            for (int index = key.length(); index >= 0; index--) {
+                path[index].subtreeCount--;
+                if (index > 0 && path[index].subtreeCount == 0) {
+                    path[index - 1].removeChild(key.charAt(index - 1));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String nickname) {
+        lock.readLock().lock();
+        try {
+            Node node = find(normalize(nickname));
+            return node != null && node.count > 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int countByPrefix(String prefix) {
+        lock.readLock().lock();
+        try {
+            Node node = find(normalize(prefix));
+            return node == null ? 0 : node.subtreeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 접두사로 시작하는 닉네임을 사전 순으로 limit 개까지 찾는다.
+    public List<String> findByPrefix(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> nicknames = new ArrayList<>(limit);
+            Node node = find(normalize(prefix));
+            if (node != null) {
+                collect(node, nicknames, limit);
+            }
+            return nicknames;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return root.subtreeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            nicknamesByMemberId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void syncSafely() {
+        try {
+            sync();
+        } catch (RuntimeException exception) {
+            log.warn("Nickname trie sync failed : {}", exception.getMessage());
+        }
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int index = 0; index < key.length() && node != null; index++) {
+            node = node.child(key.charAt(index));
+        }
+        return node;
+    }
+
+    private static void insert(Node root, String nickname) {
+        String key = normalize(nickname);
+        Node node = root;
+        node.subtreeCount++;
+        for (int index = 0; index < key.length(); index++) {
+            node = node.childOrCreate(key.charAt(index));
+            node.subtreeCount++;
+        }
+        node.count++;
+        node.nickname = nickname;
+    }
+
+    private static void collect(Node node, List<String> nicknames, int limit) {
+        if (nicknames.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            nicknames.add(node.nickname);
+        }
+        for (int index = 0; index < node.childCount && nicknames.size() < limit; index++) {
+            collect(node.children[index], nicknames, limit);
+        }
+    }
+
+    private static String normalize(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+
+        private Node[] children = NO_CHILDREN;
+
+        private int childCount;
+
+        // 이 노드에서 끝나는 닉네임 수와, 이 노드 아래에서 끝나는 닉네임 수이다.
+        private int count;
+
+        private int subtreeCount;
+
+        private String nickname;
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertion = -index - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertion, keys, insertion + 1, childCount - insertion);
+            System.arraycopy(children, insertion, children, insertion + 1, childCount - insertion);
+            Node child = new Node();
+            keys[insertion] = key;
+            children[insertion] = child;
+            childCount++;
+            return child;
+        }
+
+        private void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(keys, index + 1, keys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            children[--childCount] = null;
+        }
+    }
+
+}
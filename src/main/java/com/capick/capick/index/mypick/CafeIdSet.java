@@ -0,0 +1,59 @@
+package com.capick.capick.index.mypick;
+
+import java.util.Arrays;
+
+// 한 회원이 찜한 카페 id 를 정렬된 long 배열 하나로 담는 변경 불가능한 집합이다.
+// 박싱된 Long 의 HashSet 보다 원소마다 차지하는 메모리가 훨씬 작고, 포함 여부는 이진 탐색으로 답한다.
+// 찜 개수는 회원마다 많아야 수백 개이고 찜은 조회보다 드물므로, 바꿀 때마다 새 배열을 만들어 읽기에는 잠금이 없다.
+final class CafeIdSet {
+
+    static final CafeIdSet EMPTY = new CafeIdSet(new long[0]);
+
+    private final long[] cafeIds;
+
+    private CafeIdSet(long[] cafeIds) {
+        this.cafeIds = cafeIds;
+    }
+
+    static CafeIdSet of(long... cafeIds) {
+        long[] sortedCafeIds = Arrays.stream(cafeIds).sorted().distinct().toArray();
+        return new CafeIdSet(sortedCafeIds);
+    }
+
+    boolean contains(long cafeId) {
+        return Arrays.binarySearch(cafeIds, cafeId) >= 0;
+    }
+
+    CafeIdSet add(long cafeId) {
+        int index = Arrays.binarySearch(cafeIds, cafeId);
+        if (index >= 0) {
+            return this;
+        }
+        int insertionIndex = -index - 1;
+        long[] newCafeIds = new long[cafeIds.length + 1];
+        System.arraycopy(cafeIds, 0, newCafeIds, 0, insertionIndex);
+        newCafeIds[insertionIndex] = cafeId;
+        System.arraycopy(cafeIds, insertionIndex, newCafeIds, insertionIndex + 1, cafeIds.length - insertionIndex);
+        return new CafeIdSet(newCafeIds);
+    }
+
+    CafeIdSet remove(long cafeId) {
+        int index = Arrays.binarySearch(cafeIds, cafeId);
+        if (index < 0) {
+            return this;
+        }
+        long[] newCafeIds = new long[cafeIds.length - 1];
+        System.arraycopy(cafeIds, 0, newCafeIds, 0, index);
+        System.arraycopy(cafeIds, index + 1, newCafeIds, index, cafeIds.length - index - 1);
+        return new CafeIdSet(newCafeIds);
+    }
+
+    int size() {
+        return cafeIds.length;
+    }
+
+    boolean isEmpty() {
+        return cafeIds.length == 0;
+    }
+
+}
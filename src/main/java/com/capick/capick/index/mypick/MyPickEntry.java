@@ -0,0 +1,30 @@
+package com.capick.capick.index.mypick;
+
+import com.capick.capick.domain.common.BaseStatus;
+import lombok.Getter;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+
+@Getter
+public class MyPickEntry {
+
+    private final Long memberId;
+
+    private final Long cafeId;
+
+    private final String kakaoPlaceId;
+
+    private final BaseStatus status;
+
+    public MyPickEntry(Long memberId, Long cafeId, String kakaoPlaceId, BaseStatus status) {
+        this.memberId = memberId;
+        this.cafeId = cafeId;
+        this.kakaoPlaceId = kakaoPlaceId;
+        this.status = status;
+    }
+
+    public boolean isPicked() {
+        return ACTIVE.equals(status);
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.capick.capick.index.mypick;
+
+import com.capick.capick.event.MyPickChangedEvent;
+import com.capick.capick.repository.MyPickRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+
+// 회원마다 찜한 카페 id 집합을 메모리에 두어, 지도 핀 수백 개의 찜 여부를 조회 없이 답한다.
+// 핀은 카카오 장소 id 로 오므로 한 번이라도 찜된 카페의 장소 id 와 카페 id 도 함께 둔다. 여기에 없는 장소는 아무도 찜하지 않은 카페이다.
+// 시작할 때 활성 찜을 한 번 읽어 채우고, 이 서버에서 커밋된 찜 변경은 커밋 후에 바로 반영한다.
+// 다른 서버에서 커밋된 찜 변경은 sync-interval 마다 그 사이에 수정된 찜 행을 읽어 반영한다. 따라서 회원이 찜한 직후 다음 요청이
+// 다른 서버로 가면 최대 sync-interval 동안 이전 찜 여부가 보인다. 찜 직후의 화면은 찜 응답으로 그린다.
+@Slf4j
+@Component
+public class MyPickIndex {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final MyPickRepository myPickRepository;
+
+    private final Duration syncInterval;
+
+    private final Duration syncMargin;
+
+    private final Map<Long, CafeIdSet> cafeIdSetsByMemberId = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> cafeIdsByKakaoPlaceId = new ConcurrentHashMap<>();
+
+    private volatile Instant syncedAt;
+
+    private ScheduledExecutorService scheduler;
+
+    public MyPickIndex(
+            MyPickRepository myPickRepository,
+            @Value("${mypick.index.sync-interval:2s}") Duration syncInterval,
+            @Value("${mypick.index.sync-margin:30s}") Duration syncMargin) {
+        this.myPickRepository = myPickRepository;
+        this.syncInterval = syncInterval;
+        this.syncMargin = syncMargin;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        load();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "my-pick-index-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalInNanos = syncInterval.toNanos();
+        scheduler.scheduleWithFixedDelay(this::syncSafely, intervalInNanos, intervalInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            scheduler = null;
+        }
+    }
+
+    // 요청을 받기 시작한 뒤에 읽으므로 비우지 않고 더하기만 한다. 읽는 동안 커밋된 찜 변경은 다음 sync 가 다시 반영한다.
+    public void load() {
+        Instant loadStartedAt = Instant.now();
+        List<MyPickEntry> entries = myPickRepository.findAllEntriesByStatus(ACTIVE);
+        entries.forEach(this::apply);
+        syncedAt = loadStartedAt;
+        log.info("My pick index loaded : {} picks of {} members", entries.size(), cafeIdSetsByMemberId.size());
+    }
+
+    // 수정 시각은 커밋보다 먼저 정해지므로, 지난 sync 직전에 수정되어 그 뒤에 커밋된 찜도 놓치지 않도록 여유를 두고 다시 읽는다.
+    // 찜 행은 최신 상태를 그대로 반영하므로 같은 행을 여러 번 반영해도 결과는 같다.
+    public int sync() {
+        Instant syncStartedAt = Instant.now();
+        Instant since = Optional.ofNullable(syncedAt).orElse(syncStartedAt).minus(syncMargin);
+        List<MyPickEntry> entries = myPickRepository.findAllEntriesByUpdatedAtGreaterThanEqual(
+                LocalDateTime.ofInstant(since, ZoneId.systemDefault()));
+        entries.forEach(this::apply);
+        syncedAt = syncStartedAt;
+        return entries.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMyPickChanged(MyPickChangedEvent event) {
+        if (event.isPicked()) {
+            add(event.getMemberId(), event.getCafeId(), event.getKakaoPlaceId());
+            return;
+        }
+        remove(event.getMemberId(), event.getCafeId());
+    }
+
+    public synchronized void reload(Collection<MyPickEntry> entries) {
+        clear();
+        entries.forEach(this::apply);
+    }
+
+    public void apply(MyPickEntry entry) {
+        if (entry.isPicked()) {
+            add(entry.getMemberId(), entry.getCafeId(), entry.getKakaoPlaceId());
+            return;
+        }
+        remove(entry.getMemberId(), entry.getCafeId());
+    }
+
+    public void add(Long memberId, Long cafeId, String kakaoPlaceId) {
+        cafeIdsByKakaoPlaceId.put(kakaoPlaceId, cafeId);
+        cafeIdSetsByMemberId.compute(
+                memberId, (key, cafeIdSet) -> (cafeIdSet == null ? CafeIdSet.EMPTY : cafeIdSet).add(cafeId));
+    }
+
+    // 빈 집합은 남기지 않는다. 찜을 모두 해제한 회원이 메모리를 차지하지 않는다.
+    public void remove(Long memberId, Long cafeId) {
+        cafeIdSetsByMemberId.computeIfPresent(memberId, (key, cafeIdSet) -> {
+            CafeIdSet removedCafeIdSet = cafeIdSet.remove(cafeId);
+            return removedCafeIdSet.isEmpty() ? null : removedCafeIdSet;
+        });
+    }
+
+    public synchronized void clear() {
+        cafeIdSetsByMemberId.clear();
+        cafeIdsByKakaoPlaceId.clear();
+    }
+
+    public boolean isPicked(Long memberId, Long cafeId) {
+        CafeIdSet cafeIdSet = cafeIdSetsByMemberId.get(memberId);
+        return cafeIdSet != null && cafeIdSet.contains(cafeId);
+    }
+
+    public Optional<Long> findCafeId(String kakaoPlaceId) {
+        return Optional.ofNullable(cafeIdsByKakaoPlaceId.get(kakaoPlaceId));
+    }
+
+    public int countOf(Long memberId) {
+        CafeIdSet cafeIdSet = cafeIdSetsByMemberId.get(memberId);
+        return cafeIdSet == null ? 0 : cafeIdSet.size();
+    }
+
+    private void syncSafely() {
+        try {
+            sync();
+        } catch (RuntimeException exception) {
+            log.error("My pick index sync failed", exception);
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.capick.capick.index.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 테마 하나 또는 타입 하나의 순위표이다. 점수 순으로 정렬된 스킵 리스트를 앞에서부터 limit 개만 읽는다.
+// 점수가 0 인 카페는 넣지 않는다. 순위에서 밀려난 카페가 다시 올라올 수 있도록 상위 N 개가 아닌 점수가 있는 카페 전부를 둔다.
+// 쓰기는 잠금 안에서 새 순위를 넣은 뒤 이전 순위를 빼고, 읽기는 잠금 없이 현재 순위가 아닌 항목을 건너뛴다.
+class CafeLeaderboard {
+
+    private final NavigableSet<CafeRank> ranks = new ConcurrentSkipListSet<>(CafeRank.RANKING_ORDER);
+
+    private final Map<Long, CafeRank> ranksByCafeId = new ConcurrentHashMap<>();
+
+    synchronized void update(CafeRankingScores scores, int score) {
+        CafeRank previousRank = ranksByCafeId.get(scores.getCafeId());
+        // 리뷰 하나는 테마 하나에만 더해지므로 대부분의 순위표에서는 점수가 그대로이다.
+        if (previousRank != null && previousRank.getScore() == score) {
+            return;
+        }
+        if (score <= 0) {
+            remove(scores.getCafeId());
+            return;
+        }
+        CafeRank rank = new CafeRank(scores, score);
+        ranks.add(rank);
+        ranksByCafeId.put(scores.getCafeId(), rank);
+        if (previousRank != null) {
+            ranks.remove(previousRank);
+        }
+    }
+
+    synchronized void remove(Long cafeId) {
+        CafeRank previousRank = ranksByCafeId.remove(cafeId);
+        if (previousRank != null) {
+            ranks.remove(previousRank);
+        }
+    }
+
+    synchronized void clear() {
+        ranksByCafeId.clear();
+        ranks.clear();
+    }
+
+    List<CafeRank> top(int limit) {
+        List<CafeRank> topRanks = new ArrayList<>(limit);
+        for (CafeRank rank : ranks) {
+            if (topRanks.size() == limit) {
+                break;
+            }
+            if (ranksByCafeId.get(rank.getScores().getCafeId()) == rank) {
+                topRanks.add(rank);
+            }
+        }
+        return topRanks;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.capick.capick.index.ranking;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class CafeRank {
+
+    // 점수가 높은 순, 같으면 먼저 등록된 카페 순이다. cafeId 가 유일하므로 서로 다른 카페가 같은 자리를 두고 겹치지 않는다.
+    static final Comparator<CafeRank> RANKING_ORDER = Comparator.comparingInt(CafeRank::getScore).reversed()
+            .thenComparing(rank -> rank.getScores().getCafeId());
+
+    private final CafeRankingScores scores;
+
+    private final int score;
+
+}
@@ -0,0 +1,87 @@
+package com.capick.capick.index.ranking;
+
+import com.capick.capick.domain.cafe.CafeTheme;
+import com.capick.capick.domain.cafe.CafeType;
+import com.capick.capick.event.CafeUpdatedEvent;
+import com.capick.capick.repository.CafeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+import static com.capick.capick.index.ranking.CafeRankingScores.CAFE_THEMES;
+import static com.capick.capick.index.ranking.CafeRankingScores.INDEXED_CAFE_TYPES;
+
+// 테마별, 타입별로 누적 횟수와 누적 지수가 높은 카페 순위표를 메모리에 둔다.
+// 시작할 때 한 번 읽어 채우고, 이후에는 리뷰 작성, 수정, 삭제로 누적값이 바뀐 카페만 커밋 후에 갱신한다.
+// 서로 다른 트랜잭션의 커밋 후 처리 순서가 뒤바뀌면 잠시 이전 점수가 남을 수 있으나, 그 카페의 다음 갱신에서 바로잡힌다.
+@Slf4j
+@Component
+public class CafeRankingIndex {
+
+    private final CafeRepository cafeRepository;
+
+    private final Map<CafeTheme, CafeLeaderboard> themeLeaderboards = new EnumMap<>(CafeTheme.class);
+
+    private final Map<CafeType, CafeLeaderboard> typeLeaderboards = new EnumMap<>(CafeType.class);
+
+    public CafeRankingIndex(CafeRepository cafeRepository) {
+        this.cafeRepository = cafeRepository;
+        for (CafeTheme theme : CAFE_THEMES) {
+            themeLeaderboards.put(theme, new CafeLeaderboard());
+        }
+        for (CafeType indexedCafeType : INDEXED_CAFE_TYPES) {
+            typeLeaderboards.put(indexedCafeType, new CafeLeaderboard());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<CafeRankingScores> scores = cafeRepository.findAllRankingScoresByStatus(ACTIVE);
+        reload(scores);
+        log.info("Cafe ranking index loaded : {} cafes", scores.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCafeUpdated(CafeUpdatedEvent event) {
+        update(CafeRankingScores.of(event.getCafe()));
+    }
+
+    public synchronized void reload(Collection<CafeRankingScores> scores) {
+        clear();
+        scores.forEach(this::update);
+    }
+
+    public synchronized void update(CafeRankingScores scores) {
+        themeLeaderboards.forEach((theme, leaderboard) -> leaderboard.update(scores, scores.scoreOf(theme)));
+        typeLeaderboards.forEach((cafeType, leaderboard) -> leaderboard.update(scores, scores.scoreOf(cafeType)));
+    }
+
+    public synchronized void remove(Long cafeId) {
+        themeLeaderboards.values().forEach(leaderboard -> leaderboard.remove(cafeId));
+        typeLeaderboards.values().forEach(leaderboard -> leaderboard.remove(cafeId));
+    }
+
+    public synchronized void clear() {
+        themeLeaderboards.values().forEach(CafeLeaderboard::clear);
+        typeLeaderboards.values().forEach(CafeLeaderboard::clear);
+    }
+
+    public List<CafeRank> topByTheme(CafeTheme theme, int limit) {
+        return themeLeaderboards.get(theme).top(limit);
+    }
+
+    // 타입 없음(NONE)은 누적 지수가 없으므로 순위도 없다.
+    public List<CafeRank> topByType(CafeType cafeType, int limit) {
+        CafeLeaderboard leaderboard = typeLeaderboards.get(cafeType);
+        return leaderboard == null ? List.of() : leaderboard.top(limit);
+    }
+
+}
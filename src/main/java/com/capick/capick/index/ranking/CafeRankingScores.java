@@ -0,0 +1,74 @@
+package com.capick.capick.index.ranking;
+
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeTheme;
+import com.capick.capick.domain.cafe.CafeThemeInfo;
+import com.capick.capick.domain.cafe.CafeType;
+import com.capick.capick.domain.cafe.CafeTypeInfo;
+import lombok.Getter;
+
+// 카페 하나의 테마별 누적 횟수와 타입별 누적 지수이다. 순위표마다 같은 객체를 공유한다.
+public class CafeRankingScores {
+
+    static final CafeTheme[] CAFE_THEMES = CafeTheme.values();
+
+    static final CafeType[] INDEXED_CAFE_TYPES = {
+            CafeType.COFFEE, CafeType.SPACIOUS, CafeType.COST_EFFECTIVE, CafeType.NOISY
+    };
+
+    @Getter
+    private final Long cafeId;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final String kakaoPlaceId;
+
+    // CafeTheme, CafeType 의 ordinal 로 접근한다. CafeType.NONE 자리는 항상 0 이다.
+    private final int[] themeCounts;
+
+    private final int[] typeIndexes;
+
+    public CafeRankingScores(
+            Long cafeId, String name, String kakaoPlaceId,
+            int normalCount, int vibeCount, int viewCount, int petCount,
+            int hobbyCount, int studyCount, int kidsCount, int etcCount,
+            int coffeeIndex, int spaceIndex, int priceIndex, int noiseIndex) {
+        this(cafeId, name, kakaoPlaceId,
+                new int[]{normalCount, vibeCount, viewCount, petCount, hobbyCount, studyCount, kidsCount, etcCount},
+                new int[]{coffeeIndex, spaceIndex, priceIndex, noiseIndex, 0});
+    }
+
+    private CafeRankingScores(Long cafeId, String name, String kakaoPlaceId, int[] themeCounts, int[] typeIndexes) {
+        this.cafeId = cafeId;
+        this.name = name;
+        this.kakaoPlaceId = kakaoPlaceId;
+        this.themeCounts = themeCounts;
+        this.typeIndexes = typeIndexes;
+    }
+
+    public static CafeRankingScores of(Cafe cafe) {
+        CafeThemeInfo cafeThemeInfo = cafe.getCafeThemeInfo();
+        int[] themeCounts = new int[CAFE_THEMES.length];
+        for (CafeTheme theme : CAFE_THEMES) {
+            themeCounts[theme.ordinal()] = cafeThemeInfo.countOf(theme);
+        }
+
+        CafeTypeInfo cafeTypeInfo = cafe.getCafeTypeInfo();
+        int[] typeIndexes = new int[CafeType.values().length];
+        for (CafeType indexedCafeType : INDEXED_CAFE_TYPES) {
+            typeIndexes[indexedCafeType.ordinal()] = cafeTypeInfo.indexOf(indexedCafeType);
+        }
+        return new CafeRankingScores(cafe.getId(), cafe.getName(), cafe.getKakaoPlaceId(), themeCounts, typeIndexes);
+    }
+
+    public int scoreOf(CafeTheme theme) {
+        return themeCounts[theme.ordinal()];
+    }
+
+    public int scoreOf(CafeType cafeType) {
+        return typeIndexes[cafeType.ordinal()];
+    }
+
+}
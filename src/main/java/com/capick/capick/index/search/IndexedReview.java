@@ -0,0 +1,18 @@
+package com.capick.capick.index.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 색인된 리뷰의 현재 버전이다. 세그먼트의 게시 목록 항목은 버전이 같을 때만 유효하고, 수정이나 삭제로 버전이 바뀐 항목은 병합 때 버린다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+class IndexedReview {
+
+    private final long version;
+
+    private final Long cafeId;
+
+    private final int length;
+
+}
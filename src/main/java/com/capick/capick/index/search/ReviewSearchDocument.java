@@ -0,0 +1,58 @@
+package com.capick.capick.index.search;
+
+import com.capick.capick.domain.common.BaseStatus;
+import com.capick.capick.event.ReviewChangedEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+
+// 검색 색인에 넣을 리뷰의 본문이다. 삭제된 리뷰는 색인에서 빼기 위해 상태도 함께 읽는다.
+// 수정 시각은 다른 서버의 변경을 따라잡을 때만 읽으며, 이미 반영한 수정인지 가리는 데 쓴다.
+@Getter
+public class ReviewSearchDocument {
+
+    private final Long reviewId;
+
+    private final Long cafeId;
+
+    private final String visitPurpose;
+
+    private final String content;
+
+    private final String menu;
+
+    private final BaseStatus status;
+
+    private final LocalDateTime updatedAt;
+
+    public ReviewSearchDocument(
+            Long reviewId, Long cafeId, String visitPurpose, String content, String menu, BaseStatus status) {
+        this(reviewId, cafeId, visitPurpose, content, menu, status, null);
+    }
+
+    public ReviewSearchDocument(
+            Long reviewId, Long cafeId, String visitPurpose, String content, String menu, BaseStatus status,
+            LocalDateTime updatedAt) {
+        this.reviewId = reviewId;
+        this.cafeId = cafeId;
+        this.visitPurpose = visitPurpose;
+        this.content = content;
+        this.menu = menu;
+        this.status = status;
+        this.updatedAt = updatedAt;
+    }
+
+    public static ReviewSearchDocument of(ReviewChangedEvent event) {
+        return new ReviewSearchDocument(
+                event.getReviewId(), event.getCafeId(),
+                event.getVisitPurpose(), event.getContent(), event.getMenu(), event.getStatus()
+        );
+    }
+
+    public boolean isActive() {
+        return ACTIVE.equals(status);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.capick.capick.index.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ReviewSearchHit {
+
+    private final Long reviewId;
+
+    private final double score;
+
+}
@@ -0,0 +1,432 @@
+package com.capick.capick.index.search;
+
+import com.capick.capick.event.ReviewChangedEvent;
+import com.capick.capick.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+
+// 리뷰의 방문 목적, 본문, 메뉴를 찾는 메모리 역색인이다. 검색어의 모든 토큰을 가진 리뷰를 BM25 점수 순으로 찾는다.
+// 리뷰를 쓸 때마다 작은 세그먼트를 덧붙이고, 주기적으로 세그먼트를 하나로 병합한 뒤 스냅숏 파일로 남긴다.
+// 시작할 때 스냅숏이 있으면 읽어 들이고 그 이후에 바뀐 리뷰만 DB 에서 따라잡는다. 없으면 활동 중인 리뷰 전체로 만든다.
+// 이 서버에서 커밋된 리뷰 변경은 커밋 후에 바로 반영하고, 다른 서버에서 커밋된 변경은 sync-interval 마다 그 사이에 수정된 리뷰를
+// 읽어 반영한다. 따라서 다른 서버에서 쓰거나 고친 리뷰는 최대 sync-interval 늦게 검색된다.
+// 읽기는 잠금 없이 세그먼트 목록을 한 번 읽어 수행하고, 쓰기와 세그먼트 목록 교체만 잠금 안에서 한다.
+@Slf4j
+@Component
+public class ReviewSearchIndex {
+
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ReviewRepository reviewRepository;
+
+    private final Duration mergeInterval;
+
+    private final boolean snapshotEnabled;
+
+    private final Path snapshotPath;
+
+    private final Duration catchUpMargin;
+
+    private final Duration syncInterval;
+
+    private final Duration syncMargin;
+
+    // sync 여유 구간 안에서 이미 반영한 리뷰의 수정 시각이다. 같은 수정을 매 주기 다시 덧붙이지 않도록 건너뛴다.
+    private final Map<Long, LocalDateTime> syncedUpdatedAts = new ConcurrentHashMap<>();
+
+    private volatile Instant syncedAt;
+
+    private final Map<Long, IndexedReview> indexedReviews = new ConcurrentHashMap<>();
+
+    private volatile List<ReviewSearchSegment> segments = List.of();
+
+    private volatile long totalLength;
+
+    private long nextVersion = 1;
+
+    private long modificationCount;
+
+    private long snapshotModificationCount = -1;
+
+    // 수정, 삭제로 지나간 버전의 항목이 생겼는지 여부이다. 세그먼트가 하나뿐이어도 이런 항목이 있으면 병합하여 버린다.
+    private boolean staleSinceMerge;
+
+    // 시작과 종료는 색인 잠금과 따로 잡는다. 종료 시 병합 작업이 끝나기를 기다리는 동안 병합이 색인 잠금을 잡을 수 있어야 한다.
+    private final Object lifecycleLock = new Object();
+
+    private ScheduledExecutorService scheduler;
+
+    public ReviewSearchIndex(
+            ReviewRepository reviewRepository,
+            @Value("${search.review.merge-interval:1m}") Duration mergeInterval,
+            @Value("${search.review.snapshot.enabled:false}") boolean snapshotEnabled,
+            @Value("${search.review.snapshot.path:${java.io.tmpdir}/capick/review-search.snapshot}") String snapshotPath,
+            @Value("${search.review.snapshot.catch-up-margin:1m}") Duration catchUpMargin,
+            @Value("${search.review.sync-interval:2s}") Duration syncInterval,
+            @Value("${search.review.sync-margin:30s}") Duration syncMargin) {
+        this.reviewRepository = reviewRepository;
+        this.mergeInterval = mergeInterval;
+        this.snapshotEnabled = snapshotEnabled;
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.catchUpMargin = catchUpMargin;
+        this.syncInterval = syncInterval;
+        this.syncMargin = syncMargin;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        synchronized (lifecycleLock) {
+            if (scheduler != null) {
+                return;
+            }
+            load();
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "review-search-merger");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalInNanos = mergeInterval.toNanos();
+            scheduler.scheduleWithFixedDelay(
+                    this::mergeAndSnapshot, intervalInNanos, intervalInNanos, TimeUnit.NANOSECONDS);
+            long syncIntervalInNanos = syncInterval.toNanos();
+            scheduler.scheduleWithFixedDelay(
+                    this::syncSafely, syncIntervalInNanos, syncIntervalInNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        synchronized (lifecycleLock) {
+            if (scheduler != null) {
+                scheduler.shutdown();
+                scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                scheduler = null;
+                mergeAndSnapshot();
+            }
+        }
+    }
+
+    public void load() {
+        syncedAt = Instant.now();
+        if (snapshotEnabled && Files.exists(snapshotPath)) {
+            try {
+                ReviewSearchSnapshot snapshot = ReviewSearchSnapshot.read(snapshotPath);
+                restore(snapshot);
+                int caughtUpCount = catchUp(snapshot.getSnapshotAt().minus(catchUpMargin));
+                log.info("Review search index loaded from snapshot : {} reviews, {} caught up",
+                        indexedReviews.size(), caughtUpCount);
+                return;
+            } catch (IOException | RuntimeException exception) {
+                log.warn("Review search snapshot unreadable, rebuilding : {}", exception.getMessage());
+            }
+        }
+        rebuild();
+        log.info("Review search index built : {} reviews", indexedReviews.size());
+    }
+
+    public void rebuild() {
+        clear();
+        long lastReviewId = 0;
+        List<ReviewSearchDocument> documents;
+        do {
+            documents = reviewRepository.findSearchDocumentsByStatusAndIdGreaterThan(
+                    ACTIVE, lastReviewId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            documents.forEach(this::apply);
+            if (!documents.isEmpty()) {
+                lastReviewId = documents.get(documents.size() - 1).getReviewId();
+            }
+        } while (documents.size() == REBUILD_PAGE_SIZE);
+        merge();
+    }
+
+    // 수정 시각은 커밋보다 먼저 정해지므로, 지난 sync 직전에 수정되어 그 뒤에 커밋된 리뷰도 놓치지 않도록 여유를 두고 다시 읽는다.
+    public int sync() {
+        Instant syncStartedAt = Instant.now();
+        Instant since = Optional.ofNullable(syncedAt).orElse(syncStartedAt).minus(syncMargin);
+        LocalDateTime updatedSince = LocalDateTime.ofInstant(since, ZoneId.systemDefault());
+        List<ReviewSearchDocument> documents = reviewRepository.findSearchDocumentsByUpdatedAtGreaterThanEqual(updatedSince);
+        int appliedCount = 0;
+        for (ReviewSearchDocument document : documents) {
+            LocalDateTime previousUpdatedAt = syncedUpdatedAts.put(document.getReviewId(), document.getUpdatedAt());
+            if (!document.getUpdatedAt().equals(previousUpdatedAt)) {
+                apply(document);
+                appliedCount++;
+            }
+        }
+        syncedUpdatedAts.values().removeIf(updatedAt -> updatedAt.isBefore(updatedSince));
+        syncedAt = syncStartedAt;
+        return appliedCount;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        apply(ReviewSearchDocument.of(event));
+    }
+
+    public synchronized void apply(ReviewSearchDocument document) {
+        if (!document.isActive()) {
+            remove(document.getReviewId());
+            return;
+        }
+        Map<String, Integer> termFrequencies = ReviewTokenizer.termFrequencies(
+                document.getVisitPurpose(), document.getContent(), document.getMenu());
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        long version = nextVersion++;
+
+        IndexedReview previous = indexedReviews.put(
+                document.getReviewId(), new IndexedReview(version, document.getCafeId(), length));
+        totalLength += length - (previous == null ? 0 : previous.getLength());
+        staleSinceMerge |= previous != null;
+        segments = append(segments, ReviewSearchSegment.of(document.getReviewId(), version, termFrequencies));
+        modificationCount++;
+    }
+
+    public synchronized void remove(Long reviewId) {
+        IndexedReview previous = indexedReviews.remove(reviewId);
+        if (previous != null) {
+            totalLength -= previous.getLength();
+            staleSinceMerge = true;
+            modificationCount++;
+        }
+    }
+
+    public synchronized void clear() {
+        indexedReviews.clear();
+        syncedUpdatedAts.clear();
+        segments = List.of();
+        totalLength = 0;
+        staleSinceMerge = false;
+        modificationCount++;
+    }
+
+    // 병합은 잠금 밖에서 하고, 병합하는 동안 덧붙은 세그먼트는 남긴 채 병합한 세그먼트들만 교체한다.
+    // 게시 목록 항목의 버전을 그대로 옮기므로 병합 중에 바뀐 리뷰의 이전 항목은 검색에서 계속 걸러진다.
+    public void merge() {
+        List<ReviewSearchSegment> mergingSegments;
+        synchronized (this) {
+            mergingSegments = segments;
+            if (mergingSegments.isEmpty() || (mergingSegments.size() == 1 && !staleSinceMerge)) {
+                return;
+            }
+            staleSinceMerge = false;
+        }
+        ReviewSearchSegment merged = ReviewSearchSegment.merge(mergingSegments, indexedReviews);
+        synchronized (this) {
+            List<ReviewSearchSegment> currentSegments = segments;
+            if (currentSegments.size() < mergingSegments.size()
+                    || currentSegments.get(0) != mergingSegments.get(0)) {
+                return;
+            }
+            List<ReviewSearchSegment> newSegments = new ArrayList<>(
+                    currentSegments.size() - mergingSegments.size() + 1);
+            newSegments.add(merged);
+            newSegments.addAll(currentSegments.subList(mergingSegments.size(), currentSegments.size()));
+            segments = List.copyOf(newSegments);
+        }
+    }
+
+    public void snapshot() throws IOException {
+        Instant snapshotAt;
+        Map<Long, IndexedReview> snapshotReviews;
+        List<ReviewSearchSegment> snapshotSegments;
+        long currentModificationCount;
+        synchronized (this) {
+            if (modificationCount == snapshotModificationCount) {
+                return;
+            }
+            snapshotAt = Instant.now();
+            snapshotReviews = new HashMap<>(indexedReviews);
+            snapshotSegments = segments;
+            currentModificationCount = modificationCount;
+        }
+        ReviewSearchSnapshot.write(snapshotPath, snapshotAt, snapshotReviews, snapshotSegments);
+        synchronized (this) {
+            snapshotModificationCount = currentModificationCount;
+        }
+    }
+
+    public List<ReviewSearchHit> search(String query, Long cafeId, int limit) {
+        Set<String> terms = ReviewTokenizer.termFrequencies(query).keySet();
+        List<ReviewSearchSegment> currentSegments = segments;
+        int reviewCount = indexedReviews.size();
+        if (terms.isEmpty() || reviewCount == 0) {
+            return List.of();
+        }
+        double averageLength = Math.max((double) totalLength / reviewCount, 1.0);
+
+        // 게시 목록이 짧은 토큰부터 교집합을 좁혀 간다.
+        List<String> sortedTerms = new ArrayList<>(terms);
+        sortedTerms.sort(Comparator.comparingInt(term -> postingCountOf(currentSegments, term)));
+
+        Map<Long, Candidate> candidates = null;
+        for (String term : sortedTerms) {
+            List<long[]> livePostings = findLivePostings(currentSegments, term);
+            if (livePostings.isEmpty()) {
+                return List.of();
+            }
+            double idf = Math.log(1 + (reviewCount - livePostings.size() + 0.5) / (livePostings.size() + 0.5));
+            Map<Long, Candidate> matched = new HashMap<>();
+            for (long[] posting : livePostings) {
+                long reviewId = posting[0];
+                Candidate candidate = candidates == null ? new Candidate(reviewId) : candidates.get(reviewId);
+                if (candidate == null) {
+                    continue;
+                }
+                IndexedReview indexedReview = indexedReviews.get(reviewId);
+                if (indexedReview == null || (cafeId != null && !cafeId.equals(indexedReview.getCafeId()))) {
+                    continue;
+                }
+                double termFrequency = posting[1];
+                double normalizedLength = 1 - B + B * indexedReview.getLength() / averageLength;
+                candidate.score += idf * termFrequency * (K1 + 1) / (termFrequency + K1 * normalizedLength);
+                matched.put(reviewId, candidate);
+            }
+            candidates = matched;
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        PriorityQueue<Candidate> topCandidates = new PriorityQueue<>(limit + 1, Candidate.RANKING_ORDER.reversed());
+        for (Candidate candidate : candidates.values()) {
+            topCandidates.offer(candidate);
+            if (topCandidates.size() > limit) {
+                topCandidates.poll();
+            }
+        }
+        List<ReviewSearchHit> hits = new ArrayList<>(topCandidates.size());
+        while (!topCandidates.isEmpty()) {
+            Candidate candidate = topCandidates.poll();
+            hits.add(new ReviewSearchHit(candidate.reviewId, candidate.score));
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    public int size() {
+        return indexedReviews.size();
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private void mergeAndSnapshot() {
+        try {
+            merge();
+            if (snapshotEnabled) {
+                snapshot();
+            }
+        } catch (IOException | RuntimeException exception) {
+            log.warn("Review search merge or snapshot failed : {}", exception.getMessage());
+        }
+    }
+
+    private void syncSafely() {
+        try {
+            sync();
+        } catch (RuntimeException exception) {
+            log.warn("Review search sync failed : {}", exception.getMessage());
+        }
+    }
+
+    private synchronized void restore(ReviewSearchSnapshot snapshot) {
+        clear();
+        indexedReviews.putAll(snapshot.getIndexedReviews());
+        segments = List.of(snapshot.getSegment());
+        long maxVersion = 0;
+        long length = 0;
+        for (IndexedReview indexedReview : indexedReviews.values()) {
+            maxVersion = Math.max(maxVersion, indexedReview.getVersion());
+            length += indexedReview.getLength();
+        }
+        nextVersion = maxVersion + 1;
+        totalLength = length;
+        snapshotModificationCount = modificationCount;
+    }
+
+    // 스냅숏 시각 직전에 시작해 이후에 커밋된 트랜잭션도 놓치지 않도록, 여유를 두고 그 이후에 수정된 리뷰를 다시 반영한다.
+    private int catchUp(Instant since) {
+        LocalDateTime updatedSince = LocalDateTime.ofInstant(since, ZoneId.systemDefault());
+        List<ReviewSearchDocument> documents = reviewRepository.findSearchDocumentsByUpdatedAtGreaterThanEqual(updatedSince);
+        documents.forEach(this::apply);
+        return documents.size();
+    }
+
+    private List<long[]> findLivePostings(List<ReviewSearchSegment> currentSegments, String term) {
+        List<long[]> livePostings = new ArrayList<>();
+        for (ReviewSearchSegment segment : currentSegments) {
+            ReviewSearchSegment.Postings postings = segment.get(term);
+            if (postings == null) {
+                continue;
+            }
+            for (int index = 0; index < postings.getSize(); index++) {
+                if (postings.isLive(index, indexedReviews)) {
+                    livePostings.add(new long[]{postings.getReviewIds()[index], postings.getTermFrequencies()[index]});
+                }
+            }
+        }
+        return livePostings;
+    }
+
+    private static int postingCountOf(List<ReviewSearchSegment> currentSegments, String term) {
+        int postingCount = 0;
+        for (ReviewSearchSegment segment : currentSegments) {
+            ReviewSearchSegment.Postings postings = segment.get(term);
+            postingCount += postings == null ? 0 : postings.getSize();
+        }
+        return postingCount;
+    }
+
+    private static List<ReviewSearchSegment> append(List<ReviewSearchSegment> segments, ReviewSearchSegment segment) {
+        List<ReviewSearchSegment> newSegments = new ArrayList<>(segments.size() + 1);
+        newSegments.addAll(segments);
+        newSegments.add(segment);
+        return Collections.unmodifiableList(newSegments);
+    }
+
+    private static class Candidate {
+
+        // 점수가 높은 순, 같으면 최근 리뷰(id 가 큰 리뷰) 순이다.
+        private static final Comparator<Candidate> RANKING_ORDER = Comparator.<Candidate>comparingDouble(
+                candidate -> candidate.score).reversed().thenComparing(candidate -> -candidate.reviewId);
+
+        private final long reviewId;
+
+        private double score;
+
+        private Candidate(long reviewId) {
+            this.reviewId = reviewId;
+        }
+
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.capick.capick.index.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 토큰마다 (리뷰 id, 버전, 등장 횟수) 게시 목록을 가진 변경 불가능한 역색인 조각이다.
+// 리뷰를 쓸 때마다 리뷰 하나짜리 세그먼트가 생기고, 주기적으로 여러 세그먼트를 하나로 병합하면서 지나간 버전의 항목을 버린다.
+class ReviewSearchSegment {
+
+    private final Map<String, Postings> postingsByTerm;
+
+    private ReviewSearchSegment(Map<String, Postings> postingsByTerm) {
+        this.postingsByTerm = postingsByTerm;
+    }
+
+    static ReviewSearchSegment of(long reviewId, long version, Map<String, Integer> termFrequencies) {
+        Map<String, Postings> postingsByTerm = new HashMap<>(termFrequencies.size() * 2);
+        termFrequencies.forEach((term, termFrequency) -> postingsByTerm.put(
+                term, new Postings(new long[]{reviewId}, new long[]{version}, new int[]{termFrequency}, 1)));
+        return new ReviewSearchSegment(postingsByTerm);
+    }
+
+    static ReviewSearchSegment merge(List<ReviewSearchSegment> segments, Map<Long, IndexedReview> indexedReviews) {
+        Map<String, PostingsBuilder> builders = new HashMap<>();
+        for (ReviewSearchSegment segment : segments) {
+            segment.postingsByTerm.forEach((term, postings) -> {
+                for (int index = 0; index < postings.size; index++) {
+                    if (postings.isLive(index, indexedReviews)) {
+                        builders.computeIfAbsent(term, key -> new PostingsBuilder()).add(
+                                postings.reviewIds[index], postings.versions[index], postings.termFrequencies[index]);
+                    }
+                }
+            });
+        }
+
+        Map<String, Postings> postingsByTerm = new HashMap<>(builders.size() * 2);
+        builders.forEach((term, builder) -> postingsByTerm.put(term, builder.build()));
+        return new ReviewSearchSegment(postingsByTerm);
+    }
+
+    static ReviewSearchSegment of(Map<String, Postings> postingsByTerm) {
+        return new ReviewSearchSegment(postingsByTerm);
+    }
+
+    Postings get(String term) {
+        return postingsByTerm.get(term);
+    }
+
+    Collection<Map.Entry<String, Postings>> entries() {
+        return postingsByTerm.entrySet();
+    }
+
+    @Getter(AccessLevel.PACKAGE)
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static class Postings {
+
+        private final long[] reviewIds;
+
+        private final long[] versions;
+
+        private final int[] termFrequencies;
+
+        private final int size;
+
+        boolean isLive(int index, Map<Long, IndexedReview> indexedReviews) {
+            IndexedReview indexedReview = indexedReviews.get(reviewIds[index]);
+            return indexedReview != null && indexedReview.getVersion() == versions[index];
+        }
+
+    }
+
+    static class PostingsBuilder {
+
+        private long[] reviewIds = new long[4];
+
+        private long[] versions = new long[4];
+
+        private int[] termFrequencies = new int[4];
+
+        private int size;
+
+        void add(long reviewId, long version, int termFrequency) {
+            if (size == reviewIds.length) {
+                reviewIds = Arrays.copyOf(reviewIds, size * 2);
+                versions = Arrays.copyOf(versions, size * 2);
+                termFrequencies = Arrays.copyOf(termFrequencies, size * 2);
+            }
+            reviewIds[size] = reviewId;
+            versions[size] = version;
+            termFrequencies[size] = termFrequency;
+            size++;
+        }
+
+        Postings build() {
+            return new Postings(
+                    Arrays.copyOf(reviewIds, size), Arrays.copyOf(versions, size),
+                    Arrays.copyOf(termFrequencies, size), size);
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.capick.capick.index.search;
+
+import com.capick.capick.index.search.ReviewSearchSegment.Postings;
+import com.capick.capick.index.search.ReviewSearchSegment.PostingsBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 병합된 세그먼트 하나와 색인된 리뷰 버전을 파일에 쓴다. 다시 시작할 때 토큰화 없이 그대로 읽어 들이고,
+// 스냅숏 이후에 바뀐 리뷰만 DB 에서 읽어 따라잡는다. 임시 파일에 다 쓴 뒤 교체하므로 쓰다 멈춰도 이전 스냅숏이 남는다.
+@Getter(AccessLevel.PACKAGE)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class ReviewSearchSnapshot {
+
+    private static final int MAGIC = 0x43525349;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final long NO_CAFE = -1;
+
+    private final Instant snapshotAt;
+
+    private final Map<Long, IndexedReview> indexedReviews;
+
+    private final ReviewSearchSegment segment;
+
+    static void write(
+            Path path, Instant snapshotAt, Map<Long, IndexedReview> indexedReviews,
+            List<ReviewSearchSegment> segments) throws IOException {
+        ReviewSearchSegment segment = ReviewSearchSegment.merge(segments, indexedReviews);
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporaryPath = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(snapshotAt.toEpochMilli());
+
+                output.writeInt(indexedReviews.size());
+                for (Map.Entry<Long, IndexedReview> entry : indexedReviews.entrySet()) {
+                    IndexedReview indexedReview = entry.getValue();
+                    output.writeLong(entry.getKey());
+                    output.writeLong(indexedReview.getVersion());
+                    output.writeLong(indexedReview.getCafeId() == null ? NO_CAFE : indexedReview.getCafeId());
+                    output.writeInt(indexedReview.getLength());
+                }
+
+                List<Map.Entry<String, Postings>> entries = List.copyOf(segment.entries());
+                output.writeInt(entries.size());
+                for (Map.Entry<String, Postings> entry : entries) {
+                    Postings postings = entry.getValue();
+                    output.writeUTF(entry.getKey());
+                    output.writeInt(postings.getSize());
+                    for (int index = 0; index < postings.getSize(); index++) {
+                        output.writeLong(postings.getReviewIds()[index]);
+                        output.writeLong(postings.getVersions()[index]);
+                        output.writeInt(postings.getTermFrequencies()[index]);
+                    }
+                }
+            }
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    static ReviewSearchSnapshot read(Path path) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported review search snapshot : " + path);
+            }
+            Instant snapshotAt = Instant.ofEpochMilli(input.readLong());
+
+            int reviewCount = input.readInt();
+            Map<Long, IndexedReview> indexedReviews = new HashMap<>(reviewCount * 2);
+            for (int count = 0; count < reviewCount; count++) {
+                long reviewId = input.readLong();
+                long version = input.readLong();
+                long cafeId = input.readLong();
+                int length = input.readInt();
+                indexedReviews.put(reviewId, new IndexedReview(version, cafeId == NO_CAFE ? null : cafeId, length));
+            }
+
+            int termCount = input.readInt();
+            Map<String, Postings> postingsByTerm = new HashMap<>(termCount * 2);
+            for (int count = 0; count < termCount; count++) {
+                String term = input.readUTF();
+                int size = input.readInt();
+                PostingsBuilder builder = new PostingsBuilder();
+                for (int index = 0; index < size; index++) {
+                    builder.add(input.readLong(), input.readLong(), input.readInt());
+                }
+                postingsByTerm.put(term, builder.build());
+            }
+            return new ReviewSearchSnapshot(snapshotAt, indexedReviews, ReviewSearchSegment.of(postingsByTerm));
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.capick.capick.index.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// 한글은 형태소 분석 없이 붙어 있는 음절을 두 글자씩 겹쳐 자른다. 조사가 붙은 "라떼가" 도 "라떼", "떼가" 로 잘리므로 "라떼" 로 찾을 수 있다.
+// 한 글자 한글 단어는 그대로 쓴다. 영문과 숫자는 소문자로 바꾼 단어 하나를 그대로 쓴다. 나머지 문자는 구분자로 본다.
+// 문서와 검색어를 같은 규칙으로 자르므로, 검색어의 모든 토큰을 가진 문서가 검색어를 포함할 가능성이 높은 문서이다.
+public final class ReviewTokenizer {
+
+    private ReviewTokenizer() {
+    }
+
+    // 토큰별 등장 횟수를 센다. 문서 길이는 값의 합이다.
+    public static Map<String, Integer> termFrequencies(String... texts) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String text : texts) {
+            if (text != null) {
+                tokenize(Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT), termFrequencies);
+            }
+        }
+        return termFrequencies;
+    }
+
+    private static void tokenize(String text, Map<String, Integer> termFrequencies) {
+        int length = text.length();
+        int start = 0;
+        while (start < length) {
+            char character = text.charAt(start);
+            if (!Character.isLetterOrDigit(character)) {
+                start++;
+                continue;
+            }
+            boolean isHangulRun = isHangul(character);
+            int end = start + 1;
+            while (end < length && Character.isLetterOrDigit(text.charAt(end))
+                    && isHangul(text.charAt(end)) == isHangulRun) {
+                end++;
+            }
+            if (!isHangulRun || end - start == 1) {
+                termFrequencies.merge(text.substring(start, end), 1, Integer::sum);
+            } else {
+                for (int bigramStart = start; bigramStart < end - 1; bigramStart++) {
+                    termFrequencies.merge(text.substring(bigramStart, bigramStart + 2), 1, Integer::sum);
+                }
+            }
+            start = end;
+        }
+    }
+
+    private static boolean isHangul(char character) {
+        return character >= '가' && character <= '힣';
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.capick.capick.metric;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// 서비스 메서드마다 실행 시간을 capick.service 타이머로 기록한다. 예외로 끝난 호출은 exception 태그로 구분한다.
+// 히스토그램 여부는 management.metrics.distribution 설정을 따른다.
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceTimerAspect {
+
+    public static final String SERVICE_TIMER = "capick.service";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.capick.capick.service.ReviewService.*(..))"
+            + " || execution(public * com.capick.capick.service.MemberService.*(..))"
+            + " || execution(public * com.capick.capick.service.CafeService.*(..))"
+            + " || execution(public * com.capick.capick.service.HistoryService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            sample.stop(Timer.builder(SERVICE_TIMER)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+}
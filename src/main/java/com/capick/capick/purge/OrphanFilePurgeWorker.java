@@ -0,0 +1,164 @@
+package com.capick.capick.purge;
+
+import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
+import com.capick.capick.service.OrphanFilePurgeService;
+import com.capick.capick.storage.StorageClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 고아 파일 기록을 id 순서로 한 묶음씩 맡아서 외부 저장소의 파일을 지우고, 지운 기록은 한 번에 완전 삭제로 표시한다.
+// 여러 서버에서 함께 돌아도 묶음을 맡는 쿼리가 잠금과 기한으로 겹치지 않게 나눠 가진다.
+// 지우지 못한 파일은 맡은 기한이 지난 뒤 다음 주기에 다시 시도한다.
+@Slf4j
+@Component
+public class OrphanFilePurgeWorker {
+
+    private static final String PURGE_METRIC = "capick.purge.orphan-file";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final OrphanFilePurgeService orphanFilePurgeService;
+
+    private final StorageClient storageClient;
+
+    private final boolean enabled;
+
+    private final Duration interval;
+
+    private final int batchSize;
+
+    private final Duration claimLease;
+
+    private final String workerId = "purge-" + UUID.randomUUID();
+
+    private final Counter deletedCounter;
+
+    private final Counter failedCounter;
+
+    private final Timer batchTimer;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+
+    public OrphanFilePurgeWorker(
+            OrphanFilePurgeService orphanFilePurgeService, StorageClient storageClient, MeterRegistry meterRegistry,
+            @Value("${purge.orphan-file.enabled:false}") boolean enabled,
+            @Value("${purge.orphan-file.interval:1m}") Duration interval,
+            @Value("${purge.orphan-file.batch-size:100}") int batchSize,
+            @Value("${purge.orphan-file.claim-lease:5m}") Duration claimLease) {
+        this.orphanFilePurgeService = orphanFilePurgeService;
+        this.storageClient = storageClient;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.claimLease = claimLease;
+        this.deletedCounter = Counter.builder(PURGE_METRIC).tag("result", "deleted").register(meterRegistry);
+        this.failedCounter = Counter.builder(PURGE_METRIC).tag("result", "failed").register(meterRegistry);
+        this.batchTimer = Timer.builder(PURGE_METRIC + ".batch").register(meterRegistry);
+        Gauge.builder(PURGE_METRIC + ".lag", lagSeconds, AtomicLong::get)
+                .description("아직 지우지 않은 가장 오래된 고아 파일 기록의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "orphan-file-purge-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalInNanos = interval.toNanos();
+        scheduler.scheduleWithFixedDelay(this::purgeSafely, intervalInNanos, intervalInNanos, TimeUnit.NANOSECONDS);
+        log.info("Orphan file purge started : worker {}, interval {}, batch size {}", workerId, interval, batchSize);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            scheduler = null;
+        }
+    }
+
+    // 한 주기에 끝까지 훑는다. 커서보다 id 가 큰 묶음만 맡으므로, 이번 주기에 실패한 파일을 같은 주기에 다시 맡지 않는다.
+    public long purge() {
+        long purgedCount = 0;
+        long afterId = 0;
+        List<StorageOrphanFileHistory> orphanFiles;
+        while (!(orphanFiles = orphanFilePurgeService.claimOrphanFiles(workerId, afterId, batchSize, claimLease))
+                .isEmpty()) {
+            afterId = orphanFiles.get(orphanFiles.size() - 1).getId();
+            List<StorageOrphanFileHistory> claimedOrphanFiles = orphanFiles;
+            purgedCount += batchTimer.record(() -> purgeBatch(claimedOrphanFiles));
+        }
+        updateLag();
+        return purgedCount;
+    }
+
+    public long getDeletedCount() {
+        return (long) deletedCounter.count();
+    }
+
+    public long getFailedCount() {
+        return (long) failedCounter.count();
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds.get();
+    }
+
+    private void purgeSafely() {
+        try {
+            purge();
+        } catch (RuntimeException exception) {
+            log.error("Orphan file purge failed : worker {}", workerId, exception);
+        }
+    }
+
+    private long purgeBatch(List<StorageOrphanFileHistory> orphanFiles) {
+        List<Long> deletedIds = new ArrayList<>(orphanFiles.size());
+        for (StorageOrphanFileHistory orphanFile : orphanFiles) {
+            try {
+                storageClient.delete(orphanFile.getUrl());
+                deletedIds.add(orphanFile.getId());
+            } catch (RuntimeException exception) {
+                failedCounter.increment();
+                log.warn("Orphan file delete failed : history {}, {}", orphanFile.getId(), exception.getMessage());
+            }
+        }
+        int markedCount = orphanFilePurgeService.markHardDeleted(workerId, deletedIds);
+        deletedCounter.increment(markedCount);
+        return markedCount;
+    }
+
+    private void updateLag() {
+        lagSeconds.set(orphanFilePurgeService.findOldestPendingCreatedAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.capick.capick.repository;
+
+// 카페 id 와 카페 행에 반영된 찜 수이다.
+public interface CafePickCountView {
+
+    Long getCafeId();
+
+    Long getPickCount();
+
+}
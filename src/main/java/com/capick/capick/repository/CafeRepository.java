@@ -1,15 +1,81 @@
 package com.capick.capick.repository;
 
 import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeAggregateDelta;
 import com.capick.capick.domain.common.BaseStatus;
+import com.capick.capick.index.geo.CafeGeoPoint;
+import com.capick.capick.index.ranking.CafeRankingScores;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CafeRepository extends JpaRepository<Cafe, Long> {
+public interface CafeRepository extends JpaRepository<Cafe, Long>, CafeRepositoryCustom {
 
     Optional<Cafe> findByKakaoPlaceIdAndStatus(String kakaoPlaceId, BaseStatus status);
 
+    @Query("select c.kakaoPlaceId from Cafe c where c.updatedAt >= :updatedAt")
+    List<String> findAllKakaoPlaceIdByUpdatedAtGreaterThanEqual(@Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select new com.capick.capick.index.geo.CafeGeoPoint("
+            + "c.id, c.name, c.kakaoPlaceId, c.location.latitude, c.location.longitude) "
+            + "from Cafe c "
+            + "where c.status = :status and c.location.latitude is not null and c.location.longitude is not null")
+    List<CafeGeoPoint> findAllGeoPointsByStatus(@Param("status") BaseStatus status);
+
+    @Query("select new com.capick.capick.index.ranking.CafeRankingScores("
+            + "c.id, c.name, c.kakaoPlaceId, "
+            + "c.cafeThemeInfo.normalCount, c.cafeThemeInfo.vibeCount, c.cafeThemeInfo.viewCount, c.cafeThemeInfo.petCount, "
+            + "c.cafeThemeInfo.hobbyCount, c.cafeThemeInfo.studyCount, c.cafeThemeInfo.kidsCount, c.cafeThemeInfo.etcCount, "
+            + "c.cafeTypeInfo.coffeeIndex, c.cafeTypeInfo.spaceIndex, c.cafeTypeInfo.priceIndex, c.cafeTypeInfo.noiseIndex) "
+            + "from Cafe c "
+            + "where c.status = :status")
+    List<CafeRankingScores> findAllRankingScoresByStatus(@Param("status") BaseStatus status);
+
+    @Query("select c.id as cafeId, c.pickCount as pickCount "
+            + "from Cafe c "
+            + "where c.pickCount <> 0")
+    List<CafePickCountView> findAllPickCounts();
+
+    // 찜 수는 읽지 않고 변화량만 더한다. @DynamicUpdate 이므로 엔터티 저장이 이 값을 덮어쓰지 않는다.
+    @Modifying(flushAutomatically = true)
+    @Query("update Cafe c set c.pickCount = c.pickCount + :delta where c.id = :cafeId")
+    int addPickCount(@Param("cafeId") Long cafeId, @Param("delta") int delta);
+
+    // 누적 지수와 횟수를 읽고 쓰는 대신 한 번의 UPDATE 로 증감한다. 어느 값이라도 음수가 된다면 갱신하지 않고 0 을 반환한다.
+    @Modifying(flushAutomatically = true)
+    @Query("update Cafe c set "
+            + "c.cafeTypeInfo.coffeeIndex = c.cafeTypeInfo.coffeeIndex + :#{#delta.coffeeIndex}, "
+            + "c.cafeTypeInfo.spaceIndex = c.cafeTypeInfo.spaceIndex + :#{#delta.spaceIndex}, "
+            + "c.cafeTypeInfo.priceIndex = c.cafeTypeInfo.priceIndex + :#{#delta.priceIndex}, "
+            + "c.cafeTypeInfo.noiseIndex = c.cafeTypeInfo.noiseIndex + :#{#delta.noiseIndex}, "
+            + "c.cafeThemeInfo.normalCount = c.cafeThemeInfo.normalCount + :#{#delta.normalCount}, "
+            + "c.cafeThemeInfo.vibeCount = c.cafeThemeInfo.vibeCount + :#{#delta.vibeCount}, "
+            + "c.cafeThemeInfo.viewCount = c.cafeThemeInfo.viewCount + :#{#delta.viewCount}, "
+            + "c.cafeThemeInfo.petCount = c.cafeThemeInfo.petCount + :#{#delta.petCount}, "
+            + "c.cafeThemeInfo.hobbyCount = c.cafeThemeInfo.hobbyCount + :#{#delta.hobbyCount}, "
+            + "c.cafeThemeInfo.studyCount = c.cafeThemeInfo.studyCount + :#{#delta.studyCount}, "
+            + "c.cafeThemeInfo.kidsCount = c.cafeThemeInfo.kidsCount + :#{#delta.kidsCount}, "
+            + "c.cafeThemeInfo.etcCount = c.cafeThemeInfo.etcCount + :#{#delta.etcCount} "
+            + "where c.id = :cafeId "
+            + "and c.cafeTypeInfo.coffeeIndex + :#{#delta.coffeeIndex} >= 0 "
+            + "and c.cafeTypeInfo.spaceIndex + :#{#delta.spaceIndex} >= 0 "
+            + "and c.cafeTypeInfo.priceIndex + :#{#delta.priceIndex} >= 0 "
+            + "and c.cafeTypeInfo.noiseIndex + :#{#delta.noiseIndex} >= 0 "
+            + "and c.cafeThemeInfo.normalCount + :#{#delta.normalCount} >= 0 "
+            + "and c.cafeThemeInfo.vibeCount + :#{#delta.vibeCount} >= 0 "
+            + "and c.cafeThemeInfo.viewCount + :#{#delta.viewCount} >= 0 "
+            + "and c.cafeThemeInfo.petCount + :#{#delta.petCount} >= 0 "
+            + "and c.cafeThemeInfo.hobbyCount + :#{#delta.hobbyCount} >= 0 "
+            + "and c.cafeThemeInfo.studyCount + :#{#delta.studyCount} >= 0 "
+            + "and c.cafeThemeInfo.kidsCount + :#{#delta.kidsCount} >= 0 "
+            + "and c.cafeThemeInfo.etcCount + :#{#delta.etcCount} >= 0")
+    int addAggregateDelta(@Param("cafeId") Long cafeId, @Param("delta") CafeAggregateDelta delta);
+
 }
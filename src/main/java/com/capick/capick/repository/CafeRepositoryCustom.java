@@ -0,0 +1,11 @@
+package com.capick.capick.repository;
+
+import com.capick.capick.domain.cafe.Cafe;
+
+public interface CafeRepositoryCustom {
+
+    void refresh(Cafe cafe);
+
+    Long upsertByKakaoPlaceId(Cafe cafe);
+
+}
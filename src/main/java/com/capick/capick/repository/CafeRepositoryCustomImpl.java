@@ -0,0 +1,94 @@
+package com.capick.capick.repository;
+
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeThemeInfo;
+import com.capick.capick.domain.cafe.CafeTypeInfo;
+import com.capick.capick.domain.common.Location;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@RequiredArgsConstructor
+public class CafeRepositoryCustomImpl implements CafeRepositoryCustom {
+
+    private static final List<String> UPSERT_COLUMNS = List.of(
+            "name", "kakao_place_id", "kakao_detail_page_url",
+            "location_latitude", "location_longitude", "location_address", "location_road_address",
+            "coffee_index", "space_index", "price_index", "noise_index", "cafe_type",
+            "normal_count", "vibe_count", "view_count", "pet_count",
+            "hobby_count", "study_count", "kids_count", "etc_count", "cafe_theme", "pick_count",
+            "created_at", "updated_at", "status"
+    );
+
+    private static final String COLUMN_LIST = String.join(", ", UPSERT_COLUMNS);
+
+    // kakao_place_id 유니크 인덱스에 걸리면 아무것도 바꾸지 않고, LAST_INSERT_ID 로 기존 카페의 id 를 돌려받는다.
+    private static final String MYSQL_UPSERT = "insert into cafe (" + COLUMN_LIST + ") "
+            + "values (" + placeholdersFrom(1) + ") "
+            + "on duplicate key update id = last_insert_id(id)";
+
+    private static final String H2_UPSERT = "merge into cafe c using (select 1) s "
+            + "on c.kakao_place_id = ?1 "
+            + "when not matched then insert (" + COLUMN_LIST + ") "
+            + "values (" + placeholdersFrom(2) + ")";
+
+    private final EntityManager entityManager;
+
+    // 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로, 갱신된 누적 값을 엔터티에 다시 읽어온다.
+    @Override
+    public void refresh(Cafe cafe) {
+        entityManager.refresh(cafe);
+    }
+
+    // 조회 후 저장하면 동시에 첫 리뷰가 작성될 때 카페가 중복 등록된다. 한 문장으로 없을 때만 등록하고 카페 id 를 반환한다.
+    @Override
+    public Long upsertByKakaoPlaceId(Cafe cafe) {
+        if (DatabaseDialects.isMySql(entityManager)) {
+            bindCafe(entityManager.createNativeQuery(MYSQL_UPSERT), cafe, 1).executeUpdate();
+            return ((Number) entityManager.createNativeQuery("select last_insert_id()").getSingleResult())
+                    .longValue();
+        }
+
+        Query upsertQuery = entityManager.createNativeQuery(H2_UPSERT).setParameter(1, cafe.getKakaoPlaceId());
+        bindCafe(upsertQuery, cafe, 2).executeUpdate();
+        return ((Number) entityManager.createNativeQuery("select id from cafe where kakao_place_id = ?1")
+                .setParameter(1, cafe.getKakaoPlaceId())
+                .getSingleResult())
+                .longValue();
+    }
+
+    private Query bindCafe(Query query, Cafe cafe, int firstPosition) {
+        Location location = cafe.getLocation();
+        CafeTypeInfo cafeTypeInfo = cafe.getCafeTypeInfo();
+        CafeThemeInfo cafeThemeInfo = cafe.getCafeThemeInfo();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object> values = Arrays.asList(
+                cafe.getName(), cafe.getKakaoPlaceId(), cafe.getKakaoDetailPageUrl(),
+                location.getLatitude(), location.getLongitude(), location.getAddress(), location.getRoadAddress(),
+                cafeTypeInfo.getCoffeeIndex(), cafeTypeInfo.getSpaceIndex(),
+                cafeTypeInfo.getPriceIndex(), cafeTypeInfo.getNoiseIndex(), cafeTypeInfo.getCafeType().getCode(),
+                cafeThemeInfo.getNormalCount(), cafeThemeInfo.getVibeCount(),
+                cafeThemeInfo.getViewCount(), cafeThemeInfo.getPetCount(),
+                cafeThemeInfo.getHobbyCount(), cafeThemeInfo.getStudyCount(),
+                cafeThemeInfo.getKidsCount(), cafeThemeInfo.getEtcCount(), cafeThemeInfo.getCafeTheme().getCode(),
+                cafe.getPickCount(), now, now, cafe.getStatus().getCode()
+        );
+        IntStream.range(0, values.size())
+                .forEach(index -> query.setParameter(firstPosition + index, values.get(index)));
+        return query;
+    }
+
+    private static String placeholdersFrom(int firstPosition) {
+        return IntStream.range(firstPosition, firstPosition + UPSERT_COLUMNS.size())
+                .mapToObj(position -> "?" + position)
+                .collect(Collectors.joining(", "));
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.capick.capick.repository;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.persistence.EntityManager;
+
+// 운영 DB 는 MySQL, 로컬과 테스트는 H2 이다. 네이티브 쿼리 문법이 다를 때 분기한다.
+public class DatabaseDialects {
+
+    private DatabaseDialects() {
+    }
+
+    public static boolean isMySql(EntityManager entityManager) {
+        Dialect dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        return dialect instanceof MySQLDialect;
+    }
+
+}
@@ -2,17 +2,62 @@ package com.capick.capick.repository;
 
 import com.capick.capick.domain.common.BaseStatus;
 import com.capick.capick.domain.member.Member;
+import com.capick.capick.index.member.MemberNicknameEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
-    boolean existsByEmailAndStatus(String email, BaseStatus status);
+    boolean existsByActiveEmail(String email);
 
-    boolean existsByNicknameAndStatus(String nickname, BaseStatus status);
+    boolean existsByActiveNickname(String nickname);
 
     Optional<Member> findByIdAndStatus(Long id, BaseStatus status);
+
+    @Query("select m.updatedAt from Member m where m.id = :id and m.status = :status")
+    Optional<LocalDateTime> findUpdatedAtByIdAndStatus(@Param("id") Long id, @Param("status") BaseStatus status);
+
+    @Query("select m.email from Member m where m.status = :status")
+    List<String> findAllEmailByStatus(@Param("status") BaseStatus status);
+
+    @Query("select m.nickname from Member m where m.status = :status")
+    List<String> findAllNicknameByStatus(@Param("status") BaseStatus status);
+
+    @Query("select new com.capick.capick.index.member.MemberNicknameEntry(m.id, m.activeNickname) "
+            + "from Member m "
+            + "where m.activeNickname is not null")
+    List<MemberNicknameEntry> findAllActiveNicknameEntries();
+
+    // 탈퇴도 반영해야 하므로 상태와 관계없이 찾는다.
+    @Query("select new com.capick.capick.index.member.MemberNicknameEntry(m.id, m.activeNickname) "
+            + "from Member m "
+            + "where m.updatedAt >= :updatedAt")
+    List<MemberNicknameEntry> findAllNicknameEntriesByUpdatedAtGreaterThanEqual(@Param("updatedAt") LocalDateTime updatedAt);
+
+    List<Member> findTop100ByIdGreaterThanAndPasswordNotLikeOrderByIdAsc(Long id, String password);
+
+    // 읽은 뒤 비밀번호가 바뀐 회원은 덮어쓰지 않는다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.password = :hashedPassword where m.id = :id and m.password = :password")
+    int updatePasswordIfUnchanged(
+            @Param("id") Long id, @Param("password") String password, @Param("hashedPassword") String hashedPassword);
+
+    // 비밀번호만 바꾼다. 읽은 뒤 탈퇴했거나 비밀번호가 바뀐 회원은 덮어쓰지 않고 0 을 반환한다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.password = :hashedPassword "
+            + "where m.id = :id and m.status = :status and m.password = :password")
+    int updatePasswordIfUnchangedAndStatus(
+            @Param("id") Long id, @Param("status") BaseStatus status,
+            @Param("password") String password, @Param("hashedPassword") String hashedPassword);
 }
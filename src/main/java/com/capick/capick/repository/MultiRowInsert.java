@@ -0,0 +1,54 @@
+package com.capick.capick.repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// IDENTITY 전략 엔터티는 Hibernate 가 id 를 받아오기 위해 한 행씩 INSERT 한다.
+// 등록 후 id 가 필요 없는 엔터티 목록을 INSERT 한 문장에 여러 행으로 묶어서 등록한다.
+public class MultiRowInsert {
+
+    private final String insertPrefix;
+
+    private final String rowPlaceholder;
+
+    private final int columnCount;
+
+    private MultiRowInsert(String table, List<String> columns) {
+        this.insertPrefix = "insert into " + table + " (" + String.join(", ", columns) + ") values ";
+        this.rowPlaceholder = columns.stream().map(column -> "?").collect(Collectors.joining(", ", "(", ")"));
+        this.columnCount = columns.size();
+    }
+
+    public static MultiRowInsert into(String table, List<String> columns) {
+        return new MultiRowInsert(table, columns);
+    }
+
+    // 네이티브 쿼리 실행 전 영속성 컨텍스트가 flush 되므로, 같은 트랜잭션에서 저장한 부모 엔터티를 참조할 수 있다.
+    public <T> int execute(EntityManager entityManager, List<T> rows, Function<T, List<Object>> rowValues) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        String sql = IntStream.range(0, rows.size())
+                .mapToObj(row -> rowPlaceholder)
+                .collect(Collectors.joining(", ", insertPrefix, ""));
+        Query query = entityManager.createNativeQuery(sql);
+
+        int position = 1;
+        for (T row : rows) {
+            List<Object> values = rowValues.apply(row);
+            if (values.size() != columnCount) {
+                throw new IllegalArgumentException("column count " + columnCount + " but values " + values.size());
+            }
+            for (Object value : values) {
+                query.setParameter(position++, value);
+            }
+        }
+        return query.executeUpdate();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.capick.capick.repository;
+
+import com.capick.capick.domain.common.BaseStatus;
+import com.capick.capick.domain.mypick.MyPick;
+import com.capick.capick.index.mypick.MyPickEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MyPickRepository extends JpaRepository<MyPick, Long> {
+
+    // 찜을 해제한 행도 다시 찜할 때 쓰므로 상태와 관계없이 찾는다.
+    Optional<MyPick> findByMemberIdAndCafeId(Long memberId, Long cafeId);
+
+    @Query("select mp from MyPick mp join fetch mp.cafe "
+            + "where mp.member.id = :memberId and mp.status = :status "
+            + "order by mp.updatedAt desc, mp.id desc")
+    List<MyPick> findAllWithCafeByMemberIdAndStatus(@Param("memberId") Long memberId, @Param("status") BaseStatus status);
+
+    @Query("select new com.capick.capick.index.mypick.MyPickEntry(mp.member.id, c.id, c.kakaoPlaceId, mp.status) "
+            + "from MyPick mp join mp.cafe c "
+            + "where mp.status = :status")
+    List<MyPickEntry> findAllEntriesByStatus(@Param("status") BaseStatus status);
+
+    // 찜 해제도 반영해야 하므로 상태와 관계없이 찾는다.
+    @Query("select new com.capick.capick.index.mypick.MyPickEntry(mp.member.id, c.id, c.kakaoPlaceId, mp.status) "
+            + "from MyPick mp join mp.cafe c "
+            + "where mp.updatedAt >= :updatedAt")
+    List<MyPickEntry> findAllEntriesByUpdatedAtGreaterThanEqual(@Param("updatedAt") LocalDateTime updatedAt);
+
+}
@@ -9,8 +9,12 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long> {
+public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long>, ReviewImageRepositoryCustom {
 
     List<ReviewImage> findAllByReviewAndStatus(Review review, BaseStatus status);
 
+    List<ReviewImage> findAllByReviewIdAndStatus(Long reviewId, BaseStatus status);
+
+    List<ReviewImage> findAllByReviewInAndStatus(List<Review> reviews, BaseStatus status);
+
 }
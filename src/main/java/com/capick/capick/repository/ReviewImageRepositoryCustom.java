@@ -0,0 +1,11 @@
+package com.capick.capick.repository;
+
+import com.capick.capick.domain.review.ReviewImage;
+
+import java.util.List;
+
+public interface ReviewImageRepositoryCustom {
+
+    int insertAllInBatch(List<ReviewImage> reviewImages);
+
+}
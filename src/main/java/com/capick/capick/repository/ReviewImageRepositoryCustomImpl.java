@@ -0,0 +1,30 @@
+package com.capick.capick.repository;
+
+import com.capick.capick.domain.review.ReviewImage;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReviewImageRepositoryCustomImpl implements ReviewImageRepositoryCustom {
+
+    private static final MultiRowInsert REVIEW_IMAGE_INSERT = MultiRowInsert.into("review_image", List.of(
+            "image_url", "review_id", "is_hard_deleted", "created_at", "updated_at", "status"
+    ));
+
+    private final EntityManager entityManager;
+
+    // 리뷰 이미지는 등록 후 id 를 쓰지 않으므로, 리뷰 한 건의 이미지를 한 문장으로 등록한다.
+    @Override
+    public int insertAllInBatch(List<ReviewImage> reviewImages) {
+        LocalDateTime now = LocalDateTime.now();
+        return REVIEW_IMAGE_INSERT.execute(entityManager, reviewImages, reviewImage -> Arrays.asList(
+                reviewImage.getImageUrl(), reviewImage.getReview().getId(), reviewImage.isHardDeleted(),
+                now, now, reviewImage.getStatus().getCode()
+        ));
+    }
+
+}
@@ -1,11 +1,19 @@
 package com.capick.capick.repository;
 
+import com.capick.capick.domain.cafe.Cafe;
 import com.capick.capick.domain.common.BaseStatus;
 import com.capick.capick.domain.review.Review;
+import com.capick.capick.index.search.ReviewSearchDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +24,44 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @EntityGraph(attributePaths = {"writer"})
     Optional<Review> findWithMemberByIdAndStatus(Long id, BaseStatus status);
 
+    // 삭제된 이미지도 삭제 시각이 수정 시각으로 남으므로 상태와 관계없이 모든 이미지의 수정 시각을 본다.
+    @Query("select r.updatedAt as reviewUpdatedAt, w.updatedAt as writerUpdatedAt, max(i.updatedAt) as imageUpdatedAt "
+            + "from Review r join r.writer w left join ReviewImage i on i.review = r "
+            + "where r.id = :id and r.status = :status "
+            + "group by r.updatedAt, w.updatedAt")
+    Optional<ReviewUpdatedAtView> findUpdatedAtByIdAndStatus(@Param("id") Long id, @Param("status") BaseStatus status);
+
+    @Query("select r from Review r join fetch r.writer "
+            + "where r.cafe = :cafe and r.status = :status "
+            + "order by r.registeredAt desc, r.id desc")
+    List<Review> findFirstPageWithMemberByCafeAndStatus(
+            @Param("cafe") Cafe cafe, @Param("status") BaseStatus status, Pageable pageable);
+
+    // (registeredAt, id) 튜플 비교를 인덱스 범위 조건으로 풀어 쓴 seek 페이지네이션이다. OFFSET 을 쓰지 않으므로 페이지 깊이와 무관하게 비용이 같다.
+    @Query("select r from Review r join fetch r.writer "
+            + "where r.cafe = :cafe and r.status = :status "
+            + "and r.registeredAt <= :registeredAt and (r.registeredAt < :registeredAt or r.id < :id) "
+            + "order by r.registeredAt desc, r.id desc")
+    List<Review> findNextPageWithMemberByCafeAndStatus(
+            @Param("cafe") Cafe cafe, @Param("status") BaseStatus status,
+            @Param("registeredAt") LocalDateTime registeredAt, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"writer"})
+    List<Review> findAllWithMemberByIdInAndStatus(Collection<Long> ids, BaseStatus status);
+
+    @Query("select new com.capick.capick.index.search.ReviewSearchDocument("
+            + "r.id, r.cafe.id, r.visitPurpose, r.content, r.menu, r.status) "
+            + "from Review r "
+            + "where r.status = :status and r.id > :id "
+            + "order by r.id")
+    List<ReviewSearchDocument> findSearchDocumentsByStatusAndIdGreaterThan(
+            @Param("status") BaseStatus status, @Param("id") Long id, Pageable pageable);
+
+    // 삭제된 리뷰도 삭제 시각이 수정 시각으로 남으므로 상태와 관계없이 읽어서 검색 색인에서 뺀다.
+    @Query("select new com.capick.capick.index.search.ReviewSearchDocument("
+            + "r.id, r.cafe.id, r.visitPurpose, r.content, r.menu, r.status, r.updatedAt) "
+            + "from Review r "
+            + "where r.updatedAt >= :updatedAt")
+    List<ReviewSearchDocument> findSearchDocumentsByUpdatedAtGreaterThanEqual(@Param("updatedAt") LocalDateTime updatedAt);
+
 }
@@ -0,0 +1,14 @@
+package com.capick.capick.repository;
+
+import java.time.LocalDateTime;
+
+// 리뷰 응답에 들어가는 리뷰, 작성자, 리뷰 이미지의 마지막 수정 시각이다. 이미지가 없으면 이미지 수정 시각은 null 이다.
+public interface ReviewUpdatedAtView {
+
+    LocalDateTime getReviewUpdatedAt();
+
+    LocalDateTime getWriterUpdatedAt();
+
+    LocalDateTime getImageUpdatedAt();
+
+}
@@ -1,14 +1,42 @@
 package com.capick.capick.repository.history.storage;
 
 import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface StorageOrphanFileHistoryRepository extends JpaRepository<StorageOrphanFileHistory, Long> {
+public interface StorageOrphanFileHistoryRepository
+        extends JpaRepository<StorageOrphanFileHistory, Long>, StorageOrphanFileHistoryRepositoryCustom {
 
     boolean existsByUrlInAndIsHardDeleted(List<String> urls, boolean isHardDeleted);
 
+    @Query("select h.url from StorageOrphanFileHistory h where h.url in :urls and h.isHardDeleted = :isHardDeleted")
+    List<String> findAllUrlByUrlInAndIsHardDeleted(
+            @Param("urls") List<String> urls, @Param("isHardDeleted") boolean isHardDeleted);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update StorageOrphanFileHistory h set h.purgeClaimedBy = :claimedBy, h.purgeClaimExpiresAt = :claimExpiresAt "
+            + "where h.id in :ids")
+    int claimForPurge(
+            @Param("ids") List<Long> ids, @Param("claimedBy") String claimedBy,
+            @Param("claimExpiresAt") LocalDateTime claimExpiresAt);
+
+    // 맡은 기한이 지나 다른 작업자가 다시 맡은 파일은 표시하지 않는다.
+    @Modifying(clearAutomatically = true)
+    @Query("update StorageOrphanFileHistory h set h.isHardDeleted = true, "
+            + "h.purgeClaimedBy = null, h.purgeClaimExpiresAt = null "
+            + "where h.id in :ids and h.purgeClaimedBy = :claimedBy")
+    int markHardDeletedInBatch(@Param("ids") List<Long> ids, @Param("claimedBy") String claimedBy);
+
+    // id 는 생성 순서를 따르므로 id 가 가장 작은 기록이 가장 오래된 기록이다. (is_hard_deleted, id) 인덱스만 읽는다.
+    @Query("select h.createdAt from StorageOrphanFileHistory h where h.isHardDeleted = false order by h.id asc")
+    List<LocalDateTime> findCreatedAtOfNotHardDeletedOrderById(Pageable pageable);
+
 }
@@ -0,0 +1,14 @@
+package com.capick.capick.repository.history.storage;
+
+import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StorageOrphanFileHistoryRepositoryCustom {
+
+    int insertAllInBatch(List<StorageOrphanFileHistory> storageOrphanFileHistories);
+
+    List<Long> findPurgeCandidateIdsForUpdate(long afterId, LocalDateTime now, int limit);
+
+}
@@ -0,0 +1,54 @@
+package com.capick.capick.repository.history.storage;
+
+import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
+import com.capick.capick.repository.DatabaseDialects;
+import com.capick.capick.repository.MultiRowInsert;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class StorageOrphanFileHistoryRepositoryCustomImpl implements StorageOrphanFileHistoryRepositoryCustom {
+
+    private static final MultiRowInsert ORPHAN_FILE_INSERT = MultiRowInsert.into("storage_orphan_file_history", List.of(
+            "file_name", "file_type", "domain", "url", "is_hard_deleted", "created_at", "updated_at", "status"
+    ));
+
+    // 아직 지우지 않았고, 다른 작업자가 맡지 않았거나 맡은 기한이 지난 파일을 id 순서로 가져온다.
+    private static final String PURGE_CANDIDATE_SELECT = "select id from storage_orphan_file_history "
+            + "where is_hard_deleted = false and id > ?1 "
+            + "and (purge_claim_expires_at is null or purge_claim_expires_at < ?2) "
+            + "order by id limit ?3 for update";
+
+    private final EntityManager entityManager;
+
+    // 고아 파일 기록 요청 한 건의 파일들을 한 문장으로 등록한다.
+    @Override
+    public int insertAllInBatch(List<StorageOrphanFileHistory> storageOrphanFileHistories) {
+        LocalDateTime now = LocalDateTime.now();
+        return ORPHAN_FILE_INSERT.execute(entityManager, storageOrphanFileHistories, orphanFile -> Arrays.asList(
+                orphanFile.getFileName(), orphanFile.getFileType().getCode(), orphanFile.getDomain().getCode(),
+                orphanFile.getUrl(), orphanFile.isHardDeleted(), now, now, orphanFile.getStatus().getCode()
+        ));
+    }
+
+    // MySQL 은 다른 서버가 잠근 행을 기다리지 않고 건너뛴다. H2 는 SKIP LOCKED 를 지원하지 않아 잠금을 기다린다.
+    @Override
+    public List<Long> findPurgeCandidateIdsForUpdate(long afterId, LocalDateTime now, int limit) {
+        String sql = DatabaseDialects.isMySql(entityManager)
+                ? PURGE_CANDIDATE_SELECT + " skip locked" : PURGE_CANDIDATE_SELECT;
+        List<?> ids = entityManager.createNativeQuery(sql)
+                .setParameter(1, afterId)
+                .setParameter(2, now)
+                .setParameter(3, limit)
+                .getResultList();
+        return ids.stream()
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.capick.capick.security;
+
+import com.capick.capick.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static com.capick.capick.dto.ApiResponseStatus.PASSWORD_HASHER_BUSY;
+
+// bcrypt 는 일부러 느린 해시라서 요청 스레드에서 돌리면 가입이 몰릴 때 다른 API 까지 스레드를 뺏긴다.
+// 해시는 코어 수만큼의 전용 스레드에서만 돌리고, 대기열이 차거나 제한 시간을 넘기면 바로 503 으로 거절한다.
+@Slf4j
+@Component
+public class BcryptPasswordHasher implements PasswordHasher {
+
+    public static final String EXECUTOR_NAME = "capick.password.hash";
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+    private final BCryptPasswordEncoder encoder;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration timeout;
+
+    private final Timer hashTimer;
+
+    private final Counter rejectedCounter;
+
+    public BcryptPasswordHasher(
+            MeterRegistry meterRegistry,
+            @Value("${password.hash.bcrypt-cost:10}") int bcryptCost,
+            @Value("${password.hash.threads:0}") int threads,
+            @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hash.timeout:5s}") Duration timeout) {
+        this.encoder = new BCryptPasswordEncoder(bcryptCost);
+        this.timeout = timeout;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, List.of()).bindTo(meterRegistry);
+        this.hashTimer = Timer.builder(EXECUTOR_NAME + ".latency")
+                .description("대기열에서 기다린 시간을 포함한 해시, 확인 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(EXECUTOR_NAME + ".rejected")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    // 해시를 도입하기 전에 평문으로 저장된 비밀번호도 확인한다. 평문은 LegacyPasswordMigration 이 해시로 바꾸며, 바꾸는 동안에만 쓰인다.
+    @Override
+    public boolean matches(String rawPassword, String hashedPassword) {
+        if (!BCRYPT_HASH.matcher(hashedPassword).matches()) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8), hashedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return submit(() -> encoder.matches(rawPassword, hashedPassword));
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public long getRejectedCount() {
+        return (long) rejectedCounter.count();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        long startedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            throw ServiceUnavailableException.of(PASSWORD_HASHER_BUSY);
+        }
+
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw ServiceUnavailableException.of(PASSWORD_HASHER_BUSY);
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ServiceUnavailableException.of(PASSWORD_HASHER_BUSY);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("password hashing failed", exception.getCause());
+        } finally {
+            hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+}
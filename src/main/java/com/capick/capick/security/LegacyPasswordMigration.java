@@ -0,0 +1,93 @@
+package com.capick.capick.security;
+
+import com.capick.capick.domain.member.Member;
+import com.capick.capick.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 해시를 도입하기 전에 평문으로 저장된 비밀번호를 한 번 해시로 바꾼다. 해시는 느리므로 시작 후 백그라운드에서 한 묶음씩 바꾼다.
+// 여러 서버가 함께 돌려도, 읽은 평문 그대로인 회원만 바꾸므로 이미 바뀐 비밀번호를 덮어쓰지 않는다.
+// 남은 평문이 없다고 로그가 남으면 BcryptPasswordHasher 의 평문 비교는 더 이상 쓰이지 않는다.
+@Slf4j
+@Component
+public class LegacyPasswordMigration {
+
+    private static final String BCRYPT_PREFIX = "$2%";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final MemberRepository memberRepository;
+
+    private final PasswordHasher passwordHasher;
+
+    private final boolean enabled;
+
+    private ScheduledExecutorService scheduler;
+
+    public LegacyPasswordMigration(
+            MemberRepository memberRepository, PasswordHasher passwordHasher,
+            @Value("${password.legacy-migration.enabled:true}") boolean enabled) {
+        this.memberRepository = memberRepository;
+        this.passwordHasher = passwordHasher;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "legacy-password-migration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::migrateSafely);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            scheduler = null;
+        }
+    }
+
+    // 해시 결과는 '$2' 로 시작하므로 그렇지 않은 비밀번호만 id 순서로 읽는다.
+    public int migrate() {
+        int migratedCount = 0;
+        long afterId = 0;
+        List<Member> members;
+        while (!Thread.currentThread().isInterrupted()
+                && !(members = memberRepository.findTop100ByIdGreaterThanAndPasswordNotLikeOrderByIdAsc(
+                        afterId, BCRYPT_PREFIX)).isEmpty()) {
+            for (Member member : members) {
+                String hashedPassword = passwordHasher.hash(member.getPassword());
+                migratedCount += memberRepository.updatePasswordIfUnchanged(
+                        member.getId(), member.getPassword(), hashedPassword);
+            }
+            afterId = members.get(members.size() - 1).getId();
+        }
+        return migratedCount;
+    }
+
+    private void migrateSafely() {
+        try {
+            int migratedCount = migrate();
+            log.info("Legacy password migration finished : {} passwords hashed", migratedCount);
+        } catch (RuntimeException exception) {
+            log.warn("Legacy password migration failed. It resumes on the next start.", exception);
+        }
+    }
+
+}
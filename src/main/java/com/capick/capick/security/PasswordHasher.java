@@ -0,0 +1,10 @@
+package com.capick.capick.security;
+
+// 비밀번호를 단방향 해시로 바꾸고, 입력한 비밀번호가 저장된 해시와 맞는지 확인한다.
+public interface PasswordHasher {
+
+    String hash(String rawPassword);
+
+    boolean matches(String rawPassword, String hashedPassword);
+
+}
@@ -0,0 +1,72 @@
+package com.capick.capick.service;
+
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeAggregateDelta;
+import com.capick.capick.event.CafeAggregatedEvent;
+import com.capick.capick.event.CafeUpdatedEvent;
+import com.capick.capick.exception.NotFoundResourceException;
+import com.capick.capick.repository.CafeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.capick.capick.dto.ApiResponseStatus.NOT_FOUND_CAFE;
+
+@Service
+@Transactional
+public class CafeAggregateService {
+
+    private final CafeRepository cafeRepository;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final boolean writeBehindEnabled;
+
+    public CafeAggregateService(
+            CafeRepository cafeRepository, ApplicationEventPublisher applicationEventPublisher,
+            @Value("${aggregate.cafe.write-behind.enabled:false}") boolean writeBehindEnabled) {
+        this.cafeRepository = cafeRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    // 쓰기 지연 모드에서는 커밋 후 버퍼에 모아두고 CafeAggregateFlusher 가 주기적으로 반영한다.
+    // 그렇지 않으면 카페 행 잠금이 커밋까지만 잡히도록 리뷰 쓰기 트랜잭션의 마지막에 호출한다.
+    public void accumulate(Cafe cafe, CafeAggregateDelta delta) {
+        if (writeBehindEnabled) {
+            applicationEventPublisher.publishEvent(CafeAggregatedEvent.of(cafe.getId(), delta));
+            return;
+        }
+        applyDelta(cafe, delta);
+    }
+
+    public void applyDelta(Long cafeId, CafeAggregateDelta delta) {
+        int updatedCount = cafeRepository.addAggregateDelta(cafeId, delta);
+        Cafe cafe = cafeRepository.findById(cafeId)
+                .orElseThrow(() -> NotFoundResourceException.of(NOT_FOUND_CAFE));
+        updateCafeTypeAndTheme(cafe, delta, updatedCount);
+    }
+
+    // 찜 수는 카페 타입과 테마에 영향이 없으므로 더하기만 한다.
+    public void applyPickCountDelta(Long cafeId, long delta) {
+        if (cafeRepository.addPickCount(cafeId, Math.toIntExact(delta)) == 0) {
+            throw NotFoundResourceException.of(NOT_FOUND_CAFE);
+        }
+    }
+
+    private void applyDelta(Cafe cafe, CafeAggregateDelta delta) {
+        int updatedCount = cafeRepository.addAggregateDelta(cafe.getId(), delta);
+        cafeRepository.refresh(cafe);
+        updateCafeTypeAndTheme(cafe, delta, updatedCount);
+    }
+
+    private void updateCafeTypeAndTheme(Cafe cafe, CafeAggregateDelta delta, int updatedCount) {
+        if (updatedCount == 0) {
+            throw cafe.lackOfAccumulatedBy(delta);
+        }
+        cafe.updateCafeTypeAndThemeByAccumulated();
+        applicationEventPublisher.publishEvent(CafeUpdatedEvent.of(cafe));
+    }
+
+}
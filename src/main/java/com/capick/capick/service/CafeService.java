@@ -1,13 +1,29 @@
 package com.capick.capick.service;
 
+import com.capick.capick.cache.CafeResponseCache;
+import com.capick.capick.datasource.PrimaryReads;
 import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeTheme;
+import com.capick.capick.domain.cafe.CafeType;
+import com.capick.capick.dto.request.CafeNearbySearchRequest;
+import com.capick.capick.dto.request.CafeRankingRequest;
+import com.capick.capick.dto.response.CafeNearbyResponse;
+import com.capick.capick.dto.response.CafeRankingResponse;
 import com.capick.capick.dto.response.CafeResponse;
 import com.capick.capick.exception.NotFoundResourceException;
+import com.capick.capick.index.geo.CafeGeoIndex;
+import com.capick.capick.index.ranking.CafeRank;
+import com.capick.capick.index.ranking.CafeRankingIndex;
 import com.capick.capick.repository.CafeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
 import static com.capick.capick.dto.ApiResponseStatus.NOT_FOUND_CAFE;
 
@@ -18,10 +34,44 @@ public class CafeService {
 
     private final CafeRepository cafeRepository;
 
+    private final CafeGeoIndex cafeGeoIndex;
+
+    private final CafeRankingIndex cafeRankingIndex;
+
+    private final CafeResponseCache cafeResponseCache;
+
+    // 캐시 적중 시에는 트랜잭션을 열지 않고, 적중하지 않은 경우에만 리포지토리의 읽기 전용 트랜잭션으로 조회한다.
+    // 리뷰 쓰기 후 무효화된 직후에 복제본의 이전 값을 읽어 TTL 동안 캐시하지 않도록, 캐시에 넣을 값은 주 DB 에서 읽는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CafeResponse getCafeByMapVendorPlaceId(String placeId) {
-        Cafe cafe = cafeRepository.findByKakaoPlaceIdAndStatus(placeId, ACTIVE)
-                .orElseThrow(() -> NotFoundResourceException.of(NOT_FOUND_CAFE));
-        return CafeResponse.of(cafe);
+        return cafeResponseCache.getOrLoad(placeId, () -> PrimaryReads.call(() -> {
+            Cafe cafe = cafeRepository.findByKakaoPlaceIdAndStatus(placeId, ACTIVE)
+                    .orElseThrow(() -> NotFoundResourceException.of(NOT_FOUND_CAFE));
+            return CafeResponse.of(cafe);
+        }));
+    }
+
+    // 메모리 공간 인덱스만 조회하므로 트랜잭션과 DB 커넥션을 사용하지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CafeNearbyResponse> getNearbyCafes(CafeNearbySearchRequest cafeNearbySearchRequest) {
+        return cafeGeoIndex.search(
+                        cafeNearbySearchRequest.getLat(), cafeNearbySearchRequest.getLng(),
+                        cafeNearbySearchRequest.getRadius(), cafeNearbySearchRequest.getLimit()
+                ).stream()
+                .map(CafeNearbyResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    // 메모리 순위표의 앞에서부터 limit 개만 읽으므로 트랜잭션과 DB 커넥션을 사용하지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CafeRankingResponse> getCafeRankings(CafeRankingRequest cafeRankingRequest) {
+        int limit = cafeRankingRequest.getLimit();
+        List<CafeRank> ranks = cafeRankingRequest.getTheme() != null
+                ? cafeRankingIndex.topByTheme(CafeTheme.findByThemeName(cafeRankingRequest.getTheme()), limit)
+                : cafeRankingIndex.topByType(CafeType.findByIndexName(cafeRankingRequest.getType()), limit);
+        return IntStream.range(0, ranks.size())
+                .mapToObj(index -> CafeRankingResponse.of(index + 1, ranks.get(index)))
+                .collect(Collectors.toList());
     }
 
 }
@@ -0,0 +1,128 @@
+package com.capick.capick.service;
+
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.dto.request.CafeCreateRequest;
+import com.capick.capick.event.CafeCreatedEvent;
+import com.capick.capick.repository.CafeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+
+// 같은 카페의 첫 리뷰가 동시에 작성되면 카페 등록은 한 요청만 하고, 나머지는 그 요청이 커밋되기를 기다려 등록된 카페를 쓴다.
+// 다른 서버와의 경합은 kakao_place_id 유니크 인덱스와 upsert 로 막는다.
+// 기다리는 요청도 자기 트랜잭션의 커넥션을 쥐고 있으므로, 먼저 등록하는 요청이 멈추면 풀이 고갈되지 않도록 await-timeout 까지만 기다리고 직접 upsert 한다.
+@Slf4j
+@Component
+public class CafeServiceHelper {
+
+    private final CafeRepository cafeRepository;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final Duration awaitTimeout;
+
+    private final Map<String, CompletableFuture<Long>> cafeCreations = new ConcurrentHashMap<>();
+
+    public CafeServiceHelper(
+            CafeRepository cafeRepository, ApplicationEventPublisher applicationEventPublisher,
+            @Value("${cafe.creation.await-timeout:3s}") Duration awaitTimeout) {
+        this.cafeRepository = cafeRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.awaitTimeout = awaitTimeout;
+    }
+
+    public Cafe findCafeByKakaoPlaceIdOrElseCreate(CafeCreateRequest cafeCreateRequest) {
+        String kakaoPlaceId = cafeCreateRequest.getKakaoPlaceId();
+        Optional<Cafe> cafe = cafeRepository.findByKakaoPlaceIdAndStatus(kakaoPlaceId, ACTIVE);
+        if (cafe.isPresent()) {
+            return cafe.get();
+        }
+
+        Cafe newCafe = Cafe.create(
+                cafeCreateRequest.getName(), kakaoPlaceId,
+                cafeCreateRequest.getKakaoDetailPageUrl(), cafeCreateRequest.getLocation()
+        );
+        CompletableFuture<Long> cafeCreation = new CompletableFuture<>();
+        CompletableFuture<Long> inFlightCreation = cafeCreations.putIfAbsent(kakaoPlaceId, cafeCreation);
+        if (inFlightCreation != null) {
+            try {
+                return awaitCafeCreation(inFlightCreation)
+                        .map(cafeRepository::getReferenceById)
+                        .orElseGet(() -> findCafeByKakaoPlaceIdOrElseCreate(cafeCreateRequest));
+            } catch (TimeoutException exception) {
+                log.warn("Cafe creation await timed out, upserting directly : {}", kakaoPlaceId);
+                return upsertCafe(newCafe);
+            }
+        }
+        return createCafe(newCafe, cafeCreation);
+    }
+
+    private Cafe createCafe(Cafe newCafe, CompletableFuture<Long> cafeCreation) {
+        String kakaoPlaceId = newCafe.getKakaoPlaceId();
+        Cafe cafe;
+        try {
+            cafe = upsertCafe(newCafe);
+        } catch (RuntimeException exception) {
+            cafeCreations.remove(kakaoPlaceId, cafeCreation);
+            cafeCreation.complete(null);
+            throw exception;
+        }
+        completeAfterTransaction(kakaoPlaceId, cafeCreation, cafe.getId());
+        return cafe;
+    }
+
+    private Cafe upsertCafe(Cafe newCafe) {
+        Long cafeId = cafeRepository.upsertByKakaoPlaceId(newCafe);
+
+        // 다른 서버가 먼저 등록하여 커밋한 카페는 현재 트랜잭션에서 보이지 않을 수 있다. 이때는 참조만 사용한다.
+        return cafeRepository.findById(cafeId)
+                .map(createdCafe -> {
+                    applicationEventPublisher.publishEvent(CafeCreatedEvent.of(createdCafe));
+                    return createdCafe;
+                })
+                .orElseGet(() -> cafeRepository.getReferenceById(cafeId));
+    }
+
+    // 기다리던 트랜잭션이 롤백되면 빈 값을 받아, 카페 등록을 처음부터 다시 시도한다.
+    // 기다리다 인터럽트되면 인터럽트 상태를 되살리고 제한 시간을 넘긴 것처럼 직접 upsert 한다.
+    private Optional<Long> awaitCafeCreation(CompletableFuture<Long> cafeCreation) throws TimeoutException {
+        try {
+            return Optional.ofNullable(cafeCreation.get(awaitTimeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while awaiting cafe creation");
+        } catch (ExecutionException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private void completeAfterTransaction(String kakaoPlaceId, CompletableFuture<Long> cafeCreation, Long cafeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cafeCreations.remove(kakaoPlaceId, cafeCreation);
+            cafeCreation.complete(cafeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cafeCreations.remove(kakaoPlaceId, cafeCreation);
+                cafeCreation.complete(status == STATUS_COMMITTED ? cafeId : null);
+            }
+        });
+    }
+
+}
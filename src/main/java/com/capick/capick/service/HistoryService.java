@@ -1,26 +1,53 @@
 package com.capick.capick.service;
 
+import com.capick.capick.domain.history.storage.FileDomain;
+import com.capick.capick.domain.history.storage.FileType;
 import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
 import com.capick.capick.dto.request.history.storage.StorageOrphanFileHistoriesCreateRequest;
 import com.capick.capick.dto.request.history.storage.StorageOrphanFileHistoryCreateRequest;
+import com.capick.capick.dto.response.history.storage.StorageOrphanFileIngestLineResponse;
+import com.capick.capick.dto.response.history.storage.StorageOrphanFileIngestResponse;
+import com.capick.capick.exception.BaseException;
 import com.capick.capick.exception.DuplicateResourceException;
 import com.capick.capick.repository.history.storage.StorageOrphanFileHistoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import static com.capick.capick.dto.ApiResponseStatus.DUPLICATE_ORPHAN_FILE;
+import static com.capick.capick.dto.ApiResponseStatus.*;
+import static com.capick.capick.dto.response.history.storage.OrphanFileIngestResult.DUPLICATE;
+import static com.capick.capick.dto.response.history.storage.OrphanFileIngestResult.INVALID;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class HistoryService {
 
+    private static final int INGEST_CHUNK_SIZE = 500;
+
     private final StorageOrphanFileHistoryRepository storageOrphanFileHistoryRepository;
 
+    private final HistoryServiceHelper historyServiceHelper;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
     // TODO: 토큰 개발 후 회원만 기록 가능하도록 개발하기
     @Transactional
     public void createStorageOrphanFileHistories(
@@ -40,7 +67,57 @@ public class HistoryService {
         List<StorageOrphanFileHistory> storageOrphanFileHistories
                 = StorageOrphanFileHistory.createStorageOrphanFileHistories(fileNames, fileTypes, domains, urls);
 
-        storageOrphanFileHistoryRepository.saveAll(storageOrphanFileHistories);
+        storageOrphanFileHistoryRepository.insertAllInBatch(storageOrphanFileHistories);
+    }
+
+    // NDJSON 한 줄에 고아 파일 하나를 받는다. 본문을 한꺼번에 읽지 않고 한 줄씩 읽어서 청크 단위로 중복 확인 및 등록한다.
+    // 청크마다 트랜잭션을 따로 커밋하므로, 중간에 실패해도 앞서 등록한 청크는 남는다. 같은 요청을 다시 보내면 중복으로 응답한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StorageOrphanFileIngestResponse ingestStorageOrphanFileHistories(BufferedReader orphanFileLines)
+            throws IOException {
+        long acceptedCount = 0;
+        List<StorageOrphanFileIngestLineResponse> rejectedLines = new ArrayList<>();
+        Map<String, Integer> chunkLineNumbersByUrl = new LinkedHashMap<>();
+        List<StorageOrphanFileHistory> chunk = new ArrayList<>(INGEST_CHUNK_SIZE);
+
+        String line;
+        int lineNumber = 0;
+        while ((line = orphanFileLines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            StorageOrphanFileHistory orphanFile;
+            try {
+                orphanFile = parseOrphanFile(line);
+            } catch (JsonProcessingException exception) {
+                rejectedLines.add(StorageOrphanFileIngestLineResponse.of(lineNumber, INVALID, JSON_PARSE_ERROR.getMessage()));
+                continue;
+            } catch (ConstraintViolationException exception) {
+                rejectedLines.add(StorageOrphanFileIngestLineResponse.of(
+                        lineNumber, INVALID, exception.getConstraintViolations().iterator().next().getMessage()));
+                continue;
+            } catch (BaseException exception) {
+                rejectedLines.add(StorageOrphanFileIngestLineResponse.of(lineNumber, INVALID, exception.getMessage()));
+                continue;
+            }
+
+            if (chunkLineNumbersByUrl.putIfAbsent(orphanFile.getUrl(), lineNumber) != null) {
+                rejectedLines.add(StorageOrphanFileIngestLineResponse.of(
+                        lineNumber, DUPLICATE, DUPLICATE_REQUEST_FILE.getMessage()));
+                continue;
+            }
+            chunk.add(orphanFile);
+
+            if (chunk.size() == INGEST_CHUNK_SIZE) {
+                acceptedCount += ingestChunk(chunk, chunkLineNumbersByUrl, rejectedLines);
+            }
+        }
+        acceptedCount += ingestChunk(chunk, chunkLineNumbersByUrl, rejectedLines);
+
+        rejectedLines.sort((one, other) -> Integer.compare(one.getLine(), other.getLine()));
+        return StorageOrphanFileIngestResponse.of(acceptedCount, rejectedLines);
     }
 
     private void ifExistsByUrlsThrow(List<String> urls) {
@@ -48,4 +125,34 @@ public class HistoryService {
             throw DuplicateResourceException.of(DUPLICATE_ORPHAN_FILE);
         }
     }
+
+    private StorageOrphanFileHistory parseOrphanFile(String line) throws JsonProcessingException {
+        StorageOrphanFileHistoryCreateRequest request
+                = objectMapper.readValue(line, StorageOrphanFileHistoryCreateRequest.class);
+        Set<ConstraintViolation<StorageOrphanFileHistoryCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return StorageOrphanFileHistory.create(
+                request.getFileName(), FileType.findByTypeOrTypeInPlural(request.getFileType()),
+                FileDomain.findByDomainOrDomainInPlural(request.getDomain()), request.getUrl()
+        );
+    }
+
+    private long ingestChunk(
+            List<StorageOrphanFileHistory> chunk, Map<String, Integer> chunkLineNumbersByUrl,
+            List<StorageOrphanFileIngestLineResponse> rejectedLines) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Set<String> recordedUrls = historyServiceHelper.createStorageOrphanFileHistoriesExcludingRecorded(chunk);
+        recordedUrls.forEach(url -> rejectedLines.add(StorageOrphanFileIngestLineResponse.of(
+                chunkLineNumbersByUrl.get(url), DUPLICATE, DUPLICATE_ORPHAN_FILE.getMessage())));
+
+        long acceptedCount = chunk.size() - recordedUrls.size();
+        chunk.clear();
+        chunkLineNumbersByUrl.clear();
+        return acceptedCount;
+    }
+
 }
@@ -0,0 +1,35 @@
+package com.capick.capick.service;
+
+import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
+import com.capick.capick.repository.history.storage.StorageOrphanFileHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class HistoryServiceHelper {
+
+    private final StorageOrphanFileHistoryRepository storageOrphanFileHistoryRepository;
+
+    // 이미 기록된 URL 을 한 번에 조회하여 제외하고 나머지를 한 문장으로 등록한다. 제외한 URL 을 반환한다.
+    @Transactional
+    public Set<String> createStorageOrphanFileHistoriesExcludingRecorded(
+            List<StorageOrphanFileHistory> storageOrphanFileHistories) {
+        List<String> urls = storageOrphanFileHistories.stream()
+                .map(StorageOrphanFileHistory::getUrl).collect(Collectors.toList());
+        Set<String> recordedUrls = new HashSet<>(
+                storageOrphanFileHistoryRepository.findAllUrlByUrlInAndIsHardDeleted(urls, false));
+
+        storageOrphanFileHistoryRepository.insertAllInBatch(storageOrphanFileHistories.stream()
+                .filter(orphanFile -> !recordedUrls.contains(orphanFile.getUrl()))
+                .collect(Collectors.toList()));
+        return recordedUrls;
+    }
+
+}
@@ -1,31 +1,64 @@
 package com.capick.capick.service;
 
+import com.capick.capick.datasource.PrimaryReads;
 import com.capick.capick.domain.member.Member;
+import com.capick.capick.dto.ResourceVersion;
 import com.capick.capick.dto.request.MemberCreateRequest;
 import com.capick.capick.dto.request.MemberPasswordRequest;
 import com.capick.capick.dto.request.MemberNicknameRequest;
+import com.capick.capick.dto.request.MemberNicknameSearchRequest;
+import com.capick.capick.dto.response.MemberNicknameAvailabilityResponse;
+import com.capick.capick.dto.response.MemberNicknameSuggestionResponse;
 import com.capick.capick.dto.response.MemberSimpleResponse;
 import com.capick.capick.dto.response.MemberResponse;
+import com.capick.capick.event.MemberKeyChangedEvent;
+import com.capick.capick.exception.DuplicateResourceException;
+import com.capick.capick.exception.UnauthorizedException;
+import com.capick.capick.index.member.NicknameTrie;
 import com.capick.capick.repository.MemberRepository;
+import com.capick.capick.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+import static com.capick.capick.dto.ApiResponseStatus.DUPLICATE_NICKNAME;
+import static com.capick.capick.dto.ApiResponseStatus.INCORRECT_PASSWORD_ERROR;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final int MAX_NICKNAME_LENGTH = 20;
+
+    private static final int SUGGESTION_ATTEMPTS_PER_LIMIT = 20;
+
     private final MemberRepository memberRepository;
 
     private final MemberServiceHelper memberServiceHelper;
 
-    @Transactional
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final NicknameTrie nicknameTrie;
+
+    private final PasswordHasher passwordHasher;
+
+    // 비밀번호 해시는 느리므로 트랜잭션 밖에서 하여 해시하는 동안 DB 커넥션을 쥐고 있지 않는다. 저장은 한 문장이라 따로 묶지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MemberSimpleResponse createMember(MemberCreateRequest memberCreateRequest) {
         memberServiceHelper.ifExistsByEmailThrow(memberCreateRequest.getEmail());
         memberServiceHelper.ifExistsByNicknameThrow(memberCreateRequest.getNickname());
 
-        Member member = memberRepository.save(memberCreateRequest.toEntity());
+        String hashedPassword = passwordHasher.hash(memberCreateRequest.getPassword());
+        Member member = memberServiceHelper.saveOrThrowIfDuplicate(memberCreateRequest.toEntity(hashedPassword));
+        applicationEventPublisher.publishEvent(MemberKeyChangedEvent.ofCreated(member));
         return MemberSimpleResponse.of(member);
     }
 
@@ -34,23 +67,67 @@ public class MemberService {
         return MemberResponse.of(member);
     }
 
+    public Optional<ResourceVersion> findMemberVersion(Long memberId) {
+        return memberRepository.findUpdatedAtByIdAndStatus(memberId, ACTIVE)
+                .map(ResourceVersion::of);
+    }
+
+    // 입력할 때마다 호출되므로 트랜잭션을 열지 않고 메모리 트라이로만 답한다. 실제 중복은 가입, 수정 시 다시 확인한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberNicknameAvailabilityResponse getNicknameAvailability(
+            MemberNicknameSearchRequest memberNicknameSearchRequest) {
+        String nickname = memberNicknameSearchRequest.getNickname();
+        return MemberNicknameAvailabilityResponse.of(nickname, !nicknameTrie.contains(nickname));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberNicknameSuggestionResponse getNicknameSuggestions(
+            MemberNicknameSearchRequest memberNicknameSearchRequest) {
+        String nickname = memberNicknameSearchRequest.getNickname();
+        int limit = memberNicknameSearchRequest.getLimit();
+        return MemberNicknameSuggestionResponse.builder()
+                .nickname(nickname)
+                .available(!nicknameTrie.contains(nickname))
+                .suggestions(suggestNicknames(nickname, limit))
+                .takenCount(nicknameTrie.countByPrefix(nickname))
+                .takenNicknames(nicknameTrie.findByPrefix(nickname, limit))
+                .build();
+    }
+
     @Transactional
     public MemberSimpleResponse updateMemberNickname(MemberNicknameRequest memberNicknameRequest) {
         Member member = memberServiceHelper.findMemberByIdOrElseThrow(memberNicknameRequest.getId());
 
         String nickname = memberNicknameRequest.getNickname();
+        String previousNickname = member.getNickname();
+        if (nickname.equals(previousNickname)) {
+            throw DuplicateResourceException.of(DUPLICATE_NICKNAME);
+        }
         memberServiceHelper.ifExistsByNicknameThrow(nickname);
 
         member.updateNickname(nickname);
-        Member savedMember = memberRepository.save(member);
+        Member savedMember = memberServiceHelper.saveOrThrowIfDuplicate(member);
+        applicationEventPublisher.publishEvent(MemberKeyChangedEvent.ofNicknameUpdated(previousNickname, savedMember));
         return MemberSimpleResponse.of(savedMember);
     }
 
-    @Transactional
+    // 현재 비밀번호 확인과 새 비밀번호 해시는 트랜잭션 밖에서 하고, 비밀번호 한 칸만 조건부 UPDATE 로 바꾼다.
+    // 해시하는 동안 탈퇴했거나 다른 요청이 먼저 비밀번호를 바꿨다면 바꾸지 않고, 탈퇴는 404, 비밀번호 변경은 401 로 답한다.
+    // 방금 바뀐 비밀번호로 확인하도록 회원은 primary 에서 읽는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateMemberPassword(MemberPasswordRequest memberPasswordRequest) {
-        Member member = memberServiceHelper.findMemberByIdOrElseThrow(memberPasswordRequest.getId());
-        member.updatePassword(memberPasswordRequest.getPassword(), memberPasswordRequest.getNewPassword());
-        memberRepository.save(member);
+        Member member = PrimaryReads.call(
+                () -> memberServiceHelper.findMemberByIdOrElseThrow(memberPasswordRequest.getId()));
+        String storedPassword = member.getPassword();
+        member.updatePassword(
+                memberPasswordRequest.getPassword(), memberPasswordRequest.getNewPassword(), passwordHasher);
+
+        int updatedCount = memberRepository.updatePasswordIfUnchangedAndStatus(
+                member.getId(), ACTIVE, storedPassword, member.getPassword());
+        if (updatedCount == 0) {
+            PrimaryReads.call(() -> memberServiceHelper.findMemberByIdOrElseThrow(member.getId()));
+            throw UnauthorizedException.of(INCORRECT_PASSWORD_ERROR);
+        }
     }
 
     @Transactional
@@ -58,6 +135,21 @@ public class MemberService {
         Member member = memberServiceHelper.findMemberByIdOrElseThrow(memberId);
         member.delete();
         memberRepository.save(member);
+        applicationEventPublisher.publishEvent(MemberKeyChangedEvent.ofDeleted(member));
+    }
+
+    // 닉네임 뒤에 1 부터 숫자를 붙여 보고, 길이를 넘으면 앞부분을 줄인다. 몰려 있는 닉네임이라도 시도 횟수는 제한한다.
+    private List<String> suggestNicknames(String nickname, int limit) {
+        List<String> suggestions = new ArrayList<>(limit);
+        for (int number = 1; number <= limit * SUGGESTION_ATTEMPTS_PER_LIMIT && suggestions.size() < limit; number++) {
+            String suffix = String.valueOf(number);
+            String base = nickname.substring(0, Math.min(nickname.length(), MAX_NICKNAME_LENGTH - suffix.length()));
+            String candidate = base + suffix;
+            if (!nicknameTrie.contains(candidate)) {
+                suggestions.add(candidate);
+            }
+        }
+        return suggestions;
     }
 
 }
@@ -3,10 +3,15 @@ package com.capick.capick.service;
 import com.capick.capick.domain.member.Member;
 import com.capick.capick.exception.DuplicateResourceException;
 import com.capick.capick.exception.NotFoundResourceException;
+import com.capick.capick.index.member.MemberKeyFilter;
 import com.capick.capick.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
 import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
 import static com.capick.capick.dto.ApiResponseStatus.*;
 
@@ -14,16 +19,22 @@ import static com.capick.capick.dto.ApiResponseStatus.*;
 @RequiredArgsConstructor
 public class MemberServiceHelper {
 
+    private static final String ACTIVE_EMAIL_CONSTRAINT = "uk_member_active_email";
+
+    private static final String ACTIVE_NICKNAME_CONSTRAINT = "uk_member_active_nickname";
+
     private final MemberRepository memberRepository;
 
+    private final MemberKeyFilter memberKeyFilter;
+
     public void ifExistsByEmailThrow(String email) {
-        if (memberRepository.existsByEmailAndStatus(email, ACTIVE)) {
+        if (memberKeyFilter.existsEmail(email, memberRepository::existsByActiveEmail)) {
             throw DuplicateResourceException.of(DUPLICATE_EMAIL);
         }
     }
 
     public void ifExistsByNicknameThrow(String nickname) {
-        if (memberRepository.existsByNicknameAndStatus(nickname, ACTIVE)) {
+        if (memberKeyFilter.existsNickname(nickname, memberRepository::existsByActiveNickname)) {
             throw DuplicateResourceException.of(DUPLICATE_NICKNAME);
         }
     }
@@ -33,4 +44,21 @@ public class MemberServiceHelper {
                 .orElseThrow(() -> NotFoundResourceException.of(NOT_FOUND_MEMBER));
     }
 
+    // 중복 확인과 저장 사이에 같은 값으로 가입하거나, 필터에 없던 값이 중복되면 유니크 제약에 걸린다. 이때도 같은 예외로 응답한다.
+    public Member saveOrThrowIfDuplicate(Member member) {
+        try {
+            return memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException exception) {
+            String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(exception).getMessage())
+                    .toLowerCase(Locale.ROOT);
+            if (message.contains(ACTIVE_EMAIL_CONSTRAINT)) {
+                throw DuplicateResourceException.of(DUPLICATE_EMAIL);
+            }
+            if (message.contains(ACTIVE_NICKNAME_CONSTRAINT)) {
+                throw DuplicateResourceException.of(DUPLICATE_NICKNAME);
+            }
+            throw exception;
+        }
+    }
+
 }
@@ -0,0 +1,112 @@
+package com.capick.capick.service;
+
+import com.capick.capick.aggregate.CafePickCounter;
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.member.Member;
+import com.capick.capick.domain.mypick.MyPick;
+import com.capick.capick.dto.request.MyPickPinRequest;
+import com.capick.capick.dto.response.MyPickPinResponse;
+import com.capick.capick.dto.response.MyPickResponse;
+import com.capick.capick.event.MyPickChangedEvent;
+import com.capick.capick.exception.DuplicateResourceException;
+import com.capick.capick.exception.NotFoundResourceException;
+import com.capick.capick.index.mypick.MyPickIndex;
+import com.capick.capick.repository.CafeRepository;
+import com.capick.capick.repository.MyPickRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+import static com.capick.capick.dto.ApiResponseStatus.*;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MyPickService {
+
+    private final MyPickRepository myPickRepository;
+
+    private final CafeRepository cafeRepository;
+
+    private final MemberServiceHelper memberServiceHelper;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final MyPickIndex myPickIndex;
+
+    private final CafePickCounter cafePickCounter;
+
+    // 이미 찜한 카페를 다시 찜해도 같은 결과이다. 찜을 해제했던 카페는 그 행을 다시 활성화한다.
+    // 찜 수는 여기서 카페 행을 갱신하지 않고, 커밋 후에 CafePickCounter 가 세어 주기적으로 반영한다.
+    @Transactional
+    public MyPickResponse pickCafe(Long memberId, String kakaoPlaceId) {
+        Member member = memberServiceHelper.findMemberByIdOrElseThrow(memberId);
+        Cafe cafe = findCafeByKakaoPlaceIdOrElseThrow(kakaoPlaceId);
+
+        Optional<MyPick> existingMyPick = myPickRepository.findByMemberIdAndCafeId(member.getId(), cafe.getId());
+        if (existingMyPick.isPresent() && existingMyPick.get().isPicked()) {
+            return MyPickResponse.of(existingMyPick.get());
+        }
+
+        MyPick myPick = existingMyPick.orElseGet(() -> saveOrThrowIfDuplicate(MyPick.create(member, cafe)));
+        myPick.pick();
+        // 다시 찜한 시각을 응답하도록 수정 시각을 지금 채운다.
+        myPickRepository.flush();
+        applicationEventPublisher.publishEvent(MyPickChangedEvent.of(myPick));
+        return MyPickResponse.of(myPick);
+    }
+
+    @Transactional
+    public void unpickCafe(Long memberId, String kakaoPlaceId) {
+        Cafe cafe = findCafeByKakaoPlaceIdOrElseThrow(kakaoPlaceId);
+        MyPick myPick = myPickRepository.findByMemberIdAndCafeId(memberId, cafe.getId())
+                .filter(MyPick::isPicked)
+                .orElseThrow(() -> NotFoundResourceException.of(NOT_FOUND_MY_PICK));
+
+        myPick.unpick();
+        applicationEventPublisher.publishEvent(MyPickChangedEvent.of(myPick));
+    }
+
+    public List<MyPickResponse> getMyPicks(Long memberId) {
+        memberServiceHelper.findMemberByIdOrElseThrow(memberId);
+        return myPickRepository.findAllWithCafeByMemberIdAndStatus(memberId, ACTIVE).stream()
+                .map(MyPickResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    // 지도 핀은 한 번에 수백 개를 그리므로 찜 여부와 찜 수를 모두 메모리에서 답하고, DB 커넥션을 잡지 않는다.
+    // 회원이 없거나 등록되지 않은 카페는 찜하지 않은 것으로 답한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MyPickPinResponse> getMyPickPins(Long memberId, MyPickPinRequest myPickPinRequest) {
+        return myPickPinRequest.getPlaceIds().stream()
+                .distinct()
+                .map(kakaoPlaceId -> myPickIndex.findCafeId(kakaoPlaceId)
+                        .map(cafeId -> MyPickPinResponse.of(
+                                kakaoPlaceId, myPickIndex.isPicked(memberId, cafeId), cafePickCounter.countOf(cafeId)))
+                        .orElseGet(() -> MyPickPinResponse.of(kakaoPlaceId, false, 0)))
+                .collect(Collectors.toList());
+    }
+
+    private Cafe findCafeByKakaoPlaceIdOrElseThrow(String kakaoPlaceId) {
+        return cafeRepository.findByKakaoPlaceIdAndStatus(kakaoPlaceId, ACTIVE)
+                .orElseThrow(() -> NotFoundResourceException.of(NOT_FOUND_CAFE));
+    }
+
+    // 같은 회원이 같은 카페를 동시에 처음 찜하면 한 요청만 저장되고 나머지는 유니크 제약에 걸린다.
+    private MyPick saveOrThrowIfDuplicate(MyPick myPick) {
+        try {
+            return myPickRepository.saveAndFlush(myPick);
+        } catch (DataIntegrityViolationException exception) {
+            throw DuplicateResourceException.of(DUPLICATE_MY_PICK);
+        }
+    }
+
+}
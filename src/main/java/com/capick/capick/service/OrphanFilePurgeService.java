@@ -0,0 +1,52 @@
+package com.capick.capick.service;
+
+import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
+import com.capick.capick.repository.history.storage.StorageOrphanFileHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OrphanFilePurgeService {
+
+    private final StorageOrphanFileHistoryRepository storageOrphanFileHistoryRepository;
+
+    // 후보 행을 잠그고 작업자와 기한을 기록한 뒤 바로 커밋한다. 파일을 지우는 동안에는 잠금을 쥐고 있지 않고, 기한으로 겹침을 막는다.
+    public List<StorageOrphanFileHistory> claimOrphanFiles(String workerId, long afterId, int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = storageOrphanFileHistoryRepository.findPurgeCandidateIdsForUpdate(afterId, now, batchSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        storageOrphanFileHistoryRepository.claimForPurge(ids, workerId, now.plus(lease));
+        return storageOrphanFileHistoryRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(StorageOrphanFileHistory::getId))
+                .collect(Collectors.toList());
+    }
+
+    public int markHardDeleted(String workerId, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return storageOrphanFileHistoryRepository.markHardDeletedInBatch(ids, workerId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findOldestPendingCreatedAt() {
+        return storageOrphanFileHistoryRepository.findCreatedAtOfNotHardDeletedOrderById(PageRequest.of(0, 1))
+                .stream()
+                .findFirst();
+    }
+
+}
@@ -1,31 +1,49 @@
 package com.capick.capick.service;
 
+import com.capick.capick.concurrent.ReadFanOutExecutor;
 import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeAggregateDelta;
+import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.member.Member;
 import com.capick.capick.domain.review.Review;
 import com.capick.capick.domain.review.ReviewImage;
+import com.capick.capick.dto.ResourceVersion;
 import com.capick.capick.dto.request.CafeCreateRequest;
 import com.capick.capick.dto.request.ReviewCreateRequest;
+import com.capick.capick.dto.request.ReviewCursor;
+import com.capick.capick.dto.request.ReviewFeedRequest;
+import com.capick.capick.dto.request.ReviewSearchRequest;
 import com.capick.capick.dto.request.ReviewUpdateRequest;
+import com.capick.capick.dto.response.CursorPageResponse;
 import com.capick.capick.dto.response.ReviewResponse;
 import com.capick.capick.dto.response.ReviewSimpleResponse;
+import com.capick.capick.event.ReviewChangedEvent;
 import com.capick.capick.exception.NotFoundResourceException;
 import com.capick.capick.exception.UnauthorizedException;
+import com.capick.capick.index.search.ReviewSearchHit;
+import com.capick.capick.index.search.ReviewSearchIndex;
 import com.capick.capick.repository.CafeRepository;
 import com.capick.capick.repository.ReviewImageRepository;
 import com.capick.capick.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
-import static com.capick.capick.dto.ApiResponseStatus.NOT_FOUND_REVIEW;
-import static com.capick.capick.dto.ApiResponseStatus.NOT_THE_WRITER;
+import static com.capick.capick.dto.ApiResponseStatus.*;
 
 @Service
 @Transactional(readOnly = true)
@@ -40,12 +58,22 @@ public class ReviewService {
 
     private final MemberServiceHelper memberServiceHelper;
 
+    private final CafeServiceHelper cafeServiceHelper;
+
+    private final CafeAggregateService cafeAggregateService;
+
+    private final ReadFanOutExecutor readFanOutExecutor;
+
+    private final ReviewSearchIndex reviewSearchIndex;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Transactional
     public ReviewSimpleResponse createReview(ReviewCreateRequest reviewCreateRequest, LocalDateTime registeredAt) {
         Member writer = memberServiceHelper.findMemberByIdOrElseThrow(reviewCreateRequest.getWriterId());
 
         CafeCreateRequest cafeCreateRequest = reviewCreateRequest.getCafe();
-        Cafe cafe = findCafeByKakakoPlaceIdOrElseCreate(cafeCreateRequest);
+        Cafe cafe = cafeServiceHelper.findCafeByKakaoPlaceIdOrElseCreate(cafeCreateRequest);
 
         Review review = reviewCreateRequest.toEntity(writer, cafe, registeredAt);
         review.updateIndexes(
@@ -54,26 +82,87 @@ public class ReviewService {
         Review savedReview = reviewRepository.save(review);
 
         List<ReviewImage> reviewImages = ReviewImage.createReviewImages(reviewCreateRequest.getImageUrls(), savedReview);
-        reviewImageRepository.saveAll(reviewImages);
+        reviewImageRepository.insertAllInBatch(reviewImages);
 
-        cafe.updateCafeTypeByAdding(savedReview);
-        cafe.updateCafeThemeByAdding(savedReview);
-        cafeRepository.save(cafe);
+        cafeAggregateService.accumulate(cafe, CafeAggregateDelta.ofAdding(savedReview));
+        applicationEventPublisher.publishEvent(ReviewChangedEvent.of(savedReview));
 
         return ReviewSimpleResponse.of(savedReview, reviewImages, writer);
     }
 
+    // 리뷰와 작성자, 이미지는 서로 독립적인 조회이므로 이미지는 다른 커넥션에서 동시에 조회한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReviewSimpleResponse getReview(Long reviewId) {
-        Review review = findReviewWithMemberByIdOrElseThrow(reviewId);
-        List<ReviewImage> reviewImages = reviewImageRepository.findAllByReviewAndStatus(review, ACTIVE);
-        return ReviewSimpleResponse.of(review, reviewImages, review.getWriter());
+        Future<List<ReviewImage>> reviewImages = forkReviewImages(reviewId);
+        Review review = findReviewWithMemberOrElseCancel(reviewId, reviewImages);
+        return ReviewSimpleResponse.of(review, readFanOutExecutor.join(reviewImages), review.getWriter());
     }
 
     // TODO: 토큰 개발 후 리뷰 상세 조회 요청 회원의 존재 여부와 작성자가 상세 조회 요청자인지 검증하는 로직 개발하기, 작성자 검증을 어느 계층에서 테스트 해야 할지
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReviewResponse getReviewDetail(Long reviewId) {
-        Review review = findReviewWithMemberByIdOrElseThrow(reviewId);
-        List<ReviewImage> reviewImages = reviewImageRepository.findAllByReviewAndStatus(review, ACTIVE);
-        return ReviewResponse.of(review, reviewImages, review.getWriter());
+        Future<List<ReviewImage>> reviewImages = forkReviewImages(reviewId);
+        Review review = findReviewWithMemberOrElseCancel(reviewId, reviewImages);
+        return ReviewResponse.of(review, readFanOutExecutor.join(reviewImages), review.getWriter());
+    }
+
+    public Optional<ResourceVersion> findReviewVersion(Long reviewId) {
+        return reviewRepository.findUpdatedAtByIdAndStatus(reviewId, ACTIVE)
+                .map(updatedAt -> ResourceVersion.of(
+                        updatedAt.getReviewUpdatedAt(), updatedAt.getWriterUpdatedAt(), updatedAt.getImageUpdatedAt()));
+    }
+
+    public CursorPageResponse<ReviewSimpleResponse> getCafeReviews(String placeId, ReviewFeedRequest reviewFeedRequest) {
+        Cafe cafe = cafeRepository.findByKakaoPlaceIdAndStatus(placeId, ACTIVE)
+                .orElseThrow(() -> NotFoundResourceException.of(NOT_FOUND_CAFE));
+
+        int size = reviewFeedRequest.getSize();
+        PageRequest pageRequestWithLookAhead = PageRequest.of(0, size + 1);
+        List<Review> reviews = reviewFeedRequest.getReviewCursor()
+                .map(cursor -> reviewRepository.findNextPageWithMemberByCafeAndStatus(
+                        cafe, ACTIVE, cursor.getRegisteredAt(), cursor.getId(), pageRequestWithLookAhead))
+                .orElseGet(() -> reviewRepository.findFirstPageWithMemberByCafeAndStatus(
+                        cafe, ACTIVE, pageRequestWithLookAhead));
+
+        boolean hasNext = reviews.size() > size;
+        List<Review> pageReviews = hasNext ? reviews.subList(0, size) : reviews;
+        Map<Long, List<ReviewImage>> reviewImagesByReviewId = findReviewImagesGroupingByReviewId(pageReviews);
+
+        List<ReviewSimpleResponse> contents = pageReviews.stream()
+                .map(review -> ReviewSimpleResponse.of(
+                        review, reviewImagesByReviewId.getOrDefault(review.getId(), List.of()), review.getWriter()))
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? ReviewCursor.of(pageReviews.get(size - 1)).encode() : null;
+        return CursorPageResponse.of(contents, nextCursor);
+    }
+
+    // 검색은 메모리 역색인에서 리뷰 id 만 찾고, 찾은 리뷰와 작성자, 이미지를 id 로 한 번씩 조회하여 검색 순위대로 돌려준다.
+    public List<ReviewSimpleResponse> searchReviews(ReviewSearchRequest reviewSearchRequest) {
+        Long cafeId = Optional.ofNullable(reviewSearchRequest.getCafe())
+                .map(placeId -> cafeRepository.findByKakaoPlaceIdAndStatus(placeId, ACTIVE)
+                        .orElseThrow(() -> NotFoundResourceException.of(NOT_FOUND_CAFE))
+                        .getId())
+                .orElse(null);
+
+        List<ReviewSearchHit> hits = reviewSearchIndex.search(
+                reviewSearchRequest.getQ(), cafeId, reviewSearchRequest.getSize());
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> reviewIds = hits.stream().map(ReviewSearchHit::getReviewId).collect(Collectors.toList());
+        Map<Long, Review> reviewsById = reviewRepository.findAllWithMemberByIdInAndStatus(reviewIds, ACTIVE).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        List<Review> reviews = reviewIds.stream()
+                .map(reviewsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<Long, List<ReviewImage>> reviewImagesByReviewId = findReviewImagesGroupingByReviewId(reviews);
+
+        return reviews.stream()
+                .map(review -> ReviewSimpleResponse.of(
+                        review, reviewImagesByReviewId.getOrDefault(review.getId(), List.of()), review.getWriter()))
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -81,9 +170,7 @@ public class ReviewService {
         Review review = findReviewByIdOrElseThrow(reviewId);
         Member writer = findEditorWhoWroteOrElseThrow(reviewUpdateRequest.getWriterId(), review.getWriter().getId());
 
-        Cafe cafe = review.getCafe();
-        cafe.updateCafeTypeByDeducting(review);
-        cafe.updateCafeThemeByDeducting(review);
+        CafeAggregateDelta deductingDelta = CafeAggregateDelta.ofDeducting(review);
 
         review.updateReviewText(
                 reviewUpdateRequest.getVisitPurpose(), reviewUpdateRequest.getContent(), reviewUpdateRequest.getMenu()
@@ -92,7 +179,7 @@ public class ReviewService {
                 reviewUpdateRequest.getCoffeeIndex(), reviewUpdateRequest.getSpaceIndex(),
                 reviewUpdateRequest.getPriceIndex(), reviewUpdateRequest.getNoiseIndex()
         );
-        review.updateTheme(reviewUpdateRequest.getTheme());
+        review.updateTheme(CafeTheme.findByThemeName(reviewUpdateRequest.getTheme()));
         Review updatedReview = reviewRepository.save(review);
 
         List<String> requestImageUrls = reviewUpdateRequest.getImageUrls();
@@ -104,15 +191,15 @@ public class ReviewService {
                 requestImageUrls, originalImageUrls, review);
         List<ReviewImage> preservedReviewImages = extractIntersectionalReviewImagesDeletingDeprecated(
                 originalImageUrls, requestImageUrls, reviewImages);
-        reviewImageRepository.saveAll(newReviewImages);
+        reviewImageRepository.insertAllInBatch(newReviewImages);
         reviewImageRepository.saveAll(reviewImages);
 
         List<ReviewImage> updatedReviewImages = Stream
                 .concat(newReviewImages.stream(), preservedReviewImages.stream()).collect(Collectors.toList());
 
-        cafe.updateCafeTypeByAdding(updatedReview);
-        cafe.updateCafeThemeByAdding(updatedReview);
-        cafeRepository.save(cafe);
+        cafeAggregateService.accumulate(
+                review.getCafe(), deductingDelta.plus(CafeAggregateDelta.ofAdding(updatedReview)));
+        applicationEventPublisher.publishEvent(ReviewChangedEvent.of(updatedReview));
 
         return ReviewSimpleResponse.of(updatedReview, updatedReviewImages, writer);
     }
@@ -123,17 +210,15 @@ public class ReviewService {
     public void deleteReview(Long reviewId) {
         Review review = findReviewByIdOrElseThrow(reviewId);
 
-        Cafe cafe = review.getCafe();
-        cafe.updateCafeTypeByDeducting(review);
-        cafe.updateCafeThemeByDeducting(review);
-        cafeRepository.save(cafe);
-
         List<ReviewImage> reviewImages = reviewImageRepository.findAllByReviewAndStatus(review, ACTIVE);
         reviewImages.forEach(ReviewImage::delete);
         reviewImageRepository.saveAll(reviewImages);
 
         review.delete();
         reviewRepository.save(review);
+
+        cafeAggregateService.accumulate(review.getCafe(), CafeAggregateDelta.ofDeducting(review));
+        applicationEventPublisher.publishEvent(ReviewChangedEvent.of(review));
     }
 
     private Review findReviewByIdOrElseThrow(Long reviewId) {
@@ -146,12 +231,26 @@ public class ReviewService {
                 .orElseThrow(() -> NotFoundResourceException.of(NOT_FOUND_REVIEW));
     }
 
-    private Cafe findCafeByKakakoPlaceIdOrElseCreate(CafeCreateRequest cafeCreateRequest) {
-        return cafeRepository.findByKakaoPlaceIdAndStatus(cafeCreateRequest.getKakaoPlaceId(), ACTIVE)
-                .orElseGet(() -> Cafe.create(
-                        cafeCreateRequest.getName(), cafeCreateRequest.getKakaoPlaceId(),
-                        cafeCreateRequest.getKakaoDetailPageUrl(), cafeCreateRequest.getLocation()
-                ));
+    // 컨트롤러가 버전 확인으로 없는 리뷰를 먼저 걸러내므로, 여기서 없는 경우는 그 사이 삭제된 리뷰뿐이다.
+    private Review findReviewWithMemberOrElseCancel(Long reviewId, Future<List<ReviewImage>> reviewImages) {
+        try {
+            return findReviewWithMemberByIdOrElseThrow(reviewId);
+        } catch (RuntimeException exception) {
+            readFanOutExecutor.cancel(reviewImages);
+            throw exception;
+        }
+    }
+
+    private Future<List<ReviewImage>> forkReviewImages(Long reviewId) {
+        return readFanOutExecutor.fork(() -> reviewImageRepository.findAllByReviewIdAndStatus(reviewId, ACTIVE));
+    }
+
+    private Map<Long, List<ReviewImage>> findReviewImagesGroupingByReviewId(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return Map.of();
+        }
+        return reviewImageRepository.findAllByReviewInAndStatus(reviews, ACTIVE).stream()
+                .collect(Collectors.groupingBy(reviewImage -> reviewImage.getReview().getId()));
     }
 
     private Member findEditorWhoWroteOrElseThrow(Long editorId, Long writerId) {
@@ -0,0 +1,47 @@
+package com.capick.capick.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// 파일 URL 의 경로를 루트 디렉터리 아래의 파일 경로로 보고 지운다. 로컬 개발과 테스트용 저장소이다.
+// prod 에서는 등록하지 않는다. 실제 저장소 구현 없이 배포하면 고아 파일 정리 작업자가 주입받을 빈이 없어 기동에 실패한다.
+@Profile({"local", "test"})
+@Component
+public class LocalFileSystemStorageClient implements StorageClient {
+
+    private final Path root;
+
+    public LocalFileSystemStorageClient(
+            @Value("${storage.local.root:${java.io.tmpdir}/capick-storage}") Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void delete(String url) {
+        try {
+            Files.deleteIfExists(resolve(url));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public Path resolve(String url) {
+        String path = URLDecoder.decode(URI.create(url).getRawPath(), StandardCharsets.UTF_8);
+        Path file = root.resolve(Paths.get("", path.split("/"))).normalize();
+        if (!file.startsWith(root) || file.equals(root)) {
+            throw new IllegalArgumentException("url is out of storage root : " + url);
+        }
+        return file;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.capick.capick.storage;
+
+// 외부 저장소의 파일을 다루는 클라이언트이다. 저장소 종류마다 구현체를 바꿔 끼운다.
+public interface StorageClient {
+
+    // 이미 없는 파일이면 지운 것으로 본다. 지우지 못하면 예외를 던진다.
+    void delete(String url);
+
+}
@@ -0,0 +1,2 @@
+-- ReviewSearchIndex 가 다른 서버의 리뷰 변경을 따라잡으려고 매 주기 updated_at 으로 리뷰를 조회하므로 인덱스를 건다.
+CREATE INDEX idx_review_updated_at ON review (updated_at) ALGORITHM = INPLACE LOCK = NONE;
@@ -0,0 +1,2 @@
+-- NicknameTrie 가 다른 서버의 가입, 닉네임 변경, 탈퇴를 따라잡으려고 매 주기 updated_at 으로 회원을 조회하므로 인덱스를 건다.
+CREATE INDEX idx_member_updated_at ON member (updated_at) ALGORITHM = INPLACE LOCK = NONE;
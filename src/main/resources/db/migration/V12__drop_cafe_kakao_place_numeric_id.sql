@@ -0,0 +1,3 @@
+-- V1 에서 추가한 kakao_place_numeric_id 는 조회에도 유니크 키에도 쓰이지 않는다.
+-- 카페 조회와 등록은 kakao_place_id 유니크 인덱스(V6)를 쓰므로 숫자 컬럼을 지운다.
+ALTER TABLE cafe DROP COLUMN kakao_place_numeric_id;
@@ -0,0 +1,51 @@
+-- 상태, 카페 타입, 카페 테마, 파일 종류, 파일 도메인을 문자열 대신 tinyint 코드로 저장한다.
+-- 코드는 각 enum 의 code 값과 같아야 한다. (CodedEnum)
+-- prod 는 ddl-auto 를 쓰지 않으므로 배포 전에 MySQL 에 직접 적용한다.
+
+-- status: ACTIVE 1, INACTIVE 2
+UPDATE member SET status = CASE status WHEN 'ACTIVE' THEN '1' WHEN 'INACTIVE' THEN '2' ELSE status END;
+UPDATE cafe SET status = CASE status WHEN 'ACTIVE' THEN '1' WHEN 'INACTIVE' THEN '2' ELSE status END;
+UPDATE review SET status = CASE status WHEN 'ACTIVE' THEN '1' WHEN 'INACTIVE' THEN '2' ELSE status END;
+UPDATE review_image SET status = CASE status WHEN 'ACTIVE' THEN '1' WHEN 'INACTIVE' THEN '2' ELSE status END;
+UPDATE comment SET status = CASE status WHEN 'ACTIVE' THEN '1' WHEN 'INACTIVE' THEN '2' ELSE status END;
+UPDATE my_pick SET status = CASE status WHEN 'ACTIVE' THEN '1' WHEN 'INACTIVE' THEN '2' ELSE status END;
+UPDATE storage_orphan_file_history SET status = CASE status WHEN 'ACTIVE' THEN '1' WHEN 'INACTIVE' THEN '2' ELSE status END;
+
+ALTER TABLE member MODIFY status TINYINT;
+ALTER TABLE cafe MODIFY status TINYINT;
+ALTER TABLE review MODIFY status TINYINT;
+ALTER TABLE review_image MODIFY status TINYINT;
+ALTER TABLE comment MODIFY status TINYINT;
+ALTER TABLE my_pick MODIFY status TINYINT;
+ALTER TABLE storage_orphan_file_history MODIFY status TINYINT;
+
+-- cafe_type: COFFEE 1, SPACIOUS 2, COST_EFFECTIVE 3, NOISY 4, NONE 5
+UPDATE cafe SET cafe_type = CASE cafe_type
+    WHEN 'COFFEE' THEN '1' WHEN 'SPACIOUS' THEN '2' WHEN 'COST_EFFECTIVE' THEN '3'
+    WHEN 'NOISY' THEN '4' WHEN 'NONE' THEN '5' ELSE cafe_type END;
+ALTER TABLE cafe MODIFY cafe_type TINYINT;
+
+-- cafe_theme, review.theme: NORMAL 1, VIBE 2, VIEW 3, PET 4, HOBBY 5, STUDY 6, KIDS 7, ETC 8
+-- review.theme 에는 테마 이름(normal, vibe ...)이 저장되어 있었다. 대소문자 구분 없이 변환한다.
+UPDATE cafe SET cafe_theme = CASE UPPER(cafe_theme)
+    WHEN 'NORMAL' THEN '1' WHEN 'VIBE' THEN '2' WHEN 'VIEW' THEN '3' WHEN 'PET' THEN '4'
+    WHEN 'HOBBY' THEN '5' WHEN 'STUDY' THEN '6' WHEN 'KIDS' THEN '7' WHEN 'ETC' THEN '8' ELSE cafe_theme END;
+ALTER TABLE cafe MODIFY cafe_theme TINYINT;
+
+UPDATE review SET theme = CASE UPPER(theme)
+    WHEN 'NORMAL' THEN '1' WHEN 'VIBE' THEN '2' WHEN 'VIEW' THEN '3' WHEN 'PET' THEN '4'
+    WHEN 'HOBBY' THEN '5' WHEN 'STUDY' THEN '6' WHEN 'KIDS' THEN '7' ELSE '8' END;
+ALTER TABLE review MODIFY theme TINYINT NOT NULL;
+
+-- file_type: IMAGE 1, VIDEO 2 / domain: MEMBER 1, REVIEW 2, ETC 3
+UPDATE storage_orphan_file_history SET file_type = CASE file_type
+    WHEN 'IMAGE' THEN '1' WHEN 'VIDEO' THEN '2' ELSE file_type END;
+UPDATE storage_orphan_file_history SET domain = CASE domain
+    WHEN 'MEMBER' THEN '1' WHEN 'REVIEW' THEN '2' WHEN 'ETC' THEN '3' ELSE domain END;
+ALTER TABLE storage_orphan_file_history MODIFY file_type TINYINT;
+ALTER TABLE storage_orphan_file_history MODIFY domain TINYINT;
+
+-- 카카오 장소 id 를 숫자로도 보관한다. 숫자가 아닌 id 는 NULL 로 둔다.
+ALTER TABLE cafe ADD COLUMN kakao_place_numeric_id BIGINT;
+UPDATE cafe SET kakao_place_numeric_id = CAST(kakao_place_id AS UNSIGNED)
+    WHERE kakao_place_id REGEXP '^[0-9]{1,18}$';
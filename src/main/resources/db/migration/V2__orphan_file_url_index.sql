@@ -0,0 +1,2 @@
+-- NDJSON 일괄 기록 시 청크마다 URL 목록으로 이미 기록된 고아 파일을 조회한다.
+CREATE INDEX idx_storage_orphan_file_history_url ON storage_orphan_file_history (url);
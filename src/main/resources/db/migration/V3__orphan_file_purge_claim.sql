@@ -0,0 +1,7 @@
+-- 여러 서버의 고아 파일 정리 작업자가 묶음을 겹치지 않게 맡도록, 맡은 작업자와 기한을 기록한다.
+ALTER TABLE storage_orphan_file_history
+    ADD COLUMN purge_claimed_by VARCHAR(64) NULL,
+    ADD COLUMN purge_claim_expires_at DATETIME(6) NULL;
+
+-- 아직 지우지 않은 기록을 id 순서로 맡는다.
+CREATE INDEX idx_storage_orphan_file_history_purge ON storage_orphan_file_history (is_hard_deleted, id);
@@ -0,0 +1,11 @@
+-- 활동 중인 회원의 이메일, 닉네임에만 값을 채워 유니크 제약을 건다. 탈퇴한 회원의 값은 NULL 이므로 다시 쓸 수 있다.
+-- 활동 중인 회원끼리 이미 중복된 값이 있으면 제약 추가가 실패한다. 먼저 중복을 정리해야 한다.
+ALTER TABLE member
+    ADD COLUMN active_email VARCHAR(320) NULL,
+    ADD COLUMN active_nickname VARCHAR(20) NULL;
+
+UPDATE member SET active_email = email, active_nickname = nickname WHERE status = 1;
+
+ALTER TABLE member
+    ADD CONSTRAINT uk_member_active_email UNIQUE (active_email),
+    ADD CONSTRAINT uk_member_active_nickname UNIQUE (active_nickname);
@@ -0,0 +1,8 @@
+-- 회원과 카페마다 찜 행을 하나만 둔다. 찜을 해제했다가 다시 찜하면 같은 행을 다시 활성화한다.
+-- 이미 중복된 찜 행이 있으면 제약 추가가 실패한다. 먼저 중복을 정리해야 한다.
+ALTER TABLE my_pick
+    ADD CONSTRAINT uk_my_pick_member_cafe UNIQUE (member_id, cafe_id);
+
+-- 카페의 찜 수는 애플리케이션이 시작할 때 활성 찜 행을 세어 맞추므로 0 으로 시작해도 된다.
+ALTER TABLE cafe
+    ADD COLUMN pick_count INT NOT NULL DEFAULT 0;
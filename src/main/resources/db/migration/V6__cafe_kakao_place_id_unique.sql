@@ -0,0 +1,78 @@
+-- 카카오 장소 id 마다 카페를 하나만 둔다. 첫 리뷰의 카페 등록 upsert(INSERT ... ON DUPLICATE KEY UPDATE)는
+-- 이 제약에 걸려야 기존 카페의 id 를 돌려받으므로, 제약이 없으면 서로 다른 서버에서 동시에 등록할 때 카페가 중복된다.
+-- 이미 중복된 카페가 있으면 제약 추가가 실패한다. 그래서 먼저 같은 장소의 카페를 가장 먼저 등록된 카페(가장 작은 id) 하나로 합친다.
+-- 합칠 때 리뷰와 찜을 남는 카페로 옮기고 누적 지수와 테마 횟수는 더한다. 카페 타입과 테마는 그 카페에 다음 리뷰가 반영될 때 다시 정해진다.
+-- V5 의 찜 유니크 제약이 있어야 하므로 V5 다음에 적용한다. 옮기는 동안 리뷰와 찜이 써지지 않도록 배포 중 쓰기를 멈추고 적용한다.
+
+CREATE TABLE cafe_merge AS
+SELECT duplicate.id AS duplicate_id, keeper.keeper_id
+FROM cafe duplicate
+         JOIN (SELECT kakao_place_id, MIN(id) AS keeper_id
+               FROM cafe
+               WHERE kakao_place_id IS NOT NULL
+               GROUP BY kakao_place_id
+               HAVING COUNT(*) > 1) keeper
+              ON duplicate.kakao_place_id = keeper.kakao_place_id AND duplicate.id <> keeper.keeper_id;
+
+-- 활동 중인 카페가 하나라도 있으면 남는 카페도 활동 중이다. (status: ACTIVE 1, INACTIVE 2)
+UPDATE cafe keeper
+    JOIN (SELECT m.keeper_id,
+                 SUM(d.coffee_index) AS coffee_index, SUM(d.space_index) AS space_index,
+                 SUM(d.price_index) AS price_index, SUM(d.noise_index) AS noise_index,
+                 SUM(d.normal_count) AS normal_count, SUM(d.vibe_count) AS vibe_count,
+                 SUM(d.view_count) AS view_count, SUM(d.pet_count) AS pet_count,
+                 SUM(d.hobby_count) AS hobby_count, SUM(d.study_count) AS study_count,
+                 SUM(d.kids_count) AS kids_count, SUM(d.etc_count) AS etc_count,
+                 MIN(d.status) AS status
+          FROM cafe_merge m
+                   JOIN cafe d ON d.id = m.duplicate_id
+          GROUP BY m.keeper_id) merged ON keeper.id = merged.keeper_id
+SET keeper.coffee_index = keeper.coffee_index + merged.coffee_index,
+    keeper.space_index  = keeper.space_index + merged.space_index,
+    keeper.price_index  = keeper.price_index + merged.price_index,
+    keeper.noise_index  = keeper.noise_index + merged.noise_index,
+    keeper.normal_count = keeper.normal_count + merged.normal_count,
+    keeper.vibe_count   = keeper.vibe_count + merged.vibe_count,
+    keeper.view_count   = keeper.view_count + merged.view_count,
+    keeper.pet_count    = keeper.pet_count + merged.pet_count,
+    keeper.hobby_count  = keeper.hobby_count + merged.hobby_count,
+    keeper.study_count  = keeper.study_count + merged.study_count,
+    keeper.kids_count   = keeper.kids_count + merged.kids_count,
+    keeper.etc_count    = keeper.etc_count + merged.etc_count,
+    keeper.status       = LEAST(keeper.status, merged.status);
+
+UPDATE review r
+    JOIN cafe_merge m ON r.cafe_id = m.duplicate_id
+SET r.cafe_id = m.keeper_id;
+
+-- 한 회원이 합쳐지는 카페들을 여러 번 찜했다면 활동 중인 찜을 먼저, 그다음 가장 작은 id 의 찜 하나만 남긴다.
+CREATE TABLE my_pick_merge AS
+SELECT p.id, p.member_id, COALESCE(m.keeper_id, p.cafe_id) AS keeper_id, p.status
+FROM my_pick p
+         LEFT JOIN cafe_merge m ON p.cafe_id = m.duplicate_id
+WHERE p.cafe_id IN (SELECT keeper_id FROM cafe_merge)
+   OR p.cafe_id IN (SELECT duplicate_id FROM cafe_merge);
+
+DELETE p
+FROM my_pick p
+         JOIN my_pick_merge a ON a.id = p.id
+         JOIN my_pick_merge b ON b.member_id = a.member_id AND b.keeper_id = a.keeper_id
+    AND (b.status < a.status OR (b.status = a.status AND b.id < a.id));
+
+UPDATE my_pick p
+    JOIN cafe_merge m ON p.cafe_id = m.duplicate_id
+SET p.cafe_id = m.keeper_id;
+
+UPDATE cafe c
+    JOIN (SELECT DISTINCT keeper_id FROM cafe_merge) k ON c.id = k.keeper_id
+SET c.pick_count = (SELECT COUNT(*) FROM my_pick p WHERE p.cafe_id = c.id AND p.status = 1);
+
+DELETE c
+FROM cafe c
+         JOIN cafe_merge m ON c.id = m.duplicate_id;
+
+DROP TABLE my_pick_merge;
+DROP TABLE cafe_merge;
+
+ALTER TABLE cafe
+    ADD CONSTRAINT uk_cafe_kakao_place_id UNIQUE (kakao_place_id);
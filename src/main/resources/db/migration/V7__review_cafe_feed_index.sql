@@ -0,0 +1,4 @@
+-- 카페별 리뷰 피드를 (cafe_id, status) 로 거르고 (registered_at, id) 순서로 키셋 페이지네이션 하도록 인덱스를 건다.
+-- 인덱스 순서대로 읽으므로 정렬 없이 다음 페이지의 첫 행부터 바로 읽는다.
+-- MySQL 8 은 잠금 없이(ALGORITHM=INPLACE, LOCK=NONE) 인덱스를 만드므로 배포 중에 적용해도 리뷰 쓰기를 막지 않는다.
+CREATE INDEX idx_review_cafe_feed ON review (cafe_id, status, registered_at, id) ALGORITHM = INPLACE LOCK = NONE;
@@ -0,0 +1,8 @@
+-- MyPickIndex 가 다른 서버의 찜 변경을 따라잡으려고 매 주기 updated_at 으로 찜을 조회하므로 인덱스를 건다.
+CREATE INDEX idx_my_pick_updated_at ON my_pick (updated_at) ALGORITHM = INPLACE LOCK = NONE;
+
+-- 카페의 찜 수는 서버들이 변화량만 더하므로, 시작 값은 여기서 활성 찜 행을 세어 한 번만 맞춘다. (status: ACTIVE 1)
+-- V5 가 이미 적용된 곳에서도 맞춰지도록 따로 둔다. 서버가 시작할 때 찜 수를 보정하지 않는 버전을 배포하기 전에,
+-- 찜 쓰기를 멈추고 적용한다. 배포 후에 다시 맞추려면 쓰기를 멈추고 아래 UPDATE 만 다시 실행한다.
+UPDATE cafe c
+SET c.pick_count = (SELECT COUNT(*) FROM my_pick p WHERE p.cafe_id = c.id AND p.status = 1);
@@ -0,0 +1,2 @@
+-- CafeResponseCache 가 다른 서버의 카페 변경을 캐시에서 지우려고 매 주기 updated_at 으로 카페를 조회하므로 인덱스를 건다.
+CREATE INDEX idx_cafe_updated_at ON cafe (updated_at) ALGORITHM = INPLACE LOCK = NONE;
@@ -0,0 +1,92 @@
+package com.capick.capick.aggregate;
+
+import com.capick.capick.domain.cafe.CafeAggregateDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.capick.capick.domain.cafe.CafeTheme.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CafeAggregateBufferTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final CafeAggregateBuffer cafeAggregateBuffer = new CafeAggregateBuffer(now::get);
+
+    @Test
+    @DisplayName("성공: 같은 카페에 동시에 더해진 변화량은 유실 없이 한 번에 비워진다.")
+    void addConcurrently() throws InterruptedException {
+        // given
+        int deltaCount = 10000;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch countDownLatch = new CountDownLatch(deltaCount);
+
+        // when
+        for (int number = 0; number < deltaCount; number++) {
+            executorService.submit(() -> {
+                cafeAggregateBuffer.add(1L, createDelta(3, 2, 1, 1, 0, 0, 0, 0, 0, 1, 0, 0));
+                countDownLatch.countDown();
+            });
+        }
+        countDownLatch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+        long pendingDeltaCount = cafeAggregateBuffer.getPendingDeltaCount();
+        Map<Long, CafeAggregateDelta> drainedDeltas = cafeAggregateBuffer.drainAll();
+
+        // then
+        assertThat(pendingDeltaCount).isEqualTo(deltaCount);
+        assertThat(drainedDeltas).hasSize(1);
+        assertThat(drainedDeltas.get(1L))
+                .extracting("coffeeIndex", "spaceIndex", "priceIndex", "noiseIndex", "studyCount")
+                .containsExactly(30000, 20000, 10000, 10000, 10000);
+        assertThat(cafeAggregateBuffer.getPendingCafeCount()).isZero();
+        assertThat(cafeAggregateBuffer.getPendingDeltaCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 주어진 시간 이상 머문 변화량이 있는 카페만 비운다.")
+    void drainPendingLongerThan() {
+        // given
+        cafeAggregateBuffer.add(1L, createDelta(1, 1, 1, 1, 1, 0, 0, 0, 0, 0, 0, 0));
+        now.addAndGet(1_000);
+        cafeAggregateBuffer.add(2L, createDelta(1, 1, 1, 1, 0, 1, 0, 0, 0, 0, 0, 0));
+
+        // when
+        Map<Long, CafeAggregateDelta> drainedDeltas = cafeAggregateBuffer.drainPendingLongerThan(1_000);
+
+        // then
+        assertThat(drainedDeltas).containsOnlyKeys(1L);
+        assertThat(drainedDeltas.get(1L).getThemeCount(NORMAL)).isEqualTo(1);
+        assertThat(cafeAggregateBuffer.getPendingCafeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 더하기와 빼기가 섞인 변화량은 합계로 비워진다.")
+    void addWithDeducting() {
+        // given
+        cafeAggregateBuffer.add(1L, createDelta(5, 1, 1, 1, 0, 1, 0, 0, 0, 0, 0, 0));
+        cafeAggregateBuffer.add(1L, createDelta(-5, -1, -1, -1, 0, -1, 0, 0, 0, 0, 0, 0));
+        cafeAggregateBuffer.add(1L, createDelta(1, 4, 1, 1, 0, 0, 0, 0, 0, 1, 0, 0));
+
+        // when
+        CafeAggregateDelta drainedDelta = cafeAggregateBuffer.drainAll().get(1L);
+
+        // then
+        assertThat(drainedDelta)
+                .extracting("coffeeIndex", "spaceIndex", "vibeCount", "studyCount")
+                .containsExactly(1, 4, 0, 1);
+    }
+
+    private CafeAggregateDelta createDelta(
+            int coffeeIndex, int spaceIndex, int priceIndex, int noiseIndex, int... themeCounts) {
+        return CafeAggregateDelta.of(coffeeIndex, spaceIndex, priceIndex, noiseIndex, themeCounts);
+    }
+
+}
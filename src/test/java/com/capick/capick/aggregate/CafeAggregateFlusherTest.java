@@ -0,0 +1,202 @@
+package com.capick.capick.aggregate;
+
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeAggregateDelta;
+import com.capick.capick.domain.cafe.CafeTheme;
+import com.capick.capick.domain.common.Location;
+import com.capick.capick.domain.member.Member;
+import com.capick.capick.dto.request.CafeCreateRequest;
+import com.capick.capick.dto.request.ReviewCreateRequest;
+import com.capick.capick.index.geo.CafeGeoIndex;
+import com.capick.capick.repository.CafeRepository;
+import com.capick.capick.repository.MemberRepository;
+import com.capick.capick.repository.ReviewImageRepository;
+import com.capick.capick.repository.ReviewRepository;
+import com.capick.capick.service.ReviewService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static com.capick.capick.domain.cafe.CafeTheme.*;
+import static com.capick.capick.domain.cafe.CafeType.*;
+import static org.assertj.core.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "aggregate.cafe.write-behind.enabled=true",
+        "aggregate.cafe.write-behind.flush-interval=1h"
+})
+class CafeAggregateFlusherTest {
+
+    @Autowired
+    private CafeAggregateFlusher cafeAggregateFlusher;
+
+    @Autowired
+    private CafeAggregateBuffer cafeAggregateBuffer;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewImageRepository reviewImageRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CafeRepository cafeRepository;
+
+    @Autowired
+    private CafeGeoIndex cafeGeoIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        reviewImageRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        cafeRepository.deleteAllInBatch();
+        cafeAggregateBuffer.clear();
+        cafeGeoIndex.clear();
+    }
+
+    @Test
+    @DisplayName("성공: 쓰기 지연 모드에서 리뷰 작성 시 까페는 바로 갱신되지 않고, 반영 시 까페마다 한 번에 갱신된다.")
+    void flushAll() {
+        // given
+        Member writer = memberRepository.save(createMember("email01@naver.com", "password01%^&", "nickname01"));
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        cafeRepository.save(createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation));
+
+        CafeCreateRequest cafeCreateRequest = createCafeCreateRequest(
+                "스타벅스 광화문점", "1234567", "https://place.url");
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        for (int number = 0; number < 100; number++) {
+            reviewService.createReview(createReviewCreateRequest(
+                    writer.getId(), cafeCreateRequest, 1, 4, 2, 1, "study"), registeredAt);
+        }
+        long pendingDeltaCount = cafeAggregateFlusher.getPendingDeltaCount();
+        Cafe cafeBeforeFlush = cafeRepository.findAll().get(0);
+
+        // when
+        cafeAggregateFlusher.flushAll();
+
+        // then
+        assertThat(pendingDeltaCount).isEqualTo(100);
+        assertThat(cafeBeforeFlush.getCafeTypeInfo().getSpaceIndex()).isZero();
+        assertThat(cafeAggregateFlusher.getPendingDeltaCount()).isZero();
+        assertThat(cafeAggregateFlusher.getFlushedCafeCount()).isEqualTo(1);
+        assertThat(cafeRepository.findAll()).hasSize(1)
+                .extracting(
+                        "cafeTypeInfo.coffeeIndex", "cafeTypeInfo.spaceIndex", "cafeThemeInfo.studyCount",
+                        "cafeTypeInfo.cafeType", "cafeThemeInfo.cafeTheme")
+                .containsExactly(
+                        tuple(100, 400, 100, SPACIOUS, STUDY)
+                );
+    }
+
+    @Test
+    @DisplayName("성공: 합친 변화량의 차감이 부족하면 더하는 값만 반영하고, 빼는 값은 보관했다가 누적 값이 채워진 뒤 반영한다.")
+    void flushAllWhenLackOfAccumulated() {
+        // given
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Long cafeId = cafeRepository.save(
+                createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation)).getId();
+        cafeAggregateBuffer.add(cafeId, createDelta(3, -2, STUDY, 1));
+        cafeAggregateBuffer.add(cafeId, createDelta(0, 0, VIBE, -1));
+        double parkedCount = meterRegistry.get("capick.aggregate.cafe.write-behind")
+                .tag("result", "parked").functionCounter().count();
+
+        // when
+        cafeAggregateFlusher.flushAll();
+        Cafe cafeAfterFirstFlush = cafeRepository.findById(cafeId).orElseThrow();
+        cafeAggregateBuffer.add(cafeId, createDelta(0, 5, VIBE, 1));
+        cafeAggregateFlusher.flushAll();
+
+        // then
+        assertThat(cafeAfterFirstFlush.getCafeTypeInfo().getCoffeeIndex()).isEqualTo(3);
+        assertThat(cafeAfterFirstFlush.getCafeTypeInfo().getSpaceIndex()).isZero();
+        assertThat(cafeAfterFirstFlush.getCafeThemeInfo().getStudyCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("capick.aggregate.cafe.write-behind")
+                .tag("result", "parked").functionCounter().count()).isEqualTo(parkedCount + 1);
+        assertThat(cafeAggregateFlusher.getParkedCafeCount()).isZero();
+        assertThat(meterRegistry.get("capick.aggregate.cafe.write-behind.parked.cafes").gauge().value()).isZero();
+        assertThat(cafeRepository.findById(cafeId)).get()
+                .extracting(
+                        "cafeTypeInfo.coffeeIndex", "cafeTypeInfo.spaceIndex",
+                        "cafeThemeInfo.studyCount", "cafeThemeInfo.vibeCount")
+                .containsExactly(3, 3, 1, 0);
+    }
+
+    private Member createMember(String email, String password, String nickname) {
+        return Member.builder()
+                .email(email)
+                .password(password)
+                .nickname(nickname)
+                .build();
+    }
+
+    private Location createLocation(double latitude, double longitude, String address, String roadAddress) {
+        return Location.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .address(address)
+                .roadAddress(roadAddress)
+                .build();
+    }
+
+    private Cafe createCafe(String name, String kakaoPlaceId, String kakaoDetailPageUrl, Location location) {
+        return Cafe.builder()
+                .name(name)
+                .kakaoPlaceId(kakaoPlaceId)
+                .kakaoDetailPageUrl(kakaoDetailPageUrl)
+                .location(location)
+                .build();
+    }
+
+    private CafeAggregateDelta createDelta(int coffeeIndex, int spaceIndex, CafeTheme cafeTheme, int themeCount) {
+        int[] themeCounts = new int[CafeTheme.values().length];
+        themeCounts[cafeTheme.ordinal()] = themeCount;
+        return CafeAggregateDelta.of(coffeeIndex, spaceIndex, 0, 0, themeCounts);
+    }
+
+    private CafeCreateRequest createCafeCreateRequest(String name, String kakaoPlaceId, String kakaoDetailPageUrl) {
+        return CafeCreateRequest.builder()
+                .name(name)
+                .kakaoPlaceId(kakaoPlaceId)
+                .kakaoDetailPageUrl(kakaoDetailPageUrl)
+                .build();
+    }
+
+    private ReviewCreateRequest createReviewCreateRequest(
+            Long writerId, CafeCreateRequest cafe,
+            int coffeeIndex, int spaceIndex, int priceIndex, int noiseIndex, String theme) {
+        return ReviewCreateRequest.builder()
+                .writerId(writerId)
+                .cafe(cafe)
+                .visitPurpose("공부하러 왔어요")
+                .content("리뷰 내용")
+                .menu("아메리카노")
+                .coffeeIndex(coffeeIndex)
+                .spaceIndex(spaceIndex)
+                .priceIndex(priceIndex)
+                .noiseIndex(noiseIndex)
+                .theme(theme)
+                .build();
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.capick.capick.aggregate;
+
+import com.capick.capick.repository.CafeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CafePickCounterTest {
+
+    private final CafePickCounter cafePickCounter = new CafePickCounter(mock(CafeRepository.class));
+
+    @Test
+    @DisplayName("성공: 카페 행의 찜 수를 다시 읽어도 아직 반영하지 않은 변화량은 남고, 반영할 변화량은 이 서버의 변화량뿐이다.")
+    void refresh() {
+        // given
+        cafePickCounter.refresh(Map.of(10L, 3L, 20L, 2L));
+        cafePickCounter.add(10L, 1);
+
+        // when
+        cafePickCounter.refresh(Map.of(10L, 5L));
+        Map<Long, Long> deltas = cafePickCounter.drainPending();
+
+        // then
+        assertThat(cafePickCounter.countOf(10L)).isEqualTo(6L);
+        assertThat(cafePickCounter.countOf(20L)).isZero();
+        assertThat(deltas).containsOnly(Map.entry(10L, 1L));
+    }
+
+    @Test
+    @DisplayName("성공: 변화량을 꺼내거나 반영에 실패해 되돌려도 찜 수는 그대로이고, 되돌린 변화량은 다음에 다시 꺼낸다.")
+    void drainPendingAndRestore() {
+        // given
+        cafePickCounter.add(10L, 1);
+        cafePickCounter.add(10L, 1);
+        cafePickCounter.add(10L, -1);
+        cafePickCounter.add(20L, 1);
+        cafePickCounter.add(20L, -1);
+
+        // when
+        Map<Long, Long> firstDeltas = cafePickCounter.drainPending();
+        long countAfterDrain = cafePickCounter.countOf(10L);
+        cafePickCounter.restore(10L, firstDeltas.get(10L));
+        long countAfterRestore = cafePickCounter.countOf(10L);
+        Map<Long, Long> secondDeltas = cafePickCounter.drainPending();
+
+        // then
+        assertThat(firstDeltas).containsOnly(Map.entry(10L, 1L));
+        assertThat(countAfterDrain).isEqualTo(1L);
+        assertThat(countAfterRestore).isEqualTo(1L);
+        assertThat(secondDeltas).containsOnly(Map.entry(10L, 1L));
+        assertThat(cafePickCounter.getPendingCafeCount()).isZero();
+    }
+
+}
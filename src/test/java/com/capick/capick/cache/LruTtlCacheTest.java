@@ -0,0 +1,98 @@
+package com.capick.capick.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("성공: 캐시에 없는 키는 로드하여 저장하고, 다음 조회부터는 로드하지 않는다.")
+    void getOrLoad() {
+        // given
+        LruTtlCache<String, String> cache = new LruTtlCache<>(100, 1_000, now::get);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        String first = cache.getOrLoad("key", () -> "value" + loadCount.incrementAndGet());
+        String second = cache.getOrLoad("key", () -> "value" + loadCount.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("value1");
+        assertThat(second).isEqualTo("value1");
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: TTL 이 지난 값은 다시 로드한다.")
+    void getOrLoadAfterTtl() {
+        // given
+        LruTtlCache<String, String> cache = new LruTtlCache<>(100, 1_000, now::get);
+        cache.getOrLoad("key", () -> "old");
+
+        // when
+        now.addAndGet(1_000);
+        String value = cache.getOrLoad("key", () -> "new");
+
+        // then
+        assertThat(value).isEqualTo("new");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 최대 크기를 넘으면 가장 오래 사용하지 않은 값부터 제거한다.")
+    void evictLeastRecentlyUsed() {
+        // given
+        LruTtlCache<Integer, String> cache = new LruTtlCache<>(16, 1_000, now::get);
+        for (int key = 0; key < 16 * 2; key++) {
+            int loadedKey = key;
+            cache.getOrLoad(key, () -> "value" + loadedKey);
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(16);
+        assertThat(cache.getEvictionCount()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("성공: 무효화한 키는 다시 로드한다.")
+    void invalidate() {
+        // given
+        LruTtlCache<String, String> cache = new LruTtlCache<>(100, 1_000, now::get);
+        cache.getOrLoad("key", () -> "old");
+
+        // when
+        cache.invalidate("key");
+        String value = cache.getOrLoad("key", () -> "new");
+
+        // then
+        assertThat(value).isEqualTo("new");
+        assertThat(cache.getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("경계: 로드 도중 무효화가 일어나면 로드한 값은 반환만 하고 캐시에 저장하지 않는다.")
+    void invalidateWhileLoading() {
+        // given
+        LruTtlCache<String, String> cache = new LruTtlCache<>(100, 1_000, now::get);
+
+        // when
+        String staleValue = cache.getOrLoad("key", () -> {
+            cache.invalidate("key");
+            return "stale";
+        });
+        String value = cache.getOrLoad("key", () -> "fresh");
+
+        // then
+        assertThat(staleValue).isEqualTo("stale");
+        assertThat(value).isEqualTo("fresh");
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.capick.capick.concurrent;
+
+import com.capick.capick.exception.NotFoundResourceException;
+import com.capick.capick.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.capick.capick.dto.ApiResponseStatus.NOT_FOUND_REVIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadFanOutExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ReadFanOutExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 조회는 요청 스레드가 아닌 전용 스레드에서 실행한다.")
+    void fork() {
+        // given
+        executor = new ReadFanOutExecutor(new SimpleMeterRegistry(), 2, 4, Duration.ofSeconds(1));
+
+        // when
+        String threadName = executor.join(executor.fork(() -> Thread.currentThread().getName()));
+
+        // then
+        assertThat(threadName).startsWith("read-fan-out-");
+    }
+
+    @Test
+    @DisplayName("성공: 스레드와 대기열이 모두 차면 요청 스레드에서 바로 조회한다.")
+    void forkInlineWhenSaturated() {
+        // given
+        executor = new ReadFanOutExecutor(new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(1));
+        executor.fork(this::awaitRelease);
+        executor.fork(this::awaitRelease);
+        String requestThreadName = Thread.currentThread().getName();
+
+        // when
+        String threadName = executor.join(executor.fork(() -> Thread.currentThread().getName()));
+
+        // then
+        assertThat(threadName).isEqualTo(requestThreadName);
+        assertThat(executor.getInlineCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외: 조회에서 난 예외는 감싸지 않고 그대로 던진다.")
+    void joinRethrowsReadException() {
+        // given
+        executor = new ReadFanOutExecutor(new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(1));
+        Future<String> forked = executor.fork(() -> {
+            throw NotFoundResourceException.of(NOT_FOUND_REVIEW);
+        });
+
+        // when // then
+        assertThatThrownBy(() -> executor.join(forked))
+                .isInstanceOf(NotFoundResourceException.class)
+                .hasMessage("존재하지 않는 리뷰입니다.");
+    }
+
+    @Test
+    @DisplayName("예외: 제한 시간 안에 조회가 끝나지 않으면 503 예외가 발생한다.")
+    void joinTimeout() {
+        // given
+        executor = new ReadFanOutExecutor(new SimpleMeterRegistry(), 1, 1, Duration.ofMillis(50));
+        Future<String> forked = executor.fork(this::awaitRelease);
+
+        // when // then
+        assertThatThrownBy(() -> executor.join(forked))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage("조회가 지연되어 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @Test
+    @DisplayName("성공: 제한 시간을 넘긴 조회는 조회 스레드를 인터럽트해 멈춘다.")
+    void joinTimeoutInterruptsRead() throws InterruptedException {
+        // given
+        executor = new ReadFanOutExecutor(new SimpleMeterRegistry(), 1, 1, Duration.ofMillis(50));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Future<String> forked = executor.fork(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                interrupted.countDown();
+            }
+            return "released";
+        });
+
+        // when
+        assertThatThrownBy(() -> executor.join(forked))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        // then
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private String awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return "released";
+    }
+
+}
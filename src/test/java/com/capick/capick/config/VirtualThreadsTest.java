@@ -0,0 +1,45 @@
+package com.capick.capick.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    @DisplayName("성공: JDK 21 이상이면 작업마다 이름 붙은 가상 스레드에서 실행한다. (./gradlew test -PvirtualThreads)")
+    void newThreadPerTaskExecutor() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        // given
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-vt-");
+
+        // when
+        Thread thread = executor.submit(Thread::currentThread).get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(VirtualThreads.isVirtual(thread)).isTrue();
+        assertThat(thread.getName()).startsWith("test-vt-");
+    }
+
+    @Test
+    @DisplayName("예외: JDK 21 미만에서 가상 스레드 실행기를 만들면 실행 중인 JDK 버전과 함께 예외가 발생한다.")
+    void newThreadPerTaskExecutorBeforeJdk21() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        // when // then
+        assertThatThrownBy(() -> VirtualThreads.newThreadPerTaskExecutor("test-vt-"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("virtual threads need JDK 21 or later");
+        assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+    }
+
+}
@@ -3,8 +3,17 @@ package com.capick.capick.controller;
 import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.cafe.CafeType;
 import com.capick.capick.domain.common.Location;
+import com.capick.capick.dto.request.CafeNearbySearchRequest;
+import com.capick.capick.dto.request.CafeRankingRequest;
+import com.capick.capick.dto.request.ReviewFeedRequest;
+import com.capick.capick.dto.response.CafeNearbyResponse;
+import com.capick.capick.dto.response.CafeRankingResponse;
 import com.capick.capick.dto.response.CafeResponse;
+import com.capick.capick.dto.response.CursorPageResponse;
+import com.capick.capick.dto.response.MemberSimpleResponse;
+import com.capick.capick.dto.response.ReviewSimpleResponse;
 import com.capick.capick.service.CafeService;
+import com.capick.capick.service.ReviewService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +21,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -28,6 +41,9 @@ class CafeControllerTest {
     @MockBean
     private CafeService cafeService;
 
+    @MockBean
+    private ReviewService reviewService;
+
     @Test
     @DisplayName("성공: 지도 서비스상의 ID로 카페를 조회한다. HTTP 상태 코드 200 및 자체 응답 코드 200 을 반환한다.")
     void getCafeByMapVendorPlaceId() throws Exception {
@@ -54,4 +70,151 @@ class CafeControllerTest {
                 .andDo(print());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("성공: 위도와 경도로 주변 카페를 조회한다. HTTP 상태 코드 200 및 자체 응답 코드 200 을 반환한다.")
+    void getNearbyCafes() throws Exception {
+        // given
+        CafeNearbyResponse response = CafeNearbyResponse.builder()
+                .name("스타벅스 광화문점")
+                .kakaoPlaceId("1234567")
+                .latitude(37.57122962143047)
+                .longitude(126.97629649901215)
+                .distance(120)
+                .build();
+        when(cafeService.getNearbyCafes(any(CafeNearbySearchRequest.class))).thenReturn(List.of(response));
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/cafes/nearby")
+                                .param("lat", "37.5700")
+                                .param("lng", "126.9760")
+                                .param("radius", "500")
+                                .param("limit", "10")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("요청에 성공했습니다."))
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data[0].kakaoPlaceId").value("1234567"))
+                .andExpect(jsonPath("$.data[0].distance").value(120))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예외: 주변 카페 조회 시 위도는 필수 값이다. 입력하지 않으면 HTTP 상태 코드 400 및 자체 응답 코드 400을 반환한다.")
+    void getNearbyCafesWithoutLatitude() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        get("/api/cafes/nearby")
+                                .param("lng", "126.9760")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("주변 카페를 검색할 위도를 입력해 주세요."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예외: 주변 카페 조회 시 검색 반경은 5000m 를 넘을 수 없다. HTTP 상태 코드 400 및 자체 응답 코드 400을 반환한다.")
+    void getNearbyCafesWithTooLargeRadius() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        get("/api/cafes/nearby")
+                                .param("lat", "37.5700")
+                                .param("lng", "126.9760")
+                                .param("radius", "5001")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("검색 반경은 1m 에서 5000m 사이여야 합니다."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("성공: 테마별 카페 순위를 조회한다. HTTP 상태 코드 200 및 자체 응답 코드 200 을 반환한다.")
+    void getCafeRankings() throws Exception {
+        // given
+        CafeRankingResponse response = CafeRankingResponse.builder()
+                .rank(1)
+                .name("스타벅스 광화문점")
+                .kakaoPlaceId("1234567")
+                .score(12)
+                .build();
+        when(cafeService.getCafeRankings(any(CafeRankingRequest.class))).thenReturn(List.of(response));
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/cafes/rankings")
+                                .param("theme", "study")
+                                .param("limit", "10")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("요청에 성공했습니다."))
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data[0].rank").value(1))
+                .andExpect(jsonPath("$.data[0].kakaoPlaceId").value("1234567"))
+                .andExpect(jsonPath("$.data[0].score").value(12))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예외: 카페 순위 조회 시 테마와 타입 중 하나만 입력해야 한다. 둘 다 입력하면 HTTP 상태 코드 400 및 자체 응답 코드 400을 반환한다.")
+    void getCafeRankingsWithThemeAndType() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        get("/api/cafes/rankings")
+                                .param("theme", "study")
+                                .param("type", "coffeeIndex")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("카페 테마와 카페 타입 중 하나만 입력해 주세요."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("성공: 카페의 리뷰 목록을 커서로 조회한다. HTTP 상태 코드 200 및 자체 응답 코드 200 을 반환한다.")
+    void getCafeReviews() throws Exception {
+        // given
+        ReviewSimpleResponse review = ReviewSimpleResponse.builder()
+                .writer(MemberSimpleResponse.builder().build())
+                .imageUrls(List.of())
+                .build();
+        CursorPageResponse<ReviewSimpleResponse> response = CursorPageResponse.of(List.of(review), "nextCursor");
+        when(reviewService.getCafeReviews(eq("1234567"), any(ReviewFeedRequest.class))).thenReturn(response);
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/cafes/{placeId}/reviews", "1234567")
+                                .param("cursor", "cursor")
+                                .param("size", "20")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("요청에 성공했습니다."))
+                .andExpect(jsonPath("$.data.contents").isArray())
+                .andExpect(jsonPath("$.data.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예외: 카페의 리뷰 목록은 한 번에 50개 까지 조회할 수 있다. 넘으면 HTTP 상태 코드 400 및 자체 응답 코드 400을 반환한다.")
+    void getCafeReviewsWithTooLargeSize() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        get("/api/cafes/{placeId}/reviews", "1234567")
+                                .param("size", "51")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("한 번에 조회할 리뷰 수는 1 에서 50 사이여야 합니다."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+    }
+
+}
@@ -2,6 +2,8 @@ package com.capick.capick.controller;
 
 import com.capick.capick.dto.request.history.storage.StorageOrphanFileHistoriesCreateRequest;
 import com.capick.capick.dto.request.history.storage.StorageOrphanFileHistoryCreateRequest;
+import com.capick.capick.dto.response.history.storage.StorageOrphanFileIngestLineResponse;
+import com.capick.capick.dto.response.history.storage.StorageOrphanFileIngestResponse;
 import com.capick.capick.service.HistoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +16,9 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static com.capick.capick.dto.response.history.storage.OrphanFileIngestResult.DUPLICATE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -272,4 +277,31 @@ class HistoryControllerTest {
                 .andDo(print());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("성공: NDJSON 으로 고아 파일 기록을 한꺼번에 생성하면, 등록 결과를 반환한다. HTTP 상태 코드 200 및 자체 응답 코드 200을 반환한다.")
+    void ingestStorageOrphanFileHistories() throws Exception {
+        // given
+        String orphanFileLines = String.join("\n",
+                "{\"fileName\":\"000000001_0\",\"fileType\":\"images\",\"domain\":\"reviews\",\"url\":\"https://storage.com/images1\"}",
+                "{\"fileName\":\"000000002_0\",\"fileType\":\"images\",\"domain\":\"reviews\",\"url\":\"https://storage.com/images1\"}"
+        );
+        when(historyService.ingestStorageOrphanFileHistories(any()))
+                .thenReturn(StorageOrphanFileIngestResponse.of(1, List.of(StorageOrphanFileIngestLineResponse.of(
+                        2, DUPLICATE, "요청 파일들끼리 중복되었습니다. 중복된 파일 제외하고 요청해 주세요."))));
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/history/storage/orphan-files")
+                                .content(orphanFileLines)
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data.acceptedCount").value(1))
+                .andExpect(jsonPath("$.data.duplicateCount").value(1))
+                .andExpect(jsonPath("$.data.rejectedLines[0].line").value(2))
+                .andExpect(jsonPath("$.data.rejectedLines[0].result").value("DUPLICATE"))
+                .andDo(print());
+    }
+
+}
@@ -2,9 +2,12 @@ package com.capick.capick.controller;
 
 import com.capick.capick.dto.request.MemberCreateRequest;
 import com.capick.capick.dto.request.MemberNicknameRequest;
+import com.capick.capick.dto.request.MemberNicknameSearchRequest;
+import com.capick.capick.dto.response.MemberNicknameAvailabilityResponse;
 import com.capick.capick.dto.request.MemberPasswordRequest;
 import com.capick.capick.dto.response.MemberSimpleResponse;
 import com.capick.capick.dto.response.MemberResponse;
+import com.capick.capick.exception.ServiceUnavailableException;
 import com.capick.capick.service.MemberService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +19,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static com.capick.capick.dto.ApiResponseStatus.PASSWORD_HASHER_BUSY;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -61,6 +65,32 @@ class MemberControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("예외: 가입이 몰려 비밀번호 해시 대기열이 차면 HTTP 상태 코드 503 및 자체 응답 코드 503을 반환한다.")
+    void createMemberWhenPasswordHasherBusy() throws Exception {
+        // given
+        when(memberService.createMember(any(MemberCreateRequest.class)))
+                .thenThrow(ServiceUnavailableException.of(PASSWORD_HASHER_BUSY));
+
+        MemberCreateRequest request = MemberCreateRequest.builder()
+                .email("email@naver.com")
+                .password("!@#$password1234")
+                .nickname("nickname")
+                .build();
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/members/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("503"))
+                .andExpect(jsonPath("$.message").value("요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("예외: 회원가입 시 이메일은 필수 값이다. 입력하지 않으면 HTTP 상태 코드 400 및 자체 응답 코드 400을 반환한다.")
     void createMemberWithoutEmail() throws Exception {
@@ -471,4 +501,38 @@ class MemberControllerTest {
                 .andDo(print());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("성공: 방문자는 닉네임을 입력하는 동안 사용할 수 있는 닉네임인지 확인할 수 있다. HTTP 상태 코드 200 및 자체 응답 코드 200을 반환한다.")
+    void getNicknameAvailability() throws Exception {
+        // given
+        MemberNicknameAvailabilityResponse response = MemberNicknameAvailabilityResponse.of("nickname", true);
+        when(memberService.getNicknameAvailability(any(MemberNicknameSearchRequest.class))).thenReturn(response);
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/members/nicknames/availability")
+                                .param("nickname", "nickname")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("요청에 성공했습니다."))
+                .andExpect(jsonPath("$.data.available").value(true))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예외: 닉네임 추천 시 닉네임은 20자 이하로 특수문자는 마침표(.), 밑줄(_) 만 사용할 수 있다. 그렇지 않으면 HTTP 상태 코드 400 및 자체 응답 코드 400을 반환한다.")
+    void getNicknameSuggestionsWithInvalidNickname() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        get("/api/members/nicknames/suggestions")
+                                .param("nickname", "nick name!")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("닉네임의 특수문자는 마침표(.), 밑줄(_) 만 사용하여 20자리 이하로 작성해주세요."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+    }
+
+}
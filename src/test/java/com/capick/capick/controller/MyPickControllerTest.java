@@ -0,0 +1,122 @@
+package com.capick.capick.controller;
+
+import com.capick.capick.domain.cafe.CafeTheme;
+import com.capick.capick.domain.cafe.CafeType;
+import com.capick.capick.domain.common.Location;
+import com.capick.capick.dto.response.CafeResponse;
+import com.capick.capick.dto.response.MyPickPinResponse;
+import com.capick.capick.dto.response.MyPickResponse;
+import com.capick.capick.service.MyPickService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = MyPickController.class)
+class MyPickControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MyPickService myPickService;
+
+    @Test
+    @DisplayName("성공: 카카오 장소 id 로 카페를 찜한다. HTTP 상태 코드 200 및 자체 응답 코드 200 을 반환한다.")
+    void pickCafe() throws Exception {
+        // given
+        MyPickResponse response = MyPickResponse.builder()
+                .cafe(createCafeResponse("1234567"))
+                .pickedAt(LocalDateTime.now())
+                .build();
+        when(myPickService.pickCafe(anyLong(), anyString())).thenReturn(response);
+
+        // when // then
+        mockMvc.perform(
+                        put("/api/members/{memberId}/picks/{placeId}", 1L, "1234567")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("요청에 성공했습니다."))
+                .andExpect(jsonPath("$.data.cafe.kakaoPlaceId").value("1234567"))
+                .andExpect(jsonPath("$.data.pickedAt").exists())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("성공: 카카오 장소 id 로 카페 찜을 해제한다. HTTP 상태 코드 200 및 자체 응답 코드 204 를 반환한다.")
+    void unpickCafe() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        delete("/api/members/{memberId}/picks/{placeId}", 1L, "1234567")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("204"))
+                .andExpect(jsonPath("$.message").value("리소스 삭제에 성공했습니다."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("성공: 쉼표로 구분한 카카오 장소 id 들의 지도 핀 찜 여부와 찜 수를 조회한다. HTTP 상태 코드 200 및 자체 응답 코드 200 을 반환한다.")
+    void getMyPickPins() throws Exception {
+        // given
+        List<MyPickPinResponse> responses = List.of(
+                MyPickPinResponse.of("1234567", true, 2),
+                MyPickPinResponse.of("2345678", false, 0)
+        );
+        when(myPickService.getMyPickPins(eq(1L), any())).thenReturn(responses);
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/members/{memberId}/picks/pins", 1L)
+                                .param("placeIds", "1234567,2345678")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data[0].kakaoPlaceId").value("1234567"))
+                .andExpect(jsonPath("$.data[0].picked").value(true))
+                .andExpect(jsonPath("$.data[0].pickCount").value(2))
+                .andExpect(jsonPath("$.data[1].picked").value(false))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예외: 지도 핀 조회 시 카카오 장소 id 는 필수 값이다. 입력하지 않으면 HTTP 상태 코드 400 및 자체 응답 코드 400을 반환한다.")
+    void getMyPickPinsWithoutPlaceIds() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        get("/api/members/{memberId}/picks/pins", 1L)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("카카오 장소 id 를 하나 이상 입력해 주세요."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+    }
+
+    private CafeResponse createCafeResponse(String kakaoPlaceId) {
+        return CafeResponse.builder()
+                .kakaoPlaceId(kakaoPlaceId)
+                .location(Location.builder().build())
+                .cafeType(CafeType.NONE)
+                .cafeTheme(CafeTheme.NORMAL)
+                .build();
+    }
+
+}
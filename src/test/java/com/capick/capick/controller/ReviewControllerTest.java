@@ -1,7 +1,9 @@
 package com.capick.capick.controller;
 
+import com.capick.capick.dto.ResourceVersion;
 import com.capick.capick.dto.request.CafeCreateRequest;
 import com.capick.capick.dto.request.ReviewCreateRequest;
+import com.capick.capick.dto.request.ReviewSearchRequest;
 import com.capick.capick.dto.request.ReviewUpdateRequest;
 import com.capick.capick.dto.response.MemberSimpleResponse;
 import com.capick.capick.dto.response.ReviewResponse;
@@ -13,17 +15,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -625,6 +633,8 @@ class ReviewControllerTest {
                 .imageUrls(List.of())
                 .build();
         when(reviewService.getReview(anyLong())).thenReturn(response);
+        when(reviewService.findReviewVersion(anyLong()))
+                .thenReturn(Optional.of(ResourceVersion.of(LocalDateTime.of(2024, 1, 1, 12, 0))));
         int requestReviewId = 123;
 
         // when // then
@@ -640,6 +650,87 @@ class ReviewControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("성공: 검색어로 리뷰를 검색한다. HTTP 상태 코드 200 및 자체 응답 코드 200 을 반환한다.")
+    void searchReviews() throws Exception {
+        // given
+        ReviewSimpleResponse response = ReviewSimpleResponse.builder()
+                .id(1L)
+                .writer(MemberSimpleResponse.builder().build())
+                .content("라떼가 고소해요")
+                .imageUrls(List.of())
+                .build();
+        when(reviewService.searchReviews(any(ReviewSearchRequest.class))).thenReturn(List.of(response));
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/reviews/search")
+                                .param("q", "라떼")
+                                .param("cafe", "1234567")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("요청에 성공했습니다."))
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].content").value("라떼가 고소해요"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예외: 리뷰 검색 시 검색어는 필수 값이다. 입력하지 않으면 HTTP 상태 코드 400 및 자체 응답 코드 400을 반환한다.")
+    void searchReviewsWithoutQuery() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        get("/api/reviews/search")
+                                .param("q", " ")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("검색어를 입력해 주세요."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("성공: 리뷰가 바뀌지 않았으면 ETag 로 조건부 조회할 때 본문 없이 HTTP 상태 코드 304 를 반환한다.")
+    void getReviewNotModified() throws Exception {
+        // given
+        ResourceVersion version = ResourceVersion.of(LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(reviewService.findReviewVersion(anyLong())).thenReturn(Optional.of(version));
+        int requestReviewId = 123;
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/reviews/{reviewId}", requestReviewId)
+                                .header(HttpHeaders.IF_NONE_MATCH, version.toETag("review"))
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.toETag("review")))
+                .andExpect(content().string(""))
+                .andDo(print());
+        verify(reviewService, never()).getReview(anyLong());
+    }
+
+    @Test
+    @DisplayName("예외: 존재하지 않는 리뷰를 조회하면 버전 확인에서 바로 HTTP 상태 코드 404 및 자체 응답 코드 404 를 반환한다.")
+    void getNotExistReview() throws Exception {
+        // given
+        when(reviewService.findReviewVersion(anyLong())).thenReturn(Optional.empty());
+        int requestReviewId = 123;
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/reviews/{reviewId}", requestReviewId)
+                )
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("404"))
+                .andExpect(jsonPath("$.message").value("존재하지 않는 리뷰입니다."))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(print());
+        verify(reviewService, never()).getReview(anyLong());
+    }
+
     @Test
     @DisplayName("성공: 단 건의 리뷰를 상세 조회한다. HTTP 상태 코드 200 및 자체 응답 코드 200 을 반환한다.")
     void getReviewDetail() throws Exception {
@@ -649,6 +740,8 @@ class ReviewControllerTest {
                 .imageUrls(List.of())
                 .build();
         when(reviewService.getReviewDetail(anyLong())).thenReturn(response);
+        when(reviewService.findReviewVersion(anyLong()))
+                .thenReturn(Optional.of(ResourceVersion.of(LocalDateTime.of(2024, 1, 1, 12, 0))));
         int requestReviewId = 123;
 
         // when // then
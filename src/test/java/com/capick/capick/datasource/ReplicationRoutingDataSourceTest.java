@@ -0,0 +1,150 @@
+package com.capick.capick.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 두 H2 인메모리 DB 가 주 DB 와 복제본 역할을 한다. 각 DB 에는 자기 역할 이름만 들어 있어서 어느 쪽에서 읽었는지 알 수 있다.
+class ReplicationRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicLong replicaLagMillis = new AtomicLong();
+
+    private DataSource primaryDataSource;
+
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        primaryDataSource = createH2DataSource("primary");
+        replicaDataSource = createH2DataSource("replica");
+    }
+
+    @Test
+    @DisplayName("성공: readOnly 트랜잭션은 복제본에서, 쓰기 트랜잭션은 주 DB 에서 실행한다.")
+    void route() {
+        // given
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(
+                replicaDataSource, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        replicaLagMonitor.check();
+        DataSource dataSource = createRoutingDataSource(replicaLagMonitor);
+
+        // when
+        String readOnlyRole = readRoleInTransaction(dataSource, true);
+        String readWriteRole = readRoleInTransaction(dataSource, false);
+
+        // then
+        assertThat(readOnlyRole).isEqualTo("replica");
+        assertThat(readWriteRole).isEqualTo("primary");
+        assertThat(routeCount("replica", "read")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: PrimaryReads 로 감싼 readOnly 트랜잭션은 복제본이 따라잡았어도 주 DB 에서 읽는다.")
+    void routePinnedReadToPrimary() {
+        // given
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(
+                replicaDataSource, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        replicaLagMonitor.check();
+        DataSource dataSource = createRoutingDataSource(replicaLagMonitor);
+
+        // when
+        String pinnedRole = PrimaryReads.call(() -> readRoleInTransaction(dataSource, true));
+        String unpinnedRole = readRoleInTransaction(dataSource, true);
+
+        // then
+        assertThat(pinnedRole).isEqualTo("primary");
+        assertThat(unpinnedRole).isEqualTo("replica");
+        assertThat(routeCount("primary", "pinned")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 복제 지연이 max-lag 를 넘으면 readOnly 트랜잭션도 주 DB 에서 읽고, 지연이 줄면 다시 복제본에서 읽는다.")
+    void routeToPrimaryWhenReplicaLagging() {
+        // given
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(
+                replicaDataSource, Duration.ofSeconds(5), Duration.ofSeconds(5),
+                replica -> replicaLagMillis.get());
+        DataSource dataSource = createRoutingDataSource(replicaLagMonitor);
+
+        // when
+        replicaLagMillis.set(5_001);
+        replicaLagMonitor.check();
+        String laggingRole = readRoleInTransaction(dataSource, true);
+
+        replicaLagMillis.set(5_000);
+        replicaLagMonitor.check();
+        String caughtUpRole = readRoleInTransaction(dataSource, true);
+
+        // then
+        assertThat(laggingRole).isEqualTo("primary");
+        assertThat(caughtUpRole).isEqualTo("replica");
+        assertThat(routeCount("primary", "replica-lagging")).isEqualTo(1);
+        assertThat(meterRegistry.get("capick.datasource.replica.lag").gauge().value()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("경계: 복제 지연을 잴 수 없으면 복제본을 쓰지 않고 주 DB 에서 읽는다.")
+    void routeToPrimaryWhenLagUnknown() {
+        // given
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(
+                replicaDataSource, Duration.ofSeconds(5), Duration.ofSeconds(5),
+                replica -> {
+                    throw new SQLException("replica unreachable");
+                });
+        DataSource dataSource = createRoutingDataSource(replicaLagMonitor);
+
+        // when
+        replicaLagMonitor.check();
+        String role = readRoleInTransaction(dataSource, true);
+
+        // then
+        assertThat(replicaLagMonitor.getLagMillis()).isEqualTo(ReplicaLagMonitor.UNKNOWN_LAG);
+        assertThat(role).isEqualTo("primary");
+    }
+
+    private DataSource createRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        routingDataSource.bindTo(meterRegistry);
+        replicaLagMonitor.bindTo(meterRegistry);
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private String readRoleInTransaction(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from db_role", String.class));
+    }
+
+    private double routeCount(String pool, String reason) {
+        return meterRegistry.get("capick.datasource.route").tag("pool", pool).tag("reason", reason).functionCounter().count();
+    }
+
+    private static DataSource createH2DataSource(String role) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table db_role (name varchar(20))");
+        jdbcTemplate.update("insert into db_role (name) values (?)", role);
+        return dataSource;
+    }
+
+}
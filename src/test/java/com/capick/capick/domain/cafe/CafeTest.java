@@ -369,7 +369,7 @@ class CafeTest {
                 .spaceIndex(spaceIndex)
                 .priceIndex(priceIndex)
                 .noiseIndex(noiseIndex)
-                .theme(theme)
+                .theme(CafeTheme.findByThemeName(theme))
                 .build();
     }
 
@@ -0,0 +1,52 @@
+package com.capick.capick.domain.common;
+
+import com.capick.capick.domain.cafe.CafeTheme;
+import com.capick.capick.domain.cafe.CafeThemeConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodedEnumConverterTest {
+
+    @Test
+    @DisplayName("성공: enum 은 코드로 저장되고, 저장된 코드는 같은 enum 으로 읽힌다.")
+    void convertByCode() {
+        // given
+        CafeThemeConverter converter = new CafeThemeConverter();
+
+        // when
+        Integer code = converter.convertToDatabaseColumn(CafeTheme.STUDY);
+
+        // then
+        assertThat(code).isEqualTo(6);
+        assertThat(converter.convertToEntityAttribute(code)).isEqualByComparingTo(CafeTheme.STUDY);
+    }
+
+    @Test
+    @DisplayName("성공: 상태는 ACTIVE 1, INACTIVE 2 로 저장된다.")
+    void convertBaseStatus() {
+        // given
+        BaseStatusConverter converter = new BaseStatusConverter();
+
+        // when // then
+        assertThat(converter.convertToDatabaseColumn(BaseStatus.ACTIVE)).isEqualTo(1);
+        assertThat(converter.convertToDatabaseColumn(BaseStatus.INACTIVE)).isEqualTo(2);
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("예외: 정의되지 않은 코드는 변환할 수 없다.")
+    void convertUnknownCode() {
+        // given
+        CafeThemeConverter converter = new CafeThemeConverter();
+
+        // when // then
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.capick.capick.domain.member;
 import com.capick.capick.domain.common.BaseStatus;
 import com.capick.capick.exception.DuplicateResourceException;
 import com.capick.capick.exception.UnauthorizedException;
+import com.capick.capick.security.PasswordHasher;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +12,19 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class MemberTest {
 
+    // 도메인 규칙만 확인하기 위해 해시 대신 접두사를 붙인다.
+    private final PasswordHasher passwordHasher = new PasswordHasher() {
+        @Override
+        public String hash(String rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String hashedPassword) {
+            return hash(rawPassword).equals(hashedPassword);
+        }
+    };
+
     @Test
     @DisplayName("성공: 회원 탈퇴 시 영구 삭제 전에 소프트 딜리트 된다.")
     void delete() {
@@ -43,26 +57,26 @@ class MemberTest {
     @DisplayName("성공: 비밀번호를 수정할 수 있다.")
     void updatePassword() {
         // given
-        Member member = createMember("email@naver.com", "pass!*word13", "nickname");
+        Member member = createMember("email@naver.com", passwordHasher.hash("pass!*word13"), "nickname");
 
         // when
-        member.updatePassword("pass!*word13", "new!*password12");
+        member.updatePassword("pass!*word13", "new!*password12", passwordHasher);
 
         // then
         assertThat(member)
                 .extracting("email", "password", "nickname")
-                .contains("email@naver.com", "new!*password12", "nickname");
+                .contains("email@naver.com", "hashed:new!*password12", "nickname");
     }
 
     @Test
     @DisplayName("예외: 비밀번호 수정 시 이미 사용 중인 비밀번호로 변경하려할 경우 예외가 발생한다.")
     void updatePasswordWithUnchangedPassword() {
         // given
-        Member member = createMember("email@naver.com", "pass!*word13", "nickname");
+        Member member = createMember("email@naver.com", passwordHasher.hash("pass!*word13"), "nickname");
         String unchangedPassword = "pass!*word13";
 
         // when // then
-        assertThatThrownBy(() -> member.updatePassword("pass!*word13", unchangedPassword))
+        assertThatThrownBy(() -> member.updatePassword("pass!*word13", unchangedPassword, passwordHasher))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("현재와 동일한 비밀번호 입니다.");
     }
@@ -71,11 +85,11 @@ class MemberTest {
     @DisplayName("예외: 비밀번호 수정 시 기존 비밀번호가 일치하지 않는 경우 예외가 발생한다.")
     void updatePasswordWithIncorrectPassword() {
         // given
-        Member member = createMember("email@naver.com", "pass!*word13", "nickname");
+        Member member = createMember("email@naver.com", passwordHasher.hash("pass!*word13"), "nickname");
         String incorrectPassword = "incorrect13password%";
 
         // when // then
-        assertThatThrownBy(() -> member.updatePassword(incorrectPassword, "new!*password12"))
+        assertThatThrownBy(() -> member.updatePassword(incorrectPassword, "new!*password12", passwordHasher))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("기존에 등록된 비밀번호와 일치하지 않습니다.");
     }
@@ -1,5 +1,6 @@
 package com.capick.capick.domain.review;
 
+import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.common.BaseStatus;
 import com.capick.capick.exception.DomainPoliticalArgumentException;
 import org.junit.jupiter.api.DisplayName;
@@ -97,7 +98,7 @@ class ReviewImageTest {
                 .spaceIndex(spaceIndex)
                 .priceIndex(priceIndex)
                 .noiseIndex(noiseIndex)
-                .theme(theme)
+                .theme(CafeTheme.findByThemeName(theme))
                 .build();
     }
 
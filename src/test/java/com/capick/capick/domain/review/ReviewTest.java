@@ -1,5 +1,6 @@
 package com.capick.capick.domain.review;
 
+import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.common.BaseStatus;
 import com.capick.capick.exception.DomainPoliticalArgumentException;
 import org.junit.jupiter.api.DisplayName;
@@ -77,10 +78,10 @@ class ReviewTest {
         Review review = createReview("일하거나 책읽고 공부하려고요", "리뷰 내용", "아이스 아메리카노", 2, 4, 2, 2, "normal");
 
         // when
-        review.updateTheme("study");
+        review.updateTheme(CafeTheme.STUDY);
 
         // then
-        assertThat(review.getTheme()).isEqualTo("study");
+        assertThat(review.getTheme()).isEqualTo(CafeTheme.STUDY);
     }
 
     @Test
@@ -101,7 +102,7 @@ class ReviewTest {
                 .visitPurpose(visitPurpose)
                 .content(content)
                 .menu(menu)
-                .theme(theme)
+                .theme(CafeTheme.findByThemeName(theme))
                 .build();
     }
 
@@ -116,7 +117,7 @@ class ReviewTest {
                 .spaceIndex(spaceIndex)
                 .priceIndex(priceIndex)
                 .noiseIndex(noiseIndex)
-                .theme(theme)
+                .theme(CafeTheme.findByThemeName(theme))
                 .build();
     }
 
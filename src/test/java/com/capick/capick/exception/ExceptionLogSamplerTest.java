@@ -0,0 +1,72 @@
+package com.capick.capick.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.capick.capick.dto.ApiResponseStatus.NOT_FOUND_MEMBER;
+import static com.capick.capick.dto.ApiResponseStatus.NOT_FOUND_REVIEW;
+import static com.capick.capick.exception.ExceptionLogSampler.SUPPRESSED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExceptionLogSamplerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExceptionLogSampler sampler = new ExceptionLogSampler(meterRegistry, Duration.ofNanos(1_000), now::get);
+
+    @Test
+    @DisplayName("성공: 간격 안에서는 처음 한 번만 로그를 남기고, 간격이 지나면 그 사이 생략한 횟수와 함께 다시 남긴다.")
+    void sample() {
+        // given
+        String reason = NOT_FOUND_REVIEW.name();
+
+        // when
+        long first = sampler.sample(NotFoundResourceException.class, reason);
+        long second = sampler.sample(NotFoundResourceException.class, reason);
+        long third = sampler.sample(NotFoundResourceException.class, reason);
+        now.addAndGet(1_000);
+        long afterInterval = sampler.sample(NotFoundResourceException.class, reason);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(SUPPRESSED);
+        assertThat(third).isEqualTo(SUPPRESSED);
+        assertThat(afterInterval).isEqualTo(2);
+        assertThat(sampler.getCount(NotFoundResourceException.class, reason)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("성공: 예외 종류나 사유가 다르면 따로 고르고 따로 센다.")
+    void sampleByTypeAndReason() {
+        // when
+        long review = sampler.sample(NotFoundResourceException.class, NOT_FOUND_REVIEW.name());
+        long member = sampler.sample(NotFoundResourceException.class, NOT_FOUND_MEMBER.name());
+        long otherType = sampler.sample(DomainLogicalException.class, NOT_FOUND_REVIEW.name());
+
+        // then
+        assertThat(review).isZero();
+        assertThat(member).isZero();
+        assertThat(otherType).isZero();
+        assertThat(meterRegistry.get("capick.exception")
+                .tag("type", "NotFoundResourceException").tag("reason", NOT_FOUND_MEMBER.name())
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 도메인 예외는 스택 트레이스를 채우지 않는다.")
+    void stacklessDomainException() {
+        // when
+        NotFoundResourceException exception = NotFoundResourceException.of(NOT_FOUND_REVIEW);
+
+        // then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception).hasMessage("존재하지 않는 리뷰입니다.");
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.capick.capick.index.geo;
+
+import com.capick.capick.repository.CafeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CafeGeoIndexTest {
+
+    private final CafeGeoIndex cafeGeoIndex = new CafeGeoIndex(mock(CafeRepository.class));
+
+    @Test
+    @DisplayName("성공: 검색 반경 안에 있는 카페만 가까운 순서대로 조회한다.")
+    void search() {
+        // given
+        cafeGeoIndex.reload(List.of(
+                createPoint(1L, "광화문점", 37.571229, 126.976296),
+                createPoint(2L, "시청점", 37.566535, 126.977969),
+                createPoint(3L, "강남점", 37.497942, 127.027621)
+        ));
+
+        // when
+        List<CafeGeoSearchResult> results = cafeGeoIndex.search(37.570000, 126.976000, 1000, 10);
+
+        // then
+        assertThat(results).hasSize(2)
+                .extracting("point.cafeId")
+                .containsExactly(1L, 2L);
+        assertThat(results.get(0).getDistance()).isLessThan(results.get(1).getDistance());
+    }
+
+    @Test
+    @DisplayName("성공: 검색 결과는 요청한 개수만큼만 조회한다.")
+    void searchWithLimit() {
+        // given
+        cafeGeoIndex.reload(List.of(
+                createPoint(1L, "광화문점", 37.571229, 126.976296),
+                createPoint(2L, "시청점", 37.566535, 126.977969),
+                createPoint(3L, "종각점", 37.570161, 126.982923)
+        ));
+
+        // when
+        List<CafeGeoSearchResult> results = cafeGeoIndex.search(37.571229, 126.976296, 2000, 1);
+
+        // then
+        assertThat(results).hasSize(1)
+                .extracting("point.cafeId")
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("경계: 격자 셀 경계 너머에 있어도 검색 반경 안에 있으면 조회한다.")
+    void searchAcrossCells() {
+        // given
+        double cellBoundaryLatitude = GeoHash.LATITUDE_CELL_DEGREES * GeoHash.latitudeCellOf(37.57) - 90.0;
+        cafeGeoIndex.reload(List.of(
+                createPoint(1L, "경계 아래", cellBoundaryLatitude - 0.0001, 126.976296),
+                createPoint(2L, "경계 위", cellBoundaryLatitude + 0.0001, 126.976296)
+        ));
+
+        // when
+        List<CafeGeoSearchResult> results = cafeGeoIndex.search(cellBoundaryLatitude + 0.0001, 126.976296, 100, 10);
+
+        // then
+        assertThat(results).hasSize(2)
+                .extracting("point.cafeId")
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 카페를 다시 추가하면 새 위치로 교체된다.")
+    void addSameCafe() {
+        // given
+        cafeGeoIndex.add(createPoint(1L, "광화문점", 37.571229, 126.976296));
+
+        // when
+        cafeGeoIndex.add(createPoint(1L, "광화문점", 37.497942, 127.027621));
+
+        // then
+        assertThat(cafeGeoIndex.size()).isEqualTo(1);
+        assertThat(cafeGeoIndex.search(37.571229, 126.976296, 1000, 10)).isEmpty();
+        assertThat(cafeGeoIndex.search(37.497942, 127.027621, 1000, 10))
+                .extracting("point.cafeId")
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 제거한 카페는 검색되지 않는다.")
+    void remove() {
+        // given
+        cafeGeoIndex.add(createPoint(1L, "광화문점", 37.571229, 126.976296));
+        cafeGeoIndex.add(createPoint(2L, "시청점", 37.566535, 126.977969));
+
+        // when
+        cafeGeoIndex.remove(1L);
+
+        // then
+        assertThat(cafeGeoIndex.search(37.571229, 126.976296, 1000, 10))
+                .extracting("point.cafeId")
+                .containsExactly(2L);
+    }
+
+    private CafeGeoPoint createPoint(Long cafeId, String name, double latitude, double longitude) {
+        return new CafeGeoPoint(cafeId, name, String.valueOf(cafeId), latitude, longitude);
+    }
+
+}
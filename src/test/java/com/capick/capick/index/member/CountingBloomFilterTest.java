@@ -0,0 +1,60 @@
+package com.capick.capick.index.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CountingBloomFilterTest {
+
+    @Test
+    @DisplayName("성공: 넣은 값은 항상 있을 수도 있다고 답한다.")
+    void mightContain() {
+        // given
+        CountingBloomFilter filter = CountingBloomFilter.of(10_000, 0.01);
+
+        // when
+        IntStream.range(0, 10_000).forEach(number -> filter.add("email" + number + "@naver.com"));
+
+        // then
+        assertThat(IntStream.range(0, 10_000)
+                .allMatch(number -> filter.mightContain("email" + number + "@naver.com")))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: 예상한 개수만큼 넣었을 때 넣지 않은 값의 거짓 양성 비율은 목표 비율 근처이다.")
+    void falsePositiveProbability() {
+        // given
+        CountingBloomFilter filter = CountingBloomFilter.of(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(number -> filter.add("email" + number + "@naver.com"));
+
+        // when
+        long falsePositiveCount = IntStream.range(0, 100_000)
+                .filter(number -> filter.mightContain("other" + number + "@naver.com"))
+                .count();
+
+        // then
+        assertThat(falsePositiveCount / 100_000.0).isLessThan(0.02);
+        assertThat(filter.getHashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("성공: 뺀 값은 없다고 답하고, 같은 칸을 쓰는 다른 값은 계속 있을 수도 있다고 답한다.")
+    void remove() {
+        // given
+        CountingBloomFilter filter = CountingBloomFilter.of(100, 0.01);
+        filter.add("nickname01");
+        filter.add("nickname02");
+
+        // when
+        filter.remove("nickname01");
+
+        // then
+        assertThat(filter.mightContain("nickname01")).isFalse();
+        assertThat(filter.mightContain("nickname02")).isTrue();
+    }
+
+}
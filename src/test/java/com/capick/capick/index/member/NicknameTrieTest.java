@@ -0,0 +1,81 @@
+package com.capick.capick.index.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NicknameTrieTest {
+
+    private final NicknameTrie nicknameTrie = new NicknameTrie(null, Duration.ofHours(1), Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("성공: 대소문자를 구분하지 않고 사용 중인 닉네임인지 확인한다.")
+    void contains() {
+        // given
+        nicknameTrie.add("Nickname01");
+
+        // when // then
+        assertThat(nicknameTrie.contains("nickname01")).isTrue();
+        assertThat(nicknameTrie.contains("NICKNAME01")).isTrue();
+        assertThat(nicknameTrie.contains("nickname0")).isFalse();
+        assertThat(nicknameTrie.contains("nickname012")).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 접두사로 시작하는 닉네임을 사전 순으로 최대 개수까지 찾고, 전체 수를 센다.")
+    void findByPrefix() {
+        // given
+        nicknameTrie.add("cafe_lover");
+        nicknameTrie.add("cafe");
+        nicknameTrie.add("Cafe1");
+        nicknameTrie.add("coffee");
+
+        // when // then
+        assertThat(nicknameTrie.findByPrefix("CAFE", 2)).containsExactly("cafe", "Cafe1");
+        assertThat(nicknameTrie.countByPrefix("cafe")).isEqualTo(3);
+        assertThat(nicknameTrie.countByPrefix("tea")).isZero();
+        assertThat(nicknameTrie.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("성공: 닉네임을 빼면 더 이상 사용 중이 아니고, 그 닉네임으로 시작하는 다른 닉네임은 남는다.")
+    void remove() {
+        // given
+        nicknameTrie.add("cafe");
+        nicknameTrie.add("cafe_lover");
+
+        // when
+        nicknameTrie.remove("cafe_lover");
+        nicknameTrie.remove("cafe_hater");
+
+        // then
+        assertThat(nicknameTrie.contains("cafe_lover")).isFalse();
+        assertThat(nicknameTrie.findByPrefix("cafe", 10)).containsExactly("cafe");
+        assertThat(nicknameTrie.countByPrefix("cafe_")).isZero();
+        assertThat(nicknameTrie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 회원마다 닉네임을 바꿔 넣으면 이전 닉네임은 빠지고, 같은 변경을 여러 번 넣어도 한 번만 반영된다.")
+    void put() {
+        // given
+        nicknameTrie.put(1L, "cafe");
+        nicknameTrie.put(2L, "coffee");
+
+        // when
+        nicknameTrie.put(1L, "cafe_lover");
+        nicknameTrie.put(1L, "cafe_lover");
+        nicknameTrie.put(2L, null);
+        nicknameTrie.put(2L, null);
+
+        // then
+        assertThat(nicknameTrie.contains("cafe")).isFalse();
+        assertThat(nicknameTrie.contains("coffee")).isFalse();
+        assertThat(nicknameTrie.countByPrefix("cafe_lover")).isEqualTo(1);
+        assertThat(nicknameTrie.size()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.capick.capick.index.mypick;
+
+import com.capick.capick.repository.MyPickRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+import static com.capick.capick.domain.common.BaseStatus.INACTIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MyPickIndexTest {
+
+    private final MyPickRepository myPickRepository = mock(MyPickRepository.class);
+
+    private final MyPickIndex myPickIndex = new MyPickIndex(myPickRepository, Duration.ofSeconds(2), Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("성공: 회원마다 찜한 카페만 찜한 것으로 답하고, 카카오 장소 id 로 카페 id 를 찾는다.")
+    void isPicked() {
+        // given
+        myPickIndex.reload(List.of(
+                new MyPickEntry(1L, 30L, "3000", ACTIVE),
+                new MyPickEntry(1L, 10L, "1000", ACTIVE),
+                new MyPickEntry(1L, 20L, "2000", ACTIVE),
+                new MyPickEntry(2L, 20L, "2000", ACTIVE)
+        ));
+
+        // when // then
+        assertThat(myPickIndex.isPicked(1L, 10L)).isTrue();
+        assertThat(myPickIndex.isPicked(1L, 30L)).isTrue();
+        assertThat(myPickIndex.isPicked(2L, 10L)).isFalse();
+        assertThat(myPickIndex.isPicked(3L, 10L)).isFalse();
+        assertThat(myPickIndex.countOf(1L)).isEqualTo(3);
+        assertThat(myPickIndex.findCafeId("2000")).hasValue(20L);
+        assertThat(myPickIndex.findCafeId("4000")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 찜을 더하거나 빼면 그 회원의 찜 여부만 바뀌고, 같은 카페를 두 번 찜해도 한 번만 센다. 찜을 모두 해제한 회원은 남기지 않는다.")
+    void addAndRemove() {
+        // given
+        myPickIndex.add(1L, 10L, "1000");
+        myPickIndex.add(2L, 10L, "1000");
+
+        // when
+        myPickIndex.add(1L, 20L, "2000");
+        myPickIndex.add(1L, 20L, "2000");
+        myPickIndex.remove(1L, 10L);
+        myPickIndex.remove(2L, 10L);
+        myPickIndex.remove(2L, 30L);
+
+        // then
+        assertThat(myPickIndex.isPicked(1L, 10L)).isFalse();
+        assertThat(myPickIndex.isPicked(1L, 20L)).isTrue();
+        assertThat(myPickIndex.countOf(1L)).isEqualTo(1);
+        assertThat(myPickIndex.isPicked(2L, 10L)).isFalse();
+        assertThat(myPickIndex.countOf(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 다른 서버에서 커밋된 찜과 찜 해제도 sync 하면 반영된다.")
+    void sync() {
+        // given
+        myPickIndex.add(1L, 10L, "1000");
+        when(myPickRepository.findAllEntriesByUpdatedAtGreaterThanEqual(any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        new MyPickEntry(1L, 10L, "1000", INACTIVE),
+                        new MyPickEntry(2L, 20L, "2000", ACTIVE)
+                ));
+
+        // when
+        int syncedCount = myPickIndex.sync();
+
+        // then
+        assertThat(syncedCount).isEqualTo(2);
+        assertThat(myPickIndex.isPicked(1L, 10L)).isFalse();
+        assertThat(myPickIndex.isPicked(2L, 20L)).isTrue();
+        assertThat(myPickIndex.findCafeId("2000")).hasValue(20L);
+    }
+
+}
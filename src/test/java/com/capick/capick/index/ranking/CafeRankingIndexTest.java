@@ -0,0 +1,88 @@
+package com.capick.capick.index.ranking;
+
+import com.capick.capick.repository.CafeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.capick.capick.domain.cafe.CafeTheme.STUDY;
+import static com.capick.capick.domain.cafe.CafeTheme.VIBE;
+import static com.capick.capick.domain.cafe.CafeType.COFFEE;
+import static com.capick.capick.domain.cafe.CafeType.NONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+class CafeRankingIndexTest {
+
+    private final CafeRankingIndex cafeRankingIndex = new CafeRankingIndex(mock(CafeRepository.class));
+
+    @Test
+    @DisplayName("성공: 테마별 순위는 테마 누적 횟수가 많은 순서대로, 같으면 먼저 등록된 카페 순서대로 요청한 개수만큼 조회한다.")
+    void topByTheme() {
+        // given
+        cafeRankingIndex.reload(List.of(
+                createScores(1L, 3, 0, 0),
+                createScores(2L, 5, 0, 0),
+                createScores(3L, 3, 0, 0),
+                createScores(4L, 1, 0, 0)
+        ));
+
+        // when
+        List<CafeRank> ranks = cafeRankingIndex.topByTheme(STUDY, 3);
+
+        // then
+        assertThat(ranks).extracting("scores.cafeId", "score")
+                .containsExactly(tuple(2L, 5), tuple(1L, 3), tuple(3L, 3));
+    }
+
+    @Test
+    @DisplayName("성공: 누적값이 바뀐 카페는 테마와 타입 순위표에서 새 점수의 자리로 옮겨진다.")
+    void update() {
+        // given
+        cafeRankingIndex.reload(List.of(
+                createScores(1L, 3, 10, 7),
+                createScores(2L, 2, 20, 0)
+        ));
+
+        // when
+        cafeRankingIndex.update(createScores(2L, 4, 5, 0));
+
+        // then
+        assertThat(cafeRankingIndex.topByTheme(STUDY, 10)).extracting("scores.cafeId", "score")
+                .containsExactly(tuple(2L, 4), tuple(1L, 3));
+        assertThat(cafeRankingIndex.topByType(COFFEE, 10)).extracting("scores.cafeId", "score")
+                .containsExactly(tuple(1L, 10), tuple(2L, 5));
+        assertThat(cafeRankingIndex.topByTheme(VIBE, 10)).extracting("scores.cafeId")
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("경계: 누적값이 0 이 된 카페는 순위표에서 빠지고, 타입 없음에는 순위가 없다.")
+    void updateToZero() {
+        // given
+        cafeRankingIndex.reload(List.of(
+                createScores(1L, 1, 1, 0),
+                createScores(2L, 2, 0, 0)
+        ));
+
+        // when
+        cafeRankingIndex.update(createScores(1L, 0, 0, 0));
+
+        // then
+        assertThat(cafeRankingIndex.topByTheme(STUDY, 10)).extracting("scores.cafeId")
+                .containsExactly(2L);
+        assertThat(cafeRankingIndex.topByType(COFFEE, 10)).isEmpty();
+        assertThat(cafeRankingIndex.topByType(NONE, 10)).isEmpty();
+    }
+
+    private CafeRankingScores createScores(Long cafeId, int studyCount, int coffeeIndex, int vibeCount) {
+        return new CafeRankingScores(
+                cafeId, "카페" + cafeId, String.valueOf(cafeId),
+                0, vibeCount, 0, 0, 0, studyCount, 0, 0,
+                coffeeIndex, 0, 0, 0
+        );
+    }
+
+}
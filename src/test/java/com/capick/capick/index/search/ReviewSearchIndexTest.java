@@ -0,0 +1,163 @@
+package com.capick.capick.index.search;
+
+import com.capick.capick.domain.common.BaseStatus;
+import com.capick.capick.repository.ReviewRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+import static com.capick.capick.domain.common.BaseStatus.INACTIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ReviewSearchIndexTest {
+
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+
+    @TempDir
+    private Path snapshotDirectory;
+
+    @Test
+    @DisplayName("성공: 검색어의 모든 토큰을 가진 리뷰만 찾고, 검색어가 자주 나오는 짧은 리뷰를 먼저 돌려준다.")
+    void search() {
+        // given
+        ReviewSearchIndex reviewSearchIndex = createIndex(false);
+        reviewSearchIndex.apply(createDocument(1L, 10L, "바닐라라떼가 달아요 바닐라라떼 추천", ACTIVE));
+        reviewSearchIndex.apply(createDocument(2L, 10L, "바닐라라떼는 보통이었고 조용해서 오래 공부하기 좋은 카페였어요", ACTIVE));
+        reviewSearchIndex.apply(createDocument(3L, 10L, "라떼가 고소해요", ACTIVE));
+
+        // when
+        List<ReviewSearchHit> hits = reviewSearchIndex.search("바닐라 라떼", null, 10);
+
+        // then
+        assertThat(hits).extracting("reviewId")
+                .containsExactly(1L, 2L);
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("성공: 카페를 지정하면 그 카페의 리뷰만 찾고, 요청한 개수만큼만 돌려준다.")
+    void searchInCafeWithLimit() {
+        // given
+        ReviewSearchIndex reviewSearchIndex = createIndex(false);
+        reviewSearchIndex.apply(createDocument(1L, 10L, "라떼 맛집", ACTIVE));
+        reviewSearchIndex.apply(createDocument(2L, 20L, "라떼 맛집", ACTIVE));
+        reviewSearchIndex.apply(createDocument(3L, 20L, "라떼 맛집", ACTIVE));
+
+        // when
+        List<ReviewSearchHit> hitsInCafe = reviewSearchIndex.search("라떼", 10L, 10);
+        List<ReviewSearchHit> limitedHits = reviewSearchIndex.search("라떼", null, 2);
+
+        // then
+        assertThat(hitsInCafe).extracting("reviewId")
+                .containsExactly(1L);
+        assertThat(limitedHits).extracting("reviewId")
+                .containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("성공: 수정된 리뷰는 새 본문으로만 찾고 삭제된 리뷰는 찾지 않는다. 병합하면 세그먼트가 하나로 합쳐지고 결과는 같다.")
+    void applyAndMerge() {
+        // given
+        ReviewSearchIndex reviewSearchIndex = createIndex(false);
+        reviewSearchIndex.apply(createDocument(1L, 10L, "라떼가 고소해요", ACTIVE));
+        reviewSearchIndex.apply(createDocument(2L, 10L, "라떼 맛집", ACTIVE));
+        reviewSearchIndex.apply(createDocument(3L, 10L, "아메리카노가 진해요", ACTIVE));
+
+        // when
+        reviewSearchIndex.apply(createDocument(3L, 10L, "라떼로 바꿨어요", ACTIVE));
+        reviewSearchIndex.apply(createDocument(2L, 10L, "라떼 맛집", INACTIVE));
+        List<ReviewSearchHit> hitsBeforeMerge = reviewSearchIndex.search("라떼", null, 10);
+        reviewSearchIndex.merge();
+        List<ReviewSearchHit> hitsAfterMerge = reviewSearchIndex.search("라떼", null, 10);
+
+        // then
+        assertThat(hitsBeforeMerge).extracting("reviewId")
+                .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(hitsAfterMerge).extracting("reviewId")
+                .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(reviewSearchIndex.search("아메리카노", null, 10)).isEmpty();
+        assertThat(reviewSearchIndex.segmentCount()).isEqualTo(1);
+        assertThat(reviewSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: 스냅숏이 있으면 전체를 다시 만들지 않고 스냅숏을 읽은 뒤 이후에 바뀐 리뷰만 반영한다.")
+    void loadFromSnapshot() throws IOException {
+        // given
+        ReviewSearchIndex previousIndex = createIndex(true);
+        previousIndex.apply(createDocument(1L, 10L, "라떼가 고소해요", ACTIVE));
+        previousIndex.apply(createDocument(2L, 10L, "라떼 맛집", ACTIVE));
+        previousIndex.merge();
+        previousIndex.snapshot();
+
+        when(reviewRepository.findSearchDocumentsByUpdatedAtGreaterThanEqual(any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        createDocument(2L, 10L, "라떼 맛집", INACTIVE),
+                        createDocument(3L, 20L, "라떼로 바꿨어요", ACTIVE)
+                ));
+        ReviewSearchIndex restartedIndex = createIndex(true);
+
+        // when
+        restartedIndex.load();
+
+        // then
+        assertThat(restartedIndex.search("라떼", null, 10)).extracting("reviewId")
+                .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(restartedIndex.search("고소", 10L, 10)).extracting("reviewId")
+                .containsExactly(1L);
+        verify(reviewRepository, never()).findSearchDocumentsByStatusAndIdGreaterThan(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("성공: 다른 서버에서 쓰거나 고친 리뷰는 sync 때 반영하고, 이미 반영한 수정은 다시 덧붙이지 않는다.")
+    void sync() {
+        // given
+        ReviewSearchIndex reviewSearchIndex = createIndex(false);
+        reviewSearchIndex.apply(createDocument(1L, 10L, "아메리카노가 진해요", ACTIVE));
+        LocalDateTime updatedAt = LocalDateTime.now();
+        when(reviewRepository.findSearchDocumentsByUpdatedAtGreaterThanEqual(any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        createDocument(1L, 10L, "라떼로 바꿨어요", ACTIVE, updatedAt),
+                        createDocument(2L, 20L, "라떼 맛집", ACTIVE, updatedAt)
+                ));
+
+        // when
+        int firstSyncCount = reviewSearchIndex.sync();
+        int secondSyncCount = reviewSearchIndex.sync();
+
+        // then
+        assertThat(firstSyncCount).isEqualTo(2);
+        assertThat(secondSyncCount).isZero();
+        assertThat(reviewSearchIndex.search("라떼", null, 10)).extracting("reviewId")
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(reviewSearchIndex.search("아메리카노", null, 10)).isEmpty();
+        assertThat(reviewSearchIndex.segmentCount()).isEqualTo(3);
+    }
+
+    private ReviewSearchIndex createIndex(boolean snapshotEnabled) {
+        return new ReviewSearchIndex(
+                reviewRepository, Duration.ofMinutes(1), snapshotEnabled,
+                snapshotDirectory.resolve("review-search.snapshot").toString(), Duration.ofMinutes(1),
+                Duration.ofHours(1), Duration.ofSeconds(30));
+    }
+
+    private ReviewSearchDocument createDocument(Long reviewId, Long cafeId, String content, BaseStatus status) {
+        return new ReviewSearchDocument(reviewId, cafeId, "방문", content, "메뉴", status);
+    }
+
+    private ReviewSearchDocument createDocument(
+            Long reviewId, Long cafeId, String content, BaseStatus status, LocalDateTime updatedAt) {
+        return new ReviewSearchDocument(reviewId, cafeId, "방문", content, "메뉴", status, updatedAt);
+    }
+
+}
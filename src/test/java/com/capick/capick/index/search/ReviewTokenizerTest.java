@@ -0,0 +1,30 @@
+package com.capick.capick.index.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ReviewTokenizerTest {
+
+    @Test
+    @DisplayName("성공: 한글은 두 글자씩 겹쳐 자르고, 영문과 숫자는 소문자 단어로 자르며, 나머지 문자는 구분자로 본다.")
+    void termFrequencies() {
+        // when
+        Map<String, Integer> termFrequencies = ReviewTokenizer.termFrequencies("라떼가 LATTE!", "2잔, 또 라떼");
+
+        // then
+        assertThat(termFrequencies).containsOnly(
+                entry("라떼", 2),
+                entry("떼가", 1),
+                entry("latte", 1),
+                entry("2", 1),
+                entry("잔", 1),
+                entry("또", 1)
+        );
+    }
+
+}
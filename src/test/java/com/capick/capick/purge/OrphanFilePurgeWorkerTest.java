@@ -0,0 +1,110 @@
+package com.capick.capick.purge;
+
+import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
+import com.capick.capick.repository.history.storage.StorageOrphanFileHistoryRepository;
+import com.capick.capick.service.OrphanFilePurgeService;
+import com.capick.capick.storage.LocalFileSystemStorageClient;
+import com.capick.capick.storage.StorageClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static com.capick.capick.domain.history.storage.FileDomain.REVIEW;
+import static com.capick.capick.domain.history.storage.FileType.IMAGE;
+import static org.assertj.core.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class OrphanFilePurgeWorkerTest {
+
+    @Autowired
+    private OrphanFilePurgeService orphanFilePurgeService;
+
+    @Autowired
+    private StorageOrphanFileHistoryRepository storageOrphanFileHistoryRepository;
+
+    @TempDir
+    Path storageRoot;
+
+    @AfterEach
+    void tearDown() {
+        storageOrphanFileHistoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("성공: 고아 파일을 묶음 단위로 저장소에서 지우고, 지운 기록을 완전 삭제로 표시한다.")
+    void purge() throws IOException {
+        // given
+        Files.createDirectories(storageRoot.resolve("images"));
+        for (int number = 0; number < 5; number++) {
+            Files.createFile(storageRoot.resolve("images/file" + number));
+            saveOrphanFile("https://storage.com/images/file" + number);
+        }
+        OrphanFilePurgeWorker worker = createWorker(new LocalFileSystemStorageClient(storageRoot));
+
+        // when
+        long purgedCount = worker.purge();
+
+        // then
+        assertThat(purgedCount).isEqualTo(5);
+        assertThat(worker.getDeletedCount()).isEqualTo(5);
+        assertThat(worker.getLagSeconds()).isZero();
+        try (var files = Files.list(storageRoot.resolve("images"))) {
+            assertThat(files).isEmpty();
+        }
+        assertThat(storageOrphanFileHistoryRepository.findAll())
+                .extracting("isHardDeleted")
+                .containsOnly(true);
+    }
+
+    @Test
+    @DisplayName("실패: 저장소에서 지우지 못한 파일은 실패로 세고, 완전 삭제로 표시하지 않는다.")
+    void purgeWithDeleteFailure() {
+        // given
+        saveOrphanFile("https://storage.com/images/deletable");
+        saveOrphanFile("https://storage.com/images/undeletable");
+        StorageClient storageClient = url -> {
+            if (url.endsWith("undeletable")) {
+                throw new IllegalStateException("저장소 오류");
+            }
+        };
+        OrphanFilePurgeWorker worker = createWorker(storageClient);
+
+        // when
+        long purgedCount = worker.purge();
+
+        // then
+        assertThat(purgedCount).isEqualTo(1);
+        assertThat(worker.getDeletedCount()).isEqualTo(1);
+        assertThat(worker.getFailedCount()).isEqualTo(1);
+        assertThat(storageOrphanFileHistoryRepository.findAll())
+                .extracting("url", "isHardDeleted")
+                .containsExactlyInAnyOrder(
+                        tuple("https://storage.com/images/deletable", true),
+                        tuple("https://storage.com/images/undeletable", false)
+                );
+    }
+
+    private OrphanFilePurgeWorker createWorker(StorageClient storageClient) {
+        return new OrphanFilePurgeWorker(
+                orphanFilePurgeService, storageClient, new SimpleMeterRegistry(),
+                false, Duration.ofHours(1), 2, Duration.ofMinutes(5)
+        );
+    }
+
+    private void saveOrphanFile(String url) {
+        storageOrphanFileHistoryRepository.save(StorageOrphanFileHistory.create("file", IMAGE, REVIEW, url));
+    }
+
+}
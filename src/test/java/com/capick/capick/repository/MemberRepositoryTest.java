@@ -19,38 +19,6 @@ class MemberRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
-    @Test
-    @DisplayName("성공: 이미 사용 중인 이메일인지 조회한다.")
-    void existsByEmailAndStatus() {
-        // given
-        Member member = createMember("email01@naver.com", "password01", "member1");
-        memberRepository.save(member);
-
-        // when
-        boolean exists = memberRepository.existsByEmailAndStatus("email01@naver.com", ACTIVE);
-        boolean notExists = memberRepository.existsByEmailAndStatus("email02@naver.com", ACTIVE);
-
-        // then
-        assertThat(exists).isTrue();
-        assertThat(notExists).isFalse();
-    }
-
-    @Test
-    @DisplayName("성공: 이미 사용 중인 닉네임인지 조회한다.")
-    void existsByNicknameAndStatus() {
-        // given
-        Member member = createMember("email01@naver.com", "password01", "member1");
-        memberRepository.save(member);
-
-        // when
-        boolean exists = memberRepository.existsByNicknameAndStatus("member1", ACTIVE);
-        boolean notExists = memberRepository.existsByNicknameAndStatus("member2", ACTIVE);
-
-        // then
-        assertThat(exists).isTrue();
-        assertThat(notExists).isFalse();
-    }
-
     @Test
     @DisplayName("성공: 탈퇴하지 않았거나 가입한 회원을 조회할 수 있다.")
     void findByIdAndStatus() {
@@ -1,5 +1,6 @@
 package com.capick.capick.repository;
 
+import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.review.Review;
 import com.capick.capick.domain.review.ReviewImage;
 import org.junit.jupiter.api.DisplayName;
@@ -57,6 +58,71 @@ class ReviewImageRepositoryTest {
                 );
     }
 
+    @Test
+    @DisplayName("성공: 여러 리뷰에 업로드 된 리뷰 이미지를 한 번에 조회할 수 있다.")
+    void findAllByReviewInAndStatus() {
+        // given
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Review review1 = createReview("넓어서 갔어요", "리뷰 내용", "핫 아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        Review review2 = createReview("넓어서 갔어요", "리뷰 내용", "핫 아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        Review review3 = createReview("넓어서 갔어요", "리뷰 내용", "핫 아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        reviewRepository.saveAll(List.of(review1, review2, review3));
+
+        ReviewImage deletedReviewImage = createReviewImage("https://storage.com/images/3", review2);
+        deletedReviewImage.delete();
+        reviewImageRepository.saveAll(List.of(
+                createReviewImage("https://storage.com/images/1", review1),
+                createReviewImage("https://storage.com/images/2", review2),
+                deletedReviewImage,
+                createReviewImage("https://storage.com/images/4", review3)
+        ));
+
+        // when
+        List<ReviewImage> reviewImages = reviewImageRepository.findAllByReviewInAndStatus(
+                List.of(review1, review2), ACTIVE);
+
+        // then
+        assertThat(reviewImages).hasSize(2)
+                .extracting(ReviewImage::getImageUrl)
+                .containsExactlyInAnyOrder("https://storage.com/images/1", "https://storage.com/images/2");
+    }
+
+    @Test
+    @DisplayName("성공: 리뷰 한 건의 이미지를 한 번에 등록할 수 있다.")
+    void insertAllInBatch() {
+        // given
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Review review = createReview("넓어서 갔어요", "리뷰 내용", "핫 아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        Review savedReview = reviewRepository.save(review);
+
+        List<ReviewImage> reviewImages = List.of(
+                createReviewImage("https://storage.com/images/1", review),
+                createReviewImage("https://storage.com/images/2", review),
+                createReviewImage("https://storage.com/images/3", review)
+        );
+
+        // when
+        int insertedCount = reviewImageRepository.insertAllInBatch(reviewImages);
+
+        // then
+        assertThat(insertedCount).isEqualTo(3);
+        assertThat(reviewImageRepository.findAllByReviewAndStatus(savedReview, ACTIVE)).hasSize(3)
+                .extracting(ReviewImage::getImageUrl)
+                .containsExactlyInAnyOrder(
+                        "https://storage.com/images/1", "https://storage.com/images/2", "https://storage.com/images/3"
+                );
+    }
+
+    @Test
+    @DisplayName("경계: 등록할 이미지가 없으면 SQL 을 실행하지 않는다.")
+    void insertAllInBatchWithEmpty() {
+        // when
+        int insertedCount = reviewImageRepository.insertAllInBatch(List.of());
+
+        // then
+        assertThat(insertedCount).isZero();
+    }
+
     private Review createReview(
             String visitPurpose, String content, String menu,
             int coffeeIndex, int spaceIndex, int priceIndex, int noiseIndex, String theme, LocalDateTime registeredAt) {
@@ -68,7 +134,7 @@ class ReviewImageRepositoryTest {
                 .spaceIndex(spaceIndex)
                 .priceIndex(priceIndex)
                 .noiseIndex(noiseIndex)
-                .theme(theme)
+                .theme(CafeTheme.findByThemeName(theme))
                 .registeredAt(registeredAt)
                 .build();
     }
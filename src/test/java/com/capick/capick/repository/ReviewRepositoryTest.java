@@ -1,15 +1,19 @@
 package com.capick.capick.repository;
 
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.member.Member;
 import com.capick.capick.domain.review.Review;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 
 import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
@@ -25,6 +29,9 @@ class ReviewRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private CafeRepository cafeRepository;
+
     @Test
     @DisplayName("성공: 삭제되지 않았거나 작성된 리뷰를 조회할 수 있다.")
     void findByIdAndStatus() {
@@ -68,6 +75,33 @@ class ReviewRepositoryTest {
                 .isEqualTo(writer);
     }
 
+    @Test
+    @DisplayName("성공: 까페의 리뷰를 등록 시간과 아이디의 역순으로, 커서로 전달한 리뷰 다음부터 작성 회원과 함께 조회한다.")
+    void findNextPageWithMemberByCafeAndStatus() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01", "member1");
+        memberRepository.save(writer);
+        Cafe cafe = Cafe.builder().name("스타벅스 광화문점").kakaoPlaceId("1234567").build();
+        cafeRepository.save(cafe);
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Review oldReview = createReview(writer, cafe, "리뷰 내용1", registeredAt.minusHours(1));
+        Review cursorReview = createReview(writer, cafe, "리뷰 내용2", registeredAt);
+        Review sameTimeReview = createReview(writer, cafe, "리뷰 내용3", registeredAt);
+        reviewRepository.saveAll(List.of(oldReview, cursorReview, sameTimeReview));
+
+        // when
+        List<Review> firstPage = reviewRepository.findFirstPageWithMemberByCafeAndStatus(
+                cafe, ACTIVE, PageRequest.of(0, 2));
+        List<Review> nextPage = reviewRepository.findNextPageWithMemberByCafeAndStatus(
+                cafe, ACTIVE, cursorReview.getRegisteredAt(), cursorReview.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).extracting("content").containsExactly("리뷰 내용3", "리뷰 내용2");
+        assertThat(nextPage).extracting("content").containsExactly("리뷰 내용1");
+        assertThat(nextPage.get(0).getWriter()).usingRecursiveComparison().isEqualTo(writer);
+    }
+
     private Member createMember(String email, String password, String nickname) {
         return Member.builder()
                 .email(email)
@@ -87,7 +121,7 @@ class ReviewRepositoryTest {
                 .spaceIndex(spaceIndex)
                 .priceIndex(priceIndex)
                 .noiseIndex(noiseIndex)
-                .theme(theme)
+                .theme(CafeTheme.findByThemeName(theme))
                 .registeredAt(registeredAt)
                 .build();
     }
@@ -104,9 +138,25 @@ class ReviewRepositoryTest {
                 .spaceIndex(spaceIndex)
                 .priceIndex(priceIndex)
                 .noiseIndex(noiseIndex)
-                .theme(theme)
+                .theme(CafeTheme.findByThemeName(theme))
+                .registeredAt(registeredAt)
+                .build();
+    }
+
+    private Review createReview(Member writer, Cafe cafe, String content, LocalDateTime registeredAt) {
+        return Review.builder()
+                .writer(writer)
+                .cafe(cafe)
+                .visitPurpose("넓어서 갔어요")
+                .content(content)
+                .menu("핫 아메리카노")
+                .coffeeIndex(3)
+                .spaceIndex(3)
+                .priceIndex(4)
+                .noiseIndex(3)
+                .theme(CafeTheme.NORMAL)
                 .registeredAt(registeredAt)
                 .build();
     }
 
-}
\ No newline at end of file
+}
@@ -11,11 +11,13 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
 import static com.capick.capick.domain.history.storage.FileDomain.MEMBER;
 import static com.capick.capick.domain.history.storage.FileDomain.REVIEW;
 import static com.capick.capick.domain.history.storage.FileType.IMAGE;
 import static com.capick.capick.domain.history.storage.FileType.VIDEO;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ActiveProfiles("test")
 @DataJpaTest
@@ -70,6 +72,36 @@ class StorageOrphanFileHistoryRepositoryTest {
         assertThat(notExists).isFalse();
     }
 
+    @Test
+    @DisplayName("성공: 고아 파일 기록 여러 건을 한 번에 등록할 수 있다. 등록된 기록은 파일 타입과 도메인, 상태가 그대로 조회된다.")
+    void insertAllInBatch() {
+        // given
+        List<StorageOrphanFileHistory> storageOrphanFileHistories = List.of(
+                createStorageOrphanFileHistory(
+                        "000000000_0_6bc5f946-fcce-4189-a792-ef21d5ae916d", IMAGE, REVIEW,
+                        "https://storage.com/images1"),
+                createStorageOrphanFileHistory(
+                        "000000001_0_6bc5f946-fcce-4189-a792-ef21d5ae916d", VIDEO, MEMBER,
+                        "https://storage.com/videos1")
+        );
+
+        // when
+        int insertedCount = storageOrphanFileHistoryRepository.insertAllInBatch(storageOrphanFileHistories);
+
+        // then
+        assertThat(insertedCount).isEqualTo(2);
+        assertThat(storageOrphanFileHistoryRepository.findAll()).hasSize(2)
+                .extracting("fileName", "fileType", "domain", "url", "status", "hardDeleted")
+                .containsExactlyInAnyOrder(
+                        tuple("000000000_0_6bc5f946-fcce-4189-a792-ef21d5ae916d", IMAGE, REVIEW,
+                                "https://storage.com/images1", ACTIVE, false),
+                        tuple("000000001_0_6bc5f946-fcce-4189-a792-ef21d5ae916d", VIDEO, MEMBER,
+                                "https://storage.com/videos1", ACTIVE, false)
+                );
+        assertThat(storageOrphanFileHistoryRepository.findAll())
+                .allSatisfy(orphanFile -> assertThat(orphanFile.getCreatedAt()).isNotNull());
+    }
+
     private StorageOrphanFileHistory createStorageOrphanFileHistory(
             String fileName, FileType fileType, FileDomain domain, String url) {
         return StorageOrphanFileHistory.builder()
@@ -0,0 +1,72 @@
+package com.capick.capick.security;
+
+import com.capick.capick.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BcryptPasswordHasherTest {
+
+    private BcryptPasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 비밀번호를 bcrypt 로 해시하고, 해시와 맞는지 확인한다.")
+    void hashAndMatches() {
+        // given
+        passwordHasher = createPasswordHasher(4, 1, 8);
+
+        // when
+        String hashedPassword = passwordHasher.hash("password12^&*");
+
+        // then
+        assertThat(hashedPassword).startsWith("$2a$04$");
+        assertThat(passwordHasher.matches("password12^&*", hashedPassword)).isTrue();
+        assertThat(passwordHasher.matches("password12^&", hashedPassword)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 해시를 도입하기 전에 평문으로 저장된 비밀번호도 확인한다.")
+    void matchesLegacyPlainPassword() {
+        // given
+        passwordHasher = createPasswordHasher(4, 1, 8);
+
+        // when // then
+        assertThat(passwordHasher.matches("password12^&*", "password12^&*")).isTrue();
+        assertThat(passwordHasher.matches("password12^&", "password12^&*")).isFalse();
+    }
+
+    @Test
+    @DisplayName("예외: 해시 스레드와 대기열이 모두 차면 기다리지 않고 바로 거절한다.")
+    void rejectWhenSaturated() throws InterruptedException {
+        // given
+        passwordHasher = createPasswordHasher(13, 1, 1);
+        CompletableFuture.runAsync(() -> passwordHasher.hash("running"));
+        CompletableFuture.runAsync(() -> passwordHasher.hash("queued"));
+        while (passwordHasher.getQueueSize() < 1) {
+            Thread.sleep(1);
+        }
+
+        // when // then
+        assertThatThrownBy(() -> passwordHasher.hash("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage("요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        assertThat(passwordHasher.getRejectedCount()).isEqualTo(1);
+    }
+
+    private BcryptPasswordHasher createPasswordHasher(int bcryptCost, int threads, int queueCapacity) {
+        return new BcryptPasswordHasher(
+                new SimpleMeterRegistry(), bcryptCost, threads, queueCapacity, Duration.ofSeconds(5));
+    }
+
+}
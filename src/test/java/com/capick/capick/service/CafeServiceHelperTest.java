@@ -0,0 +1,65 @@
+package com.capick.capick.service;
+
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.dto.request.CafeCreateRequest;
+import com.capick.capick.dto.request.LocationCreateRequest;
+import com.capick.capick.repository.CafeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CafeServiceHelperTest {
+
+    private final CafeRepository cafeRepository = mock(CafeRepository.class);
+
+    private final CafeServiceHelper cafeServiceHelper = new CafeServiceHelper(
+            cafeRepository, mock(ApplicationEventPublisher.class), Duration.ofMillis(100));
+
+    @Test
+    @DisplayName("성공: 같은 카페를 먼저 등록하는 요청이 멈추면, 기다리던 요청은 제한 시간까지만 기다리고 직접 upsert 한다.")
+    void findCafeByKakaoPlaceIdOrElseCreateWithStalledLeader() throws Exception {
+        // given
+        CountDownLatch leaderEntered = new CountDownLatch(1);
+        CountDownLatch leaderReleased = new CountDownLatch(1);
+        Cafe cafe = Cafe.builder().name("스타벅스 광화문점").kakaoPlaceId("1234567").build();
+        when(cafeRepository.findByKakaoPlaceIdAndStatus(anyString(), any())).thenReturn(Optional.empty());
+        when(cafeRepository.findById(1L)).thenReturn(Optional.of(cafe));
+        when(cafeRepository.upsertByKakaoPlaceId(any()))
+                .thenAnswer(invocation -> {
+                    leaderEntered.countDown();
+                    leaderReleased.await(1, TimeUnit.MINUTES);
+                    return 1L;
+                })
+                .thenReturn(1L);
+        CafeCreateRequest cafeCreateRequest = CafeCreateRequest.builder()
+                .name("스타벅스 광화문점")
+                .kakaoPlaceId("1234567")
+                .kakaoDetailPageUrl("https://place.url/1234567")
+                .location(new LocationCreateRequest(37.57122962143047, 126.97629649901215, null, null))
+                .build();
+        CompletableFuture<Cafe> leader = CompletableFuture.supplyAsync(
+                () -> cafeServiceHelper.findCafeByKakaoPlaceIdOrElseCreate(cafeCreateRequest));
+        leaderEntered.await(1, TimeUnit.MINUTES);
+
+        // when
+        Cafe waiterCafe = cafeServiceHelper.findCafeByKakaoPlaceIdOrElseCreate(cafeCreateRequest);
+        leaderReleased.countDown();
+
+        // then
+        assertThat(waiterCafe).isSameAs(cafe);
+        assertThat(leader.get(1, TimeUnit.MINUTES)).isSameAs(cafe);
+        verify(cafeRepository, times(2)).upsertByKakaoPlaceId(any());
+    }
+
+}
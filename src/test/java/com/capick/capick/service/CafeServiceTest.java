@@ -1,24 +1,47 @@
 package com.capick.capick.service;
 
+import com.capick.capick.cache.CafeResponseCache;
 import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeAggregateDelta;
+import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.common.Location;
+import com.capick.capick.dto.request.CafeNearbySearchRequest;
+import com.capick.capick.dto.request.CafeRankingRequest;
+import com.capick.capick.dto.response.CafeNearbyResponse;
+import com.capick.capick.dto.response.CafeRankingResponse;
 import com.capick.capick.dto.response.CafeResponse;
 import com.capick.capick.exception.NotFoundResourceException;
+import com.capick.capick.index.geo.CafeGeoIndex;
+import com.capick.capick.index.ranking.CafeRankingIndex;
+import com.capick.capick.metric.ServiceTimerAspect;
 import com.capick.capick.repository.CafeRepository;
+import com.capick.capick.support.SqlStatementCount;
+import com.capick.capick.support.SqlStatementCounter;
+import com.capick.capick.support.SqlStatementCounterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
 import static com.capick.capick.domain.cafe.CafeTheme.NORMAL;
+import static com.capick.capick.domain.cafe.CafeTheme.STUDY;
 import static com.capick.capick.domain.cafe.CafeType.NONE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ActiveProfiles("test")
 @SpringBootTest
+@Import(SqlStatementCounterConfig.class)
 class CafeServiceTest {
 
     @Autowired
@@ -27,9 +50,27 @@ class CafeServiceTest {
     @Autowired
     private CafeRepository cafeRepository;
 
+    @Autowired
+    private CafeGeoIndex cafeGeoIndex;
+
+    @Autowired
+    private CafeRankingIndex cafeRankingIndex;
+
+    @Autowired
+    private CafeAggregateService cafeAggregateService;
+
+    @Autowired
+    private CafeResponseCache cafeResponseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @AfterEach
     void tearDown() {
         cafeRepository.deleteAllInBatch();
+        cafeGeoIndex.clear();
+        cafeRankingIndex.clear();
+        cafeResponseCache.clear();
     }
 
     @Test
@@ -53,6 +94,77 @@ class CafeServiceTest {
                 .contains(37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
     }
 
+    @Test
+    @DisplayName("성공: 한 번 조회한 카페는 캐시에서 응답하므로 DB 를 다시 조회하지 않는다.")
+    void getCafeByMapVendorPlaceIdFromCache() {
+        // given
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567", cafeLocation);
+        String kakaoPlaceId = cafeRepository.save(cafe).getKakaoPlaceId();
+        cafeService.getCafeByMapVendorPlaceId(kakaoPlaceId);
+        long missCount = cafeResponseCache.getMissCount();
+        long hitCount = cafeResponseCache.getHitCount();
+
+        // when
+        cafeRepository.deleteAllInBatch();
+        CafeResponse response = cafeService.getCafeByMapVendorPlaceId(kakaoPlaceId);
+
+        // then
+        assertThat(response.getName()).isEqualTo("스타벅스 광화문점");
+        assertThat(cafeResponseCache.getMissCount()).isEqualTo(missCount);
+        assertThat(cafeResponseCache.getHitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    @DisplayName("성공: 다른 서버에서 카페 타입이나 테마가 바뀌면, 이 서버의 캐시는 invalidation sync 때 무효화되어 새 값을 응답한다.")
+    void syncInvalidationsFromOtherNode() {
+        // given
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = cafeRepository.save(
+                createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567", cafeLocation));
+        CafeResponseCache otherNodeCache = new CafeResponseCache(
+                cafeRepository, 100, Duration.ofMinutes(10), Duration.ofHours(1), Duration.ofSeconds(30));
+        Supplier<CafeResponse> loader = () -> CafeResponse.of(cafeRepository.findById(cafe.getId()).orElseThrow());
+        CafeResponse cachedResponse = otherNodeCache.getOrLoad("1234567", loader);
+
+        // when
+        cafeAggregateService.applyDelta(cafe.getId(), createStudyDelta(1));
+        CafeResponse staleResponse = otherNodeCache.getOrLoad("1234567", loader);
+        int invalidatedCount = otherNodeCache.syncInvalidations();
+        CafeResponse syncedResponse = otherNodeCache.getOrLoad("1234567", loader);
+
+        // then
+        assertThat(cachedResponse.getCafeTheme()).isEqualTo(NORMAL);
+        assertThat(staleResponse.getCafeTheme()).isEqualTo(NORMAL);
+        assertThat(invalidatedCount).isEqualTo(1);
+        assertThat(syncedResponse.getCafeTheme()).isEqualTo(STUDY);
+    }
+
+    @Test
+    @DisplayName("성공: 카페 캐시의 적중, 미적중 횟수와 크기는 메트릭으로 기록된다.")
+    void cafeResponseCacheMetrics() {
+        // given
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        String kakaoPlaceId = cafeRepository.save(
+                createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567", cafeLocation)).getKakaoPlaceId();
+        double hitCount = meterRegistry.get("capick.cache.cafe").tag("result", "hit").functionCounter().count();
+        double missCount = meterRegistry.get("capick.cache.cafe").tag("result", "miss").functionCounter().count();
+
+        // when
+        cafeService.getCafeByMapVendorPlaceId(kakaoPlaceId);
+        cafeService.getCafeByMapVendorPlaceId(kakaoPlaceId);
+
+        // then
+        assertThat(meterRegistry.get("capick.cache.cafe").tag("result", "hit").functionCounter().count())
+                .isEqualTo(hitCount + 1);
+        assertThat(meterRegistry.get("capick.cache.cafe").tag("result", "miss").functionCounter().count())
+                .isEqualTo(missCount + 1);
+        assertThat(meterRegistry.get("capick.cache.cafe.size").gauge().value()).isEqualTo(1.0);
+    }
+
     @Test
     @DisplayName("예외: 지도 서비스상의 ID로 카페 조회 시 등록된 적이 없거나 삭제되어 존재하지 않는 카페이면 예외가 발생한다.")
     void getNotExistCafeByMapVendorPlaceId() {
@@ -65,6 +177,108 @@ class CafeServiceTest {
                 .hasMessage("등록된 적이 없거나 삭제되어 서비스상에서 존재하지 않는 카페입니다.");
     }
 
+    @Test
+    @DisplayName("성공: 서비스 메서드의 실행 시간은 메서드와 예외 종류별로 메트릭에 기록된다.")
+    void recordServiceTimer() {
+        // given
+        String notExistKakaoPlaceId = "7654321";
+
+        // when
+        assertThatThrownBy(() -> cafeService.getCafeByMapVendorPlaceId(notExistKakaoPlaceId))
+                .isInstanceOf(NotFoundResourceException.class);
+
+        // then
+        Timer timer = meterRegistry.find(ServiceTimerAspect.SERVICE_TIMER)
+                .tags("class", "CafeService", "method", "getCafeByMapVendorPlaceId",
+                        "exception", "NotFoundResourceException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 회원 또는 방문자는 현재 위치 주변의 카페를 가까운 순서대로 조회할 수 있다.")
+    void getNearbyCafes() {
+        // given
+        Cafe cafe1 = createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567", createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000"));
+        Cafe cafe2 = createCafe("스타벅스 시청점", "2345678", "https://place.url/2345678", createLocation(
+                37.56653500000000, 126.97796900000000, "서울 중구 태평로1가 00-0", "서울 중구 세종대로 000"));
+        Cafe cafe3 = createCafe("스타벅스 강남점", "3456789", "https://place.url/3456789", createLocation(
+                37.49794200000000, 127.02762100000000, "서울 강남구 역삼동 000-0", "서울 강남구 강남대로 000"));
+        cafeRepository.saveAll(List.of(cafe1, cafe2, cafe3));
+        cafeGeoIndex.load();
+
+        CafeNearbySearchRequest request = CafeNearbySearchRequest.builder()
+                .lat(37.5700)
+                .lng(126.9760)
+                .radius(1000)
+                .build();
+
+        // when
+        List<CafeNearbyResponse> responses = cafeService.getNearbyCafes(request);
+
+        // then
+        assertThat(responses).hasSize(2)
+                .extracting("name", "kakaoPlaceId")
+                .containsExactly(
+                        tuple("스타벅스 광화문점", "1234567"),
+                        tuple("스타벅스 시청점", "2345678")
+                );
+    }
+
+    @Test
+    @DisplayName("성공: 회원 또는 방문자는 테마별 카페 순위를 조회할 수 있다. 리뷰로 누적 횟수가 바뀌면 순위에 바로 반영된다.")
+    void getCafeRankings() {
+        // given
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe1 = createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567", cafeLocation);
+        Cafe cafe2 = createCafe("스타벅스 시청점", "2345678", "https://place.url/2345678", cafeLocation);
+        cafeRepository.saveAll(List.of(cafe1, cafe2));
+        cafeRankingIndex.load();
+
+        cafeAggregateService.applyDelta(cafe1.getId(), createStudyDelta(1));
+        cafeAggregateService.applyDelta(cafe2.getId(), createStudyDelta(2));
+
+        CafeRankingRequest request = CafeRankingRequest.builder()
+                .theme("study")
+                .build();
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(() -> cafeService.getCafeRankings(request));
+        List<CafeRankingResponse> responses = cafeService.getCafeRankings(request);
+
+        // then
+        assertThat(count.getSelectCount()).isEqualTo(0L);
+        assertThat(responses).hasSize(2)
+                .extracting("rank", "name", "kakaoPlaceId", "score")
+                .containsExactly(
+                        tuple(1, "스타벅스 시청점", "2345678", 2),
+                        tuple(2, "스타벅스 광화문점", "1234567", 1)
+                );
+    }
+
+    @Test
+    @DisplayName("성능: 카페 조회는 처음 한 번만 SQL 을 실행하고, 이후에는 캐시에서 응답한다.")
+    void getCafeByMapVendorPlaceIdSqlStatementCount() {
+        // given
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567", cafeLocation);
+        String kakaoPlaceId = cafeRepository.save(cafe).getKakaoPlaceId();
+
+        // when
+        SqlStatementCount firstCount = SqlStatementCounter.count(
+                () -> cafeService.getCafeByMapVendorPlaceId(kakaoPlaceId));
+        SqlStatementCount cachedCount = SqlStatementCounter.count(
+                () -> cafeService.getCafeByMapVendorPlaceId(kakaoPlaceId));
+
+        // then
+        assertThat(firstCount.getSelectCount()).isEqualTo(1L);
+        assertThat(cachedCount.getSelectCount()).isEqualTo(0L);
+    }
+
     private Location createLocation(double latitude, double longitude, String address, String roadAddress) {
         return Location.builder()
                 .latitude(latitude)
@@ -74,6 +288,12 @@ class CafeServiceTest {
                 .build();
     }
 
+    private CafeAggregateDelta createStudyDelta(int studyCount) {
+        int[] themeCounts = new int[CafeTheme.values().length];
+        themeCounts[CafeTheme.STUDY.ordinal()] = studyCount;
+        return CafeAggregateDelta.of(0, 0, 0, 0, themeCounts);
+    }
+
     private Cafe createCafe(String name, String kakaoPlaceId, String kakaoDetailPageUrl, Location location) {
         return Cafe.builder()
                 .name(name)
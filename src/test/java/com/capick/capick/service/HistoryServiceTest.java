@@ -5,26 +5,39 @@ import com.capick.capick.domain.history.storage.FileType;
 import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
 import com.capick.capick.dto.request.history.storage.StorageOrphanFileHistoriesCreateRequest;
 import com.capick.capick.dto.request.history.storage.StorageOrphanFileHistoryCreateRequest;
+import com.capick.capick.dto.response.history.storage.StorageOrphanFileIngestResponse;
 import com.capick.capick.exception.DomainPoliticalArgumentException;
 import com.capick.capick.exception.DuplicateResourceException;
 import com.capick.capick.repository.history.storage.StorageOrphanFileHistoryRepository;
+import com.capick.capick.support.SqlStatementCount;
+import com.capick.capick.support.SqlStatementCounter;
+import com.capick.capick.support.SqlStatementCounterConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.capick.capick.domain.history.storage.FileDomain.MEMBER;
 import static com.capick.capick.domain.history.storage.FileDomain.REVIEW;
 import static com.capick.capick.domain.history.storage.FileType.IMAGE;
 import static com.capick.capick.domain.history.storage.FileType.VIDEO;
+import static com.capick.capick.dto.response.history.storage.OrphanFileIngestResult.DUPLICATE;
+import static com.capick.capick.dto.response.history.storage.OrphanFileIngestResult.INVALID;
 import static org.assertj.core.api.Assertions.*;
 
 @ActiveProfiles("test")
 @SpringBootTest
+@Import(SqlStatementCounterConfig.class)
 class HistoryServiceTest {
 
     @Autowired
@@ -319,6 +332,103 @@ class HistoryServiceTest {
                 );
     }
 
+    @Test
+    @DisplayName("성능: 고아 파일 기록 시 중복 확인은 요청 파일 개수에 상관없이 한 번만 조회한다.")
+    void createStorageOrphanFileHistoriesSqlStatementCount() {
+        // given
+        StorageOrphanFileHistoriesCreateRequest request = createStorageOrphanFileHistoriesCreateRequest(
+                List.of(
+                        createStorageOrphanFileHistoryCreateRequest(
+                                "000000000_0_6bc5f946-fcce-4189-a792-ef21d5ae916d", "images", "reviews",
+                                "https://storage.com/images1"
+                        ),
+                        createStorageOrphanFileHistoryCreateRequest(
+                                "000000001_0_6bc5f946-fcce-4189-a792-ef21d5ae916d", "images", "reviews",
+                                "https://storage.com/images2"
+                        ),
+                        createStorageOrphanFileHistoryCreateRequest(
+                                "000000002_0_6bc5f946-fcce-4189-a792-ef21d5ae916d", "videos", "members",
+                                "https://storage.com/videos1"
+                        )
+                )
+        );
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(
+                () -> historyService.createStorageOrphanFileHistories(request));
+
+        // then
+        assertThat(count)
+                .extracting("selectCount", "insertCount", "updateCount", "deleteCount")
+                .containsExactly(1L, 1L, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("성공: NDJSON 으로 고아 파일을 한 줄에 하나씩 기록하면, 등록되지 않은 줄만 줄 번호와 사유를 응답한다.")
+    void ingestStorageOrphanFileHistories() throws IOException {
+        // given
+        storageOrphanFileHistoryRepository.save(
+                createStorageOrphanFileHistory("000000000_0_recorded", IMAGE, REVIEW, "https://storage.com/recorded"));
+
+        String orphanFileLines = String.join("\n",
+                "{\"fileName\":\"000000001_0\",\"fileType\":\"images\",\"domain\":\"reviews\",\"url\":\"https://storage.com/images1\"}",
+                "{\"fileName\":\"000000002_0\",\"fileType\":\"videos\",\"domain\":\"members\",\"url\":\"https://storage.com/videos1\"}",
+                "",
+                "{\"fileName\":\"000000003_0\",\"fileType\":\"images\",\"domain\":\"reviews\",\"url\":\"https://storage.com/images1\"}",
+                "{\"fileName\":\"000000004_0\",\"fileType\":\"images\",\"domain\":\"reviews\",\"url\":\"https://storage.com/recorded\"}",
+                "{\"fileName\":\"000000005_0\",\"fileType\":",
+                "{\"fileName\":\"000000006_0\",\"fileType\":\"audios\",\"domain\":\"reviews\",\"url\":\"https://storage.com/audios1\"}",
+                "{\"fileName\":\" \",\"fileType\":\"images\",\"domain\":\"reviews\",\"url\":\"https://storage.com/images2\"}"
+        );
+
+        // when
+        StorageOrphanFileIngestResponse response = historyService.ingestStorageOrphanFileHistories(
+                new BufferedReader(new StringReader(orphanFileLines)));
+
+        // then
+        assertThat(response)
+                .extracting("acceptedCount", "duplicateCount", "invalidCount")
+                .containsExactly(2L, 2L, 3L);
+        assertThat(response.getRejectedLines())
+                .extracting("line", "result", "reason")
+                .containsExactly(
+                        tuple(4, DUPLICATE, "요청 파일들끼리 중복되었습니다. 중복된 파일 제외하고 요청해 주세요."),
+                        tuple(5, DUPLICATE, "업로드 된 고아 파일 기록이 이미 있습니다."),
+                        tuple(6, INVALID, "요청을 읽을 수 없습니다. JSON 포맷 및 문법, 필드 타입 등을 확인해 주세요."),
+                        tuple(7, INVALID, "파일 기록 시 허락되지 않은 파일타입입니다."),
+                        tuple(8, INVALID, "외부 저장소에 저장한 파일의 이름을 입력해 주세요.")
+                );
+        assertThat(storageOrphanFileHistoryRepository.findAll())
+                .extracting("url")
+                .containsExactlyInAnyOrder(
+                        "https://storage.com/recorded", "https://storage.com/images1", "https://storage.com/videos1");
+    }
+
+    @Test
+    @DisplayName("성공: NDJSON 으로 기록할 때 앞선 청크에서 등록된 URL 이 다시 오면 중복으로 응답한다.")
+    void ingestStorageOrphanFileHistoriesAcrossChunks() throws IOException {
+        // given
+        int numberOfFiles = 1200;
+        String orphanFileLines = IntStream.rangeClosed(0, numberOfFiles)
+                .mapToObj(fileNumber -> "{\"fileName\":\"file" + fileNumber % numberOfFiles
+                        + "\",\"fileType\":\"images\",\"domain\":\"reviews\",\"url\":\"https://storage.com/images"
+                        + fileNumber % numberOfFiles + "\"}")
+                .collect(Collectors.joining("\n"));
+
+        // when
+        StorageOrphanFileIngestResponse response = historyService.ingestStorageOrphanFileHistories(
+                new BufferedReader(new StringReader(orphanFileLines)));
+
+        // then
+        assertThat(response)
+                .extracting("acceptedCount", "duplicateCount", "invalidCount")
+                .containsExactly(1200L, 1L, 0L);
+        assertThat(response.getRejectedLines())
+                .extracting("line", "result")
+                .containsExactly(tuple(1201, DUPLICATE));
+        assertThat(storageOrphanFileHistoryRepository.count()).isEqualTo(1200);
+    }
+
     private StorageOrphanFileHistory createStorageOrphanFileHistory(
             String fileName, FileType fileType, FileDomain domain, String url) {
         return StorageOrphanFileHistory.builder()
@@ -5,39 +5,73 @@ import com.capick.capick.domain.member.Member;
 import com.capick.capick.domain.member.Profile;
 import com.capick.capick.dto.request.MemberCreateRequest;
 import com.capick.capick.dto.request.MemberNicknameRequest;
+import com.capick.capick.dto.request.MemberNicknameSearchRequest;
+import com.capick.capick.dto.response.MemberNicknameAvailabilityResponse;
+import com.capick.capick.dto.response.MemberNicknameSuggestionResponse;
 import com.capick.capick.dto.request.MemberPasswordRequest;
 import com.capick.capick.dto.response.MemberSimpleResponse;
 import com.capick.capick.dto.response.MemberResponse;
 import com.capick.capick.exception.DuplicateResourceException;
 import com.capick.capick.exception.NotFoundResourceException;
 import com.capick.capick.exception.UnauthorizedException;
+import com.capick.capick.index.member.MemberKeyFilter;
+import com.capick.capick.index.member.NicknameTrie;
 import com.capick.capick.repository.MemberRepository;
+import com.capick.capick.security.LegacyPasswordMigration;
+import com.capick.capick.security.PasswordHasher;
+import com.capick.capick.support.SqlStatementCount;
+import com.capick.capick.support.SqlStatementCounter;
+import com.capick.capick.support.SqlStatementCounterConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
 import static com.capick.capick.domain.common.BaseStatus.INACTIVE;
 import static org.assertj.core.api.Assertions.*;
 
 @ActiveProfiles("test")
 @SpringBootTest
+@Import(SqlStatementCounterConfig.class)
 class MemberServiceTest {
 
     @Autowired
     private MemberService memberService;
 
+    @Autowired
+    private MemberServiceHelper memberServiceHelper;
+
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private MemberKeyFilter memberKeyFilter;
+
+    @Autowired
+    private NicknameTrie nicknameTrie;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private LegacyPasswordMigration legacyPasswordMigration;
+
     @AfterEach
     void tearDown() {
         memberRepository.deleteAllInBatch();
+        memberKeyFilter.load();
+        nicknameTrie.clear();
     }
 
     @Test
@@ -52,6 +86,9 @@ class MemberServiceTest {
         // then
         assertThat(response.getId()).isNotNull();
         assertThat(response.getNickname()).isEqualTo("some_nickname");
+        String savedPassword = memberRepository.findAll().get(0).getPassword();
+        assertThat(savedPassword).isNotEqualTo("password12^&*");
+        assertThat(passwordHasher.matches("password12^&*", savedPassword)).isTrue();
     }
 
     @Test
@@ -74,6 +111,42 @@ class MemberServiceTest {
                 .hasMessage("이미 사용 중인 닉네임 입니다.");
     }
 
+    @Test
+    @DisplayName("성공: 탈퇴한 회원의 이메일과 닉네임으로 다시 가입할 수 있다.")
+    void createMemberWithDeletedMemberEmailAndNickname() {
+        // given
+        MemberCreateRequest request = createMemberCreateRequest("email01@naver.com", "password01%^&", "nickname01");
+        memberService.deleteMember(memberService.createMember(request).getId());
+
+        // when
+        MemberSimpleResponse response = memberService.createMember(request);
+
+        // then
+        assertThat(memberRepository.findAll()).hasSize(2)
+                .extracting("id", "status", "activeEmail")
+                .containsExactlyInAnyOrder(
+                        tuple(response.getId(), ACTIVE, "email01@naver.com"),
+                        tuple(response.getId() - 1, INACTIVE, null)
+                );
+    }
+
+    @Test
+    @DisplayName("예외: 중복 확인을 지나친 이메일, 닉네임이라도 활동 중인 회원과 겹치면 유니크 제약에 걸려 예외가 발생한다.")
+    void createMemberWithDuplicateBypassingCheck() {
+        // given
+        memberRepository.save(createMember("email01@naver.com", "password01%^&", "nickname01"));
+        Member duplicateEmailMember = createMember("email01@naver.com", "password02%^&", "nickname02");
+        Member duplicateNicknameMember = createMember("email02@naver.com", "password02%^&", "nickname01");
+
+        // when // then
+        assertThatThrownBy(() -> memberServiceHelper.saveOrThrowIfDuplicate(duplicateEmailMember))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("이미 존재하는 계정의 이메일 입니다.");
+        assertThatThrownBy(() -> memberServiceHelper.saveOrThrowIfDuplicate(duplicateNicknameMember))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("이미 사용 중인 닉네임 입니다.");
+    }
+
     @Test
     @DisplayName("성공: 회원은 자신의 회원 정보를 조회 할 수 있다.")
     void getMember() {
@@ -92,11 +165,11 @@ class MemberServiceTest {
                 .introduction("자기소개 글")
                 .build();
 
-        Member memberRequiredOnly = createMember("email@naver.com", "password12^&*", "닉네임");
-        Member memberWithProfile = createMember("email@naver.com", "password12^&*", "닉네임", profile);
+        Member memberRequiredOnly = createMember("email01@naver.com", "password12^&*", "닉네임1");
+        Member memberWithProfile = createMember("email02@naver.com", "password12^&*", "닉네임2", profile);
         Member memberWithProfileAndPreferTown = createMember(
-                "email@naver.com", "password12^&*", "닉네임", profile, preferTown);
-        Member memberWithIntro = createMember("email@naver.com", "password12^&*", "닉네임", profileOnlyIntro);
+                "email03@naver.com", "password12^&*", "닉네임3", profile, preferTown);
+        Member memberWithIntro = createMember("email04@naver.com", "password12^&*", "닉네임4", profileOnlyIntro);
         List<Long> memberIds = memberRepository.saveAll(
                         List.of(memberRequiredOnly, memberWithProfile, memberWithProfileAndPreferTown, memberWithIntro)
                 ).stream().map(Member::getId).collect(Collectors.toList());
@@ -108,21 +181,21 @@ class MemberServiceTest {
         // then
         assertThat(responses.get(0))
                 .extracting("id", "email", "nickname")
-                .contains(memberRequiredOnly.getId(), "email@naver.com", "닉네임");
+                .contains(memberRequiredOnly.getId(), "email01@naver.com", "닉네임1");
         assertThat(responses.get(1))
                 .extracting("id", "email", "nickname",
                         "profile.imageUrl", "profile.introduction")
-                .contains(memberWithProfile.getId(), "email@naver.com", "닉네임", "image URL", "자기소개 글");
+                .contains(memberWithProfile.getId(), "email02@naver.com", "닉네임2", "image URL", "자기소개 글");
         assertThat(responses.get(2))
                 .extracting("id", "email", "nickname",
                         "profile.imageUrl", "profile.introduction",
                         "preferTown.latitude", "preferTown.longitude", "preferTown.address", "preferTown.roadAddress")
-                .contains(memberWithProfileAndPreferTown.getId(), "email@naver.com", "닉네임",
+                .contains(memberWithProfileAndPreferTown.getId(), "email03@naver.com", "닉네임3",
                         "image URL", "자기소개 글",
                         48.8, 11.34, "독일 뮌헨", "독일 뮌헨로");
         assertThat(responses.get(3))
                 .extracting("id", "email", "nickname", "profile.introduction")
-                .contains(memberWithIntro.getId(), "email@naver.com", "닉네임", "자기소개 글");
+                .contains(memberWithIntro.getId(), "email04@naver.com", "닉네임4", "자기소개 글");
     }
 
     @Test
@@ -207,6 +280,85 @@ class MemberServiceTest {
                 .hasMessage("이미 사용 중인 닉네임 입니다.");
     }
 
+    @Test
+    @DisplayName("성공: 가입, 닉네임 수정, 탈퇴가 반영된 닉네임 사용 여부를 DB 조회 없이 확인할 수 있다.")
+    void getNicknameAvailability() {
+        // given
+        Long memberId = memberService.createMember(
+                createMemberCreateRequest("email01@naver.com", "password01%^&", "nickname01")).getId();
+        memberService.createMember(createMemberCreateRequest("email02@naver.com", "password02%^&", "nickname02"));
+        memberService.updateMemberNickname(createMemberNicknameRequest(memberId, "Nickname03"));
+
+        // when
+        MemberNicknameAvailabilityResponse[] responses = new MemberNicknameAvailabilityResponse[3];
+        SqlStatementCount count = SqlStatementCounter.count(() -> {
+            responses[0] = memberService.getNicknameAvailability(createMemberNicknameSearchRequest("nickname01"));
+            responses[1] = memberService.getNicknameAvailability(createMemberNicknameSearchRequest("NICKNAME02"));
+            responses[2] = memberService.getNicknameAvailability(createMemberNicknameSearchRequest("nickname03"));
+        });
+
+        // then
+        assertThat(responses)
+                .extracting("nickname", "available")
+                .containsExactly(
+                        tuple("nickname01", true),
+                        tuple("NICKNAME02", false),
+                        tuple("nickname03", false)
+                );
+        assertThat(count)
+                .extracting("selectCount", "insertCount", "updateCount", "deleteCount")
+                .containsExactly(0L, 0L, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("성공: 다른 서버에서 가입, 닉네임 수정, 탈퇴한 결과는 sync 때 닉네임 사용 여부에 반영되고, 이 서버의 변경은 한 번만 반영된다.")
+    void syncNicknameTrie() {
+        // given
+        Long localMemberId = memberService.createMember(
+                createMemberCreateRequest("email01@naver.com", "password01%^&", "nickname01")).getId();
+        Member renamedMember = memberRepository.save(createMember("email02@naver.com", "password02%^&", "nickname02"));
+        Member withdrawnMember = memberRepository.save(createMember("email03@naver.com", "password03%^&", "nickname03"));
+        nicknameTrie.sync();
+        renamedMember.updateNickname("nickname04");
+        memberRepository.save(renamedMember);
+        withdrawnMember.delete();
+        memberRepository.save(withdrawnMember);
+        boolean renamedBeforeSync = nicknameTrie.contains("nickname04");
+
+        // when
+        nicknameTrie.sync();
+        memberService.deleteMember(localMemberId);
+
+        // then
+        assertThat(renamedBeforeSync).isFalse();
+        assertThat(nicknameTrie.contains("nickname01")).isFalse();
+        assertThat(nicknameTrie.contains("nickname02")).isFalse();
+        assertThat(nicknameTrie.contains("nickname03")).isFalse();
+        assertThat(nicknameTrie.contains("nickname04")).isTrue();
+        assertThat(nicknameTrie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 사용 중인 닉네임을 입력하면 숫자를 붙인 사용할 수 있는 닉네임과, 입력으로 시작하는 사용 중인 닉네임을 추천받는다.")
+    void getNicknameSuggestions() {
+        // given
+        memberService.createMember(createMemberCreateRequest("email01@naver.com", "password01%^&", "cafe"));
+        memberService.createMember(createMemberCreateRequest("email02@naver.com", "password02%^&", "cafe1"));
+        memberService.createMember(createMemberCreateRequest("email03@naver.com", "password03%^&", "cafe_lover"));
+        memberService.deleteMember(memberService.createMember(
+                createMemberCreateRequest("email04@naver.com", "password04%^&", "cafe2")).getId());
+
+        // when
+        MemberNicknameSuggestionResponse response = memberService.getNicknameSuggestions(
+                MemberNicknameSearchRequest.builder().nickname("cafe").limit(3).build());
+
+        // then
+        assertThat(response.getAvailable()).isFalse();
+        assertThat(response.getSuggestions()).containsExactly("cafe2", "cafe3", "cafe4");
+        assertThat(response.getTakenCount()).isEqualTo(3);
+        assertThat(response.getTakenNicknames()).containsExactly("cafe", "cafe1", "cafe_lover");
+    }
+
     @Test
     @DisplayName("성공: 회원은 자신의 비밀번호를 수정할 수 있다.")
     void updateMemberPassword() {
@@ -222,10 +374,29 @@ class MemberServiceTest {
         // then
         List<Member> members = memberRepository.findAll();
         assertThat(members).hasSize(1)
-                .extracting("id", "password")
-                .contains(
-                        tuple(memberId, "new13password%^&")
-                );
+                .extracting("id")
+                .containsExactly(memberId);
+        assertThat(passwordHasher.matches("new13password%^&", members.get(0).getPassword())).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: 평문으로 저장된 비밀번호는 해시로 바뀌고, 이미 해시된 비밀번호는 그대로 둔다.")
+    void migrateLegacyPasswords() {
+        // given
+        String hashedPassword = passwordHasher.hash("hashed12^&*");
+        Long legacyMemberId = memberRepository.save(createMember("email@naver.com", "legacy12^&*", "legacy")).getId();
+        Long hashedMemberId = memberRepository.save(createMember("other@naver.com", hashedPassword, "hashed")).getId();
+
+        // when
+        int migratedCount = legacyPasswordMigration.migrate();
+
+        // then
+        assertThat(migratedCount).isEqualTo(1);
+        String migratedPassword = memberRepository.findById(legacyMemberId).orElseThrow().getPassword();
+        assertThat(migratedPassword).isNotEqualTo("legacy12^&*");
+        assertThat(passwordHasher.matches("legacy12^&*", migratedPassword)).isTrue();
+        assertThat(memberRepository.findById(hashedMemberId).orElseThrow().getPassword()).isEqualTo(hashedPassword);
+        assertThat(legacyPasswordMigration.migrate()).isZero();
     }
 
     @Test
@@ -251,6 +422,70 @@ class MemberServiceTest {
                 .hasMessage("존재하지 않는 회원입니다.");
     }
 
+    @Test
+    @DisplayName("예외: 비밀번호를 해시하는 동안 회원이 탈퇴하면 비밀번호를 바꾸지 않고, 탈퇴도 되돌리지 않는다.")
+    void updateMemberPasswordWhenWithdrawnWhileHashing() {
+        // given
+        Member member = createMember("email@naver.com", "13password%^&", "nickname");
+        Long memberId = memberRepository.save(member).getId();
+        PasswordHasher withdrawingPasswordHasher = new PasswordHasher() {
+            @Override
+            public String hash(String rawPassword) {
+                memberService.deleteMember(memberId);
+                return passwordHasher.hash(rawPassword);
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String hashedPassword) {
+                return passwordHasher.matches(rawPassword, hashedPassword);
+            }
+        };
+        MemberService withdrawingMemberService = new MemberService(
+                memberRepository, memberServiceHelper, applicationEventPublisher, nicknameTrie,
+                withdrawingPasswordHasher);
+        MemberPasswordRequest request = createMemberPasswordRequest(memberId, "13password%^&", "new13password%^&");
+
+        // when // then
+        assertThatThrownBy(() -> withdrawingMemberService.updateMemberPassword(request))
+                .isInstanceOf(NotFoundResourceException.class)
+                .hasMessage("존재하지 않는 회원입니다.");
+        Member withdrawnMember = memberRepository.findById(memberId).orElseThrow();
+        assertThat(withdrawnMember.getStatus()).isEqualTo(INACTIVE);
+        assertThat(withdrawnMember.getActiveEmail()).isNull();
+        assertThat(withdrawnMember.getPassword()).isEqualTo("13password%^&");
+    }
+
+    @Test
+    @DisplayName("예외: 같은 기존 비밀번호로 동시에 비밀번호를 바꾸면 먼저 바꾼 요청만 성공한다.")
+    void updateMemberPasswordConcurrently() {
+        // given
+        Member member = createMember("email@naver.com", "13password%^&", "nickname");
+        Long memberId = memberRepository.save(member).getId();
+        MemberPasswordRequest firstRequest = createMemberPasswordRequest(memberId, "13password%^&", "first13password%^&");
+        MemberPasswordRequest secondRequest = createMemberPasswordRequest(memberId, "13password%^&", "second13password%^&");
+        PasswordHasher racingPasswordHasher = new PasswordHasher() {
+            @Override
+            public String hash(String rawPassword) {
+                memberService.updateMemberPassword(firstRequest);
+                return passwordHasher.hash(rawPassword);
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String hashedPassword) {
+                return passwordHasher.matches(rawPassword, hashedPassword);
+            }
+        };
+        MemberService racingMemberService = new MemberService(
+                memberRepository, memberServiceHelper, applicationEventPublisher, nicknameTrie, racingPasswordHasher);
+
+        // when // then
+        assertThatThrownBy(() -> racingMemberService.updateMemberPassword(secondRequest))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("기존에 등록된 비밀번호와 일치하지 않습니다.");
+        String password = memberRepository.findById(memberId).orElseThrow().getPassword();
+        assertThat(passwordHasher.matches("first13password%^&", password)).isTrue();
+    }
+
     @Test
     @DisplayName("예외: 비밀번호 수정 시 현재와 동일한 비밀번호로 변경 할 경우 예외가 발생한다.")
     void updateMemberPasswordWithUnchanged() {
@@ -321,6 +556,59 @@ class MemberServiceTest {
                 .hasMessage("존재하지 않는 회원입니다.");
     }
 
+    @Test
+    @DisplayName("성능: 회원 가입 시 처음 쓰는 이메일과 닉네임은 DB 로 중복 확인하지 않고 회원을 한 번만 저장한다.")
+    void createMemberSqlStatementCount() {
+        // given
+        MemberCreateRequest request = createMemberCreateRequest("email@naver.com", "password12^&*", "some_nickname");
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(() -> memberService.createMember(request));
+
+        // then
+        assertThat(count)
+                .extracting("selectCount", "insertCount", "updateCount", "deleteCount")
+                .containsExactly(0L, 1L, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("성능: 닉네임 수정 시 영속 상태의 회원을 다시 조회하거나 병합하지 않고, 처음 쓰는 닉네임은 DB 로 중복 확인하지 않는다.")
+    void updateMemberNicknameSqlStatementCount() {
+        // given
+        Member member = createMember("email01@naver.com", "password01%^&", "nickname01");
+        Long memberId = memberRepository.save(member).getId();
+        memberKeyFilter.load();
+        MemberNicknameRequest request = createMemberNicknameRequest(memberId, "nickname02");
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(() -> memberService.updateMemberNickname(request));
+
+        // then
+        assertThat(count)
+                .extracting("selectCount", "insertCount", "updateCount", "deleteCount")
+                .containsExactly(1L, 0L, 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("성능: 회원 조회 시 SQL 은 한 번만 실행된다.")
+    void getMemberSqlStatementCount() {
+        // given
+        Member member = createMember("email01@naver.com", "password01%^&", "nickname01");
+        Long memberId = memberRepository.save(member).getId();
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(() -> memberService.getMember(memberId));
+
+        // then
+        assertThat(count.getSelectCount()).isEqualTo(1L);
+    }
+
+    private MemberNicknameSearchRequest createMemberNicknameSearchRequest(String nickname) {
+        return MemberNicknameSearchRequest.builder()
+                .nickname(nickname)
+                .build();
+    }
+
     private Member createMember(String email, String password, String nickname) {
         return Member.builder()
                 .email(email)
@@ -0,0 +1,210 @@
+package com.capick.capick.service;
+
+import com.capick.capick.aggregate.CafePickCounter;
+import com.capick.capick.aggregate.CafePickFlusher;
+import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.common.Location;
+import com.capick.capick.domain.member.Member;
+import com.capick.capick.dto.request.MyPickPinRequest;
+import com.capick.capick.dto.response.MyPickPinResponse;
+import com.capick.capick.dto.response.MyPickResponse;
+import com.capick.capick.exception.NotFoundResourceException;
+import com.capick.capick.index.mypick.MyPickIndex;
+import com.capick.capick.repository.CafeRepository;
+import com.capick.capick.repository.MemberRepository;
+import com.capick.capick.repository.MyPickRepository;
+import com.capick.capick.support.SqlStatementCount;
+import com.capick.capick.support.SqlStatementCounter;
+import com.capick.capick.support.SqlStatementCounterConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.capick.capick.domain.common.BaseStatus.ACTIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Import(SqlStatementCounterConfig.class)
+class MyPickServiceTest {
+
+    @Autowired
+    private MyPickService myPickService;
+
+    @Autowired
+    private MyPickRepository myPickRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CafeRepository cafeRepository;
+
+    @Autowired
+    private MyPickIndex myPickIndex;
+
+    @Autowired
+    private CafePickCounter cafePickCounter;
+
+    @Autowired
+    private CafePickFlusher cafePickFlusher;
+
+    @AfterEach
+    void tearDown() {
+        myPickRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        cafeRepository.deleteAllInBatch();
+        myPickIndex.clear();
+        cafePickCounter.clear();
+    }
+
+    @Test
+    @DisplayName("성공: 회원은 카페를 찜할 수 있다. 이미 찜한 카페를 다시 찜해도 찜은 하나이고 찜 수도 한 번만 센다.")
+    void pickCafe() {
+        // given
+        Member member = memberRepository.save(createMember("email01@naver.com", "password01%^&", "nickname01"));
+        Cafe cafe = cafeRepository.save(createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567"));
+
+        // when
+        MyPickResponse response = myPickService.pickCafe(member.getId(), "1234567");
+        myPickService.pickCafe(member.getId(), "1234567");
+
+        // then
+        assertThat(response.getCafe().getKakaoPlaceId()).isEqualTo("1234567");
+        assertThat(response.getPickedAt()).isNotNull();
+        assertThat(myPickRepository.findAll()).hasSize(1);
+        assertThat(myPickIndex.isPicked(member.getId(), cafe.getId())).isTrue();
+        assertThat(cafePickCounter.countOf(cafe.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 찜을 해제했다가 다시 찜하면 같은 찜을 다시 활성화한다. 찜 목록에는 찜한 카페만 최근에 찜한 순서로 나온다.")
+    void unpickAndPickCafeAgain() {
+        // given
+        Member member = memberRepository.save(createMember("email01@naver.com", "password01%^&", "nickname01"));
+        Cafe firstCafe = cafeRepository.save(createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567"));
+        cafeRepository.save(createCafe("스타벅스 시청점", "2345678", "https://place.url/2345678"));
+        cafeRepository.save(createCafe("스타벅스 종로점", "3456789", "https://place.url/3456789"));
+        myPickService.pickCafe(member.getId(), "1234567");
+        myPickService.pickCafe(member.getId(), "2345678");
+        myPickService.pickCafe(member.getId(), "3456789");
+
+        // when
+        myPickService.unpickCafe(member.getId(), "1234567");
+        myPickService.unpickCafe(member.getId(), "2345678");
+        myPickService.pickCafe(member.getId(), "1234567");
+        List<MyPickResponse> responses = myPickService.getMyPicks(member.getId());
+
+        // then
+        assertThat(responses).extracting(response -> response.getCafe().getKakaoPlaceId())
+                .containsExactly("1234567", "3456789");
+        assertThat(myPickRepository.findAll()).hasSize(3);
+        assertThat(myPickIndex.isPicked(member.getId(), firstCafe.getId())).isTrue();
+        assertThat(cafePickCounter.countOf(firstCafe.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("예외: 찜하지 않은 카페는 찜을 해제할 수 없다.")
+    void unpickCafeNotPicked() {
+        // given
+        Member member = memberRepository.save(createMember("email01@naver.com", "password01%^&", "nickname01"));
+        cafeRepository.save(createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567"));
+
+        // when // then
+        assertThatThrownBy(() -> myPickService.unpickCafe(member.getId(), "1234567"))
+                .isInstanceOf(NotFoundResourceException.class)
+                .hasMessage("찜하지 않은 카페입니다.");
+    }
+
+    @Test
+    @DisplayName("성공: 지도 핀의 찜 여부와 찜 수는 조회 없이 메모리에서 답한다. 등록되지 않은 카페는 찜하지 않은 것으로 답한다.")
+    void getMyPickPins() {
+        // given
+        Member member = memberRepository.save(createMember("email01@naver.com", "password01%^&", "nickname01"));
+        Member otherMember = memberRepository.save(createMember("email02@naver.com", "password02%^&", "nickname02"));
+        cafeRepository.save(createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567"));
+        cafeRepository.save(createCafe("스타벅스 시청점", "2345678", "https://place.url/2345678"));
+        myPickService.pickCafe(member.getId(), "1234567");
+        myPickService.pickCafe(otherMember.getId(), "1234567");
+        myPickService.pickCafe(otherMember.getId(), "2345678");
+
+        MyPickPinRequest request = MyPickPinRequest.builder()
+                .placeIds(List.of("1234567", "2345678", "9999999"))
+                .build();
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(() -> myPickService.getMyPickPins(member.getId(), request));
+        List<MyPickPinResponse> responses = myPickService.getMyPickPins(member.getId(), request);
+
+        // then
+        assertThat(count.getSelectCount()).isEqualTo(0L);
+        assertThat(responses).extracting("kakaoPlaceId", "picked", "pickCount")
+                .containsExactly(
+                        tuple("1234567", true, 2L),
+                        tuple("2345678", false, 1L),
+                        tuple("9999999", false, 0L)
+                );
+    }
+
+    @Test
+    @DisplayName("성공: 찜 수는 모아 두었다가 반영할 때 카페마다 변화량만 한 번에 더한다. 다시 시작한 서버는 반영된 찜 수를 읽고 다시 더하지 않는다.")
+    void flushPickCounts() {
+        // given
+        Member member = memberRepository.save(createMember("email01@naver.com", "password01%^&", "nickname01"));
+        Member otherMember = memberRepository.save(createMember("email02@naver.com", "password02%^&", "nickname02"));
+        Cafe cafe = cafeRepository.save(createCafe("스타벅스 광화문점", "1234567", "https://place.url/1234567"));
+        myPickService.pickCafe(member.getId(), "1234567");
+        myPickService.pickCafe(otherMember.getId(), "1234567");
+        myPickService.unpickCafe(member.getId(), "1234567");
+
+        // when
+        int pickCountBeforeFlush = cafeRepository.findById(cafe.getId()).orElseThrow().getPickCount();
+        SqlStatementCount count = SqlStatementCounter.count(() -> cafePickFlusher.flush());
+        int pickCountAfterFlush = cafeRepository.findById(cafe.getId()).orElseThrow().getPickCount();
+        cafePickCounter.clear();
+        myPickIndex.clear();
+        cafePickCounter.load();
+        myPickIndex.sync();
+        SqlStatementCount restartedCount = SqlStatementCounter.count(() -> cafePickFlusher.flush());
+
+        // then
+        assertThat(pickCountBeforeFlush).isZero();
+        assertThat(count.getUpdateCount()).isEqualTo(1L);
+        assertThat(pickCountAfterFlush).isEqualTo(1);
+        assertThat(restartedCount.getUpdateCount()).isZero();
+        assertThat(cafePickCounter.countOf(cafe.getId())).isEqualTo(1L);
+        assertThat(cafePickCounter.getPendingCafeCount()).isZero();
+        assertThat(myPickIndex.isPicked(otherMember.getId(), cafe.getId())).isTrue();
+        assertThat(myPickIndex.isPicked(member.getId(), cafe.getId())).isFalse();
+        assertThat(myPickRepository.findAllWithCafeByMemberIdAndStatus(member.getId(), ACTIVE)).isEmpty();
+    }
+
+    private Member createMember(String email, String password, String nickname) {
+        return Member.builder()
+                .email(email)
+                .password(password)
+                .nickname(nickname)
+                .build();
+    }
+
+    private Cafe createCafe(String name, String kakaoPlaceId, String kakaoDetailPageUrl) {
+        return Cafe.builder()
+                .name(name)
+                .kakaoPlaceId(kakaoPlaceId)
+                .kakaoDetailPageUrl(kakaoDetailPageUrl)
+                .location(Location.builder()
+                        .latitude(37.57122962143047)
+                        .longitude(126.97629649901215)
+                        .build())
+                .build();
+    }
+
+}
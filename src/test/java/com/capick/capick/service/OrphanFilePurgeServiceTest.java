@@ -0,0 +1,113 @@
+package com.capick.capick.service;
+
+import com.capick.capick.domain.history.storage.StorageOrphanFileHistory;
+import com.capick.capick.repository.history.storage.StorageOrphanFileHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.capick.capick.domain.history.storage.FileDomain.REVIEW;
+import static com.capick.capick.domain.history.storage.FileType.IMAGE;
+import static org.assertj.core.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class OrphanFilePurgeServiceTest {
+
+    @Autowired
+    private OrphanFilePurgeService orphanFilePurgeService;
+
+    @Autowired
+    private StorageOrphanFileHistoryRepository storageOrphanFileHistoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        storageOrphanFileHistoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("성공: 여러 작업자가 고아 파일을 맡으면, 이미 맡은 기록은 기한이 지나기 전까지 다른 작업자가 맡지 않는다.")
+    void claimOrphanFilesDisjointly() {
+        // given
+        saveOrphanFiles(5);
+
+        // when
+        List<StorageOrphanFileHistory> firstClaimed = orphanFilePurgeService
+                .claimOrphanFiles("worker-1", 0, 3, Duration.ofMinutes(5));
+        List<StorageOrphanFileHistory> secondClaimed = orphanFilePurgeService
+                .claimOrphanFiles("worker-2", 0, 3, Duration.ofMinutes(5));
+
+        // then
+        assertThat(firstClaimed).hasSize(3)
+                .extracting("purgeClaimedBy")
+                .containsOnly("worker-1");
+        assertThat(secondClaimed).hasSize(2)
+                .extracting("purgeClaimedBy")
+                .containsOnly("worker-2");
+        assertThat(secondClaimed).extracting("id")
+                .doesNotContainAnyElementsOf(firstClaimed.stream()
+                        .map(StorageOrphanFileHistory::getId)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("경계: 맡은 기한이 지난 기록은 다른 작업자가 다시 맡을 수 있고, 먼저 맡았던 작업자는 완전 삭제로 표시하지 못한다.")
+    void reclaimExpiredOrphanFiles() {
+        // given
+        saveOrphanFiles(2);
+        List<Long> expiredIds = orphanFilePurgeService.claimOrphanFiles("worker-1", 0, 2, Duration.ofSeconds(-1))
+                .stream()
+                .map(StorageOrphanFileHistory::getId)
+                .collect(Collectors.toList());
+
+        // when
+        List<StorageOrphanFileHistory> reclaimed = orphanFilePurgeService
+                .claimOrphanFiles("worker-2", 0, 2, Duration.ofMinutes(5));
+        int markedByExpiredWorker = orphanFilePurgeService.markHardDeleted("worker-1", expiredIds);
+        int markedByClaimingWorker = orphanFilePurgeService.markHardDeleted("worker-2", expiredIds);
+
+        // then
+        assertThat(reclaimed).extracting("id").containsExactlyElementsOf(expiredIds);
+        assertThat(markedByExpiredWorker).isZero();
+        assertThat(markedByClaimingWorker).isEqualTo(2);
+        assertThat(storageOrphanFileHistoryRepository.findAll())
+                .extracting("isHardDeleted", "purgeClaimedBy", "purgeClaimExpiresAt")
+                .containsOnly(tuple(true, null, null));
+        assertThat(orphanFilePurgeService.findOldestPendingCreatedAt()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 아직 지우지 않은 기록 중 id 가 가장 작은 기록의 생성 시각을 가장 오래 밀린 시각으로 돌려준다.")
+    void findOldestPendingCreatedAt() {
+        // given
+        saveOrphanFiles(3);
+        List<StorageOrphanFileHistory> orphanFiles = storageOrphanFileHistoryRepository.findAll();
+        orphanFilePurgeService.claimOrphanFiles("worker-1", 0, 1, Duration.ofMinutes(5));
+        orphanFilePurgeService.markHardDeleted("worker-1", List.of(orphanFiles.get(0).getId()));
+
+        // when
+        Optional<LocalDateTime> oldestPendingCreatedAt = orphanFilePurgeService.findOldestPendingCreatedAt();
+
+        // then
+        assertThat(oldestPendingCreatedAt).isPresent();
+        assertThat(oldestPendingCreatedAt.get()).isEqualTo(orphanFiles.get(1).getCreatedAt());
+    }
+
+    private void saveOrphanFiles(int count) {
+        storageOrphanFileHistoryRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(number -> StorageOrphanFileHistory.create(
+                        "file" + number, IMAGE, REVIEW, "https://storage.com/images/file" + number))
+                .collect(Collectors.toList()));
+    }
+
+}
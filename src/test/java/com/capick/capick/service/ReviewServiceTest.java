@@ -1,34 +1,53 @@
 package com.capick.capick.service;
 
+import com.capick.capick.cache.CafeResponseCache;
 import com.capick.capick.domain.cafe.Cafe;
+import com.capick.capick.domain.cafe.CafeTheme;
 import com.capick.capick.domain.common.Location;
 import com.capick.capick.domain.member.Member;
 import com.capick.capick.domain.review.Review;
 import com.capick.capick.domain.review.ReviewImage;
+import com.capick.capick.dto.ResourceVersion;
 import com.capick.capick.dto.request.CafeCreateRequest;
 import com.capick.capick.dto.request.LocationCreateRequest;
 import com.capick.capick.dto.request.ReviewCreateRequest;
+import com.capick.capick.dto.request.ReviewFeedRequest;
+import com.capick.capick.dto.request.ReviewSearchRequest;
 import com.capick.capick.dto.request.ReviewUpdateRequest;
+import com.capick.capick.dto.response.CursorPageResponse;
 import com.capick.capick.dto.response.ReviewResponse;
 import com.capick.capick.dto.response.ReviewSimpleResponse;
 import com.capick.capick.exception.DomainLogicalException;
 import com.capick.capick.exception.DomainPoliticalArgumentException;
 import com.capick.capick.exception.NotFoundResourceException;
 import com.capick.capick.exception.UnauthorizedException;
+import com.capick.capick.index.geo.CafeGeoIndex;
+import com.capick.capick.index.search.ReviewSearchIndex;
 import com.capick.capick.repository.CafeRepository;
 import com.capick.capick.repository.MemberRepository;
 import com.capick.capick.repository.ReviewImageRepository;
 import com.capick.capick.repository.ReviewRepository;
+import com.capick.capick.support.SqlStatementCount;
+import com.capick.capick.support.SqlStatementCounter;
+import com.capick.capick.support.SqlStatementCounterConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.capick.capick.domain.cafe.CafeTheme.*;
@@ -38,6 +57,7 @@ import static org.assertj.core.api.Assertions.*;
 
 @ActiveProfiles("test")
 @SpringBootTest
+@Import(SqlStatementCounterConfig.class)
 class ReviewServiceTest {
 
     @Autowired
@@ -55,12 +75,27 @@ class ReviewServiceTest {
     @Autowired
     private ReviewImageRepository reviewImageRepository;
 
+    @Autowired
+    private CafeGeoIndex cafeGeoIndex;
+
+    @Autowired
+    private ReviewSearchIndex reviewSearchIndex;
+
+    @Autowired
+    private CafeService cafeService;
+
+    @Autowired
+    private CafeResponseCache cafeResponseCache;
+
     @AfterEach
     void tearDown() {
         reviewImageRepository.deleteAllInBatch();
         reviewRepository.deleteAllInBatch();
         memberRepository.deleteAllInBatch();
         cafeRepository.deleteAllInBatch();
+        cafeGeoIndex.clear();
+        reviewSearchIndex.clear();
+        cafeResponseCache.clear();
     }
 
     @Test
@@ -122,6 +157,83 @@ class ReviewServiceTest {
 
     }
 
+    @Test
+    @DisplayName("성공: 등록된 적 없는 까페에 첫 리뷰가 동시에 작성 되어도 까페는 한 번만 등록된다.")
+    void createFirstReviewsConcurrentlyWithCreateCafeOnce() throws InterruptedException {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        memberRepository.save(writer);
+        Long writerId = writer.getId();
+
+        LocationCreateRequest locationCreateRequest = createLocationCreateRequest(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        CafeCreateRequest cafeCreateRequest = createCafeCreateRequest(
+                "스타벅스 광화문점", "1234567", "https://place.url", locationCreateRequest);
+        ReviewCreateRequest reviewCreateRequest = createReviewCreateRequest(
+                writerId, cafeCreateRequest, "공부하러 왔어요", "리뷰 내용", "아메리카노", 1, 4, 1, 1, "study");
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        int reviewCount = 64;
+        ExecutorService executorService = Executors.newFixedThreadPool(reviewCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch countDownLatch = new CountDownLatch(reviewCount);
+        AtomicInteger failedCount = new AtomicInteger();
+
+        // when
+        for (int number = 0; number < reviewCount; number++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    reviewService.createReview(reviewCreateRequest, registeredAt);
+                } catch (InterruptedException | RuntimeException exception) {
+                    failedCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        countDownLatch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // then
+        assertThat(failedCount).hasValue(0);
+        assertThat(reviewRepository.count()).isEqualTo(reviewCount);
+        assertThat(cafeRepository.findAll()).hasSize(1)
+                .extracting("kakaoPlaceId", "cafeTypeInfo.spaceIndex", "cafeThemeInfo.studyCount")
+                .containsExactly(
+                        tuple("1234567", 256, 64)
+                );
+    }
+
+    @Test
+    @DisplayName("성공: 첫 리뷰와 함께 등록된 까페는 주변 까페 검색 인덱스에 추가된다.")
+    void createFirstReviewWithAddingCafeToGeoIndex() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        memberRepository.save(writer);
+        Long writerId = writer.getId();
+
+        LocationCreateRequest locationCreateRequest = createLocationCreateRequest(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        CafeCreateRequest cafeCreateRequest = createCafeCreateRequest(
+                "스타벅스 광화문점", "1234567", "https://place.url", locationCreateRequest);
+        ReviewCreateRequest reviewCreateRequest = createReviewCreateRequest(
+                writerId, cafeCreateRequest, "일하거나 책읽기 좋아요", "리뷰 내용", "아메리카노", 3, 3, 4, 3, "normal");
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        // when
+        reviewService.createReview(reviewCreateRequest, registeredAt);
+
+        // then
+        assertThat(cafeGeoIndex.search(37.57122962143047, 126.97629649901215, 100, 10))
+                .extracting("point.name", "point.kakaoPlaceId")
+                .containsExactly(
+                        tuple("스타벅스 광화문점", "1234567")
+                );
+    }
+
     @Test
     @DisplayName("성공: 리뷰가 작성 될때 까페 타입과 테마가 갱신 된다.")
     void createReviewWithUpdateCafeTypeAndCafeTheme() {
@@ -155,6 +267,89 @@ class ReviewServiceTest {
 
     }
 
+    @Test
+    @DisplayName("성공: 리뷰가 작성 되면 캐시된 까페 정보가 무효화되어 갱신된 까페 타입과 테마가 조회된다.")
+    void createReviewWithInvalidatingCafeCache() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        memberRepository.save(writer);
+        Long writerId = writer.getId();
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+        cafeService.getCafeByMapVendorPlaceId("1234567");
+
+        CafeCreateRequest cafeCreateRequest = createCafeCreateRequest(
+                "스타벅스 광화문점", "1234567", "https://place.url");
+        ReviewCreateRequest reviewCreateRequest = createReviewCreateRequest(
+                writerId, cafeCreateRequest, "공부하러 왔어요", "리뷰 내용", "아메리카노", 3, 3, 4, 3, "study");
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        // when
+        reviewService.createReview(reviewCreateRequest, registeredAt);
+
+        // then
+        assertThat(cafeService.getCafeByMapVendorPlaceId("1234567"))
+                .extracting("cafeType", "cafeTheme")
+                .containsExactly(COST_EFFECTIVE, STUDY);
+    }
+
+    @Test
+    @DisplayName("성공: 한 까페에 리뷰가 동시에 작성 되어도 누적 타입 지수와 테마 횟수가 유실되지 않는다.")
+    void createReviewsConcurrentlyWithoutLostUpdate() throws InterruptedException {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        memberRepository.save(writer);
+        Long writerId = writer.getId();
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+
+        CafeCreateRequest cafeCreateRequest = createCafeCreateRequest(
+                "스타벅스 광화문점", "1234567", "https://place.url");
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        int reviewCount = 2000;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch countDownLatch = new CountDownLatch(reviewCount);
+        AtomicInteger failedCount = new AtomicInteger();
+
+        // when
+        for (int number = 0; number < reviewCount; number++) {
+            ReviewCreateRequest reviewCreateRequest = createReviewCreateRequest(
+                    writerId, cafeCreateRequest, "공부하러 왔어요", "리뷰 내용", "아메리카노",
+                    number % 5 + 1, 2, 1, 1, number % 4 == 0 ? "vibe" : "study");
+            executorService.submit(() -> {
+                try {
+                    reviewService.createReview(reviewCreateRequest, registeredAt);
+                } catch (RuntimeException exception) {
+                    failedCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await(2, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // then
+        assertThat(failedCount).hasValue(0);
+        assertThat(reviewRepository.count()).isEqualTo(reviewCount);
+        assertThat(cafeRepository.findAll()).hasSize(1)
+                .extracting(
+                        "cafeTypeInfo.coffeeIndex", "cafeTypeInfo.spaceIndex", "cafeTypeInfo.priceIndex",
+                        "cafeTypeInfo.noiseIndex", "cafeThemeInfo.vibeCount", "cafeThemeInfo.studyCount",
+                        "cafeTypeInfo.cafeType", "cafeThemeInfo.cafeTheme")
+                .containsExactly(
+                        tuple(6000, 4000, 2000, 2000, 500, 1500, COFFEE, STUDY)
+                );
+    }
+
     @Test
     @DisplayName("성공: 리뷰 작성 시 중복 된 사진이 업로드 될 경우 중복은 제거하고 저장한다.")
     void createReviewWithDuplicateImages() {
@@ -351,6 +546,121 @@ class ReviewServiceTest {
                 .containsExactlyInAnyOrder("https://image1.url", "https://image2.url", "https://image3.url");
     }
 
+    @Test
+    @DisplayName("성공: 까페의 리뷰 목록을 최신순으로 커서를 이용해 끝까지 페이지 단위로 조회할 수 있다. 등록 시간이 같으면 나중에 작성된 리뷰가 먼저 조회된다.")
+    void getCafeReviews() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        memberRepository.save(writer);
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Review review1 = createReview(
+                writer, cafe, "일하거나 책읽기 좋아요", "리뷰 내용1", "아메리카노", 3, 3, 4, 3, "normal", registeredAt.minusDays(2));
+        Review review2 = createReview(
+                writer, cafe, "일하거나 책읽기 좋아요", "리뷰 내용2", "라떼", 3, 3, 4, 3, "vibe", registeredAt.minusDays(1));
+        Review review3 = createReview(
+                writer, cafe, "일하거나 책읽기 좋아요", "리뷰 내용3", "아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        Review review4 = createReview(
+                writer, cafe, "일하거나 책읽기 좋아요", "리뷰 내용4", "아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        Review review5 = createReview(
+                writer, cafe, "일하거나 책읽기 좋아요", "리뷰 내용5", "아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        reviewRepository.saveAll(List.of(review1, review2, review3, review4, review5));
+
+        List<String> imageUrls = List.of("https://image1.url", "https://image2.url");
+        reviewImageRepository.saveAll(imageUrls.stream()
+                .map(imageUrl -> createReviewImage(imageUrl, review4)).collect(Collectors.toList()));
+
+        // when
+        CursorPageResponse<ReviewSimpleResponse> firstPage = reviewService.getCafeReviews(
+                "1234567", ReviewFeedRequest.builder().size(2).build());
+        CursorPageResponse<ReviewSimpleResponse> secondPage = reviewService.getCafeReviews(
+                "1234567", ReviewFeedRequest.builder().cursor(firstPage.getNextCursor()).size(2).build());
+        CursorPageResponse<ReviewSimpleResponse> lastPage = reviewService.getCafeReviews(
+                "1234567", ReviewFeedRequest.builder().cursor(secondPage.getNextCursor()).size(2).build());
+
+        // then
+        assertThat(firstPage.getContents())
+                .extracting("content", "writer.nickname", "imageUrls")
+                .containsExactly(
+                        tuple("리뷰 내용5", "nickname01", List.of()),
+                        tuple("리뷰 내용4", "nickname01", imageUrls)
+                );
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getContents())
+                .extracting("content")
+                .containsExactly("리뷰 내용3", "리뷰 내용2");
+        assertThat(lastPage.getContents())
+                .extracting("content")
+                .containsExactly("리뷰 내용1");
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 까페의 리뷰 목록에는 삭제된 리뷰와 다른 까페의 리뷰가 조회되지 않는다.")
+    void getCafeReviewsExcludingDeletedAndOtherCafes() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        memberRepository.save(writer);
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        Cafe otherCafe = createCafe("스타벅스 시청점", "2345678", "https://place.url", cafeLocation);
+        cafeRepository.saveAll(List.of(cafe, otherCafe));
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Review review = createReview(
+                writer, cafe, "일하거나 책읽기 좋아요", "리뷰 내용", "아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        Review deletedReview = createReview(
+                writer, cafe, "일하거나 책읽기 좋아요", "삭제된 리뷰", "아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        deletedReview.delete();
+        Review otherCafeReview = createReview(
+                writer, otherCafe, "일하거나 책읽기 좋아요", "다른 까페 리뷰", "아메리카노", 3, 3, 4, 3, "normal", registeredAt);
+        reviewRepository.saveAll(List.of(review, deletedReview, otherCafeReview));
+
+        // when
+        CursorPageResponse<ReviewSimpleResponse> response = reviewService.getCafeReviews(
+                "1234567", ReviewFeedRequest.builder().build());
+
+        // then
+        assertThat(response.getContents())
+                .extracting("content")
+                .containsExactly("리뷰 내용");
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("예외: 까페의 리뷰 목록 조회 시 잘못된 커서를 입력하면 예외가 발생한다.")
+    void getCafeReviewsWithIllegalCursor() {
+        // given
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+
+        ReviewFeedRequest request = ReviewFeedRequest.builder().cursor("illegal-cursor").build();
+
+        // when // then
+        assertThatThrownBy(() -> reviewService.getCafeReviews("1234567", request))
+                .isInstanceOf(DomainPoliticalArgumentException.class)
+                .hasMessage("잘못된 페이지 커서입니다. 이전 응답의 커서를 그대로 사용해 주세요.");
+    }
+
+    @Test
+    @DisplayName("예외: 등록된 적이 없거나 삭제된 까페의 리뷰 목록을 조회하면 예외가 발생한다.")
+    void getNotExistCafeReviews() {
+        // when // then
+        assertThatThrownBy(() -> reviewService.getCafeReviews("1234567", ReviewFeedRequest.builder().build()))
+                .isInstanceOf(NotFoundResourceException.class)
+                .hasMessage("등록된 적이 없거나 삭제되어 서비스상에서 존재하지 않는 카페입니다.");
+    }
+
     @Test
     @DisplayName("성공: 방문자 및 회원은 까페 정보와 후기를 보기 위해 등록된 리뷰를 조회할 수 있다.")
     void getReview() {
@@ -477,6 +787,42 @@ class ReviewServiceTest {
                 .hasMessage("존재하지 않는 리뷰입니다.");
     }
 
+    @Test
+    @DisplayName("성공: 리뷰 버전은 한 번의 조회로 만들고, 리뷰나 이미지가 수정되면 달라진다.")
+    void findReviewVersion() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        Long writerId = memberRepository.save(writer).getId();
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+
+        Review review = createReview(
+                writer, cafe, "넓어서 갔어요", "리뷰 내용", "아이스 아메리카노", 1, 4, 1, 1, "normal", LocalDateTime.now());
+        Long reviewId = reviewRepository.save(review).getId();
+        reviewImageRepository.save(createReviewImage("https://storage.com/images/80459", review));
+
+        ReviewUpdateRequest reviewUpdateRequest = createReviewUpdateRequest(
+                writerId, "일하거나 책읽고 공부하려고요", "리뷰 내용 수정", "아이스 라떼", 1, 4, 1, 1, "normal",
+                List.of("https://storage.com/images/new"));
+
+        // when
+        List<Optional<ResourceVersion>> versions = new ArrayList<>();
+        SqlStatementCount count = SqlStatementCounter.count(
+                () -> versions.add(reviewService.findReviewVersion(reviewId)));
+        reviewService.updateReview(reviewId, reviewUpdateRequest);
+        Optional<ResourceVersion> updatedVersion = reviewService.findReviewVersion(reviewId);
+
+        // then
+        assertThat(count.getSelectCount()).isEqualTo(1L);
+        assertThat(versions.get(0)).isPresent();
+        assertThat(updatedVersion).isPresent();
+        assertThat(updatedVersion.get().toETag("review")).isNotEqualTo(versions.get(0).get().toETag("review"));
+        assertThat(reviewService.findReviewVersion(reviewId + 1)).isEmpty();
+    }
+
     @Test
     @DisplayName("성공: 회원은 자기가 작성한 리뷰를 수정할 수 있다.")
     void updateReview() {
@@ -1022,6 +1368,34 @@ class ReviewServiceTest {
                 .doesNotContain(ACTIVE);
     }
 
+    @Test
+    @DisplayName("예외: 리뷰 삭제 시 차감할 누적 카페 타입 지수가 부족하면 예외가 발생하고 누적 값은 그대로 유지된다.")
+    void deleteReviewWithLackOfAccumulatedCafeTypeIndex() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        memberRepository.save(writer);
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Review reviewNotAccumulated = createReview(
+                writer, cafe, "넓어서 갔어요", "리뷰 내용", "아이스 아메리카노", 1, 4, 1, 1, "study", registeredAt);
+        Long reviewId = reviewRepository.save(reviewNotAccumulated).getId();
+
+        // when // then
+        assertThatThrownBy(() -> reviewService.deleteReview(reviewId))
+                .isInstanceOf(DomainLogicalException.class)
+                .hasMessage("차감할 누적 카페 타입 지수가 없습니다. 이전에 등록한 만큼 차감해주세요.");
+        assertThat(cafeRepository.findAll()).hasSize(1)
+                .extracting("cafeTypeInfo.spaceIndex", "cafeThemeInfo.studyCount")
+                .containsExactly(
+                        tuple(0, 0)
+                );
+    }
+
     @Test
     @DisplayName("예외: 리뷰 삭제 시 수정할 리뷰가 존재하지 않으면 예외가 발생한다.")
     void deleteNotExistReview() {
@@ -1037,6 +1411,248 @@ class ReviewServiceTest {
                 .hasMessage("존재하지 않는 리뷰입니다.");
     }
     
+    @Test
+    @DisplayName("성능: 등록된 카페에 이미지가 있는 리뷰를 작성할 때 실행되는 SQL 개수는 고정되어 있다.")
+    void createReviewSqlStatementCount() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        Long writerId = memberRepository.save(writer).getId();
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        cafeRepository.save(createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation));
+
+        CafeCreateRequest cafeCreateRequest = createCafeCreateRequest(
+                "스타벅스 광화문점", "1234567", "https://place.url");
+        ReviewCreateRequest reviewCreateRequest = createReviewCreateRequest(
+                writerId, cafeCreateRequest, "일하거나 책읽기 좋아요", "리뷰 내용", "아메리카노", 3, 1, 1, 1, "normal",
+                List.of("https://image1.url", "https://image2.url"));
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(
+                () -> reviewService.createReview(reviewCreateRequest, registeredAt));
+
+        // then
+        // 조회: 회원, 카페, 누적 값 다시 읽기 / 등록: 리뷰, 이미지 2 건을 한 문장으로 / 수정: 누적 증감, 카페 타입
+        assertThat(count)
+                .extracting("selectCount", "insertCount", "updateCount", "deleteCount")
+                .containsExactly(3L, 2L, 2L, 0L);
+    }
+
+    @Test
+    @DisplayName("성능: 리뷰 수정 시 작성자와 카페를 지연 로딩하거나 이미지를 다시 조회하는 SQL 이 늘어나지 않는다.")
+    void updateReviewSqlStatementCount() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        Long writerId = memberRepository.save(writer).getId();
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Review review = createReview(
+                writer, cafe, "넓어서 갔어요", "리뷰 내용", "아이스 아메리카노", 1, 4, 1, 1, "vibe", registeredAt);
+        Long reviewId = reviewRepository.save(review).getId();
+        reviewImageRepository.saveAll(List.of(
+                createReviewImage("https://image1.url", review), createReviewImage("https://image2.url", review)));
+
+        // TODO: 다른 행위를 끌어다 테스트 환경을 조성함
+        cafe.updateCafeTypeByAdding(review);
+        cafe.updateCafeThemeByAdding(review);
+        cafeRepository.save(cafe);
+
+        ReviewUpdateRequest reviewUpdateRequest = createReviewUpdateRequest(
+                writerId, "일하거나 책읽고 공부하려고요", "리뷰 내용 수정", "아이스 라떼", 1, 1, 1, 4, "normal",
+                List.of("https://image2.url", "https://image3.url"));
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(
+                () -> reviewService.updateReview(reviewId, reviewUpdateRequest));
+
+        // then
+        // 조회: 리뷰, 회원, 이미지, 누적 값 다시 읽기 / 등록: 새 이미지 / 수정: 리뷰, 삭제된 이미지, 누적 증감, 카페 타입
+        assertThat(count)
+                .extracting("selectCount", "insertCount", "updateCount", "deleteCount")
+                .containsExactly(4L, 1L, 4L, 0L);
+    }
+
+    @Test
+    @DisplayName("성능: 리뷰 삭제 시 실행되는 SQL 개수는 고정되어 있다.")
+    void deleteReviewSqlStatementCount() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        memberRepository.save(writer);
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Review review = createReview(
+                writer, cafe, "넓어서 갔어요", "리뷰 내용", "아이스 아메리카노", 1, 4, 1, 1, "vibe", registeredAt);
+        Long reviewId = reviewRepository.save(review).getId();
+        reviewImageRepository.saveAll(List.of(
+                createReviewImage("https://image1.url", review), createReviewImage("https://image2.url", review)));
+
+        // TODO: 다른 행위를 끌어다 테스트 환경을 조성함
+        cafe.updateCafeTypeByAdding(review);
+        cafe.updateCafeThemeByAdding(review);
+        cafeRepository.save(cafe);
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(() -> reviewService.deleteReview(reviewId));
+
+        // then
+        // 조회: 리뷰, 이미지, 누적 값 다시 읽기 / 수정: 리뷰, 이미지 2, 누적 증감
+        assertThat(count)
+                .extracting("selectCount", "insertCount", "updateCount", "deleteCount")
+                .containsExactly(3L, 0L, 4L, 0L);
+    }
+
+    @Test
+    @DisplayName("성능: 리뷰 조회 시 작성자와 이미지를 함께 가져오므로 SQL 개수는 고정되어 있다.")
+    void getReviewSqlStatementCount() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        memberRepository.save(writer);
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Review review = createReview(
+                writer, cafe, "넓어서 갔어요", "리뷰 내용", "아이스 아메리카노", 1, 4, 1, 1, "vibe", registeredAt);
+        Long reviewId = reviewRepository.save(review).getId();
+        reviewImageRepository.saveAll(List.of(
+                createReviewImage("https://image1.url", review), createReviewImage("https://image2.url", review)));
+
+        // when
+        SqlStatementCount simpleCount = SqlStatementCounter.count(() -> reviewService.getReview(reviewId));
+        SqlStatementCount detailCount = SqlStatementCounter.count(() -> reviewService.getReviewDetail(reviewId));
+
+        // then
+        assertThat(simpleCount.getSelectCount()).isEqualTo(2L);
+        assertThat(detailCount.getSelectCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("성능: 까페의 리뷰 목록 조회 시 페이지 크기와 작성자 수에 상관없이 SQL 개수는 고정되어 있다. (N+1 방지)")
+    void getCafeReviewsSqlStatementCount() {
+        // given
+        Member writer1 = createMember("email01@naver.com", "password01%^&", "nickname01");
+        Member writer2 = createMember("email02@naver.com", "password02%^&", "nickname02");
+        memberRepository.saveAll(List.of(writer1, writer2));
+
+        Location cafeLocation = createLocation(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        Cafe cafe = createCafe("스타벅스 광화문점", "1234567", "https://place.url", cafeLocation);
+        cafeRepository.save(cafe);
+
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Review> reviews = List.of(
+                createReview(writer1, cafe, "일하거나 책읽기 좋아요", "리뷰 내용1", "아메리카노", 3, 3, 4, 3, "normal", registeredAt),
+                createReview(writer2, cafe, "일하거나 책읽기 좋아요", "리뷰 내용2", "라떼", 3, 3, 4, 3, "vibe", registeredAt),
+                createReview(writer1, cafe, "일하거나 책읽기 좋아요", "리뷰 내용3", "아메리카노", 3, 3, 4, 3, "normal", registeredAt),
+                createReview(writer2, cafe, "일하거나 책읽기 좋아요", "리뷰 내용4", "라떼", 3, 3, 4, 3, "vibe", registeredAt)
+        );
+        reviewRepository.saveAll(reviews);
+        reviewImageRepository.saveAll(reviews.stream()
+                .map(review -> createReviewImage("https://image.url/" + review.getContent(), review))
+                .collect(Collectors.toList()));
+
+        // when
+        SqlStatementCount count = SqlStatementCounter.count(
+                () -> reviewService.getCafeReviews("1234567", ReviewFeedRequest.builder().size(10).build()));
+
+        // then
+        assertThat(count.getSelectCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("성공: 회원 또는 방문자는 리뷰 본문, 메뉴, 방문 목적으로 리뷰를 검색할 수 있다. 리뷰를 쓰고 고치고 지우면 검색 결과에 바로 반영된다.")
+    void searchReviews() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        Long writerId = memberRepository.save(writer).getId();
+
+        LocationCreateRequest location = createLocationCreateRequest(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        CafeCreateRequest cafeCreateRequest = createCafeCreateRequest(
+                "스타벅스 광화문점", "1234567", "https://place.url", location);
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Long latteReviewId = reviewService.createReview(createReviewCreateRequest(
+                writerId, cafeCreateRequest, "공부하러 갔어요", "바닐라라떼가 달아요", "바닐라라떼", 3, 3, 3, 3, "study"),
+                registeredAt).getId();
+        Long updatedReviewId = reviewService.createReview(createReviewCreateRequest(
+                writerId, cafeCreateRequest, "일하러 갔어요", "조용해요", "아메리카노", 3, 3, 3, 3, "study"),
+                registeredAt).getId();
+        Long deletedReviewId = reviewService.createReview(createReviewCreateRequest(
+                writerId, cafeCreateRequest, "친구와 갔어요", "라떼 맛집", "카페라떼", 3, 3, 3, 3, "normal"),
+                registeredAt).getId();
+
+        reviewService.updateReview(updatedReviewId, createReviewUpdateRequest(
+                writerId, "일하러 갔어요", "라떼가 고소해요", "카페라떼", 3, 3, 3, 3, "study"));
+        reviewService.deleteReview(deletedReviewId);
+
+        // when
+        List<ReviewSimpleResponse> latteReviews = reviewService.searchReviews(
+                ReviewSearchRequest.builder().q("라떼").build());
+        List<ReviewSimpleResponse> americanoReviews = reviewService.searchReviews(
+                ReviewSearchRequest.builder().q("아메리카노").build());
+
+        // then
+        assertThat(latteReviews).hasSize(2)
+                .extracting("id")
+                .containsExactlyInAnyOrder(latteReviewId, updatedReviewId);
+        assertThat(latteReviews).extracting("writer.nickname")
+                .containsOnly("nickname01");
+        assertThat(americanoReviews).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 카페를 지정하면 그 카페의 리뷰에서만 검색한다.")
+    void searchReviewsInCafe() {
+        // given
+        Member writer = createMember("email01@naver.com", "password01%^&", "nickname01");
+        Long writerId = memberRepository.save(writer).getId();
+
+        LocationCreateRequest location = createLocationCreateRequest(
+                37.57122962143047, 126.97629649901215, "서울 종로구 세종로 00-0", "서울 종로구 세종대로 000");
+        LocalDateTime registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Long reviewId = reviewService.createReview(createReviewCreateRequest(
+                writerId, createCafeCreateRequest("스타벅스 광화문점", "1234567", "https://place.url", location),
+                "공부하러 갔어요", "라떼가 맛있어요", "카페라떼", 3, 3, 3, 3, "study"), registeredAt).getId();
+        reviewService.createReview(createReviewCreateRequest(
+                writerId, createCafeCreateRequest("스타벅스 시청점", "2345678", "https://place.url", location),
+                "공부하러 갔어요", "라떼가 맛있어요", "카페라떼", 3, 3, 3, 3, "study"), registeredAt);
+
+        // when
+        List<ReviewSimpleResponse> responses = reviewService.searchReviews(
+                ReviewSearchRequest.builder().q("라떼").cafe("1234567").build());
+
+        // then
+        assertThat(responses).hasSize(1)
+                .extracting("id")
+                .containsExactly(reviewId);
+    }
+
+    @Test
+    @DisplayName("예외: 검색할 카페가 존재하지 않으면 예외가 발생한다.")
+    void searchReviewsInNotExistCafe() {
+        // when // then
+        assertThatThrownBy(() -> reviewService.searchReviews(
+                ReviewSearchRequest.builder().q("라떼").cafe("1234567").build()))
+                .isInstanceOf(NotFoundResourceException.class)
+                .hasMessage("등록된 적이 없거나 삭제되어 서비스상에서 존재하지 않는 카페입니다.");
+    }
+
     private Member createMember(String email, String password, String nickname) {
         return Member.builder()
                 .email(email)
@@ -1076,7 +1692,7 @@ class ReviewServiceTest {
                 .spaceIndex(spaceIndex)
                 .priceIndex(priceIndex)
                 .noiseIndex(noiseIndex)
-                .theme(theme)
+                .theme(CafeTheme.findByThemeName(theme))
                 .registeredAt(registeredAt)
                 .build();
     }
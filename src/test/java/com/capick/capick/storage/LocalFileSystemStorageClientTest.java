@@ -0,0 +1,55 @@
+package com.capick.capick.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalFileSystemStorageClientTest {
+
+    @TempDir
+    Path storageRoot;
+
+    @Test
+    @DisplayName("성공: 인코딩된 URL 경로를 루트 아래의 파일로 보고 지운다.")
+    void delete() throws IOException {
+        // given
+        Path file = Files.createDirectories(storageRoot.resolve("images/encoded path")).resolve("80459");
+        Files.createFile(file);
+        LocalFileSystemStorageClient storageClient = new LocalFileSystemStorageClient(storageRoot);
+
+        // when
+        storageClient.delete("https://storage.com/images%2Fencoded%20path/80459?type=image");
+
+        // then
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("성공: 이미 없는 파일은 지운 것으로 본다.")
+    void deleteMissingFile() {
+        // given
+        LocalFileSystemStorageClient storageClient = new LocalFileSystemStorageClient(storageRoot);
+
+        // when // then
+        assertThatCode(() -> storageClient.delete("https://storage.com/images/missing"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("실패: 루트 밖을 가리키는 URL 은 지우지 않는다.")
+    void deleteOutOfRoot() {
+        // given
+        LocalFileSystemStorageClient storageClient = new LocalFileSystemStorageClient(storageRoot);
+
+        // when // then
+        assertThatThrownBy(() -> storageClient.delete("https://storage.com/images/..%2F..%2Fetc%2Fpasswd"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
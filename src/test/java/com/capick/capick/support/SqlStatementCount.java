@@ -0,0 +1,27 @@
+package com.capick.capick.support;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class SqlStatementCount {
+
+    private final long selectCount;
+
+    private final long insertCount;
+
+    private final long updateCount;
+
+    private final long deleteCount;
+
+    public SqlStatementCount minus(SqlStatementCount other) {
+        return new SqlStatementCount(
+                selectCount - other.selectCount, insertCount - other.insertCount,
+                updateCount - other.updateCount, deleteCount - other.deleteCount
+        );
+    }
+
+}
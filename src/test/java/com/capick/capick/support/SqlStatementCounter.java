@@ -0,0 +1,46 @@
+package com.capick.capick.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+// Hibernate 가 실행하는 모든 SQL 을 종류별로 센다. SqlStatementCounterConfig 를 @Import 한 테스트에서만 등록된다.
+// 서비스 호출 한 번에 나가는 SQL 개수를 고정해서, 지연 로딩이나 불필요한 조회가 몰래 늘어나는 것을 막는다.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final LongAdder selectCount = new LongAdder();
+
+    private static final LongAdder insertCount = new LongAdder();
+
+    private static final LongAdder updateCount = new LongAdder();
+
+    private static final LongAdder deleteCount = new LongAdder();
+
+    @Override
+    public String inspect(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (statement.startsWith("select") || statement.startsWith("with")) {
+            selectCount.increment();
+        } else if (statement.startsWith("insert") || statement.startsWith("merge")) {
+            insertCount.increment();
+        } else if (statement.startsWith("update")) {
+            updateCount.increment();
+        } else if (statement.startsWith("delete")) {
+            deleteCount.increment();
+        }
+        return sql;
+    }
+
+    // 호출 전후의 개수 차이를 반환한다. 호출 안에서 트랜잭션이 커밋되어야 flush 로 나간 SQL 까지 포함된다.
+    public static SqlStatementCount count(Runnable call) {
+        SqlStatementCount before = current();
+        call.run();
+        return current().minus(before);
+    }
+
+    private static SqlStatementCount current() {
+        return new SqlStatementCount(selectCount.sum(), insertCount.sum(), updateCount.sum(), deleteCount.sum());
+    }
+
+}
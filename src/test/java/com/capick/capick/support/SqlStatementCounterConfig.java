@@ -0,0 +1,18 @@
+package com.capick.capick.support;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+// SQL 실행 횟수를 세는 테스트에서 @Import 하여 SqlStatementCounter 를 Hibernate 에 등록한다.
+@TestConfiguration
+public class SqlStatementCounterConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.STATEMENT_INSPECTOR, SqlStatementCounter.class.getName());
+    }
+
+}